@@ -146,6 +146,7 @@ public class ChannelResourceDefinition extends ChildResourceDefinition<Managemen
 
         if (registration.isRuntimeOnlyRegistrationValid()) {
             new MetricHandler<>(new ChannelMetricExecutor(this.registry), ChannelMetric.class).register(registration);
+            new ProtocolMetricsReadHandler(this.registry).register(registration);
         }
 
         new ForkResourceDefinition(this.registry).register(registration);
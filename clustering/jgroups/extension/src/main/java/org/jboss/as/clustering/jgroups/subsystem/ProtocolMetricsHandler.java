@@ -4,12 +4,18 @@
  */
 package org.jboss.as.clustering.jgroups.subsystem;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -34,6 +40,7 @@ import org.wildfly.subsystem.service.capture.FunctionExecutorRegistry;
 
 /**
  * A generic handler for protocol metrics based on reflection.
+ * The attributes of a protocol class are discovered once, and each is read via a method handle created on first read.
  *
  * @author Richard Achmatowicz (c) 2013 Red Hat Inc.
  * @author Radoslav Husar
@@ -45,11 +52,42 @@ public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
         String getName();
         String getDescription();
         Class<?> getType();
-        Object read(Object object) throws Exception;
+        ModelNode read(Object object) throws Exception;
     }
 
-    abstract static class AbstractAttribute<A extends AccessibleObject> implements Attribute {
+    /**
+     * Reads the value of an attribute of a protocol into a model node.
+     */
+    interface MetricAccessor {
+        void read(Object object, ModelNode result) throws Throwable;
+    }
+
+    // Attributes are discovered once per protocol class
+    private static final ClassValue<Map<String, Attribute>> PROTOCOL_ATTRIBUTES = new ClassValue<>() {
+        @Override
+        protected Map<String, Attribute> computeValue(Class<?> protocolClass) {
+            Map<String, Attribute> attributes = new HashMap<>();
+            Class<?> targetClass = protocolClass;
+            while (Protocol.class.isAssignableFrom(targetClass)) {
+                for (Method method: targetClass.getDeclaredMethods()) {
+                    if ((method.getParameterCount() == 0) && isManagedAttribute(method)) {
+                        putIfAbsent(attributes, new MethodAttribute(method));
+                    }
+                }
+                for (Field field: targetClass.getDeclaredFields()) {
+                    if (isManagedAttribute(field)) {
+                        putIfAbsent(attributes, new FieldAttribute(field));
+                    }
+                }
+                targetClass = targetClass.getSuperclass();
+            }
+            return Collections.unmodifiableMap(attributes);
+        }
+    };
+
+    abstract static class AbstractAttribute<A extends AccessibleObject & Member> implements Attribute {
         final A accessible;
+        private volatile MetricAccessor accessor;
 
         AbstractAttribute(A accessible) {
             this.accessible = accessible;
@@ -80,26 +118,52 @@ public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
         }
 
         @Override
-        public Object read(final Object object) throws Exception {
-            PrivilegedExceptionAction<Object> action = new PrivilegedExceptionAction<>() {
+        public ModelNode read(Object object) throws Exception {
+            MetricAccessor accessor = this.accessor;
+            if (accessor == null) {
+                accessor = FieldType.valueOf(this.getType()).createAccessor(this.createMethodHandle());
+                this.accessor = accessor;
+            }
+            ModelNode result = new ModelNode();
+            try {
+                accessor.read(object, result);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+            return result;
+        }
+
+        /**
+         * Creates a method handle of type (Object)T for this attribute, where T is the type of this attribute.
+         */
+        private MethodHandle createMethodHandle() throws Exception {
+            PrivilegedExceptionAction<MethodHandle> action = new PrivilegedExceptionAction<>() {
                 @Override
-                public Object run() throws Exception {
+                public MethodHandle run() throws IllegalAccessException {
+                    // A method handle unreflected from an accessible member does not perform access checks once created
                     AbstractAttribute.this.accessible.setAccessible(true);
                     try {
-                        return AbstractAttribute.this.get(object);
+                        return AbstractAttribute.this.unreflect(MethodHandles.lookup());
                     } finally {
                         AbstractAttribute.this.accessible.setAccessible(false);
                     }
                 }
             };
+            MethodHandle handle;
             try {
-                return WildFlySecurityManager.doUnchecked(action);
+                handle = WildFlySecurityManager.doUnchecked(action);
             } catch (PrivilegedActionException e) {
                 throw e.getException();
             }
+            if (Modifier.isStatic(this.accessible.getModifiers())) {
+                return MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(handle.type().changeParameterType(0, Object.class));
         }
 
-        abstract Object get(Object object) throws Exception;
+        abstract MethodHandle unreflect(MethodHandles.Lookup lookup) throws IllegalAccessException;
     }
 
     static class FieldAttribute extends AbstractAttribute<Field> {
@@ -119,8 +183,8 @@ public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
         }
 
         @Override
-        Object get(Object object) throws IllegalAccessException {
-            return this.accessible.get(object);
+        MethodHandle unreflect(MethodHandles.Lookup lookup) throws IllegalAccessException {
+            return lookup.unreflectGetter(this.accessible);
         }
     }
 
@@ -141,8 +205,8 @@ public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
         }
 
         @Override
-        Object get(Object object) throws IllegalAccessException, InvocationTargetException {
-            return this.accessible.invoke(object);
+        MethodHandle unreflect(MethodHandles.Lookup lookup) throws IllegalAccessException {
+            return lookup.unreflect(this.accessible);
         }
     }
 
@@ -152,24 +216,60 @@ public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
             void setValue(ModelNode node, Object value) {
                 node.set((Boolean) value);
             }
+
+            @Override
+            MetricAccessor createAccessor(MethodHandle handle) {
+                if (!handle.type().returnType().isPrimitive()) {
+                    return super.createAccessor(handle);
+                }
+                MethodHandle getter = handle.asType(MethodType.methodType(boolean.class, Object.class));
+                return (object, result) -> result.set((boolean) getter.invokeExact(object));
+            }
         },
         INT(ModelType.INT, Integer.TYPE, Integer.class, Byte.TYPE, Byte.class, Short.TYPE, Short.class) {
             @Override
             void setValue(ModelNode node, Object value) {
                 node.set(((Number) value).intValue());
             }
+
+            @Override
+            MetricAccessor createAccessor(MethodHandle handle) {
+                if (!handle.type().returnType().isPrimitive()) {
+                    return super.createAccessor(handle);
+                }
+                MethodHandle getter = handle.asType(MethodType.methodType(int.class, Object.class));
+                return (object, result) -> result.set((int) getter.invokeExact(object));
+            }
         },
         LONG(ModelType.LONG, Long.TYPE, Long.class) {
             @Override
             void setValue(ModelNode node, Object value) {
                 node.set((Long) value);
             }
+
+            @Override
+            MetricAccessor createAccessor(MethodHandle handle) {
+                if (!handle.type().returnType().isPrimitive()) {
+                    return super.createAccessor(handle);
+                }
+                MethodHandle getter = handle.asType(MethodType.methodType(long.class, Object.class));
+                return (object, result) -> result.set((long) getter.invokeExact(object));
+            }
         },
         DOUBLE(ModelType.DOUBLE, Double.TYPE, Double.class, Float.TYPE, Float.class) {
             @Override
             void setValue(ModelNode node, Object value) {
                 node.set(((Number) value).doubleValue());
             }
+
+            @Override
+            MetricAccessor createAccessor(MethodHandle handle) {
+                if (!handle.type().returnType().isPrimitive()) {
+                    return super.createAccessor(handle);
+                }
+                MethodHandle getter = handle.asType(MethodType.methodType(double.class, Object.class));
+                return (object, result) -> result.set((double) getter.invokeExact(object));
+            }
         },
         STRING(ModelType.STRING) {
             @Override
@@ -198,6 +298,21 @@ public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
 
         abstract void setValue(ModelNode node, Object value);
 
+        /**
+         * Creates an accessor for an attribute of this type, reading primitive values without boxing.
+         * @param handle a method handle of type (Object)T, where T is the type of the attribute
+         * @return an attribute accessor
+         */
+        MetricAccessor createAccessor(MethodHandle handle) {
+            MethodHandle getter = handle.asType(MethodType.methodType(Object.class, Object.class));
+            return (object, result) -> {
+                Object value = getter.invokeExact(object);
+                if (value != null) {
+                    this.setValue(result, value);
+                }
+            };
+        }
+
         public ModelType getModelType() {
             return this.modelType;
         }
@@ -223,8 +338,7 @@ public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
         ExceptionFunction<JChannel, ModelNode, Exception> function = new ExceptionFunction<>() {
             @Override
             public ModelNode apply(JChannel channel) throws Exception {
-                int index = protocolName.lastIndexOf('.');
-                Protocol protocol = channel.getProtocolStack().findProtocol((index < 0) ? protocolName : protocolName.substring(index + 1));
+                Protocol protocol = findProtocol(channel, protocolName);
                 if (protocol == null) {
                     throw new IllegalArgumentException(protocolName);
                 }
@@ -232,13 +346,7 @@ public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
                 if (attribute == null) {
                     throw new OperationFailedException(JGroupsLogger.ROOT_LOGGER.unknownMetric(name));
                 }
-                FieldType type = FieldType.valueOf(attribute.getType());
-                ModelNode result = new ModelNode();
-                Object value = attribute.read(protocol);
-                if (value != null) {
-                    type.setValue(result, value);
-                }
-                return result;
+                return attribute.read(protocol);
             }
         };
         FunctionExecutor<JChannel> executor = this.executors.getExecutor(ServiceDependency.on(channelServiceName));
@@ -254,28 +362,18 @@ public class ProtocolMetricsHandler extends AbstractRuntimeOnlyHandler {
         }
     }
 
+    static Protocol findProtocol(JChannel channel, String protocolName) {
+        int index = protocolName.lastIndexOf('.');
+        return channel.getProtocolStack().findProtocol((index < 0) ? protocolName : protocolName.substring(index + 1));
+    }
+
     static Attribute getAttribute(Class<? extends Protocol> targetClass, String name) {
         Map<String, Attribute> attributes = findProtocolAttributes(targetClass);
         return attributes.get(name);
     }
 
     static Map<String, Attribute> findProtocolAttributes(Class<? extends Protocol> protocolClass) {
-        Map<String, Attribute> attributes = new HashMap<>();
-        Class<?> targetClass = protocolClass;
-        while (Protocol.class.isAssignableFrom(targetClass)) {
-            for (Method method: targetClass.getDeclaredMethods()) {
-                if ((method.getParameterCount() == 0) && isManagedAttribute(method)) {
-                    putIfAbsent(attributes, new MethodAttribute(method));
-                }
-            }
-            for (Field field: targetClass.getDeclaredFields()) {
-                if (isManagedAttribute(field)) {
-                    putIfAbsent(attributes, new FieldAttribute(field));
-                }
-            }
-            targetClass = targetClass.getSuperclass();
-        }
-        return attributes;
+        return PROTOCOL_ATTRIBUTES.get(protocolClass);
     }
 
     private static void putIfAbsent(Map<String, Attribute> attributes, Attribute attribute) {
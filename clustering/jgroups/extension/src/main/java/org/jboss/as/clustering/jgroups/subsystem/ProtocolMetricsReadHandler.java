@@ -0,0 +1,99 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.clustering.jgroups.subsystem;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.as.clustering.controller.ManagementRegistrar;
+import org.jboss.as.clustering.jgroups.logging.JGroupsLogger;
+import org.jboss.as.clustering.jgroups.subsystem.ProtocolMetricsHandler.Attribute;
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationDefinition;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.msc.service.ServiceName;
+import org.jgroups.JChannel;
+import org.jgroups.stack.Protocol;
+import org.wildfly.common.function.ExceptionFunction;
+import org.wildfly.service.capture.FunctionExecutor;
+import org.wildfly.subsystem.service.ServiceDependency;
+import org.wildfly.subsystem.service.capture.FunctionExecutorRegistry;
+
+/**
+ * Handler for the read-metrics operation of a channel, which reads the metrics of every protocol of its stack in a single operation.
+ */
+public class ProtocolMetricsReadHandler extends AbstractRuntimeOnlyHandler implements ManagementRegistrar<ManagementResourceRegistration> {
+
+    static final OperationDefinition DEFINITION = new SimpleOperationDefinitionBuilder("read-metrics", JGroupsExtension.SUBSYSTEM_RESOLVER.createChildResolver(ChannelResourceDefinition.WILDCARD_PATH))
+            .setReplyType(ModelType.OBJECT)
+            .setReplyValueType(ModelType.OBJECT)
+            .setReadOnly()
+            .setRuntimeOnly()
+            .build();
+
+    private final FunctionExecutorRegistry<JChannel> executors;
+
+    public ProtocolMetricsReadHandler(FunctionExecutorRegistry<JChannel> executors) {
+        this.executors = executors;
+    }
+
+    @Override
+    public void register(ManagementResourceRegistration registration) {
+        registration.registerOperationHandler(DEFINITION, this);
+    }
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+        Set<String> protocolNames = context.readResource(PathAddress.EMPTY_ADDRESS).getChildrenNames(ProtocolResourceDefinition.WILDCARD_PATH.getKey());
+        ServiceName channelServiceName = ChannelResourceDefinition.CHANNEL_CAPABILITY.getCapabilityServiceName(context.getCurrentAddress());
+        ExceptionFunction<JChannel, ModelNode, Exception> function = new ExceptionFunction<>() {
+            @Override
+            public ModelNode apply(JChannel channel) {
+                ModelNode result = new ModelNode().setEmptyObject();
+                for (String protocolName : protocolNames) {
+                    Protocol protocol = ProtocolMetricsHandler.findProtocol(channel, protocolName);
+                    if (protocol != null) {
+                        result.get(protocolName).set(readMetrics(protocol));
+                    }
+                }
+                return result;
+            }
+        };
+        FunctionExecutor<JChannel> executor = this.executors.getExecutor(ServiceDependency.on(channelServiceName));
+        try {
+            ModelNode value = (executor != null) ? executor.execute(function) : null;
+            if (value != null) {
+                context.getResult().set(value);
+            }
+        } catch (Exception e) {
+            context.getFailureDescription().set(e.getLocalizedMessage());
+        } finally {
+            context.completeStep(OperationContext.ResultHandler.NOOP_RESULT_HANDLER);
+        }
+    }
+
+    /**
+     * Reads every metric of the specified protocol.
+     * A metric that cannot be read is left undefined, so that it does not fail the read of the others.
+     */
+    static ModelNode readMetrics(Protocol protocol) {
+        ModelNode metrics = new ModelNode().setEmptyObject();
+        for (Map.Entry<String, Attribute> entry : ProtocolMetricsHandler.findProtocolAttributes(protocol.getClass()).entrySet()) {
+            ModelNode metric = metrics.get(entry.getKey());
+            try {
+                metric.set(entry.getValue().read(protocol));
+            } catch (Exception e) {
+                JGroupsLogger.ROOT_LOGGER.debugf(e, "Failed to read metric %s of protocol %s", entry.getKey(), protocol.getName());
+            }
+        }
+        return metrics;
+    }
+}
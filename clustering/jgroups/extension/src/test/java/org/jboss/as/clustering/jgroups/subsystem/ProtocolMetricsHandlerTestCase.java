@@ -0,0 +1,99 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.clustering.jgroups.subsystem;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.jboss.as.clustering.jgroups.subsystem.ProtocolMetricsHandler.Attribute;
+import org.jboss.as.clustering.jgroups.subsystem.ProtocolMetricsHandler.FieldType;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jgroups.annotations.ManagedAttribute;
+import org.jgroups.annotations.Property;
+import org.jgroups.stack.Protocol;
+import org.junit.Test;
+
+/**
+ * Unit test for the protocol attributes discovered by {@link ProtocolMetricsHandler}.
+ */
+public class ProtocolMetricsHandlerTestCase {
+
+    @Test
+    public void findProtocolAttributes() {
+        Map<String, Attribute> attributes = ProtocolMetricsHandler.findProtocolAttributes(TestProtocol.class);
+
+        // Attributes are discovered once per protocol class
+        assertSame(attributes, ProtocolMetricsHandler.findProtocolAttributes(TestProtocol.class));
+
+        assertTrue(attributes.containsKey("int-value"));
+        assertTrue(attributes.containsKey("timer-queue_max_size"));
+        assertTrue(attributes.containsKey("sum"));
+        assertFalse(attributes.containsKey("hidden"));
+
+        assertEquals(ModelType.INT, FieldType.valueOf(attributes.get("short-value").getType()).getModelType());
+        assertEquals(ModelType.DOUBLE, FieldType.valueOf(attributes.get("float-value").getType()).getModelType());
+        assertEquals(ModelType.STRING, FieldType.valueOf(attributes.get("name").getType()).getModelType());
+    }
+
+    @Test
+    public void read() throws Exception {
+        Map<String, Attribute> attributes = ProtocolMetricsHandler.findProtocolAttributes(TestProtocol.class);
+        TestProtocol protocol = new TestProtocol();
+
+        assertEquals(new ModelNode(1), attributes.get("int-value").read(protocol));
+        assertEquals(new ModelNode(2), attributes.get("short-value").read(protocol));
+        assertEquals(new ModelNode(3L), attributes.get("long-value").read(protocol));
+        assertEquals(new ModelNode(true), attributes.get("boolean-value").read(protocol));
+        assertEquals(new ModelNode(0.5D), attributes.get("float-value").read(protocol));
+        assertEquals(new ModelNode(4L), attributes.get("boxed-value").read(protocol));
+        assertEquals(new ModelNode(), attributes.get("null-value").read(protocol));
+        assertEquals(new ModelNode("test"), attributes.get("name").read(protocol));
+        assertEquals(new ModelNode(5), attributes.get("static-value").read(protocol));
+        assertEquals(new ModelNode(6), attributes.get("timer-queue_max_size").read(protocol));
+        assertEquals(new ModelNode(4L), attributes.get("sum").read(protocol));
+
+        // Subsequent reads reflect the current state of the protocol
+        protocol.intValue = 10;
+        protocol.longValue = 30L;
+        assertEquals(new ModelNode(10), attributes.get("int-value").read(protocol));
+        assertEquals(new ModelNode(40L), attributes.get("sum").read(protocol));
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestProtocol extends Protocol {
+        @ManagedAttribute(name = "int-value")
+        private int intValue = 1;
+        @ManagedAttribute(name = "short-value")
+        private short shortValue = 2;
+        @ManagedAttribute(name = "long-value")
+        private long longValue = 3L;
+        @ManagedAttribute(name = "boolean-value")
+        private boolean booleanValue = true;
+        @ManagedAttribute(name = "float-value")
+        private float floatValue = 0.5F;
+        @ManagedAttribute(name = "boxed-value")
+        private Long boxedValue = 4L;
+        @ManagedAttribute(name = "null-value")
+        private Integer nullValue = null;
+        @ManagedAttribute(name = "name")
+        private String value = "test";
+        @ManagedAttribute(name = "static-value")
+        private static int staticValue = 5;
+        @Property(name = "timer.queue_max_size", exposeAsManagedAttribute = true)
+        private int queueMaxSize = 6;
+        @Property(name = "hidden", exposeAsManagedAttribute = false)
+        private int hidden = 7;
+
+        @ManagedAttribute
+        public long getSum() {
+            return this.intValue + this.longValue;
+        }
+    }
+}
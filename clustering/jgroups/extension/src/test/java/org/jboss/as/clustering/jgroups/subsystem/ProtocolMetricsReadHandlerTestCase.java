@@ -0,0 +1,44 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.clustering.jgroups.subsystem;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.jboss.dmr.ModelNode;
+import org.jgroups.annotations.ManagedAttribute;
+import org.jgroups.stack.Protocol;
+import org.junit.Test;
+
+/**
+ * Unit test for the metrics read by {@link ProtocolMetricsReadHandler}.
+ */
+public class ProtocolMetricsReadHandlerTestCase {
+
+    @Test
+    public void readMetrics() {
+        ModelNode metrics = ProtocolMetricsReadHandler.readMetrics(new TestProtocol());
+
+        assertEquals(new ModelNode(1), metrics.get("before"));
+        assertEquals(new ModelNode(2L), metrics.get("after"));
+        // A metric whose accessor throws is left undefined, rather than failing the read of the others
+        assertTrue(metrics.has("failure"));
+        assertFalse(metrics.get("failure").isDefined());
+    }
+
+    @SuppressWarnings("unused")
+    private static class TestProtocol extends Protocol {
+        @ManagedAttribute(name = "before")
+        private int before = 1;
+        @ManagedAttribute(name = "after")
+        private long after = 2L;
+
+        @ManagedAttribute(name = "failure")
+        public int getFailure() {
+            throw new IllegalStateException();
+        }
+    }
+}
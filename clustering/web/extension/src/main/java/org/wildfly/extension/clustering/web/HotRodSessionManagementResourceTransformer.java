@@ -28,8 +28,10 @@ public class HotRodSessionManagementResourceTransformer extends SessionManagemen
 
         this.accept(version, builder);
 
-        builder.getAttributeBuilder()
-                .setDiscard(DiscardAttributeChecker.ALWAYS, HotRodSessionManagementResourceDefinition.Attribute.EXPIRATION_THREAD_POOL_SIZE.getName())
-                .end();
+        if (DistributableWebSubsystemModel.VERSION_4_0_0.requiresTransformation(version)) {
+            builder.getAttributeBuilder()
+                    .setDiscard(DiscardAttributeChecker.ALWAYS, HotRodSessionManagementResourceDefinition.Attribute.EXPIRATION_THREAD_POOL_SIZE.getName())
+                    .end();
+        }
     }
 }
@@ -13,16 +13,24 @@ import org.wildfly.clustering.session.SessionAttributePersistenceStrategy;
  */
 public enum SessionGranularity {
 
-    SESSION(SessionAttributePersistenceStrategy.COARSE),
-    ATTRIBUTE(SessionAttributePersistenceStrategy.FINE),
+    SESSION(SessionAttributePersistenceStrategy.COARSE, false),
+    ATTRIBUTE(SessionAttributePersistenceStrategy.FINE, false),
+    // Persists attributes individually, but only those whose marshalled form changed during a request
+    DELTA(SessionAttributePersistenceStrategy.FINE, true),
     ;
     private final SessionAttributePersistenceStrategy strategy;
+    private final boolean delta;
 
-    SessionGranularity(SessionAttributePersistenceStrategy strategy) {
+    SessionGranularity(SessionAttributePersistenceStrategy strategy, boolean delta) {
         this.strategy = strategy;
+        this.delta = delta;
     }
 
     public SessionAttributePersistenceStrategy getAttributePersistenceStrategy() {
         return this.strategy;
     }
+
+    public boolean isAttributeDeltaEnabled() {
+        return this.delta;
+    }
 }
@@ -109,6 +109,11 @@ public abstract class SessionManagementResourceDefinition extends ChildResourceD
                 return granularity.getAttributePersistenceStrategy();
             }
 
+            @Override
+            public boolean isAttributeDeltaEnabled() {
+                return granularity.isAttributeDeltaEnabled();
+            }
+
             @Override
             public Function<DeploymentUnit, ByteBufferMarshaller> getMarshallerFactory() {
                 return marshallerFactory;
@@ -11,6 +11,7 @@ import org.jboss.as.controller.ModelVersion;
 import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
 import org.jboss.as.controller.transform.description.RejectAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.dmr.ModelNode;
 
 /**
  * @author Paul Ferraro
@@ -19,6 +20,11 @@ public class SessionManagementResourceTransformer implements BiConsumer<ModelVer
 
     @Override
     public void accept(ModelVersion version, ResourceTransformationDescriptionBuilder builder) {
+        if (DistributableWebSubsystemModel.VERSION_5_0_0.requiresTransformation(version)) {
+            builder.getAttributeBuilder()
+                    .addRejectCheck(new RejectAttributeChecker.SimpleRejectAttributeChecker(new ModelNode(SessionGranularity.DELTA.name())), SessionManagementResourceDefinition.Attribute.GRANULARITY.getName())
+                    .end();
+        }
         if (DistributableWebSubsystemModel.VERSION_3_0_0.requiresTransformation(version)) {
             builder.getAttributeBuilder()
                     .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, SessionManagementResourceDefinition.Attribute.MARSHALLER.getName())
@@ -34,6 +34,11 @@ public class MutableSessionManagementConfiguration implements DistributableSessi
         return (this.granularity != null) ? this.granularity.getAttributePersistenceStrategy() : null;
     }
 
+    @Override
+    public boolean isAttributeDeltaEnabled() {
+        return (this.granularity != null) && this.granularity.isAttributeDeltaEnabled();
+    }
+
     @Override
     public Function<DeploymentUnit, ByteBufferMarshaller> getMarshallerFactory() {
         return this.marshallerFactory;
@@ -7,8 +7,11 @@ package org.wildfly.extension.clustering.web;
 
 import java.util.EnumSet;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import org.jboss.as.clustering.subsystem.AdditionalInitialization;
+import org.jboss.as.clustering.subsystem.RejectedValueConfig;
 import org.jboss.as.controller.ModelVersion;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
@@ -171,6 +174,12 @@ public class DistributableWebTransformerTestCase extends AbstractSubsystemTest {
         FailedOperationTransformationConfig config = new FailedOperationTransformationConfig();
         PathAddress subsystemAddress = PathAddress.pathAddress(ModelDescriptionConstants.SUBSYSTEM, DistributableWebExtension.SUBSYSTEM_NAME);
 
+        if (DistributableWebSubsystemModel.VERSION_5_0_0.requiresTransformation(this.version)) {
+            Predicate<ModelNode> delta = value -> value.isDefined() && value.asString().equals(SessionGranularity.DELTA.name());
+            UnaryOperator<ModelNode> attribute = value -> new ModelNode(SessionGranularity.ATTRIBUTE.name());
+            config.addFailedAttribute(subsystemAddress.append(InfinispanSessionManagementResourceDefinition.pathElement("delta")), new RejectedValueConfig(SessionManagementResourceDefinition.Attribute.GRANULARITY, delta, attribute));
+            config.addFailedAttribute(subsystemAddress.append(HotRodSessionManagementResourceDefinition.pathElement("remote-delta")), new RejectedValueConfig(SessionManagementResourceDefinition.Attribute.GRANULARITY, delta, attribute));
+        }
         if (DistributableWebSubsystemModel.VERSION_3_0_0.requiresTransformation(this.version)) {
             config.addFailedAttribute(subsystemAddress.append(InfinispanSessionManagementResourceDefinition.pathElement("protostream")), new FailedOperationTransformationConfig.NewAttributesConfig(SessionManagementResourceDefinition.Attribute.MARSHALLER.getName()));
             config.addFailedAttribute(subsystemAddress.append(HotRodSessionManagementResourceDefinition.pathElement("remote-protostream")), new FailedOperationTransformationConfig.NewAttributesConfig(SessionManagementResourceDefinition.Attribute.MARSHALLER.getName()));
@@ -19,5 +19,13 @@ public interface DistributableSessionManagementConfiguration<M> {
 
     SessionAttributePersistenceStrategy getAttributePersistenceStrategy();
 
+    /**
+     * Indicates whether a session attribute read during a request should only be persisted if its marshalled form changed.
+     * @return true, if attribute deltas are enabled, false otherwise.
+     */
+    default boolean isAttributeDeltaEnabled() {
+        return false;
+    }
+
     Function<M, ByteBufferMarshaller> getMarshallerFactory();
 }
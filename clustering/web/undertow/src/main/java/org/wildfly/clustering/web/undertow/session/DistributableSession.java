@@ -15,6 +15,7 @@ import java.time.Instant;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -42,16 +43,25 @@ public class DistributableSession implements io.undertow.server.session.Session
     private final Consumer<HttpServerExchange> closeTask;
     private final Instant startTime;
     private final RecordableSessionManagerStatistics statistics;
+    private final SessionAttributeDeltaTracker attributeDeltaTracker;
+    // Snapshots of the mutable attributes read during the current request, if attribute deltas are enabled
+    private final Map<String, SessionAttributeDeltaTracker.Snapshot> snapshots;
 
     private volatile Map.Entry<Session<Map<String, Object>>, SessionConfig> entry;
 
     public DistributableSession(UndertowSessionManager manager, Session<Map<String, Object>> session, SessionConfig config, SuspendedBatch suspendedBatch, Consumer<HttpServerExchange> closeTask, RecordableSessionManagerStatistics statistics) {
+        this(manager, session, config, suspendedBatch, closeTask, statistics, null);
+    }
+
+    public DistributableSession(UndertowSessionManager manager, Session<Map<String, Object>> session, SessionConfig config, SuspendedBatch suspendedBatch, Consumer<HttpServerExchange> closeTask, RecordableSessionManagerStatistics statistics, SessionAttributeDeltaTracker attributeDeltaTracker) {
         this.manager = manager;
         this.entry = Map.entry(session, config);
         this.suspendedBatch = suspendedBatch;
         this.closeTask = closeTask;
         this.startTime = session.getMetaData().isNew() ? session.getMetaData().getCreationTime() : Instant.now();
         this.statistics = statistics;
+        this.attributeDeltaTracker = attributeDeltaTracker;
+        this.snapshots = (attributeDeltaTracker != null) ? new ConcurrentHashMap<>() : Map.of();
     }
 
     @Override
@@ -66,6 +76,7 @@ public class DistributableSession implements io.undertow.server.session.Session
             // Ensure session is closed, even if invalid
             try (Session<Map<String, Object>> session = requestSession) {
                 if (session.isValid()) {
+                    this.persistModifiedAttributes(session);
                     // According to §7.6 of the servlet specification:
                     // The session is considered to be accessed when a request that is part of the session is first handled by the servlet container.
                     session.getMetaData().setLastAccess(this.startTime, Instant.now());
@@ -80,6 +91,20 @@ public class DistributableSession implements io.undertow.server.session.Session
         }
     }
 
+    private void persistModifiedAttributes(Session<Map<String, Object>> session) {
+        for (Map.Entry<String, SessionAttributeDeltaTracker.Snapshot> entry : this.snapshots.entrySet()) {
+            SessionAttributeDeltaTracker.Snapshot snapshot = entry.getValue();
+            byte[] bytes = snapshot.marshal();
+            boolean modified = snapshot.isModified(bytes);
+            if (modified) {
+                session.getAttributes().put(entry.getKey(), snapshot.getValue());
+            }
+            if ((this.statistics != null) && (bytes != null)) {
+                this.statistics.recordAttributeDelta(bytes.length, modified);
+            }
+        }
+    }
+
     @Override
     public String getId() {
         return this.entry.getKey().getId();
@@ -152,7 +177,14 @@ public class DistributableSession implements io.undertow.server.session.Session
             if (LOCAL_CONTEXT_ATTRIBUTES.contains(name)) {
                 return session.getContext().get(name);
             }
-            return session.getAttributes().get(name);
+            Object value = session.getAttributes().get(name);
+            if ((this.attributeDeltaTracker != null) && (value != null) && !this.snapshots.containsKey(name)) {
+                SessionAttributeDeltaTracker.Snapshot snapshot = this.attributeDeltaTracker.snapshot(value);
+                if (snapshot != null) {
+                    this.snapshots.putIfAbsent(name, snapshot);
+                }
+            }
+            return value;
         } catch (IllegalStateException e) {
             this.closeIfInvalid(null, session);
             throw e;
@@ -173,6 +205,7 @@ public class DistributableSession implements io.undertow.server.session.Session
             if (LOCAL_CONTEXT_ATTRIBUTES.contains(name)) {
                 return session.getContext().put(name, value);
             }
+            this.snapshots.remove(name);
             Object old = session.getAttributes().put(name, value);
             if (old == null) {
                 this.manager.getSessionListeners().attributeAdded(this, name, value);
@@ -197,6 +230,7 @@ public class DistributableSession implements io.undertow.server.session.Session
             if (LOCAL_CONTEXT_ATTRIBUTES.contains(name)) {
                 return session.getContext().remove(name);
             }
+            this.snapshots.remove(name);
             Object old = session.getAttributes().remove(name);
             if (old != null) {
                 this.manager.getSessionListeners().attributeRemoved(this, name, old);
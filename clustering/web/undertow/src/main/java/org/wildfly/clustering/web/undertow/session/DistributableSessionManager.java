@@ -43,6 +43,7 @@ public class DistributableSessionManager implements UndertowSessionManager, Long
     private final SessionListeners listeners;
     private final SessionManager<Map<String, Object>> manager;
     private final RecordableSessionManagerStatistics statistics;
+    private final SessionAttributeDeltaTracker attributeDeltaTracker;
     private final StampedLock lifecycleLock = new StampedLock();
 
     // Matches io.undertow.server.session.InMemorySessionManager
@@ -54,6 +55,7 @@ public class DistributableSessionManager implements UndertowSessionManager, Long
         this.manager = config.getSessionManager();
         this.listeners = config.getSessionListeners();
         this.statistics = config.getStatistics();
+        this.attributeDeltaTracker = config.getAttributeDeltaTracker();
     }
 
     @Override
@@ -151,7 +153,7 @@ public class DistributableSessionManager implements UndertowSessionManager, Long
                 // Apply session ID encoding
                 config.setSessionId(exchange, id);
 
-                io.undertow.server.session.Session result = new DistributableSession(this, session, config, batch.suspend(), closeTask, this.statistics);
+                io.undertow.server.session.Session result = new DistributableSession(this, session, config, batch.suspend(), closeTask, this.statistics, this.attributeDeltaTracker);
                 this.listeners.sessionCreated(result, exchange);
                 if (this.statistics != null) {
                     this.statistics.record(session.getMetaData());
@@ -209,7 +211,7 @@ public class DistributableSessionManager implements UndertowSessionManager, Long
                 // Update session ID encoding
                 config.setSessionId(exchange, id);
 
-                io.undertow.server.session.Session result = new DistributableSession(this, session, config, batch.suspend(), closeTask, this.statistics);
+                io.undertow.server.session.Session result = new DistributableSession(this, session, config, batch.suspend(), closeTask, this.statistics, this.attributeDeltaTracker);
                 if (exchange != null) {
                     exchange.putAttachment(this.key, result);
                 }
@@ -38,10 +38,16 @@ public class DistributableSessionManagerFactory implements io.undertow.servlet.a
 
     private final SessionManagerFactory<ServletContext, Map<String, Object>> factory;
     private final SessionManagerFactoryConfiguration config;
+    private final SessionAttributeDeltaTracker attributeDeltaTracker;
 
     public DistributableSessionManagerFactory(SessionManagerFactory<ServletContext, Map<String, Object>> factory, SessionManagerFactoryConfiguration config) {
+        this(factory, config, null);
+    }
+
+    public DistributableSessionManagerFactory(SessionManagerFactory<ServletContext, Map<String, Object>> factory, SessionManagerFactoryConfiguration config, SessionAttributeDeltaTracker attributeDeltaTracker) {
         this.factory = factory;
         this.config = config;
+        this.attributeDeltaTracker = attributeDeltaTracker;
     }
 
     @Override
@@ -110,6 +116,11 @@ public class DistributableSessionManagerFactory implements io.undertow.servlet.a
             public RecordableSessionManagerStatistics getStatistics() {
                 return statistics;
             }
+
+            @Override
+            public SessionAttributeDeltaTracker getAttributeDeltaTracker() {
+                return DistributableSessionManagerFactory.this.attributeDeltaTracker;
+            }
         });
         result.setDefaultSessionTimeout((int) this.config.getDefaultSessionTimeout().getSeconds());
         return result;
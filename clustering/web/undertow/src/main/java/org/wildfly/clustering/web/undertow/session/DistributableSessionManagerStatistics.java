@@ -7,6 +7,7 @@ package org.wildfly.clustering.web.undertow.session;
 
 import java.util.OptionalInt;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.wildfly.clustering.session.ImmutableSessionMetaData;
 import org.wildfly.clustering.session.SessionStatistics;
@@ -21,6 +22,8 @@ public class DistributableSessionManagerStatistics implements RecordableSessionM
     private final OptionalInt maxActiveSessions;
     private volatile long startTime = System.currentTimeMillis();
     private final AtomicLong createdSessionCount = new AtomicLong();
+    private final LongAdder writtenAttributeBytes = new LongAdder();
+    private final LongAdder skippedAttributeBytes = new LongAdder();
 
     public DistributableSessionManagerStatistics(SessionStatistics activeSessionStatistics, RecordableInactiveSessionStatistics inactiveSessionStatistics, OptionalInt maxActiveSessions) {
         this.activeSessionStatistics = activeSessionStatistics;
@@ -39,9 +42,16 @@ public class DistributableSessionManagerStatistics implements RecordableSessionM
         this.createdSessionCount.incrementAndGet();
     }
 
+    @Override
+    public void recordAttributeDelta(int size, boolean written) {
+        (written ? this.writtenAttributeBytes : this.skippedAttributeBytes).add(size);
+    }
+
     @Override
     public void reset() {
         this.createdSessionCount.set(0L);
+        this.writtenAttributeBytes.reset();
+        this.skippedAttributeBytes.reset();
         this.startTime = System.currentTimeMillis();
         this.inactiveSessionStatistics.reset();
     }
@@ -86,4 +96,20 @@ public class DistributableSessionManagerStatistics implements RecordableSessionM
     public long getStartTime() {
         return this.startTime;
     }
+
+    /**
+     * Returns the number of bytes of modified mutable session attributes written at the end of a request, when attribute deltas are enabled.
+     * @return a number of bytes
+     */
+    public long getWrittenAttributeBytes() {
+        return this.writtenAttributeBytes.sum();
+    }
+
+    /**
+     * Returns the number of bytes of unmodified mutable session attributes whose write was skipped at the end of a request, when attribute deltas are enabled.
+     * @return a number of bytes
+     */
+    public long getSkippedAttributeBytes() {
+        return this.skippedAttributeBytes.sum();
+    }
 }
@@ -14,4 +14,11 @@ import io.undertow.server.session.SessionManagerStatistics;
  */
 public interface RecordableSessionManagerStatistics extends SessionManagerStatistics, Recordable<ImmutableSessionMetaData> {
     Recordable<ImmutableSessionMetaData> getInactiveSessionRecorder();
+
+    /**
+     * Records the marshalled size of a mutable session attribute read during a request, when attribute deltas are enabled.
+     * @param size the marshalled size of the attribute, in bytes
+     * @param written indicates whether the attribute was modified, and therefore written
+     */
+    void recordAttributeDelta(int size, boolean written);
 }
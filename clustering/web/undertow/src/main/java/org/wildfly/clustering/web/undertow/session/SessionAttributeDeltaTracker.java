@@ -0,0 +1,88 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.clustering.web.undertow.session;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
+import org.wildfly.clustering.server.immutable.Immutability;
+
+/**
+ * Detects whether the mutable session attributes read during a request were modified, by comparing their marshalled form at the end of the request with the form recorded when first read.
+ * The session manager is configured to treat all attributes as immutable, such that only those attributes detected as modified are persisted, via an explicit put.
+ */
+public class SessionAttributeDeltaTracker {
+
+    private final ByteBufferMarshaller marshaller;
+    private final Immutability immutability;
+
+    public SessionAttributeDeltaTracker(ByteBufferMarshaller marshaller, Immutability immutability) {
+        this.marshaller = marshaller;
+        this.immutability = immutability;
+    }
+
+    /**
+     * Records the marshalled form of the specified attribute value.
+     * @param value a session attribute value
+     * @return a snapshot of the specified value, or null, if the value is immutable.
+     */
+    Snapshot snapshot(Object value) {
+        return !this.immutability.test(value) ? new Snapshot(value, this.marshal(value)) : null;
+    }
+
+    private byte[] marshal(Object value) {
+        try {
+            ByteBuffer buffer = this.marshaller.write(value);
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        } catch (IOException e) {
+            // Value will be persisted unconditionally
+            return null;
+        }
+    }
+
+    /**
+     * The marshalled form of a mutable session attribute value, as first read during a request.
+     */
+    class Snapshot {
+        private final Object value;
+        private final byte[] bytes;
+        private final int hash;
+
+        Snapshot(Object value, byte[] bytes) {
+            this.value = value;
+            this.bytes = bytes;
+            this.hash = (bytes != null) ? Arrays.hashCode(bytes) : 0;
+        }
+
+        Object getValue() {
+            return this.value;
+        }
+
+        /**
+         * Marshals the current state of the attribute value.
+         * @return the marshalled form of the current state of the attribute value, or null, if it could not be marshalled.
+         */
+        byte[] marshal() {
+            return SessionAttributeDeltaTracker.this.marshal(this.value);
+        }
+
+        /**
+         * Compares the specified marshalled form of the attribute value with the recorded form, using the cheaper length and hash comparisons first.
+         * @param bytes the marshalled form of the current state of the attribute value
+         * @return true, if the attribute value was modified, or could not be marshalled, false otherwise.
+         */
+        boolean isModified(byte[] bytes) {
+            if ((bytes == null) || (this.bytes == null)) {
+                return true;
+            }
+            return (bytes.length != this.bytes.length) || (Arrays.hashCode(bytes) != this.hash) || !Arrays.equals(bytes, this.bytes);
+        }
+    }
+}
@@ -35,6 +35,7 @@ public class SessionManagerFactoryConfigurationAdapter<C extends DistributableSe
     private final ByteBufferMarshaller marshaller;
     private final Immutability immutability;
     private final SessionAttributePersistenceStrategy attributePersistenceStrategy;
+    private final SessionAttributeDeltaTracker attributeDeltaTracker;
 
     public SessionManagerFactoryConfigurationAdapter(SessionManagerFactoryConfiguration configuration, C managementConfiguration, Immutability immutability) {
         super(configuration);
@@ -52,6 +53,7 @@ public class SessionManagerFactoryConfigurationAdapter<C extends DistributableSe
                 Immutability.composite(loadedImmutabilities),
                 immutability));
         this.attributePersistenceStrategy = managementConfiguration.getAttributePersistenceStrategy();
+        this.attributeDeltaTracker = managementConfiguration.isAttributeDeltaEnabled() ? new SessionAttributeDeltaTracker(this.marshaller, this.immutability) : null;
     }
 
     @Override
@@ -71,11 +73,20 @@ public class SessionManagerFactoryConfigurationAdapter<C extends DistributableSe
 
     @Override
     public Immutability getImmutability() {
-        return this.immutability;
+        // If attribute deltas are enabled, mutable attributes are only persisted if the delta tracker detects a modification
+        return (this.attributeDeltaTracker != null) ? value -> true : this.immutability;
     }
 
     @Override
     public SessionAttributePersistenceStrategy getAttributePersistenceStrategy() {
         return this.attributePersistenceStrategy;
     }
+
+    /**
+     * Returns the tracker of modifications to mutable session attributes, if attribute deltas are enabled.
+     * @return an attribute delta tracker, or null, if attribute deltas are disabled.
+     */
+    public SessionAttributeDeltaTracker getAttributeDeltaTracker() {
+        return this.attributeDeltaTracker;
+    }
 }
@@ -50,12 +50,14 @@ public class UndertowDistributableSessionManagementProvider implements SessionMa
     @Override
     public DeploymentServiceInstaller getSessionManagerFactoryServiceInstaller(ServiceName name, SessionManagerFactoryConfiguration configuration) {
 
-        DeploymentServiceInstaller providedInstaller = this.provider.getSessionManagerFactoryServiceInstaller(new SessionManagerFactoryConfigurationAdapter<>(configuration, this.provider.getSessionManagementConfiguration(), this.immutability));
+        SessionManagerFactoryConfigurationAdapter<?> adapter = new SessionManagerFactoryConfigurationAdapter<>(configuration, this.provider.getSessionManagementConfiguration(), this.immutability);
+        DeploymentServiceInstaller providedInstaller = this.provider.getSessionManagerFactoryServiceInstaller(adapter);
+        SessionAttributeDeltaTracker attributeDeltaTracker = adapter.getAttributeDeltaTracker();
 
         Function<SessionManagerFactory<ServletContext, Map<String, Object>>, io.undertow.servlet.api.SessionManagerFactory> mapper = new Function<>() {
             @Override
             public io.undertow.servlet.api.SessionManagerFactory apply(SessionManagerFactory<ServletContext, Map<String, Object>> factory) {
-                return new DistributableSessionManagerFactory(factory, configuration);
+                return new DistributableSessionManagerFactory(factory, configuration, attributeDeltaTracker);
             }
         };
         DeploymentServiceInstaller installer = ServiceInstaller.builder(ServiceDependency.on(WebDeploymentServiceDescriptor.SESSION_MANAGER_FACTORY, configuration.getDeploymentName()).map(mapper)).provides(name).build();
@@ -10,6 +10,7 @@ import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -21,6 +22,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
@@ -54,6 +57,7 @@ import org.mockito.ArgumentCaptor;
 import org.wildfly.clustering.cache.batch.Batch;
 import org.wildfly.clustering.cache.batch.BatchContext;
 import org.wildfly.clustering.cache.batch.SuspendedBatch;
+import org.wildfly.clustering.marshalling.ByteBufferMarshaller;
 import org.wildfly.clustering.session.ImmutableSessionMetaData;
 import org.wildfly.clustering.session.Session;
 import org.wildfly.clustering.session.SessionManager;
@@ -165,6 +169,54 @@ public class DistributableSessionTestCase {
         verify(this.closeTask).accept(exchange);
     }
 
+    @Test
+    public void attributeDeltaRequestDone() throws Exception {
+        doReturn(this.metaData).when(this.session).getMetaData();
+        doReturn(false).when(this.metaData).isNew();
+
+        ByteBufferMarshaller marshaller = mock(ByteBufferMarshaller.class);
+        doAnswer(invocation -> ByteBuffer.wrap(invocation.getArgument(0).toString().getBytes(StandardCharsets.UTF_8))).when(marshaller).write(any());
+        SessionAttributeDeltaTracker tracker = new SessionAttributeDeltaTracker(marshaller, String.class::isInstance);
+
+        io.undertow.server.session.Session session = new DistributableSession(this.manager, this.session, this.config, this.suspendedBatch, this.closeTask, this.statistics, tracker);
+
+        Map<String, Object> attributes = mock(Map.class);
+        StringBuilder modified = new StringBuilder("foo");
+        StringBuilder unmodified = new StringBuilder("bar");
+        String immutable = "baz";
+
+        doReturn(attributes).when(this.session).getAttributes();
+        doReturn(modified).when(attributes).get("modified");
+        doReturn(unmodified).when(attributes).get("unmodified");
+        doReturn(immutable).when(attributes).get("immutable");
+
+        assertSame(modified, session.getAttribute("modified"));
+        assertSame(unmodified, session.getAttribute("unmodified"));
+        assertSame(immutable, session.getAttribute("immutable"));
+        // Subsequent reads do not take another snapshot
+        assertSame(modified, session.getAttribute("modified"));
+
+        modified.append("!");
+
+        HttpServerExchange exchange = new HttpServerExchange(null);
+        Batch batch = mock(Batch.class);
+
+        doReturn(batch).when(this.suspendedBatch).resume();
+        doReturn(true).when(this.session).isValid();
+
+        session.requestDone(exchange);
+
+        verify(attributes).put("modified", modified);
+        verify(attributes, never()).put(same("unmodified"), any());
+        verify(attributes, never()).put(same("immutable"), any());
+        verify(marshaller, times(4)).write(any());
+        verify(this.statistics).recordAttributeDelta(4, true);
+        verify(this.statistics).recordAttributeDelta(3, false);
+        verify(this.session).close();
+        verify(batch).close();
+        verify(this.closeTask).accept(exchange);
+    }
+
     @Test
     public void invalidSessionRequestDone() {
         doReturn(this.metaData).when(this.session).getMetaData();
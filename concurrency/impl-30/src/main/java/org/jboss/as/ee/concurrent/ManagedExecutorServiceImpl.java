@@ -8,11 +8,13 @@ package org.jboss.as.ee.concurrent;
 import org.glassfish.enterprise.concurrent.AbstractManagedExecutorService;
 import org.glassfish.enterprise.concurrent.AbstractManagedThread;
 import org.glassfish.enterprise.concurrent.ContextServiceImpl;
+import org.glassfish.enterprise.concurrent.internal.ManagedFutureTask;
 import org.jboss.as.controller.ProcessStateNotifier;
 import org.jboss.as.ee.logging.EeLogger;
 import org.wildfly.extension.requestcontroller.ControlPoint;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
@@ -30,19 +32,29 @@ public class ManagedExecutorServiceImpl extends org.glassfish.enterprise.concurr
     private final ControlPoint controlPoint;
     private final ProcessStateNotifier processStateNotifier;
     private final ManagedExecutorRuntimeStats runtimeStats;
+    /**
+     * the executor of each task on a new virtual thread, null if tasks are executed by the thread pool
+     */
+    private final VirtualTaskExecutor virtualTaskExecutor;
 
     public ManagedExecutorServiceImpl(String name, WildFlyManagedThreadFactory managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, WildFlyContextService contextService, WildFlyManagedExecutorService.RejectPolicy rejectPolicy, BlockingQueue<Runnable> queue, ControlPoint controlPoint, ProcessStateNotifier processStateNotifier) {
         super(name, (ManagedThreadFactoryImpl) managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, maxPoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, (ContextServiceImpl) contextService, convertRejectPolicy(rejectPolicy), queue);
         this.controlPoint = controlPoint;
         this.processStateNotifier = processStateNotifier;
         this.runtimeStats = new ManagedExecutorRuntimeStatsImpl30(this);
+        this.virtualTaskExecutor = null;
+    }
+
+    public ManagedExecutorServiceImpl(String name, WildFlyManagedThreadFactory managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, int queueCapacity, WildFlyContextService contextService, WildFlyManagedExecutorService.RejectPolicy rejectPolicy, ControlPoint controlPoint, ProcessStateNotifier processStateNotifier, boolean virtual) {
+        this(name, managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, maxPoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, queueCapacity, contextService, rejectPolicy, controlPoint, processStateNotifier, virtual ? VirtualTaskExecutor.create(name, hungTaskThreshold, longRunningTasks) : null);
     }
 
-    public ManagedExecutorServiceImpl(String name, WildFlyManagedThreadFactory managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, int queueCapacity, WildFlyContextService contextService, WildFlyManagedExecutorService.RejectPolicy rejectPolicy, ControlPoint controlPoint, ProcessStateNotifier processStateNotifier) {
+    ManagedExecutorServiceImpl(String name, WildFlyManagedThreadFactory managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, int queueCapacity, WildFlyContextService contextService, WildFlyManagedExecutorService.RejectPolicy rejectPolicy, ControlPoint controlPoint, ProcessStateNotifier processStateNotifier, VirtualTaskExecutor virtualTaskExecutor) {
         super(name, (ManagedThreadFactoryImpl) managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, maxPoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, queueCapacity, (ContextServiceImpl) contextService, convertRejectPolicy(rejectPolicy));
         this.controlPoint = controlPoint;
         this.processStateNotifier = processStateNotifier;
-        this.runtimeStats = new ManagedExecutorRuntimeStatsImpl30(this);
+        this.virtualTaskExecutor = virtualTaskExecutor;
+        this.runtimeStats = virtualTaskExecutor != null ? virtualTaskExecutor : new ManagedExecutorRuntimeStatsImpl30(this);
     }
 
     public static AbstractManagedExecutorService.RejectPolicy convertRejectPolicy(WildFlyManagedExecutorService.RejectPolicy rejectPolicy) {
@@ -91,13 +103,55 @@ public class ManagedExecutorServiceImpl extends org.glassfish.enterprise.concurr
     public void execute(Runnable command) {
         final Runnable runnable = ControlPointUtils.doWrap(command, controlPoint, processStateNotifier);
         try {
-            super.execute(doIdentityWrap(runnable));
+            if (virtualTaskExecutor != null) {
+                executeManagedFutureTask(getNewTaskFor(doIdentityWrap(runnable), null));
+            } else {
+                super.execute(doIdentityWrap(runnable));
+            }
         } catch (Exception e) {
             controlPoint.requestComplete();
             throw e;
         }
     }
 
+    @Override
+    protected void executeManagedFutureTask(ManagedFutureTask<?> task) {
+        if (virtualTaskExecutor != null) {
+            task.submitted();
+            virtualTaskExecutor.execute(task);
+        } else {
+            super.executeManagedFutureTask(task);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        if (virtualTaskExecutor != null) {
+            virtualTaskExecutor.shutdown();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        final List<Runnable> tasks = super.shutdownNow();
+        if (virtualTaskExecutor != null) {
+            virtualTaskExecutor.shutdownNow();
+        }
+        return tasks;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return super.isTerminated() && (virtualTaskExecutor == null || virtualTaskExecutor.isTerminated());
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        return super.awaitTermination(timeout, unit) && (virtualTaskExecutor == null || virtualTaskExecutor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS));
+    }
+
     @Override
     protected ThreadPoolExecutor getThreadPoolExecutor() {
         return (ThreadPoolExecutor) super.getThreadPoolExecutor();
@@ -115,6 +169,10 @@ public class ManagedExecutorServiceImpl extends org.glassfish.enterprise.concurr
     public void terminateHungTasks() {
         final String executorName = getClass().getSimpleName() + ":" + getName();
         EeLogger.ROOT_LOGGER.debugf("Cancelling %s hung tasks...", executorName);
+        if (virtualTaskExecutor != null) {
+            virtualTaskExecutor.terminateHungTasks(executorName);
+            return;
+        }
         final Collection<AbstractManagedThread> hungThreads = getHungThreads();
         if (hungThreads != null) {
             for (AbstractManagedThread t : hungThreads) {
@@ -8,12 +8,14 @@ import jakarta.enterprise.concurrent.LastExecution;
 import jakarta.enterprise.concurrent.Trigger;
 import org.glassfish.enterprise.concurrent.AbstractManagedThread;
 import org.glassfish.enterprise.concurrent.ContextServiceImpl;
+import org.glassfish.enterprise.concurrent.internal.ManagedFutureTask;
 import org.jboss.as.controller.ProcessStateNotifier;
 import org.jboss.as.ee.logging.EeLogger;
 import org.wildfly.extension.requestcontroller.ControlPoint;
 
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
@@ -30,12 +32,21 @@ public class ManagedScheduledExecutorServiceImpl extends org.glassfish.enterpris
     private final ControlPoint controlPoint;
     private final ProcessStateNotifier processStateNotifier;
     private final ManagedExecutorRuntimeStats runtimeStats;
+    /**
+     * the executor of each task submitted for immediate execution on a new virtual thread, null if such tasks are executed by the thread pool
+     */
+    private final VirtualTaskExecutor virtualTaskExecutor;
 
     public ManagedScheduledExecutorServiceImpl(String name, WildFlyManagedThreadFactory managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, WildFlyContextService contextService, WildFlyManagedExecutorService.RejectPolicy rejectPolicy, ControlPoint controlPoint, ProcessStateNotifier processStateNotifier) {
+        this(name, managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, contextService, rejectPolicy, controlPoint, processStateNotifier, false);
+    }
+
+    public ManagedScheduledExecutorServiceImpl(String name, WildFlyManagedThreadFactory managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, WildFlyContextService contextService, WildFlyManagedExecutorService.RejectPolicy rejectPolicy, ControlPoint controlPoint, ProcessStateNotifier processStateNotifier, boolean virtual) {
         super(name, (ManagedThreadFactoryImpl) managedThreadFactory, hungTaskThreshold, longRunningTasks, corePoolSize, keepAliveTime, keepAliveTimeUnit, threadLifeTime, (ContextServiceImpl) contextService, ManagedExecutorServiceImpl.convertRejectPolicy(rejectPolicy));
         this.controlPoint = controlPoint;
         this.processStateNotifier = processStateNotifier;
-        this.runtimeStats = new ManagedExecutorRuntimeStatsImpl30(this);
+        this.virtualTaskExecutor = virtual ? VirtualTaskExecutor.create(name, hungTaskThreshold, longRunningTasks) : null;
+        this.runtimeStats = virtualTaskExecutor != null ? new CompositeRuntimeStats(new ManagedExecutorRuntimeStatsImpl30(this), virtualTaskExecutor) : new ManagedExecutorRuntimeStatsImpl30(this);
     }
 
     @Override
@@ -45,22 +56,39 @@ public class ManagedScheduledExecutorServiceImpl extends org.glassfish.enterpris
 
     @Override
     public void execute(Runnable command) {
-        super.execute(SecurityIdentityUtils.doIdentityWrap(ControlPointUtils.doWrap(command, controlPoint, processStateNotifier)));
+        final Runnable runnable = SecurityIdentityUtils.doIdentityWrap(ControlPointUtils.doWrap(command, controlPoint, processStateNotifier));
+        if (virtualTaskExecutor != null) {
+            executeVirtual(new ManagedFutureTask<>(this, runnable, null));
+        } else {
+            super.execute(runnable);
+        }
     }
 
     @Override
     public Future<?> submit(Runnable task) {
-        return super.submit(SecurityIdentityUtils.doIdentityWrap(ControlPointUtils.doWrap(task, controlPoint, processStateNotifier)));
+        final Runnable runnable = SecurityIdentityUtils.doIdentityWrap(ControlPointUtils.doWrap(task, controlPoint, processStateNotifier));
+        return virtualTaskExecutor != null ? executeVirtual(new ManagedFutureTask<>(this, runnable, null)) : super.submit(runnable);
     }
 
     @Override
     public <T> Future<T> submit(Runnable task, T result) {
-        return super.submit(SecurityIdentityUtils.doIdentityWrap(ControlPointUtils.doWrap(task, controlPoint, processStateNotifier)), result);
+        final Runnable runnable = SecurityIdentityUtils.doIdentityWrap(ControlPointUtils.doWrap(task, controlPoint, processStateNotifier));
+        return virtualTaskExecutor != null ? executeVirtual(new ManagedFutureTask<>(this, runnable, result)) : super.submit(runnable, result);
     }
 
     @Override
     public <T> Future<T> submit(Callable<T> task) {
-        return super.submit(SecurityIdentityUtils.doIdentityWrap(ControlPointUtils.doWrap(task, controlPoint, processStateNotifier)));
+        final Callable<T> callable = SecurityIdentityUtils.doIdentityWrap(ControlPointUtils.doWrap(task, controlPoint, processStateNotifier));
+        return virtualTaskExecutor != null ? executeVirtual(new ManagedFutureTask<T>(this, callable)) : super.submit(callable);
+    }
+
+    /**
+     * Executes a task submitted for immediate execution on a new virtual thread.
+     */
+    private <T> Future<T> executeVirtual(ManagedFutureTask<T> task) {
+        task.submitted();
+        virtualTaskExecutor.execute(task);
+        return task;
     }
 
     @Override
@@ -110,6 +138,82 @@ public class ManagedScheduledExecutorServiceImpl extends org.glassfish.enterpris
         return runtimeStats;
     }
 
+    @Override
+    public void shutdown() {
+        super.shutdown();
+        if (virtualTaskExecutor != null) {
+            virtualTaskExecutor.shutdown();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        final List<Runnable> tasks = super.shutdownNow();
+        if (virtualTaskExecutor != null) {
+            virtualTaskExecutor.shutdownNow();
+        }
+        return tasks;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return super.isTerminated() && (virtualTaskExecutor == null || virtualTaskExecutor.isTerminated());
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        return super.awaitTermination(timeout, unit) && (virtualTaskExecutor == null || virtualTaskExecutor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Runtime stats of an executor which runs tasks both in its thread pool, and on virtual threads.
+     */
+    private static class CompositeRuntimeStats implements ManagedExecutorRuntimeStats {
+        private final ManagedExecutorRuntimeStats threadPoolStats;
+        private final ManagedExecutorRuntimeStats virtualStats;
+
+        CompositeRuntimeStats(ManagedExecutorRuntimeStats threadPoolStats, ManagedExecutorRuntimeStats virtualStats) {
+            this.threadPoolStats = threadPoolStats;
+            this.virtualStats = virtualStats;
+        }
+
+        @Override
+        public int getThreadsCount() {
+            return threadPoolStats.getThreadsCount() + virtualStats.getThreadsCount();
+        }
+
+        @Override
+        public int getActiveThreadsCount() {
+            return threadPoolStats.getActiveThreadsCount() + virtualStats.getActiveThreadsCount();
+        }
+
+        @Override
+        public int getMaxThreadsCount() {
+            return threadPoolStats.getMaxThreadsCount() + virtualStats.getMaxThreadsCount();
+        }
+
+        @Override
+        public int getHungThreadsCount() {
+            return threadPoolStats.getHungThreadsCount() + virtualStats.getHungThreadsCount();
+        }
+
+        @Override
+        public long getTaskCount() {
+            return threadPoolStats.getTaskCount() + virtualStats.getTaskCount();
+        }
+
+        @Override
+        public long getCompletedTaskCount() {
+            return threadPoolStats.getCompletedTaskCount() + virtualStats.getCompletedTaskCount();
+        }
+
+        @Override
+        public int getQueueSize() {
+            return threadPoolStats.getQueueSize();
+        }
+    }
+
     /**
      * A {@link jakarta.enterprise.concurrent.Trigger} wrapper that stops scheduling if the related {@link java.util.concurrent.ScheduledFuture} is cancelled.
      */
@@ -141,6 +245,9 @@ public class ManagedScheduledExecutorServiceImpl extends org.glassfish.enterpris
     public void terminateHungTasks() {
         final String executorName = getClass().getSimpleName() + ":" + getName();
         EeLogger.ROOT_LOGGER.debugf("Cancelling %s hung tasks...", executorName);
+        if (virtualTaskExecutor != null) {
+            virtualTaskExecutor.terminateHungTasks(executorName);
+        }
         final Collection<AbstractManagedThread> hungThreads = getHungThreads();
         if (hungThreads != null) {
             for (AbstractManagedThread t : hungThreads) {
@@ -9,6 +9,7 @@ import org.glassfish.enterprise.concurrent.AbstractManagedThread;
 import org.glassfish.enterprise.concurrent.ContextServiceImpl;
 import org.glassfish.enterprise.concurrent.internal.ManagedFutureTask;
 import org.glassfish.enterprise.concurrent.spi.ContextHandle;
+import org.glassfish.enterprise.concurrent.spi.ContextSetupProvider;
 import org.wildfly.security.auth.server.SecurityIdentity;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
@@ -16,6 +17,9 @@ import jakarta.enterprise.concurrent.ManagedThreadFactory;
 import java.security.AccessControlContext;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * {@link ManagedThreadFactory} implementation ensuring {@link SecurityIdentity} propagation into new threads.
@@ -34,10 +38,37 @@ public class ManagedThreadFactoryImpl extends org.glassfish.enterprise.concurren
      */
     private final AccessControlContext accessControlContext;
 
+    /**
+     * the factory's context service
+     */
+    private final ContextServiceImpl contextService;
+
+    /**
+     * the factory of virtual threads, null if the factory creates platform threads
+     */
+    private final ThreadFactory virtualThreadFactory;
+
+    /**
+     * the virtual threads running, which are interrupted when the factory is stopped
+     */
+    private final Set<Thread> virtualThreads = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean stopped;
+
     public ManagedThreadFactoryImpl(String name, WildFlyContextService contextService, int priority) {
+        this(name, contextService, priority, false);
+    }
+
+    public ManagedThreadFactoryImpl(String name, WildFlyContextService contextService, int priority, boolean virtual) {
+        this(name, contextService, priority, virtual ? VirtualThreads.newThreadFactory(name) : null);
+    }
+
+    ManagedThreadFactoryImpl(String name, WildFlyContextService contextService, int priority, ThreadFactory virtualThreadFactory) {
         super(name, (ContextServiceImpl) contextService, priority);
         this.priority = priority;
         this.accessControlContext = AccessController.getContext();
+        this.contextService = (ContextServiceImpl) contextService;
+        this.virtualThreadFactory = virtualThreadFactory;
     }
 
     /**
@@ -48,6 +79,70 @@ public class ManagedThreadFactoryImpl extends org.glassfish.enterprise.concurren
         return priority;
     }
 
+    /**
+     *
+     * @return true if the factory creates virtual threads
+     */
+    public boolean isVirtual() {
+        return virtualThreadFactory != null;
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+        if (virtualThreadFactory == null) {
+            return super.newThread(r);
+        }
+        if (stopped) {
+            throw new IllegalStateException(MANAGED_THREAD_FACTORY_STOPPED);
+        }
+        final ContextSetupProvider contextSetupProvider = getContextSetupProvider();
+        final ContextHandle contextHandleForSetup = savedContextHandleForSetup != null ? savedContextHandleForSetup : (contextSetupProvider != null ? contextSetupProvider.saveContext(contextService) : null);
+        // app thread, do identity wrap
+        final Runnable task = contextHandleForSetup != null ? SecurityIdentityUtils.doIdentityWrap(r) : r;
+        final Runnable target = () -> {
+            // register once running, so that a thread which is never started is not retained
+            final Thread current = Thread.currentThread();
+            virtualThreads.add(current);
+            try {
+                if (stopped) {
+                    // stopped concurrently, the thread may have been missed when interrupting the factory's threads
+                    current.interrupt();
+                }
+                final ContextHandle contextHandleForReset = contextHandleForSetup != null ? contextSetupProvider.setup(contextHandleForSetup) : null;
+                try {
+                    task.run();
+                } finally {
+                    if (contextHandleForReset != null) {
+                        contextSetupProvider.reset(contextHandleForReset);
+                    }
+                }
+            } finally {
+                virtualThreads.remove(current);
+            }
+        };
+        // use the factory's acc as privileged, otherwise the new thread inherits current thread's acc
+        final Thread t = AccessController.doPrivileged((PrivilegedAction<Thread>) () -> virtualThreadFactory.newThread(target), accessControlContext);
+        // reset thread classloader to prevent leaks
+        if (!WildFlySecurityManager.isChecking()) {
+            t.setContextClassLoader(null);
+        } else {
+            AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+                t.setContextClassLoader(null);
+                return null;
+            });
+        }
+        return t;
+    }
+
+    @Override
+    public void stop() {
+        stopped = true;
+        super.stop();
+        for (Thread t : virtualThreads) {
+            t.interrupt();
+        }
+    }
+
     protected AbstractManagedThread createThread(Runnable r, final ContextHandle contextHandleForSetup) {
         if (contextHandleForSetup != null) {
             // app thread, do identity wrap
@@ -0,0 +1,263 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ee.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.glassfish.enterprise.concurrent.internal.ManagedFutureTask;
+import org.jboss.as.ee.logging.EeLogger;
+
+/**
+ * An executor which runs each task on a new thread, typically a virtual thread, instead of a pooled thread.
+ * <p/>
+ * Managed tasks go through the same lifecycle as when executed by the thread pool of a managed executor, i.e. their
+ * context is set up before the task starts, and reset after it is done. The executor keeps track of the running tasks,
+ * so that hung tasks may be detected and terminated, and provides the executor's runtime stats.
+ */
+class VirtualTaskExecutor extends AbstractExecutorService implements ManagedExecutorRuntimeStats {
+
+    private final String name;
+    private final ThreadFactory threadFactory;
+    private final long hungTaskThreshold;
+    private final boolean longRunningTasks;
+    private final Map<Thread, RunningTask> runningTasks = new ConcurrentHashMap<>();
+    private final LongAdder taskCount = new LongAdder();
+    private final LongAdder completedTaskCount = new LongAdder();
+    private final AtomicInteger maxThreadsCount = new AtomicInteger();
+    // the number of accepted tasks which are not done yet
+    private final AtomicInteger pendingTasks = new AtomicInteger();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private volatile boolean shutdown;
+
+    /**
+     *
+     * @param name the name of the executor
+     * @param threadFactory the factory of the threads executing each task
+     * @param hungTaskThreshold the runtime, in milliseconds, for tasks to be considered hung, if greater than 0
+     * @param longRunningTasks if true tasks are never considered hung
+     */
+    VirtualTaskExecutor(String name, ThreadFactory threadFactory, long hungTaskThreshold, boolean longRunningTasks) {
+        this.name = name;
+        this.threadFactory = threadFactory;
+        this.hungTaskThreshold = hungTaskThreshold;
+        this.longRunningTasks = longRunningTasks;
+    }
+
+    /**
+     * Creates an executor running each task on a new virtual thread.
+     * @param name the name of the executor
+     * @param hungTaskThreshold the runtime, in milliseconds, for tasks to be considered hung, if greater than 0
+     * @param longRunningTasks if true tasks are never considered hung
+     * @return the new executor, or null if virtual threads are not supported by the JVM
+     */
+    static VirtualTaskExecutor create(String name, long hungTaskThreshold, boolean longRunningTasks) {
+        final ThreadFactory threadFactory = VirtualThreads.newThreadFactory(name);
+        return threadFactory != null ? new VirtualTaskExecutor(name, threadFactory, hungTaskThreshold, longRunningTasks) : null;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        pendingTasks.incrementAndGet();
+        if (shutdown) {
+            taskDone();
+            throw new RejectedExecutionException(name);
+        }
+        final Thread thread;
+        try {
+            thread = threadFactory.newThread(() -> run(task));
+        } catch (RuntimeException | Error e) {
+            taskDone();
+            throw e;
+        }
+        if (thread == null) {
+            taskDone();
+            throw new RejectedExecutionException(name);
+        }
+        taskCount.increment();
+        thread.start();
+    }
+
+    private void run(Runnable task) {
+        final Thread thread = Thread.currentThread();
+        runningTasks.put(thread, new RunningTask(task, System.currentTimeMillis()));
+        maxThreadsCount.accumulateAndGet(runningTasks.size(), Math::max);
+        try {
+            if (task instanceof ManagedFutureTask) {
+                runManagedTask((ManagedFutureTask<?>) task, thread);
+            } else {
+                task.run();
+            }
+        } finally {
+            runningTasks.remove(thread);
+            completedTaskCount.increment();
+            taskDone();
+        }
+    }
+
+    /**
+     * Runs a managed task, with the same callbacks used by the thread pools of the managed executors.
+     */
+    private static void runManagedTask(ManagedFutureTask<?> task, Thread thread) {
+        Throwable throwable = null;
+        task.setupContext();
+        try {
+            task.starting(thread);
+            task.run();
+        } catch (RuntimeException | Error e) {
+            throwable = e;
+            throw e;
+        } finally {
+            try {
+                task.done(throwable);
+            } finally {
+                task.resetContext();
+            }
+        }
+    }
+
+    private void taskDone() {
+        if (pendingTasks.decrementAndGet() == 0 && shutdown) {
+            terminated.countDown();
+        }
+    }
+
+    /**
+     *
+     * @return the threads currently running hung tasks, with the related task
+     */
+    Map<Thread, Runnable> getHungTasks() {
+        if (longRunningTasks || hungTaskThreshold <= 0) {
+            return Map.of();
+        }
+        final long now = System.currentTimeMillis();
+        final Map<Thread, Runnable> hungTasks = new HashMap<>();
+        for (Map.Entry<Thread, RunningTask> entry : runningTasks.entrySet()) {
+            final RunningTask runningTask = entry.getValue();
+            if (now - runningTask.startTime > hungTaskThreshold) {
+                hungTasks.put(entry.getKey(), runningTask.task);
+            }
+        }
+        return hungTasks;
+    }
+
+    /**
+     * Attempts to terminate the hung tasks, by cancelling such tasks, and interrupting their executing threads.
+     * @param executorName the name of the executor, used for logging
+     */
+    void terminateHungTasks(String executorName) {
+        for (Map.Entry<Thread, Runnable> entry : getHungTasks().entrySet()) {
+            final Runnable task = entry.getValue();
+            final String taskIdentityName = task instanceof ManagedFutureTask ? ((ManagedFutureTask<?>) task).getTaskIdentityName() : task.toString();
+            try {
+                final boolean cancelled;
+                if (task instanceof ManagedFutureTask) {
+                    cancelled = ((ManagedFutureTask<?>) task).cancel(true);
+                } else {
+                    entry.getKey().interrupt();
+                    cancelled = true;
+                }
+                if (cancelled) {
+                    EeLogger.ROOT_LOGGER.hungTaskCancelled(executorName, taskIdentityName);
+                } else {
+                    EeLogger.ROOT_LOGGER.hungTaskNotCancelled(executorName, taskIdentityName);
+                }
+            } catch (Throwable throwable) {
+                EeLogger.ROOT_LOGGER.huntTaskTerminationFailure(throwable, executorName, taskIdentityName);
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        if (pendingTasks.get() == 0) {
+            terminated.countDown();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        final Collection<Thread> threads = new ArrayList<>(runningTasks.keySet());
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+        // tasks are never queued
+        return List.of();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    @Override
+    public int getThreadsCount() {
+        return runningTasks.size();
+    }
+
+    @Override
+    public int getActiveThreadsCount() {
+        return runningTasks.size();
+    }
+
+    @Override
+    public int getMaxThreadsCount() {
+        return maxThreadsCount.get();
+    }
+
+    @Override
+    public int getHungThreadsCount() {
+        return getHungTasks().size();
+    }
+
+    @Override
+    public long getTaskCount() {
+        return taskCount.sum();
+    }
+
+    @Override
+    public long getCompletedTaskCount() {
+        return completedTaskCount.sum();
+    }
+
+    @Override
+    public int getQueueSize() {
+        // each task gets its own thread, there is no queue
+        return 0;
+    }
+
+    private static class RunningTask {
+        private final Runnable task;
+        private final long startTime;
+
+        RunningTask(Runnable task, long startTime) {
+            this.task = task;
+            this.startTime = startTime;
+        }
+    }
+}
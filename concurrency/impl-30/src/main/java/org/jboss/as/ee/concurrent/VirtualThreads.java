@@ -0,0 +1,75 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ee.concurrent;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ThreadFactory;
+
+import org.jboss.as.ee.logging.EeLogger;
+
+/**
+ * Creates virtual thread factories, if supported by the JVM.
+ * The virtual thread API is looked up reflectively, since it is not available in all supported Java versions.
+ */
+final class VirtualThreads {
+
+    private static final MethodHandle OF_VIRTUAL;
+    private static final MethodHandle NAME;
+    private static final MethodHandle FACTORY;
+
+    static {
+        MethodHandle ofVirtual = null;
+        MethodHandle name = null;
+        MethodHandle factory = null;
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            final Class<?> ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualClass));
+            name = lookup.findVirtual(ofVirtualClass, "name", MethodType.methodType(ofVirtualClass, String.class, long.class));
+            factory = lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class));
+            // the API may exist as a preview feature, which fails if not enabled
+            ofVirtual.invoke();
+        } catch (Throwable e) {
+            EeLogger.ROOT_LOGGER.debugf(e, "Virtual threads are not supported");
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+    }
+
+    private VirtualThreads() {
+    }
+
+    /**
+     *
+     * @return true if the JVM supports virtual threads
+     */
+    static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Creates a factory of virtual threads, or logs a warning and returns null if virtual threads are not supported.
+     * @param name the name of the thread factory or executor requiring virtual threads, used as prefix of the thread names
+     * @return the new thread factory, or null if virtual threads are not supported
+     */
+    static ThreadFactory newThreadFactory(String name) {
+        if (!isSupported()) {
+            EeLogger.ROOT_LOGGER.virtualThreadsNotSupported(name);
+            return null;
+        }
+        try {
+            return (ThreadFactory) FACTORY.invoke(NAME.invoke(OF_VIRTUAL.invoke(), name + "-VirtualThread-", 1L));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.concurrent;
+
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.enterprise.concurrent.ContextService;
+import jakarta.enterprise.concurrent.ContextServiceDefinition;
+import org.jboss.as.ee.concurrent.handle.ContextHandleFactory;
+import org.jboss.as.ee.concurrent.handle.EE10ContextHandleFactory;
+import org.jboss.as.ee.concurrent.handle.ResetContextHandle;
+import org.jboss.as.ee.concurrent.handle.SetupContextHandle;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for the context propagation of {@link ConcurrentContext}.
+ */
+public class ConcurrentContextTestCase {
+
+    private final List<String> events = new ArrayList<>();
+
+    @Test
+    public void propagation() {
+        ConcurrentContext concurrentContext = new ConcurrentContext();
+        concurrentContext.addFactory(new TestFactory("security", ContextServiceDefinition.SECURITY, 200));
+        concurrentContext.addFactory(new TestFactory("transaction", ContextServiceDefinition.TRANSACTION, 100));
+        concurrentContext.addFactory(new TestLegacyFactory("legacy", 300));
+        ContextServiceTypesConfiguration configuration = new ContextServiceTypesConfiguration.Builder()
+                .setCleared(new String[] { ContextServiceDefinition.TRANSACTION })
+                .setUnchanged(new String[] { ContextServiceDefinition.APPLICATION })
+                .setPropagated(new String[] { ContextServiceDefinition.ALL_REMAINING })
+                .build();
+        ContextService contextService = new ContextServiceImpl("test", configuration);
+
+        for (int i = 0; i < 2; i++) {
+            SetupContextHandle setupHandle = concurrentContext.saveContext(contextService, Map.of());
+            ResetContextHandle resetHandle = setupHandle.setup();
+            Assert.assertSame(concurrentContext, ConcurrentContext.current());
+            resetHandle.reset();
+            Assert.assertNull(ConcurrentContext.current());
+            // The legacy factory is skipped, since the application context is not propagated
+            Assert.assertEquals(List.of("save transaction cleared", "save security propagated",
+                    "setup transaction", "setup security", "reset security", "reset transaction"), events);
+            events.clear();
+        }
+    }
+
+    @Test
+    public void addFactory() {
+        ConcurrentContext concurrentContext = new ConcurrentContext();
+        concurrentContext.addFactory(new TestFactory("security", ContextServiceDefinition.SECURITY, 200));
+        ContextService contextService = new ContextServiceImpl("test", ContextServiceTypesConfiguration.DEFAULT);
+
+        concurrentContext.saveContext(contextService, Map.of());
+        Assert.assertEquals(List.of("save security propagated"), events);
+        events.clear();
+
+        // Adding a factory discards the propagation plans compiled so far
+        concurrentContext.addFactory(new TestLegacyFactory("legacy", 300));
+        concurrentContext.saveContext(contextService, Map.of());
+        Assert.assertEquals(List.of("save security propagated", "save legacy"), events);
+    }
+
+    @Test
+    public void setupFailure() {
+        ConcurrentContext concurrentContext = new ConcurrentContext();
+        concurrentContext.addFactory(new TestFactory("transaction", ContextServiceDefinition.TRANSACTION, 100));
+        concurrentContext.addFactory(new TestFactory("failure", ContextServiceDefinition.SECURITY, 200));
+        ContextService contextService = new ContextServiceImpl("test", ContextServiceTypesConfiguration.DEFAULT);
+
+        SetupContextHandle setupHandle = concurrentContext.saveContext(contextService, Map.of());
+        events.clear();
+        Assert.assertThrows(IllegalStateException.class, setupHandle::setup);
+        // Only the contexts set up before the failure are reset
+        Assert.assertEquals(List.of("setup transaction", "reset transaction"), events);
+        Assert.assertNull(ConcurrentContext.current());
+    }
+
+    private class TestFactory implements EE10ContextHandleFactory {
+        private final String name;
+        private final String contextType;
+        private final int priority;
+
+        TestFactory(String name, String contextType, int priority) {
+            this.name = name;
+            this.contextType = contextType;
+            this.priority = priority;
+        }
+
+        @Override
+        public String getContextType() {
+            return contextType;
+        }
+
+        @Override
+        public SetupContextHandle clearedContext(ContextService contextService, Map<String, String> contextObjectProperties) {
+            events.add("save " + name + " cleared");
+            return new TestSetupContextHandle(name);
+        }
+
+        @Override
+        public SetupContextHandle propagatedContext(ContextService contextService, Map<String, String> contextObjectProperties) {
+            events.add("save " + name + " propagated");
+            return new TestSetupContextHandle(name);
+        }
+
+        @Override
+        public int getChainPriority() {
+            return priority;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void writeSetupContextHandle(SetupContextHandle contextHandle, ObjectOutputStream out) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SetupContextHandle readSetupContextHandle(ObjectInputStream in) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private class TestLegacyFactory implements ContextHandleFactory {
+        private final String name;
+        private final int priority;
+
+        TestLegacyFactory(String name, int priority) {
+            this.name = name;
+            this.priority = priority;
+        }
+
+        @Override
+        public SetupContextHandle saveContext(ContextService contextService, Map<String, String> contextObjectProperties) {
+            events.add("save " + name);
+            return new TestSetupContextHandle(name);
+        }
+
+        @Override
+        public int getChainPriority() {
+            return priority;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void writeSetupContextHandle(SetupContextHandle contextHandle, ObjectOutputStream out) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SetupContextHandle readSetupContextHandle(ObjectInputStream in) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private class TestSetupContextHandle implements SetupContextHandle {
+        private static final long serialVersionUID = 1L;
+        private final String name;
+
+        TestSetupContextHandle(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public ResetContextHandle setup() {
+            if (name.equals("failure")) {
+                throw new IllegalStateException();
+            }
+            events.add("setup " + name);
+            return new ResetContextHandle() {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public void reset() {
+                    events.add("reset " + name);
+                }
+
+                @Override
+                public String getFactoryName() {
+                    return name;
+                }
+            };
+        }
+
+        @Override
+        public String getFactoryName() {
+            return name;
+        }
+    }
+}
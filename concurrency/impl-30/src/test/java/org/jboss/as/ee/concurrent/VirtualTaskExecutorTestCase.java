@@ -0,0 +1,206 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ee.concurrent;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.glassfish.enterprise.concurrent.AbstractManagedThread;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link VirtualTaskExecutor}, and for the virtual thread mode of {@link ManagedThreadFactoryImpl}.
+ * Platform threads stand in for virtual threads, unless the test requires virtual threads, in which case it is skipped
+ * if the JVM does not support them.
+ */
+public class VirtualTaskExecutorTestCase {
+
+    private static final String BENCHMARK_PROPERTY = "ee.concurrent.virtual.benchmark";
+
+    @Test
+    public void runtimeStats() throws InterruptedException {
+        VirtualTaskExecutor executor = new VirtualTaskExecutor("test", Executors.defaultThreadFactory(), 0, false);
+        CountDownLatch running = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 2; i++) {
+            executor.execute(() -> {
+                running.countDown();
+                awaitUninterruptibly(release);
+            });
+        }
+        Assert.assertTrue(running.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(2, executor.getTaskCount());
+        Assert.assertEquals(2, executor.getActiveThreadsCount());
+        Assert.assertEquals(2, executor.getThreadsCount());
+        Assert.assertEquals(0, executor.getQueueSize());
+        // tasks are never hung if there is no threshold
+        Assert.assertEquals(0, executor.getHungThreadsCount());
+
+        release.countDown();
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertEquals(2, executor.getCompletedTaskCount());
+        Assert.assertEquals(0, executor.getActiveThreadsCount());
+        Assert.assertEquals(2, executor.getMaxThreadsCount());
+        Assert.assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {}));
+    }
+
+    @Test
+    public void terminateHungTasks() throws InterruptedException {
+        VirtualTaskExecutor executor = new VirtualTaskExecutor("test", Executors.defaultThreadFactory(), 1, false);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        executor.execute(() -> {
+            running.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        Assert.assertTrue(running.await(10, TimeUnit.SECONDS));
+        Thread.sleep(10);
+        Assert.assertEquals(1, executor.getHungThreadsCount());
+
+        executor.terminateHungTasks("test");
+        Assert.assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertEquals(0, executor.getHungThreadsCount());
+    }
+
+    @Test
+    public void longRunningTasks() throws InterruptedException {
+        VirtualTaskExecutor executor = new VirtualTaskExecutor("test", Executors.defaultThreadFactory(), 1, true);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            running.countDown();
+            awaitUninterruptibly(release);
+        });
+        Assert.assertTrue(running.await(10, TimeUnit.SECONDS));
+        Thread.sleep(10);
+        // long running tasks are never considered hung
+        Assert.assertEquals(0, executor.getHungThreadsCount());
+        release.countDown();
+        executor.shutdownNow();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void threadFactory() throws InterruptedException {
+        ManagedThreadFactoryImpl factory = new ManagedThreadFactoryImpl("test", null, Thread.NORM_PRIORITY, Executors.defaultThreadFactory());
+        Assert.assertTrue(factory.isVirtual());
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Thread thread = factory.newThread(() -> {
+            running.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        Assert.assertFalse(thread instanceof AbstractManagedThread);
+        thread.start();
+        Assert.assertTrue(running.await(10, TimeUnit.SECONDS));
+
+        // stopping the factory interrupts its threads, and prevents the creation of new threads
+        factory.stop();
+        Assert.assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+        Assert.assertThrows(IllegalStateException.class, () -> factory.newThread(() -> {}));
+    }
+
+    @Test
+    public void threadStartedAfterStop() throws InterruptedException {
+        ManagedThreadFactoryImpl factory = new ManagedThreadFactoryImpl("test", null, Thread.NORM_PRIORITY, Executors.defaultThreadFactory());
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Thread thread = factory.newThread(() -> {
+            if (Thread.currentThread().isInterrupted()) {
+                interrupted.countDown();
+            }
+        });
+        // a thread created but not yet started when the factory stops is interrupted once started
+        factory.stop();
+        thread.start();
+        Assert.assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Compares the throughput of blocking tasks, executed by a thread pool, and on virtual threads.
+     * Only runs if the {@value #BENCHMARK_PROPERTY} system property is set, since it adds several seconds to the build.
+     */
+    @Test
+    public void blockingTaskThroughput() throws InterruptedException {
+        Assume.assumeTrue(Boolean.getBoolean(BENCHMARK_PROPERTY));
+        Assume.assumeTrue(VirtualThreads.isSupported());
+        int tasks = 10_000;
+        long blockingMillis = 10;
+        int poolSize = 2 * Runtime.getRuntime().availableProcessors();
+
+        ExecutorService pool = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        long poolThroughput = throughput(pool, tasks, blockingMillis);
+        ExecutorService virtual = VirtualTaskExecutor.create("test", 0, false);
+        long virtualThroughput = throughput(virtual, tasks, blockingMillis);
+
+        System.out.printf("Throughput of %d tasks blocking for %d ms: %d tasks/s with a pool of %d platform threads, %d tasks/s with virtual threads%n",
+                tasks, blockingMillis, poolThroughput, poolSize, virtualThroughput);
+        Assert.assertTrue(virtualThroughput > poolThroughput);
+    }
+
+    @Test
+    public void fallback() {
+        Assume.assumeFalse(VirtualThreads.isSupported());
+        // platform threads are used if virtual threads are not supported
+        Assert.assertNull(VirtualTaskExecutor.create("test", 0, false));
+        ManagedThreadFactoryImpl factory = new ManagedThreadFactoryImpl("test", null, Thread.NORM_PRIORITY, true);
+        Assert.assertFalse(factory.isVirtual());
+        Assert.assertTrue(factory.newThread(() -> {}) instanceof AbstractManagedThread);
+        factory.stop();
+    }
+
+    private static long throughput(ExecutorService executor, int tasks, long blockingMillis) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(tasks);
+        long start = System.nanoTime();
+        for (int i = 0; i < tasks; i++) {
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(blockingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            });
+        }
+        Assert.assertTrue(done.await(5, TimeUnit.MINUTES));
+        long duration = System.nanoTime() - start;
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        return tasks * TimeUnit.SECONDS.toNanos(1) / Math.max(1, duration);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
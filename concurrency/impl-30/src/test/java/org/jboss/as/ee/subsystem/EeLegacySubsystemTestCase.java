@@ -19,6 +19,7 @@ import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.subsystem.test.AbstractSubsystemBaseTest;
 import org.jboss.as.subsystem.test.AdditionalInitialization;
+import org.jboss.as.subsystem.test.KernelServices;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.junit.Assert;
@@ -39,6 +40,7 @@ import java.util.regex.Pattern;
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.EXTENSION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+import static org.junit.Assert.assertFalse;
 
 /**
  * @author <a href="opalka.richard@gmail.com">Richard Opalka</a>
@@ -87,6 +89,17 @@ public class EeLegacySubsystemTestCase extends AbstractSubsystemBaseTest {
         // should not be used
     }
 
+    @Test
+    public void testSubsystem60() throws Exception {
+        KernelServices services = standardSubsystemTest("subsystem_6_0.xml", false);
+        ModelNode subsystem = services.readWholeModel().require(SUBSYSTEM).require(EeExtension.SUBSYSTEM_NAME);
+
+        // The virtual attribute is not part of the 6.0 schema, so platform threads are used
+        assertFalse(subsystem.require(EESubsystemModel.MANAGED_THREAD_FACTORY).require("managed-thread-factory-name").get(ManagedThreadFactoryResourceDefinition.VIRTUAL).asBoolean());
+        assertFalse(subsystem.require(EESubsystemModel.MANAGED_EXECUTOR_SERVICE).require("managed-executor-service-name").get(ManagedExecutorServiceResourceDefinition.VIRTUAL).asBoolean());
+        assertFalse(subsystem.require(EESubsystemModel.MANAGED_SCHEDULED_EXECUTOR_SERVICE).require("managed-scheduled-executor-service-name").get(ManagedScheduledExecutorServiceResourceDefinition.VIRTUAL).asBoolean());
+    }
+
     @Override
     protected String getSubsystemXml() throws IOException {
         throw new UnsupportedOperationException();
@@ -25,13 +25,14 @@ import java.io.ObjectOutputStream;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.Thread.currentThread;
 
@@ -80,7 +81,7 @@ public class ConcurrentContext {
     }
 
     private final Map<String, ContextHandleFactory> factoryMap = new HashMap<>();
-    private List<ContextHandleFactory> factoryOrderedList;
+    private volatile FactoryChain factoryChain = new FactoryChain(new ContextHandleFactory[0]);
 
     private volatile ServiceName serviceName;
 
@@ -111,7 +112,8 @@ public class ConcurrentContext {
         SortedSet<ContextHandleFactory> sortedSet = new TreeSet<>(comparator);
         sortedSet.addAll(factoryMap.values());
         // TODO *FOLLOW UP* now that we have factories coming from deployments, rework the ordering approach to no use treeset, which does not supports factories with same priority (the order param)
-        factoryOrderedList = new ArrayList<>(sortedSet);
+        // replacing the chain discards the propagation plans compiled for the previous factories
+        factoryChain = new FactoryChain(sortedSet.toArray(new ContextHandleFactory[0]));
     }
 
     /**
@@ -122,32 +124,104 @@ public class ConcurrentContext {
      */
     public SetupContextHandle saveContext(ContextService contextService, Map<String, String> contextObjectProperties) {
         final ContextServiceTypesConfiguration contextServiceTypesConfiguration = ((WildFlyContextService)contextService).getContextServiceTypesConfiguration();
-        final List<SetupContextHandle> handles = new ArrayList<>(factoryOrderedList.size());
-        for (ContextHandleFactory factory : factoryOrderedList) {
-            // TODO *FOLLOW UP* migrate all factories on other subsystems to use the new EE10ContextHandleFactory API, and once all done replace the legacy ContextHandleFactory API with the new one, no need to keep both
-            if (factory instanceof EE10ContextHandleFactory) {
-                final EE10ContextHandleFactory ee10ContextHandleFactory = (EE10ContextHandleFactory) factory;
-                final String contextType = ee10ContextHandleFactory.getContextType();
-                final SetupContextHandle setupContextHandle;
-                if (contextServiceTypesConfiguration.isCleared(contextType)) {
-                    setupContextHandle = ee10ContextHandleFactory.clearedContext(contextService, contextObjectProperties);
-                } else if (contextServiceTypesConfiguration.isPropagated(contextType)) {
-                    setupContextHandle = ee10ContextHandleFactory.propagatedContext(contextService, contextObjectProperties);
-                } else if (contextServiceTypesConfiguration.isUnchanged(contextType)) {
-                    setupContextHandle = ee10ContextHandleFactory.unchangedContext(contextService, contextObjectProperties);
+        final PropagationPlan plan = factoryChain.getPropagationPlan(contextServiceTypesConfiguration);
+        final SetupContextHandle[] handles = new SetupContextHandle[plan.factories.length];
+        int size = 0;
+        for (int i = 0; i < plan.factories.length; i++) {
+            final SetupContextHandle setupContextHandle = plan.saveContext(i, contextService, contextObjectProperties);
+            if (setupContextHandle != null) {
+                handles[size++] = setupContextHandle;
+            }
+        }
+        return new ChainedSetupContextHandle(this, size == handles.length ? handles : Arrays.copyOf(handles, size));
+    }
+
+    /**
+     * An immutable snapshot of the ordered factories, which caches the propagation plans compiled for each context service configuration.
+     */
+    private static class FactoryChain {
+
+        private final ContextHandleFactory[] factories;
+        // ContextServiceTypesConfiguration does not override equals/hashCode, thus plans are cached per configuration instance
+        private final Map<ContextServiceTypesConfiguration, PropagationPlan> plans = new ConcurrentHashMap<>();
+
+        private FactoryChain(ContextHandleFactory[] factories) {
+            this.factories = factories;
+        }
+
+        PropagationPlan getPropagationPlan(ContextServiceTypesConfiguration contextServiceTypesConfiguration) {
+            final PropagationPlan plan = plans.get(contextServiceTypesConfiguration);
+            return plan != null ? plan : plans.computeIfAbsent(contextServiceTypesConfiguration, this::compile);
+        }
+
+        private PropagationPlan compile(ContextServiceTypesConfiguration contextServiceTypesConfiguration) {
+            final List<ContextHandleFactory> activeFactories = new ArrayList<>(factories.length);
+            final List<PropagationMode> modes = new ArrayList<>(factories.length);
+            for (ContextHandleFactory factory : factories) {
+                // TODO *FOLLOW UP* migrate all factories on other subsystems to use the new EE10ContextHandleFactory API, and once all done replace the legacy ContextHandleFactory API with the new one, no need to keep both
+                final PropagationMode mode;
+                if (factory instanceof EE10ContextHandleFactory) {
+                    final String contextType = ((EE10ContextHandleFactory) factory).getContextType();
+                    if (contextServiceTypesConfiguration.isCleared(contextType)) {
+                        mode = PropagationMode.CLEARED;
+                    } else if (contextServiceTypesConfiguration.isPropagated(contextType)) {
+                        mode = PropagationMode.PROPAGATED;
+                    } else if (contextServiceTypesConfiguration.isUnchanged(contextType)) {
+                        mode = PropagationMode.UNCHANGED;
+                    } else {
+                        mode = null;
+                    }
                 } else {
-                    setupContextHandle = null;
-                }
-                if (setupContextHandle != null) {
-                    handles.add(setupContextHandle);
+                    mode = contextServiceTypesConfiguration.isPropagated(ContextServiceDefinition.APPLICATION) ? PropagationMode.LEGACY : null;
                 }
-            } else {
-                if (contextServiceTypesConfiguration.isPropagated(ContextServiceDefinition.APPLICATION)) {
-                    handles.add(factory.saveContext(contextService, contextObjectProperties));
+                if (mode != null) {
+                    activeFactories.add(factory);
+                    modes.add(mode);
                 }
             }
+            return new PropagationPlan(activeFactories.toArray(new ContextHandleFactory[0]), modes.toArray(new PropagationMode[0]));
+        }
+    }
+
+    /**
+     * How the context of a factory is saved.
+     */
+    private enum PropagationMode {
+        CLEARED,
+        PROPAGATED,
+        UNCHANGED,
+        /**
+         * the factory does not support the EE10ContextHandleFactory API, and its context is saved as part of the application context
+         */
+        LEGACY,
+    }
+
+    /**
+     * The ordered factories whose context is saved for a context service configuration, with the way each context is saved already resolved.
+     */
+    private static class PropagationPlan {
+
+        private final ContextHandleFactory[] factories;
+        private final PropagationMode[] modes;
+
+        private PropagationPlan(ContextHandleFactory[] factories, PropagationMode[] modes) {
+            this.factories = factories;
+            this.modes = modes;
+        }
+
+        SetupContextHandle saveContext(int index, ContextService contextService, Map<String, String> contextObjectProperties) {
+            final ContextHandleFactory factory = factories[index];
+            switch (modes[index]) {
+                case CLEARED:
+                    return ((EE10ContextHandleFactory) factory).clearedContext(contextService, contextObjectProperties);
+                case PROPAGATED:
+                    return ((EE10ContextHandleFactory) factory).propagatedContext(contextService, contextObjectProperties);
+                case UNCHANGED:
+                    return ((EE10ContextHandleFactory) factory).unchangedContext(contextService, contextObjectProperties);
+                default:
+                    return factory.saveContext(contextService, contextObjectProperties);
+            }
         }
-        return new ChainedSetupContextHandle(this, handles);
     }
 
     /**
@@ -157,21 +231,21 @@ public class ConcurrentContext {
 
         private static final long serialVersionUID = 3609876437062603461L;
         private transient ConcurrentContext concurrentContext;
-        private transient List<SetupContextHandle> setupHandles;
+        private transient SetupContextHandle[] setupHandles;
 
-        private ChainedSetupContextHandle(ConcurrentContext concurrentContext, List<SetupContextHandle> setupHandles) {
+        private ChainedSetupContextHandle(ConcurrentContext concurrentContext, SetupContextHandle[] setupHandles) {
             this.concurrentContext = concurrentContext;
             this.setupHandles = setupHandles;
         }
 
         @Override
         public ResetContextHandle setup() throws IllegalStateException {
-            final LinkedList<ResetContextHandle> resetHandles = new LinkedList<>();
+            final ResetContextHandle[] resetHandles = new ResetContextHandle[setupHandles.length];
             final ResetContextHandle resetContextHandle = new ChainedResetContextHandle(resetHandles);
             try {
                 ConcurrentContext.pushCurrent(concurrentContext);
-                for (SetupContextHandle handle : setupHandles) {
-                    resetHandles.addFirst(handle.setup());
+                for (int i = 0; i < setupHandles.length; i++) {
+                    resetHandles[i] = setupHandles[i].setup();
                 }
             } catch (Error | RuntimeException e) {
                 resetContextHandle.reset();
@@ -190,7 +264,7 @@ public class ConcurrentContext {
             // write the concurrent context service name
             out.writeObject(concurrentContext.serviceName);
             // write the number of setup handles
-            out.write(setupHandles.size());
+            out.write(setupHandles.length);
             // write each handle
             ContextHandleFactory factory = null;
             String factoryName = null;
@@ -238,16 +312,16 @@ public class ConcurrentContext {
                 }
                 concurrentContext = (ConcurrentContext) serviceController.getValue();
                 // read setup handles
-                setupHandles = new ArrayList<>();
+                setupHandles = new SetupContextHandle[in.read()];
                 ContextHandleFactory factory = null;
                 String factoryName = null;
-                for(int i = in.read(); i > 0; i--) {
+                for(int i = 0; i < setupHandles.length; i++) {
                     factoryName = in.readUTF();
                     factory = concurrentContext.factoryMap.get(factoryName);
                     if(factory == null) {
                         throw EeLogger.ROOT_LOGGER.factoryNotFound(concurrentContext.toString(), factoryName);
                     }
-                    setupHandles.add(factory.readSetupContextHandle(in));
+                    setupHandles[i] = factory.readSetupContextHandle(in);
                 }
             } finally {
                 if (sm == null) {
@@ -268,16 +342,21 @@ public class ConcurrentContext {
     private static class ChainedResetContextHandle implements ResetContextHandle {
 
         private static final long serialVersionUID = 8329909590327062062L;
-        private transient List<ResetContextHandle> resetHandles;
+        private transient ResetContextHandle[] resetHandles;
 
-        private ChainedResetContextHandle(List<ResetContextHandle> resetHandles) {
+        private ChainedResetContextHandle(ResetContextHandle[] resetHandles) {
             this.resetHandles = resetHandles;
         }
 
         @Override
         public void reset() {
             if(resetHandles != null) {
-                for (ResetContextHandle handle : resetHandles) {
+                // reset in the reverse order of setup, skipping the handles not set up due to a failure
+                for (int i = resetHandles.length - 1; i >= 0; i--) {
+                    final ResetContextHandle handle = resetHandles[i];
+                    if (handle == null) {
+                        continue;
+                    }
                     try {
                         handle.reset();
                     } catch (Throwable e) {
@@ -977,4 +977,8 @@ public interface ConnectorLogger extends BasicLogger {
 
     @Message(id = 135, value = "The jdbc driver: %s is not installed")
     OperationFailedException jdbcDriverNotInstalled(String jdbcDriver);
+
+    @LogMessage(level = WARN)
+    @Message(id = 136, value = "Invalid value \"%s\" for system property %s, using %d instead")
+    void invalidSystemPropertyValue(String value, String property, int defaultValue);
 }
@@ -7,6 +7,7 @@ package org.jboss.as.connector.services.workmanager;
 
 import static org.jboss.as.connector.logging.ConnectorLogger.ROOT_LOGGER;
 
+import java.time.Duration;
 import java.util.concurrent.Executor;
 
 import org.jboss.as.connector.security.ElytronSecurityIntegration;
@@ -24,6 +25,7 @@ import org.jboss.msc.service.StopContext;
 import org.jboss.msc.value.InjectedValue;
 import org.jboss.threads.BlockingExecutor;
 import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * A WorkManager Service.
@@ -33,6 +35,15 @@ import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
  */
 public final class DistributedWorkManagerService implements Service<NamedDistributedWorkManager> {
 
+    /**
+     * The interval, in milliseconds, at which statistics deltas are published to the other members, or 0, to publish each delta immediately.
+     */
+    static final String STATISTICS_BATCH_INTERVAL = "org.wildfly.connector.workmanager.statistics-batch-interval";
+    /**
+     * The number of statistics deltas destined for a member that triggers their publication before the end of the batch interval.
+     */
+    static final String STATISTICS_BATCH_SIZE = "org.wildfly.connector.workmanager.statistics-batch-size";
+
     private final NamedDistributedWorkManager value;
 
     private final InjectedValue<Executor> executorShort = new InjectedValue<Executor>();
@@ -63,7 +74,9 @@ public final class DistributedWorkManagerService implements Service<NamedDistrib
     public void start(StartContext context) throws StartException {
         ROOT_LOGGER.debugf("Starting Jakarta Connectors DistributedWorkManager: ", value.getName());
 
-        CommandDispatcherTransport transport = new CommandDispatcherTransport(this.dispatcherFactory.getValue(), this.value.getName());
+        Duration batchInterval = Duration.ofMillis(getNonNegativeProperty(STATISTICS_BATCH_INTERVAL, 0));
+        int batchSize = getNonNegativeProperty(STATISTICS_BATCH_SIZE, 100);
+        CommandDispatcherTransport transport = new CommandDispatcherTransport(this.dispatcherFactory.getValue(), this.value.getName(), batchInterval, batchSize);
 
         this.value.setTransport(transport);
 
@@ -130,4 +143,23 @@ public final class DistributedWorkManagerService implements Service<NamedDistrib
     public Injector<CommandDispatcherFactory> getCommandDispatcherFactoryInjector() {
         return this.dispatcherFactory;
     }
+
+    /**
+     * Returns the value of the specified system property, or the specified default if the property is undefined or is not a non-negative integer.
+     */
+    private static int getNonNegativeProperty(String name, int defaultValue) {
+        String value = WildFlySecurityManager.getPropertyPrivileged(name, null);
+        if (value != null) {
+            try {
+                int result = Integer.parseInt(value.trim());
+                if (result >= 0) {
+                    return result;
+                }
+            } catch (NumberFormatException e) {
+                // Fall through
+            }
+            ROOT_LOGGER.invalidSystemPropertyValue(value, name, defaultValue);
+        }
+        return defaultValue;
+    }
 }
@@ -7,6 +7,7 @@ package org.jboss.as.connector.services.workmanager.transport;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -15,6 +16,9 @@ import java.util.Set;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.resource.spi.work.DistributableWork;
 import jakarta.resource.spi.work.WorkException;
@@ -47,14 +51,31 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<GroupMem
     private final BlockingExecutor executor;
     private final CommandDispatcherFactory<GroupMember> dispatcherFactory;
     private final String name;
+    private final Duration batchInterval;
+    private final StatisticsBatch batch;
 
     private volatile CommandDispatcher<GroupMember, CommandDispatcherTransport> dispatcher;
     private volatile Registration groupListenerRegistration;
     private volatile boolean initialized = false;
+    private volatile ScheduledExecutorService batchScheduler;
 
     public CommandDispatcherTransport(CommandDispatcherFactory<GroupMember> dispatcherFactory, String name) {
+        this(dispatcherFactory, name, Duration.ZERO, 0);
+    }
+
+    /**
+     * Creates a transport that, if the specified batch interval is positive, accumulates statistics deltas and free thread updates locally,
+     * and publishes them as a single merged delta per member once per interval, or as soon as the specified number of updates destined for a given member was accumulated.
+     * @param dispatcherFactory a command dispatcher factory
+     * @param name the name of the distributed work manager
+     * @param batchInterval the maximum duration for which statistics updates are accumulated, or zero, to publish each update immediately
+     * @param batchSize the number of statistics updates destined for a member that triggers their publication, or zero, to only publish periodically
+     */
+    public CommandDispatcherTransport(CommandDispatcherFactory<GroupMember> dispatcherFactory, String name, Duration batchInterval, int batchSize) {
         this.dispatcherFactory = dispatcherFactory;
         this.name = name;
+        this.batchInterval = batchInterval;
+        this.batch = (batchInterval.isNegative() || batchInterval.isZero()) ? null : new StatisticsBatch(batchSize);
         this.executor = BlockingExecutor.newInstance(() -> {
             try {
                 CommandDispatcherTransport.this.broadcast(new LeaveCommand(this.getOwnAddress()));
@@ -77,10 +98,25 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<GroupMem
         this.dispatcher = this.dispatcherFactory.createCommandDispatcher(this.name, this, WildFlySecurityManager.getClassLoaderPrivileged(this.getClass()));
         this.groupListenerRegistration = this.dispatcherFactory.getGroup().register(this);
         this.broadcast(new JoinCommand());
+        if (this.batch != null) {
+            this.batchScheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "DistributedWorkManager-" + this.name + "-statistics");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = this.batchInterval.toMillis();
+            this.batchScheduler.scheduleWithFixedDelay(() -> this.publishStatistics(this.batch.drain()), interval, interval, TimeUnit.MILLISECONDS);
+        }
     }
 
     @Override
     public void shutdown() {
+        ScheduledExecutorService scheduler = this.batchScheduler;
+        if (scheduler != null) {
+            scheduler.shutdown();
+            // Publish pending deltas, after which deltas are no longer accumulated, but published immediately
+            this.publishStatistics(this.batch.close());
+        }
         this.executor.close();
     }
 
@@ -121,11 +157,35 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<GroupMem
 
     @Override
     protected Serializable sendMessage(GroupMember physicalAddress, Request request, Serializable... parameters) throws WorkException {
+        StatisticsBatch batch = this.batch;
+        if ((batch != null) && StatisticsDelta.isMergeable(request)) {
+            Map<Address, StatisticsDelta> deltas = batch.add(physicalAddress, request, parameters);
+            if (deltas != null) {
+                this.sendCommand(physicalAddress, new DeltaStatisticsCommand(deltas));
+            }
+            return null;
+        }
         return (Serializable) this.sendMessage(physicalAddress, request, (Object[]) parameters);
     }
 
     private Object sendMessage(GroupMember physicalAddress, Request request, Object... parameters) throws WorkException {
-        TransportCommand<?> command = createCommand(request, parameters);
+        return this.sendCommand(physicalAddress, createCommand(request, parameters));
+    }
+
+    /**
+     * Publishes the specified statistics deltas accumulated for each member.
+     */
+    private void publishStatistics(Map<GroupMember, Map<Address, StatisticsDelta>> deltas) {
+        for (Map.Entry<GroupMember, Map<Address, StatisticsDelta>> entry : deltas.entrySet()) {
+            try {
+                this.sendCommand(entry.getKey(), new DeltaStatisticsCommand(entry.getValue()));
+            } catch (WorkException e) {
+                ConnectorLogger.ROOT_LOGGER.debug(e.getLocalizedMessage(), e);
+            }
+        }
+    }
+
+    private Object sendCommand(GroupMember physicalAddress, TransportCommand<?> command) throws WorkException {
         CommandDispatcher<GroupMember, CommandDispatcherTransport> dispatcher = this.dispatcher;
         ExceptionSupplier<Optional<Object>, WorkException> task = new ExceptionSupplier<>() {
             @Override
@@ -242,6 +302,9 @@ public class CommandDispatcherTransport extends AbstractRemoteTransport<GroupMem
         Runnable task = () -> {
             // Handle abrupt leavers
             for (GroupMember leaver : event.getLeavers()) {
+                if (this.batch != null) {
+                    this.batch.remove(leaver);
+                }
                 this.leave(leaver);
             }
         };
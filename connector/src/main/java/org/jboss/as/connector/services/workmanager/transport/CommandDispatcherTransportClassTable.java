@@ -34,6 +34,7 @@ public class CommandDispatcherTransportClassTable extends IdentityClassTable {
             PingCommand.class, LongRunningFreeCommand.class, ShortRunningFreeCommand.class,
             DoWorkCommand.class, StartWorkCommand.class, ScheduleWorkCommand.class,
             UpdateLongRunningFreeCommand.class, UpdateShortRunningFreeCommand.class,
-            JoinCommand.class, LeaveCommand.class));
+            JoinCommand.class, LeaveCommand.class,
+            DeltaStatisticsCommand.class, StatisticsDelta.class));
     }
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import java.util.Map;
+
+import org.jboss.jca.core.spi.workmanager.Address;
+
+/**
+ * Applies the merged statistics deltas and free thread updates of a number of work managers.
+ * Replaces the individual delta and update commands when statistics batching is enabled.
+ */
+public class DeltaStatisticsCommand implements TransportCommand<Void> {
+    private static final long serialVersionUID = 4516958253218373460L;
+
+    private final Map<Address, StatisticsDelta> deltas;
+
+    public DeltaStatisticsCommand(Map<Address, StatisticsDelta> deltas) {
+        this.deltas = deltas;
+    }
+
+    @Override
+    public Void execute(CommandDispatcherTransport transport) {
+        for (Map.Entry<Address, StatisticsDelta> entry : this.deltas.entrySet()) {
+            entry.getValue().apply(transport, entry.getKey());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.jboss.jca.core.workmanager.transport.remote.ProtocolMessages.Request;
+import org.wildfly.clustering.server.GroupMember;
+
+/**
+ * Accumulates the statistics deltas and free thread updates destined for each member, to be published as a single {@link DeltaStatisticsCommand} per member.
+ */
+class StatisticsBatch {
+
+    private final int size;
+    private final Map<GroupMember, Pending> pending = new HashMap<>();
+    private boolean closed = false;
+
+    /**
+     * Creates a new batch.
+     * @param size the number of requests destined for a member that triggers the publication of its deltas, or a non-positive value to only publish periodically.
+     */
+    StatisticsBatch(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Merges the specified request destined for the specified member into this batch.
+     * @param member the target member
+     * @param request a mergeable request
+     * @param parameters the request parameters, the first of which is the address of a work manager
+     * @return the deltas to publish to the specified member, if its size threshold was reached or this batch was closed, null otherwise.
+     */
+    synchronized Map<Address, StatisticsDelta> add(GroupMember member, Request request, Serializable... parameters) {
+        if (this.closed) {
+            // Nothing will drain this batch again, so the request must be published by the caller
+            Map<Address, StatisticsDelta> deltas = new HashMap<>();
+            deltas.computeIfAbsent((Address) parameters[0], key -> new StatisticsDelta()).merge(request, parameters);
+            return deltas;
+        }
+        Pending pending = this.pending.computeIfAbsent(member, key -> new Pending());
+        pending.deltas.computeIfAbsent((Address) parameters[0], key -> new StatisticsDelta()).merge(request, parameters);
+        pending.requests += 1;
+        return ((this.size > 0) && (pending.requests >= this.size)) ? this.pending.remove(member).deltas : null;
+    }
+
+    /**
+     * Removes the deltas destined for the specified member, e.g. if the member left the group.
+     * @param member a group member
+     */
+    synchronized void remove(GroupMember member) {
+        this.pending.remove(member);
+    }
+
+    /**
+     * Removes and returns all accumulated deltas.
+     * @return the deltas to publish, per member
+     */
+    synchronized Map<GroupMember, Map<Address, StatisticsDelta>> drain() {
+        Map<GroupMember, Map<Address, StatisticsDelta>> result = new HashMap<>();
+        for (Map.Entry<GroupMember, Pending> entry : this.pending.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().deltas);
+        }
+        this.pending.clear();
+        return result;
+    }
+
+    /**
+     * Closes this batch, such that subsequently added requests are no longer accumulated, and removes and returns all accumulated deltas.
+     * @return the deltas to publish, per member
+     */
+    synchronized Map<GroupMember, Map<Address, StatisticsDelta>> close() {
+        this.closed = true;
+        return this.drain();
+    }
+
+    private static class Pending {
+        final Map<Address, StatisticsDelta> deltas = new HashMap<>();
+        int requests = 0;
+    }
+}
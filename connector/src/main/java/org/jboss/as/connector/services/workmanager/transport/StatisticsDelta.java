@@ -0,0 +1,117 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import java.io.Serializable;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.jboss.jca.core.workmanager.transport.remote.ProtocolMessages.Request;
+
+/**
+ * The statistics deltas and free thread updates of a work manager, merged from a number of individual delta and update requests.
+ * Deltas are summed, while only the most recent free thread update is retained.
+ */
+public class StatisticsDelta implements Serializable {
+    private static final long serialVersionUID = -1593372917290634447L;
+
+    enum Counter {
+        DOWORK_ACCEPTED(Request.DELTA_DOWORK_ACCEPTED, CommandDispatcherTransport::localDeltaDoWorkAccepted),
+        DOWORK_REJECTED(Request.DELTA_DOWORK_REJECTED, CommandDispatcherTransport::localDeltaDoWorkRejected),
+        SCHEDULEWORK_ACCEPTED(Request.DELTA_SCHEDULEWORK_ACCEPTED, CommandDispatcherTransport::localDeltaScheduleWorkAccepted),
+        SCHEDULEWORK_REJECTED(Request.DELTA_SCHEDULEWORK_REJECTED, CommandDispatcherTransport::localDeltaScheduleWorkRejected),
+        STARTWORK_ACCEPTED(Request.DELTA_STARTWORK_ACCEPTED, CommandDispatcherTransport::localDeltaStartWorkAccepted),
+        STARTWORK_REJECTED(Request.DELTA_STARTWORK_REJECTED, CommandDispatcherTransport::localDeltaStartWorkRejected),
+        WORK_SUCCESSFUL(Request.DELTA_WORK_SUCCESSFUL, CommandDispatcherTransport::localDeltaWorkSuccessful),
+        WORK_FAILED(Request.DELTA_WORK_FAILED, CommandDispatcherTransport::localDeltaWorkFailed),
+        ;
+        private static final Map<Request, Counter> COUNTERS = new EnumMap<>(Request.class);
+        static {
+            for (Counter counter : values()) {
+                COUNTERS.put(counter.request, counter);
+            }
+        }
+
+        private final Request request;
+        private final BiConsumer<CommandDispatcherTransport, Address> delta;
+
+        Counter(Request request, BiConsumer<CommandDispatcherTransport, Address> delta) {
+            this.request = request;
+            this.delta = delta;
+        }
+
+        static Counter forRequest(Request request) {
+            return COUNTERS.get(request);
+        }
+    }
+
+    private final int[] counts = new int[Counter.values().length];
+    private Long shortRunningFree;
+    private Long longRunningFree;
+
+    /**
+     * Indicates whether the specified request can be merged into a statistics delta.
+     * @param request a transport request
+     * @return true, if the specified request is a statistics delta or a free thread update, false otherwise.
+     */
+    static boolean isMergeable(Request request) {
+        return (request == Request.UPDATE_SHORTRUNNING_FREE) || (request == Request.UPDATE_LONGRUNNING_FREE) || (Counter.forRequest(request) != null);
+    }
+
+    /**
+     * Merges the specified request into this delta.
+     * @param request a mergeable transport request
+     * @param parameters the request parameters
+     */
+    void merge(Request request, Serializable... parameters) {
+        switch (request) {
+            case UPDATE_SHORTRUNNING_FREE: {
+                this.shortRunningFree = (Long) parameters[1];
+                break;
+            }
+            case UPDATE_LONGRUNNING_FREE: {
+                this.longRunningFree = (Long) parameters[1];
+                break;
+            }
+            default: {
+                this.counts[Counter.forRequest(request).ordinal()] += 1;
+            }
+        }
+    }
+
+    int getCount(Counter counter) {
+        return this.counts[counter.ordinal()];
+    }
+
+    Long getShortRunningFree() {
+        return this.shortRunningFree;
+    }
+
+    Long getLongRunningFree() {
+        return this.longRunningFree;
+    }
+
+    /**
+     * Applies this delta to the specified work manager of the specified transport.
+     * @param transport the local transport
+     * @param address the address of a work manager
+     */
+    void apply(CommandDispatcherTransport transport, Address address) {
+        for (Counter counter : Counter.values()) {
+            for (int i = 0; i < this.counts[counter.ordinal()]; ++i) {
+                counter.delta.accept(transport, address);
+            }
+        }
+        if (this.shortRunningFree != null) {
+            transport.localUpdateShortRunningFree(address, this.shortRunningFree);
+        }
+        if (this.longRunningFree != null) {
+            transport.localUpdateLongRunningFree(address, this.longRunningFree);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.connector.services.workmanager.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.jca.core.spi.workmanager.Address;
+import org.jboss.jca.core.workmanager.transport.remote.ProtocolMessages.Request;
+import org.junit.Test;
+import org.wildfly.clustering.server.Group;
+import org.wildfly.clustering.server.GroupMember;
+import org.wildfly.clustering.server.GroupMembership;
+import org.wildfly.clustering.server.GroupMembershipListener;
+import org.wildfly.clustering.server.Registration;
+import org.wildfly.clustering.server.dispatcher.Command;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcher;
+import org.wildfly.clustering.server.dispatcher.CommandDispatcherFactory;
+
+/**
+ * Compares the number of messages sent between the members of an in-JVM group to replicate work manager statistics, with and without statistics batching.
+ */
+public class CommandDispatcherTransportTestCase {
+
+    private static final int MEMBERS = 3;
+    private static final int UPDATES = 100;
+
+    @Test
+    public void unbatched() throws Exception {
+        InMemoryGroup group = new InMemoryGroup(MEMBERS, Duration.ZERO, 0);
+        try {
+            group.replicateStatistics();
+        } finally {
+            group.shutdown();
+        }
+        // Each delta is sent to the owner of the work manager, each free thread update to every other member
+        assertEquals(UPDATES * 2 + UPDATES * (MEMBERS - 1), group.messages.get());
+        group.verifyStatistics();
+    }
+
+    @Test
+    public void batchedByInterval() throws Exception {
+        InMemoryGroup group = new InMemoryGroup(MEMBERS, Duration.ofHours(1), 0);
+        try {
+            group.replicateStatistics();
+            assertEquals(0, group.messages.get());
+        } finally {
+            // Pending deltas are published on shutdown
+            group.shutdown();
+        }
+        assertEquals(MEMBERS - 1, group.messages.get());
+        group.verifyStatistics();
+    }
+
+    @Test
+    public void batchedBySize() throws Exception {
+        InMemoryGroup group = new InMemoryGroup(MEMBERS, Duration.ofHours(1), 50);
+        try {
+            group.replicateStatistics();
+            // The owner of the work manager receives 300 updates, the other member 100
+            assertEquals(6 + 2, group.messages.get());
+        } finally {
+            group.shutdown();
+        }
+        assertEquals(6 + 2, group.messages.get());
+        group.verifyStatistics();
+    }
+
+    @Test
+    public void closedBatch() {
+        StatisticsBatch batch = new StatisticsBatch(0);
+        GroupMember member = new TestGroupMember("node");
+        Address address = new Address("node", "dwm", "id");
+        assertNull(batch.add(member, Request.DELTA_DOWORK_ACCEPTED, address));
+        assertEquals(1, batch.close().size());
+
+        // A closed batch no longer accumulates requests, but returns them for immediate publication
+        assertNotNull(batch.add(member, Request.DELTA_DOWORK_ACCEPTED, address));
+        assertTrue(batch.drain().isEmpty());
+    }
+
+    static class InMemoryGroup implements Group<GroupMember>, GroupMembership<GroupMember> {
+        final Map<GroupMember, TestTransport> transports = new LinkedHashMap<>();
+        final Map<GroupMember, Address> addresses = new HashMap<>();
+        final List<GroupMember> members = new ArrayList<>();
+        final AtomicInteger messages = new AtomicInteger();
+
+        InMemoryGroup(int size, Duration batchInterval, int batchSize) throws Exception {
+            for (int i = 0; i < size; ++i) {
+                GroupMember member = new TestGroupMember("node" + i);
+                this.transports.put(member, new TestTransport(new TestCommandDispatcherFactory(this, member), batchInterval, batchSize));
+            }
+            for (Map.Entry<GroupMember, TestTransport> entry : this.transports.entrySet()) {
+                TestTransport transport = entry.getValue();
+                this.members.add(entry.getKey());
+                transport.startup();
+                Address address = new Address(entry.getKey().getName(), "dwm", transport.getId());
+                transport.register(address);
+                this.addresses.put(entry.getKey(), address);
+            }
+            for (TestTransport transport : this.transports.values()) {
+                for (Map.Entry<GroupMember, Address> entry : this.addresses.entrySet()) {
+                    transport.join(entry.getValue(), entry.getKey());
+                }
+            }
+            // Only count the messages sent once all members joined
+            this.messages.set(0);
+        }
+
+        /**
+         * Records work statistics on the first member for the work manager of the second member, and free thread updates for its own work manager.
+         */
+        void replicateStatistics() {
+            List<GroupMember> members = this.getMembers();
+            TestTransport transport = this.transports.get(members.get(0));
+            Address local = this.addresses.get(members.get(0));
+            Address remote = this.addresses.get(members.get(1));
+            for (int i = 0; i < UPDATES; ++i) {
+                transport.deltaDoWorkAccepted(remote);
+                transport.deltaWorkSuccessful(remote);
+                transport.updateShortRunningFree(local, i);
+            }
+        }
+
+        void verifyStatistics() {
+            List<GroupMember> members = this.getMembers();
+            Address local = this.addresses.get(members.get(0));
+            Address remote = this.addresses.get(members.get(1));
+            for (int i = 1; i < members.size(); ++i) {
+                TestTransport transport = this.transports.get(members.get(i));
+                assertEquals(Long.valueOf(UPDATES - 1), transport.shortRunningFree.get(local));
+            }
+            TestTransport owner = this.transports.get(members.get(1));
+            assertEquals(UPDATES, owner.doWorkAccepted.get(remote).get());
+            assertEquals(UPDATES, owner.workSuccessful.get(remote).get());
+        }
+
+        void shutdown() {
+            for (TestTransport transport : this.transports.values()) {
+                transport.shutdown();
+            }
+        }
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+
+        @Override
+        public GroupMember getLocalMember() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public GroupMembership<GroupMember> getMembership() {
+            return this;
+        }
+
+        @Override
+        public boolean isSingleton() {
+            return false;
+        }
+
+        @Override
+        public Registration register(GroupMembershipListener<GroupMember> listener) {
+            return () -> { };
+        }
+
+        @Override
+        public GroupMember getCoordinator() {
+            return this.getMembers().get(0);
+        }
+
+        @Override
+        public List<GroupMember> getMembers() {
+            return new ArrayList<>(this.members);
+        }
+    }
+
+    /**
+     * Executes commands directly on the transport of the target member, counting the commands dispatched to individual members.
+     */
+    static class TestCommandDispatcherFactory implements CommandDispatcherFactory<GroupMember>, Group<GroupMember> {
+        private final InMemoryGroup group;
+        private final GroupMember member;
+
+        TestCommandDispatcherFactory(InMemoryGroup group, GroupMember member) {
+            this.group = group;
+            this.member = member;
+        }
+
+        @Override
+        public Group<GroupMember> getGroup() {
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <C> CommandDispatcher<GroupMember, C> createCommandDispatcher(Object id, C context, ClassLoader loader) {
+            InMemoryGroup group = this.group;
+            return new CommandDispatcher<>() {
+                @Override
+                public C getContext() {
+                    return context;
+                }
+
+                @Override
+                public <R, E extends Exception> CompletionStage<R> dispatchToMember(Command<R, ? super C, E> command, GroupMember member) {
+                    group.messages.incrementAndGet();
+                    return execute(command, member);
+                }
+
+                @Override
+                public <R, E extends Exception> Map<GroupMember, CompletionStage<R>> dispatchToGroup(Command<R, ? super C, E> command, Set<GroupMember> excluding) {
+                    Map<GroupMember, CompletionStage<R>> results = new HashMap<>();
+                    for (GroupMember member : group.getMembers()) {
+                        if (!excluding.contains(member)) {
+                            results.put(member, execute(command, member));
+                        }
+                    }
+                    return results;
+                }
+
+                private <R, E extends Exception> CompletionStage<R> execute(Command<R, ? super C, E> command, GroupMember member) {
+                    try {
+                        return CompletableFuture.completedFuture(command.execute((C) group.transports.get(member)));
+                    } catch (Exception e) {
+                        return CompletableFuture.failedFuture(e);
+                    }
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+        }
+
+        @Override
+        public String getName() {
+            return this.group.getName();
+        }
+
+        @Override
+        public GroupMember getLocalMember() {
+            return this.member;
+        }
+
+        @Override
+        public GroupMembership<GroupMember> getMembership() {
+            return this.group;
+        }
+
+        @Override
+        public boolean isSingleton() {
+            return false;
+        }
+
+        @Override
+        public Registration register(GroupMembershipListener<GroupMember> listener) {
+            return () -> { };
+        }
+    }
+
+    /**
+     * Records the statistics applied to the work managers of other members.
+     */
+    static class TestTransport extends CommandDispatcherTransport {
+        final Map<Address, AtomicInteger> doWorkAccepted = new HashMap<>();
+        final Map<Address, AtomicInteger> workSuccessful = new HashMap<>();
+        final Map<Address, Long> shortRunningFree = new HashMap<>();
+
+        TestTransport(CommandDispatcherFactory<GroupMember> factory, Duration batchInterval, int batchSize) {
+            super(factory, "dwm", batchInterval, batchSize);
+        }
+
+        @Override
+        public synchronized void localDeltaDoWorkAccepted(Address address) {
+            this.doWorkAccepted.computeIfAbsent(address, key -> new AtomicInteger()).incrementAndGet();
+        }
+
+        @Override
+        public synchronized void localDeltaWorkSuccessful(Address address) {
+            this.workSuccessful.computeIfAbsent(address, key -> new AtomicInteger()).incrementAndGet();
+        }
+
+        @Override
+        public synchronized void localUpdateShortRunningFree(Address address, Long free) {
+            this.shortRunningFree.put(address, free);
+        }
+    }
+
+    static class TestGroupMember implements GroupMember {
+        private final String name;
+
+        TestGroupMember(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return this.name;
+        }
+    }
+}
@@ -90,6 +90,15 @@ public interface ConcurrencyImplementation {
      */
     void parseConcurrentElement60(XMLExtendedStreamReader reader, List<ModelNode> operations, PathAddress subsystemPathAddress) throws XMLStreamException;
 
+    /**
+     * Parses <concurrent/> XML element for EE subsystem schema 7.0
+     * @param reader the stream reader
+     * @param operations the list to add operations
+     * @param subsystemPathAddress the subsystem path address
+     * @throws XMLStreamException if an error occurs
+     */
+    void parseConcurrentElement70(XMLExtendedStreamReader reader, List<ModelNode> operations, PathAddress subsystemPathAddress) throws XMLStreamException;
+
     /**
      * Writes <concurrent/> XML element.
      * @param writer the stream writer
@@ -109,9 +118,10 @@ public interface ConcurrencyImplementation {
      * @param name the instance name
      * @param contextService the context service to use
      * @param priority the thread factory priority
+     * @param virtual flag which indicates if the factory creates virtual threads, when supported by the JVM
      * @return a new WildFlyManagedThreadFactory instance with the specified params.
      */
-    WildFlyManagedThreadFactory newManagedThreadFactory(String name, WildFlyContextService contextService, int priority);
+    WildFlyManagedThreadFactory newManagedThreadFactory(String name, WildFlyContextService contextService, int priority, boolean virtual);
 
     /**
      *
@@ -149,9 +159,10 @@ public interface ConcurrencyImplementation {
      * @param rejectPolicy the policy to be applied to aborted tasks.
      * @param controlPoint the control point
      * @param processStateNotifier the process state notifier
+     * @param virtual flag which indicates if each task is executed by a new virtual thread, when supported by the JVM
      * @return a new WildFlyManagedExecutorService instance with the specified params.
      */
-    WildFlyManagedExecutorService newManagedExecutorService(String name, WildFlyManagedThreadFactory managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, int queueCapacity, WildFlyContextService contextService, WildFlyManagedExecutorService.RejectPolicy rejectPolicy, ControlPoint controlPoint, ProcessStateNotifier processStateNotifier);
+    WildFlyManagedExecutorService newManagedExecutorService(String name, WildFlyManagedThreadFactory managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, int queueCapacity, WildFlyContextService contextService, WildFlyManagedExecutorService.RejectPolicy rejectPolicy, ControlPoint controlPoint, ProcessStateNotifier processStateNotifier, boolean virtual);
 
     /**
      *
@@ -167,7 +178,8 @@ public interface ConcurrencyImplementation {
      * @param rejectPolicy the policy to be applied to aborted tasks.
      * @param controlPoint the control point
      * @param processStateNotifier the process state notifier
+     * @param virtual flag which indicates if each task submitted for immediate execution is executed by a new virtual thread, when supported by the JVM
      * @return a new WildFlyManagedScheduledExecutorService instance with the specified params.
      */
-    WildFlyManagedScheduledExecutorService newManagedScheduledExecutorService(String name, WildFlyManagedThreadFactory managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, WildFlyContextService contextService, WildFlyManagedExecutorService.RejectPolicy rejectPolicy, ControlPoint controlPoint, ProcessStateNotifier processStateNotifier);
+    WildFlyManagedScheduledExecutorService newManagedScheduledExecutorService(String name, WildFlyManagedThreadFactory managedThreadFactory, long hungTaskThreshold, boolean longRunningTasks, int corePoolSize, long keepAliveTime, TimeUnit keepAliveTimeUnit, long threadLifeTime, WildFlyContextService contextService, WildFlyManagedExecutorService.RejectPolicy rejectPolicy, ControlPoint controlPoint, ProcessStateNotifier processStateNotifier, boolean virtual);
 }
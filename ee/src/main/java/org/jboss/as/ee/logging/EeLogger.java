@@ -1233,4 +1233,12 @@ public interface EeLogger extends BasicLogger {
 
     @Message(id = 143, value = "Lifecycle operation not supported")
     IllegalStateException lifecycleOperationNotSupported();
+
+    /**
+     * Logs a warning message indicating that virtual threads were requested, but are not supported by the JVM.
+     * @param name the name of the thread factory or executor.
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 144, value = "Virtual threads are not supported by this JVM, %s will use platform threads instead")
+    void virtualThreadsNotSupported(String name);
 }
@@ -118,6 +118,16 @@ public class EeLegacySubsystemTestCase extends AbstractSubsystemBaseTest {
         assertFalse(subsystem.require(SPEC_DESCRIPTOR_PROPERTY_REPLACEMENT).asBoolean());
     }
 
+    @Test
+    public void testSubsystem60() throws Exception {
+        KernelServices services = standardSubsystemTest("subsystem_6_0.xml", false);
+        ModelNode subsystem = services.readWholeModel().require(SUBSYSTEM).require(EeExtension.SUBSYSTEM_NAME);
+
+        assertTrue(subsystem.require(EESubsystemModel.GLOBAL_DIRECTORY).hasDefined("my-app-libs"));
+        ModelNode defaultBindings = subsystem.require(EESubsystemModel.SERVICE).require(EESubsystemModel.DEFAULT_BINDINGS);
+        assertEquals("${test-exp15:name}", defaultBindings.require(DefaultBindingsResourceDefinition.DATASOURCE).asString());
+    }
+
     @Override
     protected String getSubsystemXml() throws IOException {
         return readResource("subsystem_1_2.xml");
@@ -5,17 +5,23 @@
 package org.jboss.as.ejb3.component.invocationmetrics;
 
 import java.lang.reflect.Method;
-import java.util.AbstractMap;
-import java.util.AbstractSet;
-import java.util.Iterator;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 /**
+ * Invocation metrics of a component, in total and per method.
+ * <p/>
+ * All counters are striped, so that recording an invocation neither allocates nor contends on a single memory location.
+ * Per method metrics are keyed by the invoked method, so overloaded methods, and methods of distinct business interfaces, are tracked separately.
+ *
  * @author <a href="mailto:cdewolf@redhat.com">Carlo de Wolf</a>
  */
 public class InvocationMetrics {
@@ -23,11 +29,15 @@ public class InvocationMetrics {
         final long invocations;
         final long executionTime;
         final long waitTime;
-
-        private Values(final long invocations, final long waitTime, final long executionTime) {
-            this.invocations = invocations;
-            this.executionTime = executionTime;
-            this.waitTime = waitTime;
+        private final LatencyHistogram executionTimes;
+        private final LatencyHistogram waitTimes;
+
+        private Values(final Metrics metrics) {
+            this.invocations = metrics.invocations.sum();
+            this.executionTime = TimeUnit.NANOSECONDS.toMillis(metrics.executionTime.sum());
+            this.waitTime = TimeUnit.NANOSECONDS.toMillis(metrics.waitTime.sum());
+            this.executionTimes = metrics.executionTimes;
+            this.waitTimes = metrics.waitTimes;
         }
 
         public long getExecutionTime() {
@@ -41,40 +51,63 @@ public class InvocationMetrics {
         public long getWaitTime() {
             return waitTime;
         }
+
+        /**
+         * @param percentile a value between 0 (exclusive) and 1 (inclusive)
+         * @return the execution time percentile, in microseconds
+         */
+        public long getExecutionTimePercentile(final double percentile) {
+            return executionTimes.getPercentile(percentile);
+        }
+
+        /**
+         * @param percentile a value between 0 (exclusive) and 1 (inclusive)
+         * @return the wait time percentile, in microseconds
+         */
+        public long getWaitTimePercentile(final double percentile) {
+            return waitTimes.getPercentile(percentile);
+        }
     }
 
-    private final AtomicReference<Values> values = new AtomicReference<Values>(new Values(0, 0, 0));
+    private static class Metrics {
+        final LongAdder invocations = new LongAdder();
+        // in nanoseconds
+        final LongAdder executionTime = new LongAdder();
+        final LongAdder waitTime = new LongAdder();
+        final LatencyHistogram executionTimes = new LatencyHistogram();
+        final LatencyHistogram waitTimes = new LatencyHistogram();
+
+        void record(final long invocationWaitTime, final long invocationExecutionTime) {
+            invocations.increment();
+            waitTime.add(invocationWaitTime);
+            executionTime.add(invocationExecutionTime);
+            waitTimes.record(invocationWaitTime);
+            executionTimes.record(invocationExecutionTime);
+        }
+    }
+
+    private static final Function<Method, Metrics> METRICS_FACTORY = method -> new Metrics();
+
+    private final Metrics values = new Metrics();
     private final AtomicLong concurrent = new AtomicLong(0);
     private final AtomicLong peakConcurrent = new AtomicLong(0);
 
-    private final ConcurrentMap<String, AtomicReference<Values>> methods = new ConcurrentHashMap<String, AtomicReference<Values>>();
+    private final ConcurrentMap<Method, Metrics> methods = new ConcurrentHashMap<>();
 
+    /**
+     * Records a completed invocation.
+     * @param method the invoked method
+     * @param invocationWaitTime the time spent waiting for an instance, in nanoseconds
+     * @param invocationExecutionTime the time spent executing the method, in nanoseconds
+     */
     void finishInvocation(final Method method, final long invocationWaitTime, final long invocationExecutionTime) {
         concurrent.decrementAndGet();
-        for(;;) {
-            final Values oldv = values.get();
-            final Values newv = new Values(oldv.invocations + 1, oldv.waitTime + invocationWaitTime, oldv.executionTime + invocationExecutionTime);
-            if (values.compareAndSet(oldv, newv))
-                break;
-        }
-        final AtomicReference<Values> methodValues = ref(methods, method.getName());
-        for (;;) {
-            final Values oldv = methodValues.get();
-            final Values newv = new Values(oldv.invocations + 1, oldv.waitTime + invocationWaitTime, oldv.executionTime + invocationExecutionTime);
-            if (methodValues.compareAndSet(oldv, newv))
-                break;
+        values.record(invocationWaitTime, invocationExecutionTime);
+        Metrics methodValues = methods.get(method);
+        if (methodValues == null) {
+            methodValues = methods.computeIfAbsent(method, METRICS_FACTORY);
         }
-    }
-
-    private static AtomicReference<Values> ref(final ConcurrentMap<String, AtomicReference<Values>> map, final String key) {
-        AtomicReference<Values> ref = map.get(key);
-        if (ref == null) {
-            ref = new AtomicReference<Values>(new Values(0, 0, 0));
-            final AtomicReference<Values> prevRef = map.putIfAbsent(key, ref);
-            if (prevRef != null)
-                ref = prevRef;
-        }
-        return ref;
+        methodValues.record(invocationWaitTime, invocationExecutionTime);
     }
 
     public long getConcurrent() {
@@ -82,62 +115,47 @@ public class InvocationMetrics {
     }
 
     public long getExecutionTime() {
-        return values.get().executionTime;
+        return TimeUnit.NANOSECONDS.toMillis(values.executionTime.sum());
     }
 
     public long getInvocations() {
-        return values.get().invocations;
+        return values.invocations.sum();
     }
 
+    /**
+     * Returns a snapshot of the metrics of each invoked method.
+     * A method is keyed by its name, unless it is overloaded by another invoked method,
+     * in which case it is keyed by its signature, e.g. {@code foo(java.lang.String,int)}.
+     * If invoked methods of distinct classes, e.g. of distinct business interfaces, share that signature,
+     * the signature is qualified by the declaring class, e.g. {@code org.example.Foo.foo(java.lang.String,int)}.
+     * @return a map of method metrics
+     */
     public Map<String, Values> getMethods() {
-        return new AbstractMap<String, Values>() {
-            @Override
-            public Set<Entry<String, Values>> entrySet() {
-                return new AbstractSet<Entry<String, Values>>() {
-                    @Override
-                    public Iterator<Entry<String, Values>> iterator() {
-                        final Iterator<Entry<String, AtomicReference<Values>>> delegate = methods.entrySet().iterator();
-                        return new Iterator<Entry<String, Values>>() {
-                            @Override
-                            public boolean hasNext() {
-                                return delegate.hasNext();
-                            }
-
-                            @Override
-                            public Entry<String, Values> next() {
-                                final Entry<String, AtomicReference<Values>> next = delegate.next();
-                                return new Entry<String, Values>() {
-                                    @Override
-                                    public String getKey() {
-                                        return next.getKey();
-                                    }
-
-                                    @Override
-                                    public Values getValue() {
-                                        return next.getValue().get();
-                                    }
-
-                                    @Override
-                                    public Values setValue(final Values value) {
-                                        throw new UnsupportedOperationException("NYI");
-                                    }
-                                };
-                            }
-
-                            @Override
-                            public void remove() {
-                                throw new UnsupportedOperationException("NYI");
-                            }
-                        };
-                    }
-
-                    @Override
-                    public int size() {
-                        return methods.size();
-                    }
-                };
+        if (methods.isEmpty()) return Collections.emptyMap();
+        final Map<String, Integer> overloads = new HashMap<>();
+        final Map<String, Integer> signatures = new HashMap<>();
+        for (Method method : methods.keySet()) {
+            overloads.merge(method.getName(), 1, Integer::sum);
+            signatures.merge(signature(method), 1, Integer::sum);
+        }
+        final Map<String, Values> result = new TreeMap<>();
+        for (Map.Entry<Method, Metrics> entry : methods.entrySet()) {
+            final Method method = entry.getKey();
+            String key = method.getName();
+            if (overloads.get(key) > 1) {
+                final String signature = signature(method);
+                key = signatures.get(signature) > 1 ? method.getDeclaringClass().getName() + '.' + signature : signature;
             }
-        };
+            result.put(key, new Values(entry.getValue()));
+        }
+        return result;
+    }
+
+    /**
+     * @return a snapshot of the metrics of all invocations
+     */
+    public Values getValues() {
+        return new Values(values);
     }
 
     public long getPeakConcurrent() {
@@ -145,7 +163,7 @@ public class InvocationMetrics {
     }
 
     public long getWaitTime() {
-        return values.get().waitTime;
+        return TimeUnit.NANOSECONDS.toMillis(values.waitTime.sum());
     }
 
     void startInvocation() {
@@ -154,4 +172,16 @@ public class InvocationMetrics {
         if (peakConcurrent.get() < v)
             peakConcurrent.incrementAndGet();
     }
+
+    private static String signature(final Method method) {
+        final StringBuilder builder = new StringBuilder(method.getName()).append('(');
+        final Class<?>[] types = method.getParameterTypes();
+        for (int i = 0; i < types.length; ++i) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(types[i].getTypeName());
+        }
+        return builder.append(')').toString();
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.component.invocationmetrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed size, log-linear latency histogram with microsecond resolution.
+ * <p/>
+ * Each power of 2 range of microseconds is split into 4 linear sub-buckets, bounding the relative error of a reported
+ * percentile to 25%. Each bucket is a striped counter, so recording a value does not contend on a single memory
+ * location. Since the durations of a given method typically fall within a handful of buckets, the counter of a bucket
+ * is only allocated when a duration is first recorded in it.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Values beyond 2^40 microseconds (~12 days) are recorded in the last bucket
+    private static final int MAX_MAGNITUDE = 40;
+    private static final int BUCKETS = SUB_BUCKETS + (MAX_MAGNITUDE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicReferenceArray<LongAdder> counts = new AtomicReferenceArray<>(BUCKETS);
+
+    /**
+     * Records the specified duration.
+     * @param nanos a duration in nanoseconds
+     */
+    public void record(long nanos) {
+        int index = index(TimeUnit.NANOSECONDS.toMicros(nanos));
+        LongAdder count = this.counts.get(index);
+        if (count == null) {
+            LongAdder newCount = new LongAdder();
+            count = this.counts.compareAndExchange(index, null, newCount);
+            if (count == null) {
+                count = newCount;
+            }
+        }
+        count.increment();
+    }
+
+    /**
+     * Returns the upper bound, in microseconds, of the bucket containing the specified percentile of recorded durations.
+     * @param percentile a value between 0 (exclusive) and 1 (inclusive)
+     * @return a duration in microseconds, or 0 if nothing was recorded
+     */
+    public long getPercentile(double percentile) {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            LongAdder count = this.counts.get(i);
+            if (count != null) {
+                snapshot[i] = count.sum();
+                total += snapshot[i];
+            }
+        }
+        if (total == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile * total));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            cumulative += snapshot[i];
+            if (cumulative >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    static int index(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) Math.max(0, micros);
+        }
+        int magnitude = Math.min(63 - Long.numberOfLeadingZeros(micros), MAX_MAGNITUDE);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (micros >>> shift) & (SUB_BUCKETS - 1);
+        if (magnitude == MAX_MAGNITUDE && (micros >>> magnitude) > 1) {
+            subBucket = SUB_BUCKETS - 1;
+        }
+        return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS | subBucket) + 1 << shift) - 1;
+    }
+}
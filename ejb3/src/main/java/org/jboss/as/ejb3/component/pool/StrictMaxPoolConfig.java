@@ -8,6 +8,7 @@ package org.jboss.as.ejb3.component.pool;
 import org.jboss.as.ejb3.pool.Pool;
 import org.jboss.as.ejb3.pool.StatelessObjectFactory;
 import org.jboss.as.ejb3.pool.strictmax.StrictMaxPool;
+import org.jboss.as.ejb3.pool.striped.StripedPool;
 
 import java.util.concurrent.TimeUnit;
 
@@ -22,6 +23,21 @@ public class StrictMaxPoolConfig extends PoolConfig {
 
     public static final TimeUnit DEFAULT_TIMEOUT_UNIT = TimeUnit.MINUTES;
 
+    public static final Strategy DEFAULT_STRATEGY = Strategy.SEMAPHORE;
+
+    /**
+     * The pool implementation used to enforce the strict maximum.
+     */
+    public enum Strategy {
+        /**
+         * A single semaphore guarding a shared queue of instances, see {@link StrictMaxPool}.
+         */
+        SEMAPHORE,
+        /**
+         * Permits and instances striped across threads, see {@link StripedPool}.
+         */
+        STRIPED,
+    }
 
     private volatile int maxPoolSize;
 
@@ -29,16 +45,28 @@ public class StrictMaxPoolConfig extends PoolConfig {
 
     private volatile long timeout;
 
+    private volatile Strategy strategy;
+
     public StrictMaxPoolConfig(final String poolName, int maxSize, long timeout, TimeUnit timeUnit) {
+        this(poolName, maxSize, timeout, timeUnit, DEFAULT_STRATEGY);
+    }
+
+    public StrictMaxPoolConfig(final String poolName, int maxSize, long timeout, TimeUnit timeUnit, Strategy strategy) {
         super(poolName);
         this.maxPoolSize = maxSize;
         this.timeout = timeout;
         this.timeoutUnit = timeUnit;
+        this.strategy = strategy;
     }
 
     @Override
     public <T> Pool<T> createPool(final StatelessObjectFactory<T> statelessObjectFactory) {
-        return new StrictMaxPool<T>(statelessObjectFactory, this.maxPoolSize, this.timeout, this.timeoutUnit);
+        switch (this.strategy) {
+            case STRIPED:
+                return new StripedPool<T>(statelessObjectFactory, this.maxPoolSize, this.timeout, this.timeoutUnit);
+            default:
+                return new StrictMaxPool<T>(statelessObjectFactory, this.maxPoolSize, this.timeout, this.timeoutUnit);
+        }
     }
 
     public int getMaxPoolSize() {
@@ -65,6 +93,14 @@ public class StrictMaxPoolConfig extends PoolConfig {
         this.timeout = timeout;
     }
 
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public void setStrategy(Strategy strategy) {
+        this.strategy = strategy;
+    }
+
     @Override
     public String toString() {
         return "StrictMaxPoolConfig{" +
@@ -72,6 +108,7 @@ public class StrictMaxPoolConfig extends PoolConfig {
                 ", maxPoolSize=" + maxPoolSize +
                 ", timeoutUnit=" + timeoutUnit +
                 ", timeout=" + timeout +
+                ", strategy=" + strategy +
                 '}';
     }
 }
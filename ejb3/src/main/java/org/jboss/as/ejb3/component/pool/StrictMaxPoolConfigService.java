@@ -32,12 +32,12 @@ public class StrictMaxPoolConfigService implements Service<StrictMaxPoolConfig>
     private volatile Derive derive;
 
 
-    public StrictMaxPoolConfigService(final Consumer<StrictMaxPoolConfig> configConsumer, final Supplier<Integer> maxThreadsSupplier, final String poolName, int declaredMaxSize, Derive derive, long timeout, TimeUnit timeUnit) {
+    public StrictMaxPoolConfigService(final Consumer<StrictMaxPoolConfig> configConsumer, final Supplier<Integer> maxThreadsSupplier, final String poolName, int declaredMaxSize, Derive derive, long timeout, TimeUnit timeUnit, StrictMaxPoolConfig.Strategy strategy) {
         this.configConsumer = configConsumer;
         this.maxThreadsSupplier = maxThreadsSupplier;
         this.declaredMaxSize = declaredMaxSize;
         this.derive = derive;
-        this.poolConfig = new StrictMaxPoolConfig(poolName, declaredMaxSize, timeout, timeUnit);
+        this.poolConfig = new StrictMaxPoolConfig(poolName, declaredMaxSize, timeout, timeUnit, strategy);
     }
 
     @Override
@@ -102,4 +102,8 @@ public class StrictMaxPoolConfigService implements Service<StrictMaxPoolConfig>
     public void setTimeoutUnit(TimeUnit timeUnit) {
         poolConfig.setTimeoutUnit(timeUnit);
     }
+
+    public void setStrategy(StrictMaxPoolConfig.Strategy strategy) {
+        poolConfig.setStrategy(strategy);
+    }
 }
@@ -24,10 +24,12 @@ public class SingletonComponentCreateServiceFactory extends EJBComponentCreateSe
 
     private final boolean initOnStartup;
     private final List<ServiceName> dependsOn;
+    private final SingletonLockImplementation lockImplementation;
 
-    public SingletonComponentCreateServiceFactory(final boolean initServiceOnStartup, final List<ServiceName> dependsOn) {
+    public SingletonComponentCreateServiceFactory(final boolean initServiceOnStartup, final List<ServiceName> dependsOn, final SingletonLockImplementation lockImplementation) {
         this.initOnStartup = initServiceOnStartup;
         this.dependsOn = dependsOn;
+        this.lockImplementation = lockImplementation;
     }
 
     @Override
@@ -43,6 +45,6 @@ public class SingletonComponentCreateServiceFactory extends EJBComponentCreateSe
                 serviceBuilder.addDependency(DefaultAccessTimeoutService.SINGLETON_SERVICE_NAME, DefaultAccessTimeoutService.class, componentCreateService.getDefaultAccessTimeoutInjector());
             }
         });
-        return new SingletonComponentCreateService(configuration, this.ejbJarConfiguration, this.initOnStartup, dependsOn);
+        return new SingletonComponentCreateService(configuration, this.ejbJarConfiguration, this.initOnStartup, dependsOn, this.lockImplementation);
     }
 }
@@ -65,6 +65,11 @@ public class SingletonComponentDescription extends SessionBeanComponentDescripti
 
     private final List<ServiceName> dependsOn = new ArrayList<ServiceName>();
 
+    /**
+     * The implementation of the lock used for container managed concurrency
+     */
+    private SingletonLockImplementation lockImplementation = SingletonLockImplementation.getDefault();
+
     /**
      * Construct a new instance.
      *
@@ -94,7 +99,7 @@ public class SingletonComponentDescription extends SessionBeanComponentDescripti
 
         ComponentConfiguration singletonComponentConfiguration = new ComponentConfiguration(this, classIndex, moduleClassLoader, moduleLoader);
         // setup the component create service
-        singletonComponentConfiguration.setComponentCreateServiceFactory(new SingletonComponentCreateServiceFactory(this.isInitOnStartup(), dependsOn));
+        singletonComponentConfiguration.setComponentCreateServiceFactory(new SingletonComponentCreateServiceFactory(this.isInitOnStartup(), dependsOn, this.lockImplementation));
         final String definedSecurityDomain = getDefinedSecurityDomain();
         final boolean securityRequired = hasBeanLevelSecurityMetadata();
         if (securityRequired) {
@@ -179,6 +184,22 @@ public class SingletonComponentDescription extends SessionBeanComponentDescripti
 
     }
 
+    /**
+     * @return the implementation of the lock used for container managed concurrency
+     */
+    public SingletonLockImplementation getLockImplementation() {
+        return this.lockImplementation;
+    }
+
+    /**
+     * Sets the implementation of the lock used for container managed concurrency
+     *
+     * @param lockImplementation the lock implementation
+     */
+    public void setLockImplementation(final SingletonLockImplementation lockImplementation) {
+        this.lockImplementation = lockImplementation;
+    }
+
     @Override
     public SessionBeanType getSessionBeanType() {
         return SessionBeanComponentDescription.SessionBeanType.SINGLETON;
@@ -0,0 +1,83 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.component.singleton;
+
+import java.util.Locale;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Supplier;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * The implementations of the lock used for container managed concurrency of singleton beans.
+ * The default implementation may be configured via the {@value #DEFAULT_PROPERTY} system property, and overridden per
+ * deployment or bean via the <code>urn:ejb-singleton-lock</code> namespace of the jboss-ejb3.xml deployment descriptor.
+ */
+public enum SingletonLockImplementation {
+
+    /**
+     * The {@link EJBReadWriteLock}
+     */
+    REENTRANT(EJBReadWriteLock::new),
+    /**
+     * The {@link StripedEJBReadWriteLock}, for read mostly singletons
+     */
+    STRIPED(StripedEJBReadWriteLock::new),
+    ;
+
+    public static final String DEFAULT_PROPERTY = "jboss.ejb.singleton.lock-implementation";
+
+    private static final SingletonLockImplementation DEFAULT = defaultImplementation();
+
+    private final Supplier<ReadWriteLock> factory;
+
+    SingletonLockImplementation(Supplier<ReadWriteLock> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * @return a new lock
+     */
+    public ReadWriteLock createLock() {
+        return this.factory.get();
+    }
+
+    /**
+     * @return the name of this implementation, as used in configuration
+     */
+    public String getName() {
+        return this.name().toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * @param name the configured name of an implementation
+     * @return the implementation
+     * @throws IllegalArgumentException if there is no implementation with the specified name
+     */
+    public static SingletonLockImplementation forName(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ENGLISH));
+    }
+
+    /**
+     * @return the implementation used if none is configured for a bean
+     */
+    public static SingletonLockImplementation getDefault() {
+        return DEFAULT;
+    }
+
+    private static SingletonLockImplementation defaultImplementation() {
+        final String name = WildFlySecurityManager.getPropertyPrivileged(DEFAULT_PROPERTY, null);
+        if (name == null) {
+            return REENTRANT;
+        }
+        try {
+            return forName(name);
+        } catch (IllegalArgumentException e) {
+            EjbLogger.ROOT_LOGGER.unknownSingletonLockImplementation(name, DEFAULT_PROPERTY, REENTRANT.getName());
+            return REENTRANT;
+        }
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.component.singleton;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+
+/**
+ * A reader biased alternative to {@link EJBReadWriteLock}, for read mostly singletons.
+ * <p/>
+ * Readers register themselves in one of several counters, selected by thread, so that concurrent readers do not contend
+ * on the same memory location, and read throughput scales with the number of cores. Writers are mutually excluded by a
+ * {@link ReentrantLock}, announce themselves so that new readers block behind them, and then wait for the registered
+ * readers to drain.
+ * <p/>
+ * Like {@link EJBReadWriteLock}, both locks are reentrant, a thread holding the write lock may obtain the read lock, and an
+ * {@link jakarta.ejb.IllegalLoopbackException} is thrown when a thread holding a read lock tries to obtain the write lock.
+ * The read locks held by each thread are tracked by a mutable per thread holder, which is neither boxed nor reset on
+ * every call.
+ */
+public class StripedEJBReadWriteLock implements ReadWriteLock {
+
+    private static final int STRIPES = stripes(Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Distance between the counters of consecutive stripes, so that each counter gets its own cache line
+     */
+    private static final int PADDING = 16;
+
+    /**
+     * The number of read locks registered in each stripe
+     */
+    private final AtomicLongArray readers = new AtomicLongArray(STRIPES * PADDING);
+
+    /**
+     * Held by the writer, and briefly by the readers which were blocked by a writer
+     */
+    private final ReentrantLock writerLock = new ReentrantLock();
+
+    /**
+     * Whether a writer holds, or waits for the readers to release, the write lock
+     */
+    private volatile boolean writing;
+
+    /**
+     * The writer waiting for the readers to release their locks
+     */
+    private volatile Thread writer;
+
+    private final ThreadLocal<ReadHolds> readHolds = ThreadLocal.withInitial(ReadHolds::new);
+
+    private final Lock readLock = new ReadLock();
+
+    private final Lock writeLock = new WriteLock();
+
+    @Override
+    public Lock readLock() {
+        return readLock;
+    }
+
+    @Override
+    public Lock writeLock() {
+        return writeLock;
+    }
+
+    /**
+     * The read lock, which only touches the counter of the stripe of the current thread, unless a writer is active
+     */
+    private class ReadLock implements Lock {
+
+        @Override
+        public void lock() {
+            try {
+                acquire(false, 0, false);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            acquire(false, 0, true);
+        }
+
+        @Override
+        public boolean tryLock() {
+            try {
+                return acquire(true, 0, false);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            return acquire(true, unit.toNanos(time), true);
+        }
+
+        @Override
+        public void unlock() {
+            final ReadHolds holds = readHolds.get();
+            if (holds.count <= 0) {
+                throw new IllegalMonitorStateException();
+            }
+            if (--holds.count == 0) {
+                release(holds.stripe);
+            }
+        }
+
+        /**
+         * No implementation provided
+         *
+         * @throws UnsupportedOperationException
+         */
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+
+        private boolean acquire(boolean timed, long nanos, boolean interruptible) throws InterruptedException {
+            final ReadHolds holds = readHolds.get();
+            if (holds.count > 0) {
+                // reentrant read, the stripe already accounts for this thread
+                holds.count++;
+                return true;
+            }
+            if (writerLock.isHeldByCurrentThread()) {
+                // the writer may always obtain the read lock
+                readers.incrementAndGet(holds.stripe);
+                holds.count = 1;
+                return true;
+            }
+            if (interruptible && Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            readers.incrementAndGet(holds.stripe);
+            if (!writing) {
+                holds.count = 1;
+                return true;
+            }
+            // a writer is active, back off and wait for it to release the write lock
+            release(holds.stripe);
+            if (!lockWriter(timed, nanos, interruptible)) {
+                return false;
+            }
+            try {
+                // no writer can be active while we hold the writer lock
+                readers.incrementAndGet(holds.stripe);
+            } finally {
+                writerLock.unlock();
+            }
+            holds.count = 1;
+            return true;
+        }
+    }
+
+    /**
+     * The write lock, which throws an {@link jakarta.ejb.IllegalLoopbackException} if the thread already holds a read lock
+     */
+    private class WriteLock implements Lock {
+
+        @Override
+        public void lock() {
+            try {
+                acquire(false, 0, false);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            acquire(false, 0, true);
+        }
+
+        @Override
+        public boolean tryLock() {
+            try {
+                return acquire(true, 0, false);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            return acquire(true, unit.toNanos(time), true);
+        }
+
+        @Override
+        public void unlock() {
+            if (!writerLock.isHeldByCurrentThread()) {
+                throw new IllegalMonitorStateException();
+            }
+            if (writerLock.getHoldCount() == 1) {
+                writing = false;
+                writer = null;
+            }
+            writerLock.unlock();
+        }
+
+        /**
+         * Not implemented
+         *
+         * @throws UnsupportedOperationException
+         */
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException();
+        }
+
+        private boolean acquire(boolean timed, long nanos, boolean interruptible) throws InterruptedException {
+            if (readHolds.get().count > 0) {
+                throw EjbLogger.ROOT_LOGGER.failToUpgradeToWriteLock();
+            }
+            if (writerLock.isHeldByCurrentThread()) {
+                // reentrant write
+                writerLock.lock();
+                return true;
+            }
+            final long deadline = System.nanoTime() + nanos;
+            if (!lockWriter(timed, nanos, interruptible)) {
+                return false;
+            }
+            writer = Thread.currentThread();
+            writing = true;
+            boolean acquired = false;
+            try {
+                acquired = awaitReaders(timed, deadline, interruptible);
+                return acquired;
+            } finally {
+                if (!acquired) {
+                    writing = false;
+                    writer = null;
+                    writerLock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Obtains the writer lock. A timed but not interruptible attempt is the non blocking {@link Lock#tryLock()}.
+     */
+    private boolean lockWriter(boolean timed, long nanos, boolean interruptible) throws InterruptedException {
+        if (!timed) {
+            if (interruptible) {
+                writerLock.lockInterruptibly();
+            } else {
+                writerLock.lock();
+            }
+            return true;
+        }
+        return interruptible ? writerLock.tryLock(nanos, TimeUnit.NANOSECONDS) : writerLock.tryLock();
+    }
+
+    /**
+     * Waits for the read locks to be released, which wakes up the writer.
+     */
+    private boolean awaitReaders(boolean timed, long deadline, boolean interruptible) throws InterruptedException {
+        boolean interrupted = false;
+        try {
+            while (readLockCount() != 0) {
+                if (timed) {
+                    final long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    LockSupport.parkNanos(this, remaining);
+                } else {
+                    LockSupport.park(this);
+                }
+                if (Thread.interrupted()) {
+                    if (interruptible) {
+                        throw new InterruptedException();
+                    }
+                    interrupted = true;
+                }
+            }
+            return true;
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void release(int stripe) {
+        readers.decrementAndGet(stripe);
+        if (writing) {
+            final Thread waitingWriter = writer;
+            if (waitingWriter != null) {
+                LockSupport.unpark(waitingWriter);
+            }
+        }
+    }
+
+    private long readLockCount() {
+        long count = 0;
+        for (int i = 0; i < STRIPES; i++) {
+            count += readers.get(i * PADDING);
+        }
+        return count;
+    }
+
+    private static int stripes(int processors) {
+        // the smallest power of 2 not lower than the number of processors
+        return 1 << (Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(1, processors) - 1));
+    }
+
+    /**
+     * The read locks held by a thread, and the index of the counter of the stripe of the thread
+     */
+    private static class ReadHolds {
+        private final int stripe;
+        private int count;
+
+        ReadHolds() {
+            final long id = Thread.currentThread().getId();
+            this.stripe = ((int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & (STRIPES - 1)) * PADDING;
+        }
+    }
+}
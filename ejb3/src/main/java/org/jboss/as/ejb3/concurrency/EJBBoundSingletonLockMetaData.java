@@ -0,0 +1,25 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.concurrency;
+
+import org.jboss.as.ejb3.component.singleton.SingletonLockImplementation;
+import org.jboss.metadata.ejb.parser.jboss.ejb3.AbstractEJBBoundMetaData;
+
+/**
+ * Metadata represents the lock implementation configured for singleton beans via the jboss-ejb3.xml deployment descriptor
+ */
+public class EJBBoundSingletonLockMetaData extends AbstractEJBBoundMetaData {
+
+    private SingletonLockImplementation lockImplementation;
+
+    public SingletonLockImplementation getLockImplementation() {
+        return lockImplementation;
+    }
+
+    public void setLockImplementation(final SingletonLockImplementation lockImplementation) {
+        this.lockImplementation = lockImplementation;
+    }
+}
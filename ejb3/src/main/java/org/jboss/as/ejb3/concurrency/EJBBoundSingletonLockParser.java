@@ -0,0 +1,58 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.concurrency;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jboss.as.ejb3.component.singleton.SingletonLockImplementation;
+import org.jboss.metadata.ejb.parser.jboss.ejb3.AbstractEJBBoundMetaDataParser;
+import org.jboss.metadata.property.PropertyReplacer;
+
+/**
+ * Parser for <code>urn:ejb-singleton-lock</code> namespace. The <code>urn:ejb-singleton-lock</code> namespace elements
+ * can be used to configure the lock implementation used for container managed concurrency of singleton beans.
+ */
+public class EJBBoundSingletonLockParser extends AbstractEJBBoundMetaDataParser<EJBBoundSingletonLockMetaData> {
+
+    public static final String NAMESPACE_URI_1_0 = "urn:ejb-singleton-lock:1.0";
+
+    private static final String ROOT_ELEMENT_SINGLETON_LOCK = "singleton-lock";
+    private static final String ELEMENT_LOCK_IMPLEMENTATION = "lock-implementation";
+
+    @Override
+    public EJBBoundSingletonLockMetaData parse(final XMLStreamReader reader, final PropertyReplacer propertyReplacer) throws XMLStreamException {
+        final String element = reader.getLocalName();
+        // we only parse <singleton-lock> (root) element
+        if (!ROOT_ELEMENT_SINGLETON_LOCK.equals(element)) {
+            throw unexpectedElement(reader);
+        }
+        final EJBBoundSingletonLockMetaData metaData = new EJBBoundSingletonLockMetaData();
+        this.processElements(metaData, reader, propertyReplacer);
+        return metaData;
+    }
+
+    @Override
+    protected void processElement(final EJBBoundSingletonLockMetaData metaData, final XMLStreamReader reader, final PropertyReplacer propertyReplacer) throws XMLStreamException {
+        final String namespaceURI = reader.getNamespaceURI();
+        final String elementName = reader.getLocalName();
+        // if it doesn't belong to our namespace then let the super handle this
+        if (!NAMESPACE_URI_1_0.equals(namespaceURI)) {
+            super.processElement(metaData, reader, propertyReplacer);
+            return;
+        }
+        if (ELEMENT_LOCK_IMPLEMENTATION.equals(elementName)) {
+            final String name = getElementText(reader, propertyReplacer);
+            try {
+                metaData.setLockImplementation(SingletonLockImplementation.forName(name));
+            } catch (IllegalArgumentException e) {
+                throw unexpectedValue(reader, e);
+            }
+        } else {
+            throw unexpectedElement(reader);
+        }
+    }
+}
@@ -18,7 +18,11 @@ import org.jboss.as.ee.metadata.MethodAnnotationAggregator;
 import org.jboss.as.ee.metadata.RuntimeAnnotationInformation;
 import org.jboss.as.ejb3.logging.EjbLogger;
 import org.jboss.as.ejb3.component.session.SessionBeanComponentDescription;
+import org.jboss.as.ejb3.component.singleton.SingletonComponentDescription;
+import org.jboss.as.ejb3.component.singleton.SingletonLockImplementation;
 import org.jboss.as.ejb3.concurrency.AccessTimeoutDetails;
+import org.jboss.as.ejb3.concurrency.EJBBoundSingletonLockMetaData;
+import org.jboss.as.ejb3.deployment.EjbDeploymentAttachmentKeys;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.as.server.deployment.reflect.ClassReflectionIndex;
@@ -26,6 +30,7 @@ import org.jboss.as.server.deployment.reflect.DeploymentReflectionIndex;
 import org.jboss.invocation.proxy.MethodIdentifier;
 import org.jboss.metadata.ejb.spec.ConcurrentMethodMetaData;
 import org.jboss.metadata.ejb.spec.ConcurrentMethodsMetaData;
+import org.jboss.metadata.ejb.spec.EjbJarMetaData;
 import org.jboss.metadata.ejb.spec.NamedMethodMetaData;
 import org.jboss.metadata.ejb.spec.SessionBean31MetaData;
 import org.jboss.metadata.ejb.spec.SessionBeanMetaData;
@@ -73,6 +78,10 @@ public class EjbConcurrencyMergingProcessor extends AbstractMergingProcessor<Ses
 
     protected void handleDeploymentDescriptor(final DeploymentUnit deploymentUnit, final DeploymentReflectionIndex deploymentReflectionIndex, final Class<?> componentClass, final SessionBeanComponentDescription componentConfiguration) throws DeploymentUnitProcessingException {
 
+        if (componentConfiguration instanceof SingletonComponentDescription) {
+            handleSingletonLock(deploymentUnit, (SingletonComponentDescription) componentConfiguration);
+        }
+
         if (componentConfiguration.getDescriptorData() == null) {
             return;
         }
@@ -109,6 +118,31 @@ public class EjbConcurrencyMergingProcessor extends AbstractMergingProcessor<Ses
         }
     }
 
+    /**
+     * Sets the lock implementation configured for the singleton bean via the jboss-ejb3.xml deployment descriptor, if any
+     */
+    private static void handleSingletonLock(final DeploymentUnit deploymentUnit, final SingletonComponentDescription componentConfiguration) {
+        final EjbJarMetaData metaData = deploymentUnit.getAttachment(EjbDeploymentAttachmentKeys.EJB_JAR_METADATA);
+        if (metaData == null || metaData.getAssemblyDescriptor() == null) {
+            return;
+        }
+        final List<EJBBoundSingletonLockMetaData> locks = metaData.getAssemblyDescriptor().getAny(EJBBoundSingletonLockMetaData.class);
+        if (locks == null) {
+            return;
+        }
+        SingletonLockImplementation lockImplementation = null;
+        for (final EJBBoundSingletonLockMetaData lockMetaData : locks) {
+            // a lock implementation explicitly specified for the bean wins over the one for all beans
+            if ("*".equals(lockMetaData.getEjbName()) && lockImplementation == null) {
+                lockImplementation = lockMetaData.getLockImplementation();
+            } else if (componentConfiguration.getEJBName().equals(lockMetaData.getEjbName())) {
+                lockImplementation = lockMetaData.getLockImplementation();
+            }
+        }
+        if (lockImplementation != null) {
+            componentConfiguration.setLockImplementation(lockImplementation);
+        }
+    }
 
     private Method resolveMethod(final DeploymentReflectionIndex index, final Class<?> currentClass, final Class<?> componentClass, final NamedMethodMetaData methodData) throws DeploymentUnitProcessingException {
         if (currentClass == null) {
@@ -20,6 +20,7 @@ import java.sql.SQLException;
 import java.util.Date;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import javax.naming.Context;
@@ -3255,4 +3256,27 @@ public interface EjbLogger extends BasicLogger {
 
     @Message(id = 536, value = "Unsupported EJB receiver protocol %s")
     IllegalArgumentException unsupportedEJBReceiverProtocol(String uriScheme);
+
+    @LogMessage(level = WARN)
+    @Message(id = 537, value = "Failed to convert the info of existing timers of partition %s to binary storage")
+    void failedToConvertTimerInfo(String partition, @Cause SQLException e);
+
+    @LogMessage(level = WARN)
+    @Message(id = 538, value = "Ignoring truncated or corrupt timer journal record at offset %d of %s")
+    void ignoringCorruptTimerJournalRecord(long offset, File segment);
+
+    @Message(id = 539, value = "%s is not a valid timer journal segment")
+    IOException invalidTimerJournalSegment(File segment);
+
+    @LogMessage(level = WARN)
+    @Message(id = 540, value = "Unknown singleton lock implementation '%s' configured via %s, using '%s'")
+    void unknownSingletonLockImplementation(String name, String property, String defaultName);
+
+    @LogMessage(level = WARN)
+    @Message(id = 541, value = "Executor of the timer service rejected expired timeout task %s")
+    void timeoutTaskRejected(Runnable task, @Cause RejectedExecutionException e);
+
+    @LogMessage(level = WARN)
+    @Message(id = 542, value = "Failed to delete superseded timer journal segment %s, which will be ignored on replay")
+    void failedToDeleteTimerJournalSegment(File segment);
 }
@@ -0,0 +1,290 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.pool.striped;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.pool.AbstractPool;
+import org.jboss.as.ejb3.pool.StatelessObjectFactory;
+
+/**
+ * A pool with a maximum size, whose permits and free instances are spread over a number of stripes.
+ * <p/>
+ * Each thread is mapped onto a home stripe. In the common case {@link #get()} and {@link #release(Object)}
+ * only touch the permit counter and the free slots of that stripe, so that threads do not contend on a single
+ * semaphore or queue, and a thread tends to be handed back the instance it released last. When the home stripe
+ * is exhausted, permits and instances are stolen from the other stripes. Only once no permit is left anywhere
+ * does a caller block, waiting at most for the configured timeout, as with the
+ * {@link org.jboss.as.ejb3.pool.strictmax.StrictMaxPool}.
+ * <p/>
+ * Fairness differs from {@link org.jboss.as.ejb3.pool.strictmax.StrictMaxPool} in two ways. As with its non-fair
+ * semaphore, a caller finding a free permit overtakes callers already blocked; blocked callers are signalled one
+ * at a time and compete again for the released permit, so none of them is guaranteed to be served in arrival order.
+ * Free instances, however, are not handed out in FIFO order: a caller takes the first free instance of its home stripe,
+ * typically one recently released by a thread mapped onto the same stripe, so under light load some instances may stay
+ * idle while others serve most invocations.
+ *
+ * @param <T> the pooled type
+ */
+public class StripedPool<T> extends AbstractPool<T> {
+
+    private final Stripe<T>[] stripes;
+    private final int mask;
+    /**
+     * The maximum number of instances allowed in the pool
+     */
+    private final int maxSize;
+    /**
+     * The time to wait for a permit.
+     */
+    private final long timeout;
+    private final TimeUnit timeUnit;
+
+    // Slow path used only when no stripe has a permit left
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = this.lock.newCondition();
+    // Guarded by lock for writes
+    private volatile int waiters = 0;
+
+    public StripedPool(StatelessObjectFactory<T> factory, int maxSize, long timeout, TimeUnit timeUnit) {
+        this(factory, maxSize, timeout, timeUnit, Runtime.getRuntime().availableProcessors());
+    }
+
+    @SuppressWarnings("unchecked")
+    public StripedPool(StatelessObjectFactory<T> factory, int maxSize, long timeout, TimeUnit timeUnit, int concurrency) {
+        super(factory);
+        this.maxSize = maxSize;
+        this.timeout = timeout;
+        this.timeUnit = timeUnit;
+
+        // Use a power of 2 number of stripes, but never more stripes than permits
+        int stripeCount = Integer.highestOneBit(Math.max(1, Math.min(concurrency, maxSize)));
+        this.mask = stripeCount - 1;
+        this.stripes = new Stripe[stripeCount];
+        // Total slot capacity must be able to hold maxSize free instances
+        int capacity = (maxSize + stripeCount - 1) / stripeCount;
+        int remainingPermits = maxSize;
+        for (int i = 0; i < stripeCount; ++i) {
+            int permits = remainingPermits / (stripeCount - i);
+            this.stripes[i] = new Stripe<>(permits, capacity);
+            remainingPermits -= permits;
+        }
+    }
+
+    public void discard(T ctx) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("Discard instance %s#%s", this, ctx);
+        }
+
+        this.releasePermit();
+
+        // Let the super do any other remove stuff
+        super.doRemove(ctx);
+    }
+
+    public int getCurrentSize() {
+        return getCreateCount() - getRemoveCount();
+    }
+
+    public int getAvailableCount() {
+        int available = 0;
+        for (Stripe<T> stripe : this.stripes) {
+            available += stripe.permits.get();
+        }
+        return available;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        throw EjbLogger.ROOT_LOGGER.methodNotImplemented();
+    }
+
+    /**
+     * Get an instance without identity.
+     * Can be used by finders,create-methods, and activation
+     *
+     * @return Context /w instance
+     */
+    public T get() {
+        int home = this.home();
+        if (!this.tryAcquirePermit(home)) {
+            this.acquirePermit();
+        }
+
+        T bean = this.poll(home);
+
+        if (bean != null) {
+            //we found a bean instance in the pool, return it
+            return bean;
+        }
+
+        try {
+            // Pool is empty, create an instance
+            bean = create();
+        } finally {
+            if (bean == null) {
+                this.releasePermit();
+            }
+        }
+        return bean;
+    }
+
+    /**
+     * Return an instance after invocation.
+     *
+     * @param obj
+     */
+    public void release(T obj) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("%s/%s Free instance: %s", maxSize - this.getAvailableCount(), maxSize, this);
+        }
+
+        this.offer(this.home(), obj);
+
+        this.releasePermit();
+    }
+
+    @Override
+    @Deprecated
+    public void remove(T ctx) {
+        if (ROOT_LOGGER.isTraceEnabled()) {
+            ROOT_LOGGER.tracef("Removing instance: %s#%s", this, ctx);
+        }
+
+        this.releasePermit();
+        // let the super do the other remove stuff
+        super.doRemove(ctx);
+    }
+
+    public void start() {
+    }
+
+    public void stop() {
+        for (Stripe<T> stripe : this.stripes) {
+            for (int i = 0; i < stripe.slots.length(); ++i) {
+                T obj = stripe.slots.getAndSet(i, null);
+                if (obj != null) {
+                    stripe.free.decrementAndGet();
+                    destroy(obj);
+                }
+            }
+        }
+    }
+
+    private int home() {
+        int hash = System.identityHashCode(Thread.currentThread());
+        return (hash ^ (hash >>> 16)) & this.mask;
+    }
+
+    private boolean tryAcquirePermit(int home) {
+        for (int i = 0; i < this.stripes.length; ++i) {
+            AtomicInteger permits = this.stripes[(home + i) & this.mask].permits;
+            int current = permits.get();
+            while (current > 0) {
+                if (permits.compareAndSet(current, current - 1)) {
+                    return true;
+                }
+                current = permits.get();
+            }
+        }
+        return false;
+    }
+
+    private void acquirePermit() {
+        long remaining = this.timeUnit.toNanos(this.timeout);
+        this.lock.lock();
+        try {
+            this.waiters++;
+            try {
+                while (!this.tryAcquirePermit(this.home())) {
+                    if (remaining <= 0L) {
+                        throw EjbLogger.ROOT_LOGGER.failedToAcquirePermit(this.timeout, this.timeUnit);
+                    }
+                    remaining = this.permitReleased.awaitNanos(remaining);
+                }
+            } finally {
+                this.waiters--;
+            }
+        } catch (InterruptedException e) {
+            throw EjbLogger.ROOT_LOGGER.acquireSemaphoreInterrupted();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void releasePermit() {
+        this.stripes[this.home()].permits.incrementAndGet();
+        // A waiter registers itself before re-checking the permits, so either it sees our permit or we see it
+        if (this.waiters > 0) {
+            this.lock.lock();
+            try {
+                this.permitReleased.signal();
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    private T poll(int home) {
+        for (int i = 0; i < this.stripes.length; ++i) {
+            Stripe<T> stripe = this.stripes[(home + i) & this.mask];
+            // Skip stripes without free instances, so that an empty pool costs one read per stripe rather than a scan of every slot
+            if (stripe.free.get() <= 0) {
+                continue;
+            }
+            AtomicReferenceArray<T> slots = stripe.slots;
+            for (int j = 0; j < slots.length(); ++j) {
+                if (slots.get(j) != null) {
+                    T obj = slots.getAndSet(j, null);
+                    if (obj != null) {
+                        stripe.free.decrementAndGet();
+                        return obj;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private void offer(int home, T obj) {
+        for (int i = 0; i < this.stripes.length; ++i) {
+            Stripe<T> stripe = this.stripes[(home + i) & this.mask];
+            AtomicReferenceArray<T> slots = stripe.slots;
+            if (stripe.free.get() >= slots.length()) {
+                continue;
+            }
+            for (int j = 0; j < slots.length(); ++j) {
+                if (slots.get(j) == null && slots.compareAndSet(j, null, obj)) {
+                    stripe.free.incrementAndGet();
+                    return;
+                }
+            }
+        }
+        // Only possible if a concurrent get() missed a free instance and created another, so the pool holds more than maxSize instances
+        destroy(obj);
+    }
+
+    private static class Stripe<T> {
+        final AtomicInteger permits;
+        final AtomicReferenceArray<T> slots;
+        // Approximate number of non-null slots, which may briefly lag behind the slots themselves
+        final AtomicInteger free = new AtomicInteger();
+
+        Stripe(int permits, int capacity) {
+            this.permits = new AtomicInteger(permits);
+            this.slots = new AtomicReferenceArray<>(capacity);
+        }
+    }
+}
@@ -47,7 +47,6 @@ import org.jboss.ejb.client.ClusterAffinity;
 import org.jboss.ejb.client.EJBClientInvocationContext;
 import org.jboss.ejb.client.EJBIdentifier;
 import org.jboss.ejb.client.EJBLocator;
-import org.jboss.ejb.client.EJBMethodLocator;
 import org.jboss.ejb.client.EJBModuleIdentifier;
 import org.jboss.ejb.client.NodeAffinity;
 import org.jboss.ejb.client.SessionID;
@@ -84,6 +83,7 @@ final class AssociationImpl implements Association, AutoCloseable {
         }
     };
     private final DeploymentRepository deploymentRepository;
+    private final RemoteEJBRoutingIndex routingIndex = new RemoteEJBRoutingIndex();
     private final Map<Integer, ClusterTopologyRegistrar> clusterTopologyRegistrars;
     private volatile Executor executor;
 
@@ -93,10 +93,12 @@ final class AssociationImpl implements Association, AutoCloseable {
         for (Map.Entry<ProtocolSocketBinding, Registry<GroupMember, String, List<ClientMapping>>> entry : clientMappingRegistries) {
             this.clusterTopologyRegistrars.put(entry.getKey().getSocketBinding().getSocketAddress().getPort(), new ClusterTopologyRegistrar(entry.getValue()));
         }
+        deploymentRepository.addListener(this.routingIndex);
     }
 
     @Override
     public void close() {
+        this.deploymentRepository.removeListener(this.routingIndex);
         for (ClusterTopologyRegistrar registrar : this.clusterTopologyRegistrars.values()) {
             registrar.close();
         }
@@ -112,7 +114,9 @@ final class AssociationImpl implements Association, AutoCloseable {
         final String distinctName = ejbIdentifier.getDistinctName();
         final String beanName = ejbIdentifier.getBeanName();
 
-        final EjbDeploymentInformation ejbDeploymentInformation = findEJB(appName, moduleName, distinctName, beanName);
+        // Resolve the target via the routing index, falling back to the repository for beans that are not (yet) indexed
+        final RemoteEJBRoutingIndex.EJBRoute route = this.routingIndex.getRoute(ejbIdentifier);
+        final EjbDeploymentInformation ejbDeploymentInformation = (route != null) ? route.getDeploymentInformation() : findEJB(appName, moduleName, distinctName, beanName);
 
         if (ejbDeploymentInformation == null) {
             invocationRequest.writeNoSuchEJB();
@@ -147,7 +151,7 @@ final class AssociationImpl implements Association, AutoCloseable {
 
         final ComponentView componentView = ejbDeploymentInformation.getView(viewClassName);
 
-        final Method invokedMethod = findMethod(componentView, invocationRequest.getMethodLocator());
+        final Method invokedMethod = (route != null) ? route.findMethod(viewClassName, invocationRequest.getMethodLocator()) : RemoteEJBRoutingIndex.findMethod(componentView, invocationRequest.getMethodLocator());
         if (invokedMethod == null) {
             invocationRequest.writeNoSuchMethod();
             return CancelHandle.NULL;
@@ -638,29 +642,6 @@ final class AssociationImpl implements Association, AutoCloseable {
         return securityIdentity == null ? componentView.invoke(interceptorContext) : securityIdentity.runAsFunctionEx(ComponentView::invoke, componentView, interceptorContext);
     }
 
-    private static Method findMethod(final ComponentView componentView, final EJBMethodLocator ejbMethodLocator) {
-        final Set<Method> viewMethods = componentView.getViewMethods();
-        for (final Method method : viewMethods) {
-            if (method.getName().equals(ejbMethodLocator.getMethodName())) {
-                final Class<?>[] methodParamTypes = method.getParameterTypes();
-                if (methodParamTypes.length != ejbMethodLocator.getParameterCount()) {
-                    continue;
-                }
-                boolean found = true;
-                for (int i = 0; i < methodParamTypes.length; i++) {
-                    if (!methodParamTypes[i].getName().equals(ejbMethodLocator.getParameterTypeName(i))) {
-                        found = false;
-                        break;
-                    }
-                }
-                if (found) {
-                    return method;
-                }
-            }
-        }
-        return null;
-    }
-
     private static Affinity getStrongAffinity(final StatefulSessionComponent statefulSessionComponent) {
         return statefulSessionComponent.getCache().getStrongAffinity();
     }
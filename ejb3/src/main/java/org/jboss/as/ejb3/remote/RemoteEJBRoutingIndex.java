@@ -0,0 +1,173 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.remote;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.as.ee.component.ComponentView;
+import org.jboss.as.ejb3.deployment.DeploymentModuleIdentifier;
+import org.jboss.as.ejb3.deployment.DeploymentRepository;
+import org.jboss.as.ejb3.deployment.DeploymentRepositoryListener;
+import org.jboss.as.ejb3.deployment.EjbDeploymentInformation;
+import org.jboss.as.ejb3.deployment.ModuleDeployment;
+import org.jboss.ejb.client.EJBIdentifier;
+import org.jboss.ejb.client.EJBMethodLocator;
+
+/**
+ * An immutable index of the remotely invocable Jakarta Enterprise Beans of all started deployments, which resolves the target
+ * of a remote invocation, i.e. the bean, its remote view and the invoked method, without copying the contents of the
+ * {@link DeploymentRepository} or scanning the methods of a view.
+ * <p>
+ * The index is rebuilt whenever a deployment is started or removed. Modules whose deployment did not change reuse the routes
+ * of the previous index.
+ */
+final class RemoteEJBRoutingIndex implements DeploymentRepositoryListener {
+
+    private volatile DeploymentRepository repository;
+    // Guarded by this, for writes
+    private volatile Map<DeploymentModuleIdentifier, ModuleRoutes> modules = Collections.emptyMap();
+    private volatile Map<EJBIdentifier, EJBRoute> routes = Collections.emptyMap();
+
+    /**
+     * Returns the route to the specified bean, if it belongs to a started deployment.
+     * @param identifier a bean identifier
+     * @return a route, or null, if no such bean was started
+     */
+    EJBRoute getRoute(final EJBIdentifier identifier) {
+        return this.routes.get(identifier);
+    }
+
+    @Override
+    public void listenerAdded(final DeploymentRepository repository) {
+        this.repository = repository;
+        this.rebuild();
+    }
+
+    @Override
+    public void deploymentAvailable(final DeploymentModuleIdentifier deployment, final ModuleDeployment moduleDeployment) {
+        // Not yet invocable
+    }
+
+    @Override
+    public void deploymentStarted(final DeploymentModuleIdentifier deployment, final ModuleDeployment moduleDeployment) {
+        this.rebuild();
+    }
+
+    @Override
+    public void deploymentRemoved(final DeploymentModuleIdentifier deployment) {
+        this.rebuild();
+    }
+
+    private synchronized void rebuild() {
+        final DeploymentRepository repository = this.repository;
+        if (repository == null) return;
+        // The repository updates its state before notifying its listeners, so the latest rebuild always sees the latest state
+        final Map<DeploymentModuleIdentifier, ModuleDeployment> startedModules = repository.getStartedModules();
+        final Map<DeploymentModuleIdentifier, ModuleRoutes> previousModules = this.modules;
+        final Map<DeploymentModuleIdentifier, ModuleRoutes> modules = new HashMap<>(startedModules.size());
+        final Map<EJBIdentifier, EJBRoute> routes = new HashMap<>();
+        for (Map.Entry<DeploymentModuleIdentifier, ModuleDeployment> entry : startedModules.entrySet()) {
+            ModuleRoutes moduleRoutes = previousModules.get(entry.getKey());
+            if (moduleRoutes == null || moduleRoutes.deployment != entry.getValue()) {
+                moduleRoutes = new ModuleRoutes(entry.getValue());
+            }
+            modules.put(entry.getKey(), moduleRoutes);
+            routes.putAll(moduleRoutes.routes);
+        }
+        this.modules = Collections.unmodifiableMap(modules);
+        this.routes = Collections.unmodifiableMap(routes);
+    }
+
+    /**
+     * Locates the view method matching the specified locator, by scanning all methods of the view.
+     * @param componentView a component view
+     * @param ejbMethodLocator a method locator
+     * @return the matching method, or null, if the view has no such method
+     */
+    static Method findMethod(final ComponentView componentView, final EJBMethodLocator ejbMethodLocator) {
+        final Set<Method> viewMethods = componentView.getViewMethods();
+        for (final Method method : viewMethods) {
+            if (method.getName().equals(ejbMethodLocator.getMethodName())) {
+                final Class<?>[] methodParamTypes = method.getParameterTypes();
+                if (methodParamTypes.length != ejbMethodLocator.getParameterCount()) {
+                    continue;
+                }
+                boolean found = true;
+                for (int i = 0; i < methodParamTypes.length; i++) {
+                    if (!methodParamTypes[i].getName().equals(ejbMethodLocator.getParameterTypeName(i))) {
+                        found = false;
+                        break;
+                    }
+                }
+                if (found) {
+                    return method;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static final class ModuleRoutes {
+        final ModuleDeployment deployment;
+        final Map<EJBIdentifier, EJBRoute> routes;
+
+        ModuleRoutes(final ModuleDeployment deployment) {
+            this.deployment = deployment;
+            final DeploymentModuleIdentifier identifier = deployment.getIdentifier();
+            final Map<String, EjbDeploymentInformation> ejbs = deployment.getEjbs();
+            final Map<EJBIdentifier, EJBRoute> routes = new HashMap<>(ejbs.size());
+            for (Map.Entry<String, EjbDeploymentInformation> entry : ejbs.entrySet()) {
+                routes.put(new EJBIdentifier(identifier.getApplicationName(), identifier.getModuleName(), entry.getKey(), identifier.getDistinctName()), new EJBRoute(entry.getValue()));
+            }
+            this.routes = routes;
+        }
+    }
+
+    /**
+     * The route to a started bean.
+     */
+    static final class EJBRoute {
+        private final EjbDeploymentInformation information;
+        // Methods of each remote view, by method locator
+        private final Map<String, Map<EJBMethodLocator, Method>> remoteViewMethods;
+
+        EJBRoute(final EjbDeploymentInformation information) {
+            this.information = information;
+            final Map<String, Map<EJBMethodLocator, Method>> remoteViewMethods = new HashMap<>();
+            for (String viewClassName : information.getViewNames()) {
+                if (information.isRemoteView(viewClassName)) {
+                    final Set<Method> viewMethods = information.getView(viewClassName).getViewMethods();
+                    final Map<EJBMethodLocator, Method> methods = new HashMap<>(viewMethods.size());
+                    for (Method method : viewMethods) {
+                        // Retain the first matching method, as would findMethod(...)
+                        methods.putIfAbsent(EJBMethodLocator.forMethod(method), method);
+                    }
+                    remoteViewMethods.put(viewClassName, methods);
+                }
+            }
+            this.remoteViewMethods = remoteViewMethods;
+        }
+
+        EjbDeploymentInformation getDeploymentInformation() {
+            return this.information;
+        }
+
+        /**
+         * Locates the method of the specified remote view matching the specified locator.
+         * @param viewClassName the class name of a remote view
+         * @param ejbMethodLocator a method locator
+         * @return the matching method, or null, if the view has no such method
+         */
+        Method findMethod(final String viewClassName, final EJBMethodLocator ejbMethodLocator) {
+            final Map<EJBMethodLocator, Method> methods = this.remoteViewMethods.get(viewClassName);
+            return (methods != null) ? methods.get(ejbMethodLocator) : RemoteEJBRoutingIndex.findMethod(this.information.getView(viewClassName), ejbMethodLocator);
+        }
+    }
+}
@@ -11,10 +11,12 @@ import org.jboss.as.controller.ServiceRemoveStepHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.operations.validation.EnumValidator;
 import org.jboss.as.controller.operations.validation.ModelTypeValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.ejb3.timerservice.persistence.database.DatabaseTimerPersistence;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 
@@ -51,6 +53,22 @@ public class DatabaseDataStoreResourceDefinition extends TimerPersistenceResourc
                     .setDefaultValue(new ModelNode(-1))
                     .build();
 
+    public static final SimpleAttributeDefinition REFRESH_MODE =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.REFRESH_MODE, ModelType.STRING, true)
+                    .setAllowExpression(true)
+                    .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+                    .setDefaultValue(new ModelNode(DatabaseTimerPersistence.RefreshMode.FULL.name()))
+                    .setValidator(EnumValidator.create(DatabaseTimerPersistence.RefreshMode.class))
+                    .build();
+
+    public static final SimpleAttributeDefinition INFO_STORAGE =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.INFO_STORAGE, ModelType.STRING, true)
+                    .setAllowExpression(true)
+                    .setFlags(AttributeAccess.Flag.RESTART_RESOURCE_SERVICES)
+                    .setDefaultValue(new ModelNode(DatabaseTimerPersistence.InfoStorage.TEXT.name()))
+                    .setValidator(EnumValidator.create(DatabaseTimerPersistence.InfoStorage.class))
+                    .build();
+
 
     public static final SimpleAttributeDefinition ALLOW_EXECUTION =
             new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.ALLOW_EXECUTION, ModelType.BOOLEAN, true)
@@ -59,7 +77,7 @@ public class DatabaseDataStoreResourceDefinition extends TimerPersistenceResourc
                     .setDefaultValue(ModelNode.TRUE)
                     .build();
 
-    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { DATASOURCE_JNDI_NAME, DATABASE, PARTITION, REFRESH_INTERVAL, ALLOW_EXECUTION };
+    private static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { DATASOURCE_JNDI_NAME, DATABASE, PARTITION, REFRESH_INTERVAL, REFRESH_MODE, INFO_STORAGE, ALLOW_EXECUTION };
     private static final DatabaseDataStoreAdd ADD_HANDLER = new DatabaseDataStoreAdd();
 
     DatabaseDataStoreResourceDefinition() {
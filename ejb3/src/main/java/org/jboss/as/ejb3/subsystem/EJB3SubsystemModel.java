@@ -57,6 +57,7 @@ public interface EJB3SubsystemModel {
     String MAX_POOL_SIZE = "max-pool-size";
     String DERIVE_SIZE = "derive-size";
     String DERIVED_SIZE = "derived-size";
+    String POOL_STRATEGY = "pool-strategy";
 
     String STRICT_MAX_BEAN_INSTANCE_POOL = "strict-max-bean-instance-pool";
 
@@ -65,6 +66,7 @@ public interface EJB3SubsystemModel {
 
     String RELATIVE_TO = "relative-to";
     String PATH = "path";
+    String FORMAT = "format";
 
     String DEFAULT_SINGLETON_BEAN_ACCESS_TIMEOUT = "default-singleton-bean-access-timeout";
     String DEFAULT_STATEFUL_BEAN_ACCESS_TIMEOUT = "default-stateful-bean-access-timeout";
@@ -87,6 +89,7 @@ public interface EJB3SubsystemModel {
 
     String TIMER = "timer";
     String TIMER_SERVICE = "timer-service";
+    String SCHEDULER = "scheduler";
     String THREAD_POOL = "thread-pool";
     String THREAD_POOL_NAME = "thread-pool-name";
     String DEFAULT = "default";
@@ -125,6 +128,8 @@ public interface EJB3SubsystemModel {
     String DATABASE_DATA_STORE = "database-data-store";
     String PARTITION  = "partition";
     String REFRESH_INTERVAL = "refresh-interval";
+    String REFRESH_MODE = "refresh-mode";
+    String INFO_STORAGE = "info-storage";
     String ALLOW_EXECUTION = "allow-execution";
 
     String STATIC_URLS = "static-urls";
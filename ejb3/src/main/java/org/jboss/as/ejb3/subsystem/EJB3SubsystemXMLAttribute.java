@@ -43,10 +43,13 @@ public enum EJB3SubsystemXMLAttribute {
     ENABLE_BY_DEFAULT("enable-by-default"),
     EXCLUDE_LOCAL_RECEIVER("exclude-local-receiver"),
 
+    FORMAT("format"),
+
     @Deprecated GROUPS_PATH("groups-path"),
 
     @Deprecated IDLE_TIMEOUT("idle-timeout"),
     @Deprecated IDLE_TIMEOUT_UNIT("idle-timeout-unit"),
+    INFO_STORAGE("info-storage"),
     INSTANCE_ACQUISITION_TIMEOUT("instance-acquisition-timeout"),
     INSTANCE_ACQUISITION_TIMEOUT_UNIT("instance-acquisition-timeout-unit"),
 
@@ -65,16 +68,19 @@ public enum EJB3SubsystemXMLAttribute {
 
     PARTITION("partition"),
     REFRESH_INTERVAL("refresh-interval"),
+    REFRESH_MODE("refresh-mode"),
     PASS_BY_VALUE("pass-by-value"),
     @Deprecated PASSIVATE_EVENTS_ON_REPLICATE("passivate-events-on-replicate"),
     PASSIVATION_DISABLED_CACHE_REF("passivation-disabled-cache-ref"),
     @Deprecated PASSIVATION_STORE_REF("passivation-store-ref"),
     PATH("path"),
     POOL_NAME("pool-name"),
+    POOL_STRATEGY("pool-strategy"),
 
     RELATIVE_TO("relative-to"),
     RESOURCE_ADAPTER_NAME("resource-adapter-name"),
 
+    SCHEDULER("scheduler"),
     @Deprecated SESSIONS_PATH("sessions-path"),
     STATIC_URLS("static-urls"),
     @Deprecated SUBDIRECTORY_COUNT("subdirectory-count"),
@@ -7,7 +7,7 @@ package org.jboss.as.ejb3.subsystem;
 
 import static org.jboss.as.ejb3.logging.EjbLogger.ROOT_LOGGER;
 
-import java.util.Timer;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.jboss.as.controller.AbstractBoottimeAddStepHandler;
 import org.jboss.as.controller.OperationContext;
@@ -17,10 +17,12 @@ import org.jboss.as.ejb3.deployment.processors.TimerServiceDeploymentProcessor;
 import org.jboss.as.ejb3.deployment.processors.annotation.TimerServiceAnnotationProcessor;
 import org.jboss.as.ejb3.deployment.processors.merging.TimerMethodMergingProcessor;
 import org.jboss.as.ejb3.timerservice.TimerServiceMetaData;
+import org.jboss.as.ejb3.timerservice.scheduler.TimeoutScheduler;
 import org.jboss.as.server.AbstractDeploymentChainStep;
 import org.jboss.as.server.DeploymentProcessorTarget;
 import org.jboss.as.server.deployment.Phase;
 import org.jboss.dmr.ModelNode;
+import org.wildfly.subsystem.service.ServiceDependency;
 import org.wildfly.subsystem.service.capability.CapabilityServiceInstaller;
 
 /**
@@ -30,10 +32,17 @@ import org.wildfly.subsystem.service.capability.CapabilityServiceInstaller;
  */
 public class TimerServiceAdd extends AbstractBoottimeAddStepHandler {
 
+    private final AtomicReference<TimeoutScheduler> scheduler;
+
+    TimerServiceAdd(AtomicReference<TimeoutScheduler> scheduler) {
+        this.scheduler = scheduler;
+    }
+
     @Override
     protected void performBoottime(final OperationContext context, ModelNode operation, final ModelNode model) throws OperationFailedException {
 
         final String threadPoolName = TimerServiceResourceDefinition.THREAD_POOL_NAME.resolveModelAttribute(context, model).asStringOrNull();
+        final TimeoutScheduler.Type schedulerType = TimeoutScheduler.Type.valueOf(TimerServiceResourceDefinition.SCHEDULER.resolveModelAttribute(context, model).asString());
 
         TimerServiceMetaData defaultMetaData = new TimerServiceMetaData();
         defaultMetaData.setDataStoreName(TimerServiceResourceDefinition.DEFAULT_DATA_STORE.resolveModelAttribute(context, model).asStringOrNull());
@@ -53,7 +62,12 @@ public class TimerServiceAdd extends AbstractBoottimeAddStepHandler {
         }, OperationContext.Stage.RUNTIME);
 
         if (threadPoolName != null) {
-            CapabilityServiceInstaller.builder(TimerServiceResourceDefinition.TIMER_SERVICE_CAPABILITY, Timer::new).onStop(Timer::cancel).build().install(context);
+            ServiceDependency<TimeoutScheduler> scheduler = ServiceDependency.on(EJB3SubsystemRootResourceDefinition.EXECUTOR_SERVICE_DESCRIPTOR, threadPoolName).map(schedulerType::createScheduler);
+            CapabilityServiceInstaller.builder(TimerServiceResourceDefinition.TIMER_SERVICE_CAPABILITY, scheduler)
+                    .withCaptor(this.scheduler::set)
+                    .onStop(TimeoutScheduler::close)
+                    .build()
+                    .install(context);
         }
     }
 }
@@ -5,20 +5,28 @@
 
 package org.jboss.as.ejb3.subsystem;
 
-import java.util.Timer;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToLongFunction;
 
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
 import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
 import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.EnumValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
 import org.jboss.as.controller.services.path.PathManager;
 import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence;
+import org.jboss.as.ejb3.timerservice.scheduler.TimeoutScheduler;
+import org.jboss.as.ejb3.timerservice.scheduler.TimeoutSchedulerMetrics;
+import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.wildfly.clustering.ejb.timer.TimerManagementProvider;
 import org.wildfly.service.descriptor.NullaryServiceDescriptor;
@@ -31,7 +39,7 @@ import org.wildfly.subsystem.resource.capability.CapabilityReferenceRecorder;
  */
 public class TimerServiceResourceDefinition extends SimpleResourceDefinition {
 
-    public static final NullaryServiceDescriptor<Timer> TIMER_SERVICE_DESCRIPTOR = NullaryServiceDescriptor.of("org.wildfly.ejb3.timer-service", Timer.class);
+    public static final NullaryServiceDescriptor<TimeoutScheduler> TIMER_SERVICE_DESCRIPTOR = NullaryServiceDescriptor.of("org.wildfly.ejb3.timer-service", TimeoutScheduler.class);
     static final RuntimeCapability<Void> TIMER_SERVICE_CAPABILITY = RuntimeCapability.Builder.of(TIMER_SERVICE_DESCRIPTOR).build();
 
     static final SimpleAttributeDefinition THREAD_POOL_NAME =
@@ -67,18 +75,54 @@ public class TimerServiceResourceDefinition extends SimpleResourceDefinition {
                     .setCapabilityReference(CapabilityReferenceRecorder.builder(TIMER_SERVICE_CAPABILITY, TimerManagementProvider.SERVICE_DESCRIPTOR).build())
                     .build();
 
-    static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { THREAD_POOL_NAME, DEFAULT_DATA_STORE, DEFAULT_PERSISTENT_TIMER_MANAGEMENT, DEFAULT_TRANSIENT_TIMER_MANAGEMENT };
+    static final SimpleAttributeDefinition SCHEDULER =
+            new SimpleAttributeDefinitionBuilder(EJB3SubsystemModel.SCHEDULER, ModelType.STRING, true)
+                    .setDefaultValue(new ModelNode().set(TimeoutScheduler.Type.TIMER.name()))
+                    .setValidator(EnumValidator.create(TimeoutScheduler.Type.class))
+                    .setAllowExpression(true)
+                    .setFlags(AttributeAccess.Flag.RESTART_ALL_SERVICES)
+                    .build();
+
+    static final AttributeDefinition[] ATTRIBUTES = new AttributeDefinition[] { THREAD_POOL_NAME, DEFAULT_DATA_STORE, DEFAULT_PERSISTENT_TIMER_MANAGEMENT, DEFAULT_TRANSIENT_TIMER_MANAGEMENT, SCHEDULER };
+
+    private enum Metric {
+        EXPIRED_TIMEOUTS("expired-timeouts", MeasurementUnit.NONE, TimeoutSchedulerMetrics::getExecutions),
+        AVERAGE_LATENESS("average-lateness", MeasurementUnit.MILLISECONDS, TimeoutSchedulerMetrics::getAverageLateness),
+        PEAK_LATENESS("peak-lateness", MeasurementUnit.MILLISECONDS, TimeoutSchedulerMetrics::getPeakLateness),
+        LATENESS_P50("lateness-p50", MeasurementUnit.MILLISECONDS, metrics -> metrics.getLatenessPercentile(0.5)),
+        LATENESS_P99("lateness-p99", MeasurementUnit.MILLISECONDS, metrics -> metrics.getLatenessPercentile(0.99)),
+        LATENESS_P999("lateness-p999", MeasurementUnit.MILLISECONDS, metrics -> metrics.getLatenessPercentile(0.999)),
+        ;
+        private final AttributeDefinition definition;
+        private final ToLongFunction<TimeoutSchedulerMetrics> reader;
+
+        Metric(String name, MeasurementUnit unit, ToLongFunction<TimeoutSchedulerMetrics> reader) {
+            this.definition = new SimpleAttributeDefinitionBuilder(name, ModelType.LONG)
+                    .setUndefinedMetricValue(ModelNode.ZERO)
+                    .setMeasurementUnit(unit)
+                    .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+                    .build();
+            this.reader = reader;
+        }
+    }
 
     private final PathManager pathManager;
+    // The scheduler of the running timer service, if any
+    private final AtomicReference<TimeoutScheduler> scheduler;
 
     public TimerServiceResourceDefinition(final PathManager pathManager) {
+        this(pathManager, new AtomicReference<>());
+    }
+
+    private TimerServiceResourceDefinition(final PathManager pathManager, final AtomicReference<TimeoutScheduler> scheduler) {
         super(new SimpleResourceDefinition.Parameters(EJB3SubsystemModel.TIMER_SERVICE_PATH, EJB3Extension.getResourceDescriptionResolver(EJB3SubsystemModel.TIMER_SERVICE))
-                .setAddHandler(new TimerServiceAdd())
+                .setAddHandler(new TimerServiceAdd(scheduler))
                 .setRemoveHandler(ReloadRequiredRemoveStepHandler.INSTANCE)
                 .setAddRestartLevel(OperationEntry.Flag.RESTART_ALL_SERVICES)
                 .setRemoveRestartLevel(OperationEntry.Flag.RESTART_ALL_SERVICES)
                 .setCapabilities(TIMER_SERVICE_CAPABILITY));
         this.pathManager = pathManager;
+        this.scheduler = scheduler;
     }
 
     @Override
@@ -86,6 +130,17 @@ public class TimerServiceResourceDefinition extends SimpleResourceDefinition {
         for (AttributeDefinition attr : ATTRIBUTES) {
             resourceRegistration.registerReadWriteAttribute(attr, null, ReloadRequiredWriteAttributeHandler.INSTANCE);
         }
+        for (Metric metric : Metric.values()) {
+            resourceRegistration.registerMetric(metric.definition, new AbstractRuntimeOnlyHandler() {
+                @Override
+                protected void executeRuntimeStep(OperationContext context, ModelNode operation) {
+                    TimeoutScheduler scheduler = TimerServiceResourceDefinition.this.scheduler.get();
+                    if (scheduler != null) {
+                        context.getResult().set(metric.reader.applyAsLong(scheduler.getMetrics()));
+                    }
+                }
+            });
+        }
     }
 
     @Override
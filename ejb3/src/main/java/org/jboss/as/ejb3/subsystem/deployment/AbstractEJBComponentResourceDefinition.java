@@ -12,6 +12,8 @@ import static org.jboss.as.ejb3.subsystem.deployment.TimerResourceDefinition.PER
 import static org.jboss.as.ejb3.subsystem.deployment.TimerResourceDefinition.SCHEDULE;
 import static org.jboss.as.ejb3.subsystem.deployment.TimerResourceDefinition.TIME_REMAINING;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.jboss.as.controller.AttributeDefinition;
@@ -24,6 +26,7 @@ import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.StringListAttributeDefinition;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
@@ -97,9 +100,33 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
             .build();
 
+    private enum LatencyPercentile {
+        P50("p50", 0.5),
+        P99("p99", 0.99),
+        P999("p999", 0.999),
+        ;
+        private final double percentile;
+        private final AttributeDefinition executionTime;
+        private final AttributeDefinition waitTime;
+
+        LatencyPercentile(String suffix, double percentile) {
+            this.percentile = percentile;
+            this.executionTime = createPercentileMetric("execution-time-" + suffix);
+            this.waitTime = createPercentileMetric("wait-time-" + suffix);
+        }
+
+        private static AttributeDefinition createPercentileMetric(String name) {
+            return new SimpleAttributeDefinitionBuilder(name, ModelType.LONG)
+                    .setUndefinedMetricValue(ModelNode.ZERO)
+                    .setMeasurementUnit(MeasurementUnit.MICROSECONDS)
+                    .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
+                    .build();
+        }
+    }
+
     private static final AttributeDefinition METHODS = ObjectMapAttributeDefinition.Builder.of(
             "methods",
-            ObjectTypeAttributeDefinition.Builder.of("complex", EXECUTION_TIME, INVOCATIONS, WAIT_TIME)
+            ObjectTypeAttributeDefinition.Builder.of("complex", methodMetrics())
             .build())
             .setRequired(false)
             .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME)
@@ -243,6 +270,20 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
                 context.getResult().set(component.getInvocationMetrics().getWaitTime());
             }
         });
+        for (final LatencyPercentile percentile : LatencyPercentile.values()) {
+            resourceRegistration.registerMetric(percentile.executionTime, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    context.getResult().set(component.getInvocationMetrics().getValues().getExecutionTimePercentile(percentile.percentile));
+                }
+            });
+            resourceRegistration.registerMetric(percentile.waitTime, new AbstractRuntimeMetricsHandler() {
+                @Override
+                protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
+                    context.getResult().set(component.getInvocationMetrics().getValues().getWaitTimePercentile(percentile.percentile));
+                }
+            });
+        }
         resourceRegistration.registerMetric(METHODS, new AbstractRuntimeMetricsHandler() {
             @Override
             protected void executeReadMetricStep(final OperationContext context, final ModelNode operation, final EJBComponent component) {
@@ -253,12 +294,25 @@ public abstract class AbstractEJBComponentResourceDefinition extends SimpleResou
                     result.get("execution-time").set(values.getExecutionTime());
                     result.get("invocations").set(values.getInvocations());
                     result.get("wait-time").set(values.getWaitTime());
+                    for (final LatencyPercentile percentile : LatencyPercentile.values()) {
+                        result.get(percentile.executionTime.getName()).set(values.getExecutionTimePercentile(percentile.percentile));
+                        result.get(percentile.waitTime.getName()).set(values.getWaitTimePercentile(percentile.percentile));
+                    }
                     context.getResult().get(entry.getKey()).set(result);
                 }
             }
         });
     }
 
+    private static AttributeDefinition[] methodMetrics() {
+        List<AttributeDefinition> metrics = new ArrayList<>(List.of(EXECUTION_TIME, INVOCATIONS, WAIT_TIME));
+        for (LatencyPercentile percentile : LatencyPercentile.values()) {
+            metrics.add(percentile.executionTime);
+            metrics.add(percentile.waitTime);
+        }
+        return metrics.toArray(new AttributeDefinition[0]);
+    }
+
     /* (non-Javadoc)
      * @see org.jboss.as.controller.SimpleResourceDefinition#registerChildren(org.jboss.as.controller.registry.ManagementResourceRegistration)
      */
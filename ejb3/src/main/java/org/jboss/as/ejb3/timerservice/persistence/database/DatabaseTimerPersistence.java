@@ -27,6 +27,7 @@ import java.sql.Timestamp;
 import java.sql.Types;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
@@ -39,8 +40,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
@@ -61,6 +61,7 @@ import org.jboss.as.ejb3.timerservice.TimerServiceImpl;
 import org.jboss.as.ejb3.timerservice.TimerState;
 import org.jboss.as.ejb3.timerservice.persistence.TimeoutMethod;
 import org.jboss.as.ejb3.timerservice.persistence.TimerPersistence;
+import org.jboss.as.ejb3.timerservice.scheduler.TimeoutScheduler;
 import org.jboss.as.naming.ManagedReference;
 import org.jboss.as.naming.ManagedReferenceFactory;
 import org.jboss.marshalling.InputStreamByteInput;
@@ -92,11 +93,11 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private final Consumer<DatabaseTimerPersistence> dbConsumer;
     private final Supplier<ManagedReferenceFactory> dataSourceSupplier;
     private final Supplier<ModuleLoader> moduleLoaderSupplier;
-    private final Supplier<Timer> timerSupplier;
-    private final Map<String, TimerChangeListener> changeListeners = Collections.synchronizedMap(new HashMap<String, TimerChangeListener>());
+    private final Supplier<TimeoutScheduler> schedulerSupplier;
+    private final Map<String, TimerChangeListener> changeListeners = new ConcurrentHashMap<>();
 
-
-    private final Map<String, Set<String>> knownTimerIds = new HashMap<>();
+    /** Ids of the known timers per timed object. Compound operations on the ids of a timed object synchronize on its set. */
+    private final Map<String, Set<String>> knownTimerIds = new ConcurrentHashMap<>();
 
     /** Identifier for the database dialect to be used for the timer-sql.properties */
     private String database;
@@ -106,6 +107,10 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private final String nodeName;
     /** Interval in millis to refresh the timers from the persistence store*/
     private final int refreshInterval;
+    /** How to refresh the timers from the persistence store*/
+    private final RefreshMode refreshMode;
+    /** How to store the info of timers*/
+    private final InfoStorage infoStorage;
     /** Flag whether this instance should execute persistent timers*/
     private final boolean allowExecution;
     private volatile ManagedReference managedReference;
@@ -114,6 +119,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private MarshallerFactory factory;
     private MarshallingConfiguration configuration;
     private RefreshTask refreshTask;
+    private TimeoutScheduler.ScheduledTimeout refreshTimeout;
 
     /** database values */
     private static final String POSTGRES = "postgres";
@@ -140,6 +146,25 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private static final String DELETE_TIMER = "delete-timer";
     private static final String UPDATE_RUNNING = "update-running";
     private static final String GET_TIMER_INFO = "get-timer-info";
+    private static final String LOAD_MODIFIED_TIMERS = "load-modified-timers";
+    private static final String ADD_LAST_MODIFIED_COLUMN = "add-last-modified-column";
+    private static final String CREATE_TOMBSTONE_TABLE = "create-tombstone-table";
+    private static final String CREATE_TOMBSTONE = "create-tombstone";
+    private static final String LOAD_TOMBSTONES = "load-tombstones";
+    private static final String DELETE_TOMBSTONES = "delete-tombstones";
+    private static final String UPDATE_TIMER_INFO = "update-timer-info";
+    private static final String LOAD_TEXT_TIMER_INFO = "load-text-timer-info";
+    private static final String ADD_INFO_BINARY_COLUMN = "add-info-binary-column";
+    /** Suffix of the variants of SQL commands that also read the binary info of a timer */
+    private static final String BINARY_SUFFIX = "-binary";
+    /** Column holding the binary info of a timer */
+    private static final String INFO_BINARY = "INFO_BINARY";
+    /** Suffix of the variants of SQL commands that also record the modification time of a timer */
+    private static final String INCREMENTAL_SUFFIX = "-incremental";
+    /**
+     * Minimum period for which the deletion of a timer is recorded, so that an incremental refresh of every node sees it.
+     */
+    private static final long TOMBSTONE_RETENTION = TimeUnit.HOURS.toMillis(1);
     /** The format for scheduler start and end date*/
     private static final String SCHEDULER_DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
     /** Pattern to pickout MSSQL */
@@ -167,19 +192,34 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     private final long clearTimerInfoCacheBeyond = TimeUnit.MINUTES.toMillis(Long.parseLong(
             WildFlySecurityManager.getPropertyPrivileged("jboss.ejb.timer.database.clearTimerInfoCacheBeyond", "15")));
 
+    /**
+     * System property {@code jboss.ejb.timer.database.convertTimerInfo}
+     * to convert the Base64 encoded info of the existing timers of the partition
+     * to binary storage on startup, when timer info is stored as binary.
+     * The default value is false, i.e. existing timers keep their Base64 encoded info.
+     * <p>
+     * The conversion is not reversible: the INFO column of the converted timers is cleared,
+     * so that they can no longer be read by nodes that store timer info as text,
+     * nor by releases that do not support binary timer info.
+     */
+    private final boolean convertTimerInfo = Boolean.parseBoolean(
+            WildFlySecurityManager.getPropertyPrivileged("jboss.ejb.timer.database.convertTimerInfo", "false"));
+
     public DatabaseTimerPersistence(final Consumer<DatabaseTimerPersistence> dbConsumer,
                                     final Supplier<ManagedReferenceFactory> dataSourceSupplier,
                                     final Supplier<ModuleLoader> moduleLoaderSupplier,
-                                    final Supplier<Timer> timerSupplier,
-                                    final String database, String partition, String nodeName, int refreshInterval, boolean allowExecution) {
+                                    final Supplier<TimeoutScheduler> schedulerSupplier,
+                                    final String database, String partition, String nodeName, int refreshInterval, RefreshMode refreshMode, InfoStorage infoStorage, boolean allowExecution) {
         this.dbConsumer = dbConsumer;
         this.dataSourceSupplier = dataSourceSupplier;
         this.moduleLoaderSupplier = moduleLoaderSupplier;
-        this.timerSupplier = timerSupplier;
+        this.schedulerSupplier = schedulerSupplier;
         this.database = database;
         this.partition = partition;
         this.nodeName = nodeName;
         this.refreshInterval = refreshInterval;
+        this.refreshMode = refreshMode;
+        this.infoStorage = infoStorage;
         this.allowExecution = allowExecution;
     }
 
@@ -197,14 +237,17 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         checkDatabase();
         refreshTask = new RefreshTask();
         if (refreshInterval > 0) {
-            timerSupplier.get().schedule(refreshTask, refreshInterval, refreshInterval);
+            refreshTimeout = schedulerSupplier.get().scheduleWithFixedDelay(refreshTask, refreshInterval, refreshInterval);
         }
     }
 
     @Override
-    public synchronized void stop(final StopContext context) {
+    public void stop(final StopContext context) {
         dbConsumer.accept(null);
-        refreshTask.cancel();
+        if (refreshTimeout != null) {
+            refreshTimeout.cancel();
+            refreshTimeout = null;
+        }
         knownTimerIds.clear();
         managedReference.release();
         managedReference = null;
@@ -221,6 +264,11 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
      * <p>
      * If an entry key ends with a database dialect suffix different than the current one,
      * it is removed.
+     * <p>
+     * If timers are refreshed incrementally, the entries of commands that modify timers are
+     * replaced by their variants that also record the modification time of a timer.
+     * If timer info is stored as binary, the entries of commands that read timer info are
+     * replaced by their variants that also read the binary info.
      *
      * @throws StartException if IOException when loading timer-sql.properties
      */
@@ -235,6 +283,16 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         } finally {
             safeClose(stream);
         }
+        adjustSqlProperties();
+    }
+
+    private void adjustSqlProperties() {
+        if (refreshMode == RefreshMode.INCREMENTAL) {
+            replaceSqlProperties(INCREMENTAL_SUFFIX);
+        }
+        if (infoStorage == InfoStorage.BINARY) {
+            replaceSqlProperties(BINARY_SUFFIX);
+        }
 
         // Update the create-auto-timer statements for DB specifics
         if (database != null) {
@@ -269,6 +327,21 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         }
     }
 
+    /**
+     * Replaces entries by their variants, whose key ends with the specified variant suffix, followed by an optional database dialect suffix.
+     */
+    private void replaceSqlProperties(final String variantSuffix) {
+        for (String key : sql.stringPropertyNames()) {
+            final int dot = key.lastIndexOf('.');
+            // retain any database dialect suffix, which is resolved afterwards
+            final int index = (dot > 0) ? dot - variantSuffix.length() : key.length() - variantSuffix.length();
+            if (index > 0 && key.startsWith(variantSuffix, index)) {
+                sql.setProperty(key.substring(0, index) + key.substring(index + variantSuffix.length()), sql.getProperty(key));
+                sql.remove(key);
+            }
+        }
+    }
+
     /**
      * Check the connection MetaData and driver name to guess which database dialect
      * to use.
@@ -398,6 +471,100 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             safeClose(statement);
             safeClose(connection);
         }
+        if (refreshMode == RefreshMode.INCREMENTAL) {
+            checkColumn(ADD_LAST_MODIFIED_COLUMN, LOAD_MODIFIED_TIMERS, "NON-EXISTENT", new Timestamp(0));
+            checkColumn(CREATE_TOMBSTONE_TABLE, LOAD_TOMBSTONES, "NON-EXISTENT", new Timestamp(0));
+        }
+        if (infoStorage == InfoStorage.BINARY) {
+            checkColumn(ADD_INFO_BINARY_COLUMN, GET_TIMER_INFO, "NON-EXISTENT", "NON-EXISTENT");
+            if (convertTimerInfo) {
+                convertTimerInfo();
+            }
+        }
+    }
+
+    /**
+     * Adds a column, or a table, if the timer table was created without it.
+     *
+     * @param addColumn the name of the statements adding the column or table
+     * @param query the name of a query that selects the column or table
+     * @param parameters the parameters of the query
+     */
+    private void checkColumn(final String addColumn, final String query, final Object... parameters) {
+        Connection connection = null;
+        Statement statement = null;
+        PreparedStatement preparedStatement = null;
+        ResultSet resultSet = null;
+        try {
+            //test for the existence of the column by running a query selecting it
+            connection = dataSource.getConnection();
+            preparedStatement = connection.prepareStatement(sql.getProperty(query));
+            for (int i = 0; i < parameters.length; i++) {
+                preparedStatement.setObject(i + 1, parameters[i]);
+            }
+            resultSet = preparedStatement.executeQuery();
+        } catch (SQLException e) {
+            //the query failed, assume it is because the column does not exist
+            if (connection != null) {
+                try {
+                    String[] statements = sql.getProperty(addColumn).split(";");
+                    statement = connection.createStatement();
+                    for (final String sql : statements) {
+                        statement.addBatch(sql);
+                    }
+                    statement.executeBatch();
+                } catch (SQLException e1) {
+                    EjbLogger.EJB3_TIMER_LOGGER.couldNotCreateTable(e1);
+                }
+            } else {
+                EjbLogger.EJB3_TIMER_LOGGER.couldNotCreateTable(e);
+            }
+        } finally {
+            safeClose(resultSet);
+            safeClose(preparedStatement);
+            safeClose(statement);
+            safeClose(connection);
+        }
+    }
+
+    /**
+     * Moves the Base64 encoded info of the existing timers of this partition to the binary info column.
+     */
+    private void convertTimerInfo() {
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        try {
+            connection = dataSource.getConnection();
+            statement = connection.prepareStatement(sql.getProperty(LOAD_TEXT_TIMER_INFO));
+            statement.setString(1, partition);
+            resultSet = statement.executeQuery();
+            final List<Map.Entry<String, String>> infos = new ArrayList<>();
+            while (resultSet.next()) {
+                infos.add(new AbstractMap.SimpleImmutableEntry<>(resultSet.getString(1), resultSet.getString(2)));
+            }
+            safeClose(resultSet);
+            safeClose(statement);
+            resultSet = null;
+
+            if (!infos.isEmpty()) {
+                statement = connection.prepareStatement(sql.getProperty(UPDATE_TIMER_INFO));
+                for (Map.Entry<String, String> info : infos) {
+                    statement.setBytes(1, Base64.getDecoder().decode(info.getValue()));
+                    statement.setString(2, info.getKey());
+                    statement.setString(3, partition);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                EjbLogger.EJB3_TIMER_LOGGER.debugf("Converted the info of %d timers of partition %s to binary storage", infos.size(), partition);
+            }
+        } catch (SQLException e) {
+            EjbLogger.EJB3_TIMER_LOGGER.failedToConvertTimerInfo(partition, e);
+        } finally {
+            safeClose(resultSet);
+            safeClose(statement);
+            safeClose(connection);
+        }
     }
 
     /**
@@ -441,10 +608,8 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     @Override
     public void addTimer(final TimerImpl timerEntity) {
         String timedObjectId = timerEntity.getTimedObjectId();
-        synchronized (this) {
-            if(!knownTimerIds.containsKey(timedObjectId)) {
-                throw EjbLogger.EJB3_TIMER_LOGGER.timerCannotBeAdded(timerEntity);
-            }
+        if(!knownTimerIds.containsKey(timedObjectId)) {
+            throw EjbLogger.EJB3_TIMER_LOGGER.timerCannotBeAdded(timerEntity);
         }
 
         if (timerEntity.isAutoTimer()) {
@@ -456,9 +621,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         Connection connection = null;
         PreparedStatement statement = null;
         try {
-            synchronized (this) {
-                knownTimerIds.get(timerEntity.getTimedObjectId()).add(timerEntity.getId());
-            }
+            knownTimerIds.get(timerEntity.getTimedObjectId()).add(timerEntity.getId());
             connection = dataSource.getConnection();
             statement = connection.prepareStatement(createTimer);
             statementParameters(timerEntity, statement);
@@ -485,19 +648,10 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             connection = dataSource.getConnection();
             if (timerEntity.getState() == TimerState.CANCELED ||
                     timerEntity.getState() == TimerState.EXPIRED) {
-                String deleteTimer = sql.getProperty(DELETE_TIMER);
-                statement = connection.prepareStatement(deleteTimer);
-                statement.setString(1, timerEntity.getTimedObjectId());
-                statement.setString(2, timerEntity.getId());
-                statement.setString(3, partition);
-                statement.execute();
-                synchronized (this) {
-                    knownTimerIds.get(timerEntity.getTimedObjectId()).remove(timerEntity.getId());
-                }
+                deleteTimer(connection, timerEntity.getTimedObjectId(), timerEntity.getId());
+                knownTimerIds.get(timerEntity.getTimedObjectId()).remove(timerEntity.getId());
             } else {
-                synchronized (this) {
-                    knownTimerIds.get(timerEntity.getTimedObjectId()).add(timerEntity.getId());
-                }
+                knownTimerIds.get(timerEntity.getTimedObjectId()).add(timerEntity.getId());
                 String updateTimer = sql.getProperty(UPDATE_TIMER);
                 statement = connection.prepareStatement(updateTimer);
                 statement.setTimestamp(1, timestamp(timerEntity.getNextExpiration()));
@@ -519,6 +673,26 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         }
     }
 
+    /**
+     * Deletes the specified timer, and records its deletion for the incremental refresh of other nodes, if enabled.
+     */
+    private void deleteTimer(final Connection connection, final String timedObjectId, final String id) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql.getProperty(DELETE_TIMER))) {
+            statement.setString(1, timedObjectId);
+            statement.setString(2, id);
+            statement.setString(3, partition);
+            statement.execute();
+        }
+        if (refreshMode == RefreshMode.INCREMENTAL) {
+            try (PreparedStatement statement = connection.prepareStatement(sql.getProperty(CREATE_TOMBSTONE))) {
+                statement.setString(1, id);
+                statement.setString(2, timedObjectId);
+                statement.setString(3, partition);
+                statement.execute();
+            }
+        }
+    }
+
     @Override
     public boolean shouldRun(TimerImpl timer) {
         final ContextTransactionManager tm = ContextTransactionManager.getInstance();
@@ -578,13 +752,13 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
     }
 
     @Override
-    public synchronized void timerUndeployed(final String timedObjectId) {
+    public void timerUndeployed(final String timedObjectId) {
         knownTimerIds.remove(timedObjectId);
     }
 
     @Override
-    public synchronized void timerDeployed(String timedObjectId) {
-        knownTimerIds.put(timedObjectId, new HashSet<>());
+    public void timerDeployed(String timedObjectId) {
+        knownTimerIds.put(timedObjectId, ConcurrentHashMap.newKeySet());
     }
 
     @Override
@@ -613,21 +787,15 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
                     if (timerImpl != null) {
                         timers.add(timerImpl);
                     } else {
-                        final String deleteTimer = sql.getProperty(DELETE_TIMER);
-                        try (PreparedStatement deleteStatement = connection.prepareStatement(deleteTimer)) {
-                            deleteStatement.setString(1, resultSet.getString(2));
-                            deleteStatement.setString(2, timerId);
-                            deleteStatement.setString(3, partition);
-                            deleteStatement.execute();
-                        }
+                        deleteTimer(connection, resultSet.getString(2), timerId);
                     }
                 } catch (Exception e) {
                     EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(resultSet.getString(2), timerId, e);
                 }
             }
-            synchronized (this) {
-                // ids should be always be not null
-                Set<String> ids = knownTimerIds.get(timedObjectId);
+            // ids should be always be not null
+            Set<String> ids = knownTimerIds.get(timedObjectId);
+            synchronized (ids) {
                 for (Holder timer : timers) {
                     ids.add(timer.timer.getId());
                 }
@@ -739,7 +907,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         builder.setNextDate(resultSet.getTimestamp(5));
         builder.setPreviousRun(resultSet.getTimestamp(6));
 //        builder.setPrimaryKey(deSerialize(resultSet.getString(7)));
-        builder.setInfo((Serializable) deSerialize(resultSet.getString(8)));
+        builder.setInfo(timerInfo(resultSet, 8));
         builder.setTimerState(timerState != null ? timerState : TimerState.valueOf(resultSet.getString(9)));
         builder.setPersistent(true);
 
@@ -766,7 +934,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         statement.setTimestamp(5, timestamp(timerEntity.getNextExpiration()));
         statement.setTimestamp(6, timestamp(timerEntity.getPreviousRun()));
         statement.setString(7, null);
-        statement.setString(8, serialize(timerEntity.getTimerInfo()));
+        setTimerInfo(statement, 8, timerEntity.getTimerInfo());
         statement.setString(9, timerEntity.getState().name());
 
         if (timerEntity instanceof CalendarTimer) {
@@ -815,7 +983,6 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         String createTimer = sql.getProperty(CREATE_AUTO_TIMER);
         Connection connection = null;
         PreparedStatement statement = null;
-        final String timerInfoString = serialize(timer.getTimerInfo());
         final Method timeoutMethod = timer.getTimeoutMethod();
         final String timeoutMethodClassName = timeoutMethod.getDeclaringClass().getName();
         final String timeoutMethodParam = timeoutMethod.getParameterCount() == 0 ? null : TIMER_PARAM_1;
@@ -830,7 +997,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             statement.setString(1, timer.getId());
             statement.setString(2, timer.getTimedObjectId());
             statement.setTimestamp(3, timestamp(timer.getNextExpiration()));
-            statement.setString(4, timerInfoString);
+            setTimerInfo(statement, 4, timer.getTimerInfo());
             statement.setString(5, exp.getSecond());
             statement.setString(6, exp.getMinute());
             statement.setString(7, exp.getHour());
@@ -879,9 +1046,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             if (affectedRows < 1) {
                 timer.setTimerState(TimerState.CANCELED, null);
             } else {
-                synchronized (this) {
-                    knownTimerIds.get(timer.getTimedObjectId()).add(timer.getId());
-                }
+                knownTimerIds.get(timer.getTimedObjectId()).add(timer.getId());
             }
         } catch (SQLException e) {
             throw new RuntimeException(e);
@@ -910,7 +1075,7 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             statement.setString(2, timer.getId());
             resultSet = statement.executeQuery();
             if (resultSet.next()) {
-                result = (Serializable) deSerialize(resultSet.getString(1));
+                result = timerInfo(resultSet, 1);
             }
         } catch (SQLException e) {
             EjbLogger.EJB3_TIMER_LOGGER.failedToRetrieveTimerInfo(timer, e);
@@ -952,6 +1117,10 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         if (serializable == null) {
             return null;
         }
+        return Base64.getEncoder().encodeToString(marshal(serializable));
+    }
+
+    private byte[] marshal(final Serializable serializable) {
         ByteArrayOutputStream out = new ByteArrayOutputStream();
         try {
             final Marshaller marshaller = factory.createMarshaller(configuration);
@@ -962,14 +1131,18 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
-        return Base64.getEncoder().encodeToString(out.toByteArray());
+        return out.toByteArray();
     }
 
     public Object deSerialize(final String data) throws SQLException {
         if (data == null) {
             return null;
         }
-        InputStream in = new ByteArrayInputStream(Base64.getDecoder().decode(data));
+        return unmarshal(Base64.getDecoder().decode(data));
+    }
+
+    private Object unmarshal(final byte[] data) {
+        InputStream in = new ByteArrayInputStream(data);
         try {
             final Unmarshaller unmarshaller = factory.createUnmarshaller(configuration);
             unmarshaller.start(new InputStreamByteInput(in));
@@ -983,6 +1156,39 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         }
     }
 
+    /**
+     * Obtains the timer info from a row in {@code ResultSet}, preferring its binary form, if available.
+     *
+     * @param resultSet the {@code ResultSet} from database query
+     * @param column the index of the column holding the Base64 encoded timer info
+     * @return the timer info, may be null
+     * @throws SQLException on errors reading from {@code ResultSet}
+     */
+    private Serializable timerInfo(final ResultSet resultSet, final int column) throws SQLException {
+        byte[] data = (infoStorage == InfoStorage.BINARY) ? resultSet.getBytes(INFO_BINARY) : null;
+        if (data == null) {
+            // not stored as binary, or not yet converted
+            final String text = resultSet.getString(column);
+            if (text == null) {
+                return null;
+            }
+            data = Base64.getDecoder().decode(text);
+        }
+        return (Serializable) unmarshal(data);
+    }
+
+    /**
+     * Sets the parameter of a create statement holding the timer info, in its Base64 encoded or binary form, depending on the info storage.
+     * The create statements of binary storage insert the info into the INFO_BINARY column, so that a timer is never persisted without its info.
+     */
+    private void setTimerInfo(final PreparedStatement statement, final int index, final Serializable info) throws SQLException {
+        if (infoStorage == InfoStorage.BINARY) {
+            statement.setBytes(index, (info != null) ? marshal(info) : null);
+        } else {
+            statement.setString(index, serialize(info));
+        }
+    }
+
     private String schedulerDateAsString(final Date date) {
         if (date == null) {
             return null;
@@ -1029,106 +1235,216 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
         }
     }
 
-    private class RefreshTask extends TimerTask {
+    private class RefreshTask implements Runnable {
 
         private volatile AtomicBoolean running = new AtomicBoolean();
+        /** Most recent modification time, as recorded by the database, seen by an incremental refresh */
+        private volatile Timestamp lastModified = new Timestamp(0);
+        /** Most recent deletion time, as recorded by the database, seen by an incremental refresh */
+        private volatile Timestamp lastDeleted = new Timestamp(0);
 
         @Override
         public void run() {
             if (running.compareAndSet(false, true)) {
                 try {
-                    Set<String> timedObjects;
-                    synchronized (DatabaseTimerPersistence.this) {
-                        timedObjects = new HashSet<>(knownTimerIds.keySet());
+                    if (refreshMode == RefreshMode.INCREMENTAL) {
+                        refreshModifiedTimers();
+                    } else {
+                        for (String timedObjectId : knownTimerIds.keySet()) {
+                            refreshTimers(timedObjectId);
+                        }
                     }
-                    for (String timedObjectId : timedObjects) {
-                        TimerChangeListener listener = changeListeners.get(timedObjectId);
-                        if (listener == null) {
-                            continue;
+                } finally {
+                    running.set(false);
+                }
+            }
+
+        }
+
+        /**
+         * Reloads all timers of the specified timed object.
+         */
+        private void refreshTimers(final String timedObjectId) {
+            TimerChangeListener listener = changeListeners.get(timedObjectId);
+            Set<String> ids = knownTimerIds.get(timedObjectId);
+            if (listener == null || ids == null) {
+                return;
+            }
+            final Set<String> existing = new HashSet<>(ids);
+            String loadTimer = sql.getProperty(LOAD_ALL_TIMERS);
+            Connection connection = null;
+            PreparedStatement statement = null;
+            ResultSet resultSet = null;
+            try {
+                connection = dataSource.getConnection();
+                statement = connection.prepareStatement(loadTimer);
+                statement.setString(1, timedObjectId);
+                statement.setString(2, partition);
+                resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    String id = null;
+                    try {
+                        id = resultSet.getString(1);
+                        if (!existing.remove(id)) {
+                            timerAdded(listener, ids, resultSet, id);
+                        } else {
+                            timerSync(listener, ids, resultSet, id);
                         }
-                        final Set<String> existing;
-                        synchronized (DatabaseTimerPersistence.this) {
-                            existing = new HashSet<>(knownTimerIds.get(timedObjectId));
+                    } catch (Exception e) {
+                        EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(resultSet.getString(2), id, e);
+                    }
+                }
+                timersRemoved(listener, ids, existing);
+            } catch (SQLException e) {
+                EjbLogger.EJB3_TIMER_LOGGER.failedToRefreshTimers(timedObjectId);
+            } finally {
+                safeClose(resultSet);
+                safeClose(statement);
+                safeClose(connection);
+            }
+        }
+
+        /**
+         * Reloads the timers of all deployed timed objects that were added or modified since the previous refresh,
+         * and removes the timers that were deleted since the previous refresh, as recorded by their tombstones.
+         * Rows modified or deleted at the exact time of the previous refresh are read again, since other rows may have been
+         * committed with the same time after that refresh.
+         */
+        private void refreshModifiedTimers() {
+            if (changeListeners.isEmpty()) {
+                return;
+            }
+            Timestamp lastModified = this.lastModified;
+            Timestamp lastDeleted = this.lastDeleted;
+            final Map<String, Set<String>> removed = new HashMap<>();
+            Connection connection = null;
+            PreparedStatement statement = null;
+            ResultSet resultSet = null;
+            try {
+                connection = dataSource.getConnection();
+                statement = connection.prepareStatement(sql.getProperty(LOAD_MODIFIED_TIMERS));
+                statement.setString(1, partition);
+                statement.setTimestamp(2, lastModified);
+                resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    final String timedObjectId = resultSet.getString(2);
+                    final Timestamp modified = resultSet.getTimestamp(26);
+                    if (modified != null && modified.after(lastModified)) {
+                        lastModified = modified;
+                    }
+                    final TimerChangeListener listener = changeListeners.get(timedObjectId);
+                    final Set<String> ids = knownTimerIds.get(timedObjectId);
+                    if (listener == null || ids == null) {
+                        continue;
+                    }
+                    String id = null;
+                    try {
+                        id = resultSet.getString(1);
+                        if (!ids.contains(id)) {
+                            timerAdded(listener, ids, resultSet, id);
+                        } else {
+                            timerSync(listener, ids, resultSet, id);
                         }
-                        String loadTimer = sql.getProperty(LOAD_ALL_TIMERS);
-                        Connection connection = null;
-                        PreparedStatement statement = null;
-                        ResultSet resultSet = null;
-                        try {
-                            connection = dataSource.getConnection();
-                            statement = connection.prepareStatement(loadTimer);
-                            statement.setString(1, timedObjectId);
-                            statement.setString(2, partition);
-                            resultSet = statement.executeQuery();
-                            final TimerServiceImpl timerService = listener.getTimerService();
-                            while (resultSet.next()) {
-                                String id = null;
-                                try {
-                                    id = resultSet.getString(1);
-                                    if (!existing.remove(id)) {
-                                        final Holder holder = timerFromResult(resultSet, timerService, id, null);
-                                        if(holder != null) {
-                                            synchronized (DatabaseTimerPersistence.this) {
-                                                knownTimerIds.get(timedObjectId).add(id);
-                                                listener.timerAdded(holder.timer);
-                                            }
-                                        }
-                                    } else {
-                                        TimerImpl oldTimer = timerService.getTimer(id);
-                                        // if it is already in memory but it is not in sync we have a problem
-                                        // remove and add -> the probable cause is db glitch
-                                        boolean invalidMemoryTimer = oldTimer != null && !TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(oldTimer.getState());
-
-                                        // if timers memory - db are in non intersect subsets of valid/invalid states. we put them in sync
-                                        if (invalidMemoryTimer) {
-                                            TimerState dbTimerState = TimerState.valueOf(resultSet.getString(9));
-                                            boolean validDBTimer = TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(dbTimerState);
-                                            if (validDBTimer) {
-                                                final Holder holder = timerFromResult(resultSet, timerService, id, dbTimerState);
-                                                if (holder != null) {
-                                                    synchronized (DatabaseTimerPersistence.this) {
-                                                        knownTimerIds.get(timedObjectId).add(id);
-                                                        listener.timerSync(oldTimer, holder.timer);
-                                                    }
-                                                }
-                                            }
-                                        }
-                                    }
-                                } catch (Exception e) {
-                                    EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(resultSet.getString(2), id, e);
-                                }
-                            }
-
-                            Set<String> timers;
-                            synchronized (DatabaseTimerPersistence.this) {
-                                 timers = knownTimerIds.get(timedObjectId);
-                            }
-                            for (String timer : existing) {
-                                TimerImpl timer1 = timerService.getTimer(timer);
-                                if (timer1 != null && timer1.getState() != TimerState.CREATED) {
-                                    synchronized (DatabaseTimerPersistence.this) {
-                                        timers.remove(timer);
-                                        listener.timerRemoved(timer);
-                                    }
-                                }
-                            }
-                        } catch (SQLException e) {
-                            EjbLogger.EJB3_TIMER_LOGGER.failedToRefreshTimers(timedObjectId);
-                        } finally {
-                            safeClose(resultSet);
-                            safeClose(statement);
-                            safeClose(connection);
+                    } catch (Exception e) {
+                        EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(timedObjectId, id, e);
+                    }
+                }
+                safeClose(resultSet);
+                safeClose(statement);
+
+                statement = connection.prepareStatement(sql.getProperty(LOAD_TOMBSTONES));
+                statement.setString(1, partition);
+                statement.setTimestamp(2, lastDeleted);
+                resultSet = statement.executeQuery();
+                while (resultSet.next()) {
+                    final Timestamp deleted = resultSet.getTimestamp(3);
+                    if (deleted.after(lastDeleted)) {
+                        lastDeleted = deleted;
+                    }
+                    final String timedObjectId = resultSet.getString(2);
+                    final Set<String> ids = knownTimerIds.get(timedObjectId);
+                    final String id = resultSet.getString(1);
+                    if (ids != null && ids.contains(id)) {
+                        removed.computeIfAbsent(timedObjectId, key -> new HashSet<>()).add(id);
+                    }
+                }
+                safeClose(resultSet);
+                safeClose(statement);
+
+                // prune tombstones by the time of the database, which every node compares against
+                if (lastDeleted.getTime() > TOMBSTONE_RETENTION) {
+                    statement = connection.prepareStatement(sql.getProperty(DELETE_TOMBSTONES));
+                    statement.setString(1, partition);
+                    statement.setTimestamp(2, new Timestamp(lastDeleted.getTime() - Math.max(TOMBSTONE_RETENTION, 10L * refreshInterval)));
+                    statement.execute();
+                }
+            } catch (SQLException e) {
+                EjbLogger.EJB3_TIMER_LOGGER.failedToRefreshTimers(partition);
+                return;
+            } finally {
+                safeClose(resultSet);
+                safeClose(statement);
+                safeClose(connection);
+            }
+
+            for (Map.Entry<String, Set<String>> entry : removed.entrySet()) {
+                final TimerChangeListener listener = changeListeners.get(entry.getKey());
+                final Set<String> ids = knownTimerIds.get(entry.getKey());
+                if (listener != null && ids != null) {
+                    timersRemoved(listener, ids, entry.getValue());
+                }
+            }
+            this.lastModified = lastModified;
+            this.lastDeleted = lastDeleted;
+        }
+
+        private void timerAdded(final TimerChangeListener listener, final Set<String> ids, final ResultSet resultSet, final String id) throws SQLException {
+            final Holder holder = timerFromResult(resultSet, listener.getTimerService(), id, null);
+            if (holder != null) {
+                synchronized (ids) {
+                    ids.add(id);
+                    listener.timerAdded(holder.timer);
+                }
+            }
+        }
+
+        private void timerSync(final TimerChangeListener listener, final Set<String> ids, final ResultSet resultSet, final String id) throws SQLException {
+            final TimerServiceImpl timerService = listener.getTimerService();
+            TimerImpl oldTimer = timerService.getTimer(id);
+            // if it is already in memory but it is not in sync we have a problem
+            // remove and add -> the probable cause is db glitch
+            boolean invalidMemoryTimer = oldTimer != null && !TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(oldTimer.getState());
+
+            // if timers memory - db are in non intersect subsets of valid/invalid states. we put them in sync
+            if (invalidMemoryTimer) {
+                TimerState dbTimerState = TimerState.valueOf(resultSet.getString(9));
+                boolean validDBTimer = TimerState.CREATED_ACTIVE_IN_TIMEOUT_RETRY_TIMEOUT.contains(dbTimerState);
+                if (validDBTimer) {
+                    final Holder holder = timerFromResult(resultSet, timerService, id, dbTimerState);
+                    if (holder != null) {
+                        synchronized (ids) {
+                            ids.add(id);
+                            listener.timerSync(oldTimer, holder.timer);
                         }
                     }
-                } finally {
-                    running.set(false);
                 }
             }
+        }
 
+        private void timersRemoved(final TimerChangeListener listener, final Set<String> ids, final Set<String> removed) {
+            final TimerServiceImpl timerService = listener.getTimerService();
+            for (String timer : removed) {
+                TimerImpl timer1 = timerService.getTimer(timer);
+                if (timer1 != null && timer1.getState() != TimerState.CREATED) {
+                    synchronized (ids) {
+                        ids.remove(timer);
+                        listener.timerRemoved(timer);
+                    }
+                }
+            }
         }
     }
 
-
     static final class Holder {
         final TimerImpl timer;
         final boolean requiresReset;
@@ -1138,4 +1454,24 @@ public class DatabaseTimerPersistence implements TimerPersistence, Service {
             this.requiresReset = requiresReset;
         }
     }
+
+    /**
+     * Determines how the timers are refreshed from the persistence store.
+     */
+    public enum RefreshMode {
+        /** Reloads all timers of each deployed timed object */
+        FULL,
+        /** Reloads the timers of all deployed timed objects that were added, modified or deleted since the previous refresh */
+        INCREMENTAL,
+    }
+
+    /**
+     * Determines how the info of timers is stored.
+     */
+    public enum InfoStorage {
+        /** Stores the Base64 encoded info */
+        TEXT,
+        /** Stores the binary info */
+        BINARY,
+    }
 }
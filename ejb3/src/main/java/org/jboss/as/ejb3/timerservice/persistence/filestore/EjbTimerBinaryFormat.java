@@ -0,0 +1,207 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.Date;
+import jakarta.ejb.ScheduleExpression;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.timerservice.CalendarTimer;
+import org.jboss.as.ejb3.timerservice.TimerImpl;
+import org.jboss.as.ejb3.timerservice.TimerServiceImpl;
+import org.jboss.as.ejb3.timerservice.TimerState;
+import org.jboss.as.ejb3.timerservice.persistence.TimeoutMethod;
+import org.jboss.marshalling.ByteBufferInput;
+import org.jboss.marshalling.Marshaller;
+import org.jboss.marshalling.MarshallerFactory;
+import org.jboss.marshalling.MarshallingConfiguration;
+import org.jboss.marshalling.OutputStreamByteOutput;
+import org.jboss.marshalling.Unmarshaller;
+
+/**
+ * Compact binary representation of a persistent timer, as stored by a {@link TimerJournal}.
+ * Holds the same state as {@link EjbTimerXmlPersister}, except for the timed object id and timer id, which key the
+ * journal record.
+ */
+public class EjbTimerBinaryFormat {
+
+    private static final byte VERSION = 1;
+    private static final byte TIMER = 1;
+    private static final byte CALENDAR_TIMER = 2;
+
+    private final MarshallerFactory factory;
+    private final MarshallingConfiguration configuration;
+
+    public EjbTimerBinaryFormat(MarshallerFactory factory, MarshallingConfiguration configuration) {
+        this.factory = factory;
+        this.configuration = configuration;
+    }
+
+    public byte[] write(TimerImpl timer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeByte(VERSION);
+            output.writeByte((timer instanceof CalendarTimer) ? CALENDAR_TIMER : TIMER);
+            output.writeUTF(timer.getState().name());
+            writeDate(output, timer.getInitialExpiration());
+            writeDate(output, timer.getNextExpiration());
+            writeDate(output, timer.getPreviousRun());
+            if (timer instanceof CalendarTimer) {
+                CalendarTimer calendarTimer = (CalendarTimer) timer;
+                ScheduleExpression schedule = calendarTimer.getScheduleExpression();
+                output.writeUTF(schedule.getSecond());
+                output.writeUTF(schedule.getMinute());
+                output.writeUTF(schedule.getHour());
+                output.writeUTF(schedule.getDayOfWeek());
+                output.writeUTF(schedule.getDayOfMonth());
+                output.writeUTF(schedule.getMonth());
+                output.writeUTF(schedule.getYear());
+                writeDate(output, schedule.getStart());
+                writeDate(output, schedule.getEnd());
+                writeString(output, schedule.getTimezone());
+                output.writeBoolean(calendarTimer.isAutoTimer());
+                if (calendarTimer.isAutoTimer()) {
+                    Method method = calendarTimer.getTimeoutMethod();
+                    output.writeUTF(method.getDeclaringClass().getName());
+                    output.writeUTF(method.getName());
+                    Class<?>[] parameterTypes = method.getParameterTypes();
+                    output.writeByte(parameterTypes.length);
+                    for (Class<?> parameterType : parameterTypes) {
+                        output.writeUTF(parameterType.getName());
+                    }
+                }
+            } else {
+                output.writeLong(timer.getInterval());
+            }
+            Serializable info = timer.getTimerInfo();
+            if (info != null) {
+                byte[] data = this.marshal(info);
+                output.writeInt(data.length);
+                output.write(data);
+            } else {
+                output.writeInt(-1);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads a timer from its binary representation.
+     * @return the timer, or null, if the timeout method of an automatic timer no longer exists
+     */
+    public TimerImpl read(String timedObjectId, String timerId, byte[] data, TimerServiceImpl timerService, ClassLoader classLoader) throws IOException, ClassNotFoundException {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = input.readByte();
+            if (version != VERSION) {
+                throw new IOException(Byte.toString(version));
+            }
+            boolean calendar = input.readByte() == CALENDAR_TIMER;
+            TimerImpl.Builder builder;
+            CalendarTimer.Builder calendarBuilder = null;
+            if (calendar) {
+                calendarBuilder = CalendarTimer.builder();
+                builder = calendarBuilder;
+            } else {
+                builder = TimerImpl.builder();
+            }
+            builder.setPersistent(true);
+            builder.setTimedObjectId(timedObjectId);
+            builder.setId(timerId);
+            builder.setTimerState(TimerState.valueOf(input.readUTF()));
+            builder.setInitialDate(readDate(input));
+            builder.setNextDate(readDate(input));
+            builder.setPreviousRun(readDate(input));
+            if (calendar) {
+                ScheduleExpression schedule = new ScheduleExpression()
+                        .second(input.readUTF())
+                        .minute(input.readUTF())
+                        .hour(input.readUTF())
+                        .dayOfWeek(input.readUTF())
+                        .dayOfMonth(input.readUTF())
+                        .month(input.readUTF())
+                        .year(input.readUTF())
+                        .start(readDate(input))
+                        .end(readDate(input))
+                        .timezone(readString(input));
+                calendarBuilder.setScheduleExpression(schedule);
+                boolean autoTimer = input.readBoolean();
+                calendarBuilder.setAutoTimer(autoTimer);
+                if (autoTimer) {
+                    String className = input.readUTF();
+                    String methodName = input.readUTF();
+                    String[] parameterTypes = new String[input.readByte()];
+                    for (int i = 0; i < parameterTypes.length; ++i) {
+                        parameterTypes[i] = input.readUTF();
+                    }
+                    Method timeoutMethod = CalendarTimer.getTimeoutMethod(new TimeoutMethod(className, methodName, parameterTypes), classLoader);
+                    if (timeoutMethod == null) {
+                        EjbLogger.EJB3_TIMER_LOGGER.timerReinstatementFailed(timedObjectId, timerId, null);
+                        return null;
+                    }
+                    calendarBuilder.setTimeoutMethod(timeoutMethod);
+                }
+            } else {
+                builder.setRepeatInterval(input.readLong());
+            }
+            int length = input.readInt();
+            if (length >= 0) {
+                byte[] info = new byte[length];
+                input.readFully(info);
+                builder.setInfo(this.unmarshal(info));
+            }
+            return builder.build(timerService);
+        }
+    }
+
+    private byte[] marshal(Serializable info) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Marshaller marshaller = this.factory.createMarshaller(this.configuration)) {
+            marshaller.start(new OutputStreamByteOutput(out));
+            marshaller.writeObject(info);
+            marshaller.finish();
+        }
+        return out.toByteArray();
+    }
+
+    private Serializable unmarshal(byte[] data) throws IOException, ClassNotFoundException {
+        try (Unmarshaller unmarshaller = this.factory.createUnmarshaller(this.configuration)) {
+            unmarshaller.start(new ByteBufferInput(ByteBuffer.wrap(data)));
+            return (Serializable) unmarshaller.readObject();
+        }
+    }
+
+    private static void writeDate(DataOutput output, Date date) throws IOException {
+        output.writeBoolean(date != null);
+        if (date != null) {
+            output.writeLong(date.getTime());
+        }
+    }
+
+    private static Date readDate(DataInput input) throws IOException {
+        return input.readBoolean() ? new Date(input.readLong()) : null;
+    }
+
+    private static void writeString(DataOutput output, String value) throws IOException {
+        output.writeBoolean(value != null);
+        if (value != null) {
+            output.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInput input) throws IOException {
+        return input.readBoolean() ? input.readUTF() : null;
+    }
+}
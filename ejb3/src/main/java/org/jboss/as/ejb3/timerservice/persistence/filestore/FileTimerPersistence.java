@@ -14,6 +14,7 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.FilePermission;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Constructor;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
@@ -77,7 +78,10 @@ public class FileTimerPersistence implements TimerPersistence, Service {
     private final Supplier<PathManager> pathManagerSupplier;
     private final String path;
     private final String pathRelativeTo;
+    private final Format format;
     private File baseDir;
+    private EjbTimerBinaryFormat binaryFormat;
+    private volatile TimerJournal journal;
     private PathManager.Callback.Handle callbackHandle;
 
     private final ConcurrentMap<String, Lock> locks = new ConcurrentHashMap<String, Lock>();
@@ -87,7 +91,7 @@ public class FileTimerPersistence implements TimerPersistence, Service {
                                 final Supplier<TransactionSynchronizationRegistry> txnRegistrySupplier,
                                 final Supplier<ModuleLoader> moduleLoaderSupplier,
                                 final Supplier<PathManager> pathManagerSupplier,
-                                final boolean createIfNotExists, final String path, final String pathRelativeTo) {
+                                final boolean createIfNotExists, final String path, final String pathRelativeTo, final Format format) {
         this.consumer = consumer;
         this.txnRegistrySupplier = txnRegistrySupplier;
         this.moduleLoaderSupplier = moduleLoaderSupplier;
@@ -99,6 +103,7 @@ public class FileTimerPersistence implements TimerPersistence, Service {
         this.createIfNotExists = createIfNotExists;
         this.path = path;
         this.pathRelativeTo = pathRelativeTo;
+        this.format = format;
     }
 
     @Override
@@ -140,6 +145,16 @@ public class FileTimerPersistence implements TimerPersistence, Service {
         if (!baseDir.isDirectory()) {
             throw EJB3_TIMER_LOGGER.invalidTimerFileStoreDir(baseDir);
         }
+        if (format == Format.JOURNAL) {
+            binaryFormat = new EjbTimerBinaryFormat(factory, configuration);
+            final TimerJournal journal = new TimerJournal(baseDir, TimerJournal.DEFAULT_MAX_SEGMENT_SIZE);
+            try {
+                journal.open();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.journal = journal;
+        }
     }
 
     @Override
@@ -150,6 +165,16 @@ public class FileTimerPersistence implements TimerPersistence, Service {
         if (callbackHandle != null) {
             callbackHandle.remove();
         }
+        final TimerJournal journal = this.journal;
+        if (journal != null) {
+            this.journal = null;
+            try {
+                journal.close();
+            } catch (IOException e) {
+                EJB3_TIMER_LOGGER.failToCloseFile(e);
+            }
+        }
+        binaryFormat = null;
         factory = null;
         configuration = null;
     }
@@ -203,15 +228,12 @@ public class FileTimerPersistence implements TimerPersistence, Service {
             if (status == Status.STATUS_NO_TRANSACTION ||
                     status == Status.STATUS_UNKNOWN || isBeforeCompletion()
                     || status == Status.STATUS_COMMITTED) {
-                Map<String, TimerImpl> map = getTimers(timer.getTimedObjectId(), timer.getTimerService());
                 if (timer.getState() == TimerState.CANCELED ||
                         timer.getState() == TimerState.EXPIRED) {
-                    map.remove(timer.getId());
                     writeFile(timer);
-                } else if (newTimer || map.containsKey(timer.getId())) {
-                    //if it is not a new timer and is not in the map then it has
+                } else if (newTimer || isPersisted(timer)) {
+                    //if it is not a new timer and is not persisted then it has
                     //been removed by another thread.
-                    map.put(timer.getId(), timer);
                     writeFile(timer);
                 }
             } else {
@@ -325,6 +347,51 @@ public class FileTimerPersistence implements TimerPersistence, Service {
     }
 
     private Map<String, TimerImpl> loadTimersFromFile(String timedObjectId, TimerServiceImpl timerService) {
+        return (journal != null) ? loadTimersFromJournal(timedObjectId, timerService) : loadTimersFromXml(timedObjectId, timerService);
+    }
+
+    /**
+     * Indicates whether the specified timer is currently persisted. Should be called under lock
+     */
+    private boolean isPersisted(final TimerImpl timer) {
+        final TimerJournal journal = this.journal;
+        return (journal != null) ? journal.contains(timer.getTimedObjectId(), timer.getId()) : fileName(timer.getTimedObjectId(), timer.getId()).exists();
+    }
+
+    private Map<String, TimerImpl> loadTimersFromJournal(String timedObjectId, TimerServiceImpl timerService) {
+        final Map<String, TimerImpl> timers = new HashMap<>();
+        final ClassLoader classLoader = timerService.getInvoker().getClassLoader();
+        for (Map.Entry<String, byte[]> entry : journal.getTimers(timedObjectId).entrySet()) {
+            try {
+                final TimerImpl timer = binaryFormat.read(timedObjectId, entry.getKey(), entry.getValue(), timerService, classLoader);
+                if (timer != null) {
+                    timers.put(timer.getId(), timer);
+                } else {
+                    //the timeout method no longer exists
+                    journal.write(timedObjectId, entry.getKey(), null);
+                }
+            } catch (Exception e) {
+                EJB3_TIMER_LOGGER.timerReinstatementFailed(timedObjectId, entry.getKey(), e);
+            }
+        }
+        //move any timers that were persisted as XML files into the journal
+        final File directory = new File(baseDir, timedObjectId.replace(File.separator, "-"));
+        if (directory.isDirectory()) {
+            for (TimerImpl timer : loadTimersFromXml(timedObjectId, timerService).values()) {
+                if (!timers.containsKey(timer.getId())) {
+                    writeJournal(timer);
+                    timers.put(timer.getId(), timer);
+                }
+                fileName(timedObjectId, timer.getId()).delete();
+            }
+            //only succeeds if every file was migrated
+            directory.delete();
+            directories.remove(timedObjectId);
+        }
+        return timers;
+    }
+
+    private Map<String, TimerImpl> loadTimersFromXml(String timedObjectId, TimerServiceImpl timerService) {
         Map<String, TimerImpl> timers = new HashMap<>();
         String directory = getDirectory(timedObjectId);
 
@@ -448,17 +515,12 @@ public class FileTimerPersistence implements TimerPersistence, Service {
                     try {
                         lock.lock();
                         if (status == Status.STATUS_COMMITTED) {
-                            final Map<String, TimerImpl> map = getTimers(timer.getTimedObjectId(), timer.getTimerService());
+                            //if an existing timer is not persisted it has been cancelled by another thread
                             if (timer.getState() == TimerState.CANCELED ||
-                                    timer.getState() == TimerState.EXPIRED) {
-                                map.remove(timer.getId());
-                            } else {
-                                if (newTimer || map.containsKey(timer.getId())) {
-                                    //if an existing timer is not in the map it has been cancelled by another thread
-                                    map.put(timer.getId(), timer);
-                                }
+                                    timer.getState() == TimerState.EXPIRED ||
+                                    newTimer || isPersisted(timer)) {
+                                writeFile(timer);
                             }
-                            writeFile(timer);
                         }
                     } finally {
                         lock.unlock();
@@ -472,6 +534,10 @@ public class FileTimerPersistence implements TimerPersistence, Service {
     }
 
     private void writeFile(TimerImpl timer) {
+        if (journal != null) {
+            writeJournal(timer);
+            return;
+        }
         final File file = fileName(timer.getTimedObjectId(), timer.getId());
 
         //if the timer is expired or cancelled delete the file
@@ -499,12 +565,39 @@ public class FileTimerPersistence implements TimerPersistence, Service {
         }
     }
 
+    private void writeJournal(TimerImpl timer) {
+        try {
+            if (timer.getState() == TimerState.CANCELED ||
+                    timer.getState() == TimerState.EXPIRED) {
+                journal.write(timer.getTimedObjectId(), timer.getId(), null);
+            } else {
+                journal.write(timer.getTimedObjectId(), timer.getId(), binaryFormat.write(timer));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private void setIfSupported(final XMLInputFactory inputFactory, final String property, final Object value) {
         if (inputFactory.isPropertySupported(property)) {
             inputFactory.setProperty(property, value);
         }
     }
 
+    /**
+     * The format in which timers are stored.
+     */
+    public enum Format {
+        /**
+         * One XML document per timer.
+         */
+        XML,
+        /**
+         * A segmented, append-only binary journal, shared by all timed objects.
+         */
+        JOURNAL,
+    }
+
     public static XMLExtendedStreamWriter create(XMLStreamWriter writer) throws Exception {
         // Use reflection to access package protected class FormattingXMLStreamWriter
         // TODO: at some point the staxmapper API could be enhanced to make this unnecessary
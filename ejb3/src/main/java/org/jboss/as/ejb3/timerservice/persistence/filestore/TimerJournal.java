@@ -0,0 +1,399 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.EJB3_TIMER_LOGGER;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * Segmented, append-only journal of persistent timers, in which each timer is stored as an opaque binary record keyed
+ * by its timed object id and timer id.
+ * <p/>
+ * Every change appends a record to the active segment, so a change never rewrites existing data. The latest record of
+ * every live timer is also kept in memory, so that startup only needs to replay the segments once.
+ * Appended records are made durable by a group commit: a writer that finds its record already forced to disk by a
+ * concurrent writer returns without forcing the segment again.
+ * Once the active segment exceeds its maximum size, a new segment is started. If less than half of the journal is
+ * occupied by live records at that point, the live records are instead compacted into the new segment, and all older
+ * segments are deleted. A compacted segment is only marked as such once all live records were forced to disk, after
+ * which replay ignores all older segments, even if they could not be deleted.
+ */
+class TimerJournal implements AutoCloseable {
+
+    static final String SEGMENT_PREFIX = "timers-";
+    static final String SEGMENT_SUFFIX = ".journal";
+    static final long DEFAULT_MAX_SEGMENT_SIZE = 4 * 1024 * 1024;
+
+    private static final int MAGIC = 0x454a544a;
+    private static final byte VERSION = 1;
+    // Magic number, version and flags of a segment
+    private static final int SEGMENT_HEADER_SIZE = 6;
+    private static final int SEGMENT_FLAGS_OFFSET = 5;
+    // Flag of a segment that contains all live records at the time it was started
+    private static final byte COMPACTED = 1;
+    // Length and checksum of a record
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final byte PUT = 1;
+    private static final byte REMOVE = 2;
+
+    private final File directory;
+    private final long maxSegmentSize;
+    // Ensures that at most one thread forces or rolls over the active segment; acquired before the journal monitor
+    private final Object syncLock = new Object();
+
+    // Guarded by this
+    private final Map<String, Map<String, Record>> records = new HashMap<>();
+    private final TreeMap<Long, File> segments = new TreeMap<>();
+    private FileChannel channel;
+    private long segmentId;
+    private long segmentSize;
+    private long journalSize;
+    private long liveSize;
+    private long appended;
+
+    // Guarded by syncLock
+    private long synced;
+
+    TimerJournal(File directory, long maxSegmentSize) {
+        this.directory = directory;
+        this.maxSegmentSize = maxSegmentSize;
+    }
+
+    /**
+     * Replays all existing segments, and starts a new active segment.
+     */
+    void open() throws IOException {
+        synchronized (this.syncLock) {
+            synchronized (this) {
+                File[] files = this.directory.listFiles((dir, name) -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX));
+                if (files != null) {
+                    for (File file : files) {
+                        String name = file.getName();
+                        try {
+                            this.segments.put(Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())), file);
+                        } catch (NumberFormatException e) {
+                            throw EJB3_TIMER_LOGGER.invalidTimerJournalSegment(file);
+                        }
+                    }
+                }
+                // Segments preceding the most recent compacted segment are superseded by it
+                for (Map.Entry<Long, File> entry : this.segments.descendingMap().entrySet()) {
+                    if ((readFlags(entry.getValue()) & COMPACTED) != 0) {
+                        Map<Long, File> superseded = this.segments.headMap(entry.getKey());
+                        superseded.values().forEach(TimerJournal::delete);
+                        superseded.clear();
+                        break;
+                    }
+                }
+                for (File segment : this.segments.values()) {
+                    this.replay(segment);
+                }
+                this.segmentId = this.segments.isEmpty() ? 0 : this.segments.lastKey();
+                // Compact on startup, so that restarts do not accumulate segments
+                this.startSegment(this.segments.size() > 1);
+            }
+        }
+    }
+
+    /**
+     * Returns the records of all live timers of the specified timed object.
+     * @return a map of timer id to record
+     */
+    synchronized Map<String, byte[]> getTimers(String timedObjectId) {
+        Map<String, Record> timers = this.records.get(timedObjectId);
+        if (timers == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, byte[]> result = new HashMap<>();
+        for (Map.Entry<String, Record> entry : timers.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().data);
+        }
+        return result;
+    }
+
+    synchronized boolean contains(String timedObjectId, String timerId) {
+        Map<String, Record> timers = this.records.get(timedObjectId);
+        return (timers != null) && timers.containsKey(timerId);
+    }
+
+    /**
+     * Durably records the specified state of a timer.
+     * @param data the record of the timer, or null, if the timer was removed
+     */
+    void write(String timedObjectId, String timerId, byte[] data) throws IOException {
+        byte[] record = encode((data != null) ? PUT : REMOVE, timedObjectId, timerId, data);
+        long sequence;
+        boolean full;
+        synchronized (this) {
+            if ((data == null) && !this.contains(timedObjectId, timerId)) {
+                return;
+            }
+            this.append(record);
+            this.apply(timedObjectId, timerId, data, record.length);
+            sequence = ++this.appended;
+            full = this.segmentSize >= this.maxSegmentSize;
+        }
+        this.sync(sequence);
+        if (full) {
+            this.roll();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this.syncLock) {
+            synchronized (this) {
+                if (this.channel != null) {
+                    try {
+                        this.channel.force(false);
+                    } finally {
+                        this.channel.close();
+                        this.channel = null;
+                        this.records.clear();
+                        this.segments.clear();
+                    }
+                }
+            }
+        }
+    }
+
+    synchronized int getSegmentCount() {
+        return this.segments.size();
+    }
+
+    private void sync(long sequence) throws IOException {
+        synchronized (this.syncLock) {
+            // Another writer may have forced this record to disk while we were waiting
+            if (this.synced >= sequence) {
+                return;
+            }
+            FileChannel channel;
+            long appended;
+            synchronized (this) {
+                channel = this.channel;
+                appended = this.appended;
+            }
+            if (channel == null) {
+                throw new ClosedChannelException();
+            }
+            channel.force(false);
+            this.synced = appended;
+        }
+    }
+
+    private void roll() throws IOException {
+        synchronized (this.syncLock) {
+            synchronized (this) {
+                // The segment may have been rolled over by a concurrent writer
+                if (this.channel == null || this.segmentSize < this.maxSegmentSize) {
+                    return;
+                }
+                this.channel.force(false);
+                this.channel.close();
+                this.channel = null;
+                this.synced = this.appended;
+                this.startSegment(false);
+            }
+        }
+    }
+
+    /**
+     * Starts a new active segment. If the journal is mostly garbage, or if compaction is forced, all live records are
+     * compacted into the new segment, and all previous segments are deleted.
+     * Must be called while holding both the sync lock and the journal monitor.
+     */
+    private void startSegment(boolean forceCompaction) throws IOException {
+        boolean compact = forceCompaction || ((this.liveSize * 2) < this.journalSize);
+        this.segmentId += 1;
+        File file = new File(this.directory, String.format("%s%016d%s", SEGMENT_PREFIX, this.segmentId, SEGMENT_SUFFIX));
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        this.segmentSize = 0;
+        ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_SIZE).putInt(MAGIC).put(VERSION).put((byte) 0);
+        header.flip();
+        this.write(header);
+        if (compact) {
+            long liveSize = 0;
+            for (Map.Entry<String, Map<String, Record>> timers : this.records.entrySet()) {
+                for (Map.Entry<String, Record> entry : timers.getValue().entrySet()) {
+                    byte[] record = encode(PUT, timers.getKey(), entry.getKey(), entry.getValue().data);
+                    this.write(ByteBuffer.wrap(record));
+                    entry.getValue().size = record.length;
+                    liveSize += record.length;
+                }
+            }
+            this.channel.force(false);
+            // Only now that the live records are durable, may replay ignore the previous segments
+            ByteBuffer flags = ByteBuffer.allocate(1).put(COMPACTED);
+            flags.flip();
+            while (flags.hasRemaining()) {
+                this.channel.write(flags, SEGMENT_FLAGS_OFFSET + flags.position());
+            }
+            this.channel.force(false);
+            this.segments.values().forEach(TimerJournal::delete);
+            this.segments.clear();
+            this.liveSize = liveSize;
+            this.journalSize = this.segmentSize;
+        } else {
+            this.channel.force(false);
+        }
+        this.segments.put(this.segmentId, file);
+    }
+
+    private void append(byte[] record) throws IOException {
+        if (this.channel == null) {
+            throw new ClosedChannelException();
+        }
+        this.write(ByteBuffer.wrap(record));
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        int size = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            this.channel.write(buffer);
+        }
+        this.segmentSize += size;
+        this.journalSize += size;
+    }
+
+    private void apply(String timedObjectId, String timerId, byte[] data, int size) {
+        Record previous;
+        if (data != null) {
+            previous = this.records.computeIfAbsent(timedObjectId, key -> new HashMap<>()).put(timerId, new Record(data, size));
+            this.liveSize += size;
+        } else {
+            Map<String, Record> timers = this.records.get(timedObjectId);
+            previous = (timers != null) ? timers.remove(timerId) : null;
+            if (timers != null && timers.isEmpty()) {
+                this.records.remove(timedObjectId);
+            }
+        }
+        if (previous != null) {
+            this.liveSize -= previous.size;
+        }
+    }
+
+    /**
+     * Applies all valid records of the specified segment. A segment whose tail was not completely written, e.g. due to
+     * a crash, is only replayed up to the first truncated or corrupt record.
+     */
+    private void replay(File segment) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(segment.toPath(), StandardOpenOption.READ)) {
+            buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && (channel.read(buffer) >= 0)) {
+                // Keep reading
+            }
+            buffer.flip();
+        }
+        if ((buffer.remaining() < SEGMENT_HEADER_SIZE) || (buffer.getInt() != MAGIC) || (buffer.get() != VERSION)) {
+            throw EJB3_TIMER_LOGGER.invalidTimerJournalSegment(segment);
+        }
+        // Skip flags
+        buffer.get();
+        this.journalSize += buffer.limit();
+        CRC32 checksum = new CRC32();
+        while (buffer.hasRemaining()) {
+            int offset = buffer.position();
+            if (buffer.remaining() < RECORD_HEADER_SIZE) {
+                EJB3_TIMER_LOGGER.ignoringCorruptTimerJournalRecord(offset, segment);
+                return;
+            }
+            int length = buffer.getInt();
+            int crc = buffer.getInt();
+            if ((length <= 0) || (length > buffer.remaining())) {
+                EJB3_TIMER_LOGGER.ignoringCorruptTimerJournalRecord(offset, segment);
+                return;
+            }
+            checksum.reset();
+            checksum.update(buffer.array(), buffer.position(), length);
+            if ((int) checksum.getValue() != crc) {
+                EJB3_TIMER_LOGGER.ignoringCorruptTimerJournalRecord(offset, segment);
+                return;
+            }
+            try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(buffer.array(), buffer.position(), length))) {
+                byte type = input.readByte();
+                String timedObjectId = input.readUTF();
+                String timerId = input.readUTF();
+                byte[] data = null;
+                if (type == PUT) {
+                    data = new byte[input.readInt()];
+                    input.readFully(data);
+                }
+                this.apply(timedObjectId, timerId, data, RECORD_HEADER_SIZE + length);
+            }
+            buffer.position(buffer.position() + length);
+        }
+    }
+
+    /**
+     * Reads the flags from the header of the specified segment.
+     */
+    private static byte readFlags(File segment) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_SIZE);
+        try (FileChannel channel = FileChannel.open(segment.toPath(), StandardOpenOption.READ)) {
+            while (header.hasRemaining() && (channel.read(header) >= 0)) {
+                // Keep reading
+            }
+        }
+        header.flip();
+        if ((header.remaining() < SEGMENT_HEADER_SIZE) || (header.getInt() != MAGIC) || (header.get() != VERSION)) {
+            throw EJB3_TIMER_LOGGER.invalidTimerJournalSegment(segment);
+        }
+        return header.get();
+    }
+
+    private static void delete(File segment) {
+        if (!segment.delete()) {
+            EJB3_TIMER_LOGGER.failedToDeleteTimerJournalSegment(segment);
+        }
+    }
+
+    private static byte[] encode(byte type, String timedObjectId, String timerId, byte[] data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + ((data != null) ? data.length : 0));
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            // Reserve space for the record header
+            output.writeLong(0);
+            output.writeByte(type);
+            output.writeUTF(timedObjectId);
+            output.writeUTF(timerId);
+            if (data != null) {
+                output.writeInt(data.length);
+                output.write(data);
+            }
+        }
+        byte[] record = bytes.toByteArray();
+        CRC32 checksum = new CRC32();
+        checksum.update(record, RECORD_HEADER_SIZE, record.length - RECORD_HEADER_SIZE);
+        ByteBuffer.wrap(record).putInt(record.length - RECORD_HEADER_SIZE).putInt((int) checksum.getValue());
+        return record;
+    }
+
+    private static class Record {
+        final byte[] data;
+        // Size of the most recent journal record of this timer
+        int size;
+
+        Record(byte[] data, int size) {
+            this.data = data;
+            this.size = size;
+        }
+    }
+}
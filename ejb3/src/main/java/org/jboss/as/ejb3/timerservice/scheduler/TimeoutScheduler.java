@@ -0,0 +1,99 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.scheduler;
+
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Schedules the timeout tasks of the timer services of a server.
+ * All delays and periods are expressed in milliseconds.
+ */
+public interface TimeoutScheduler {
+
+    /**
+     * Schedules the specified task for a single execution after the specified delay.
+     * @param task a task
+     * @param delay a delay in milliseconds
+     * @return a handle with which the scheduled task can be cancelled
+     */
+    ScheduledTimeout schedule(Runnable task, long delay);
+
+    /**
+     * Schedules the specified task for repeated executions, starting after the specified delay, where each execution is scheduled relative to the scheduled time of the initial execution.
+     * @param task a task
+     * @param delay a delay in milliseconds
+     * @param period the period between successive executions in milliseconds
+     * @return a handle with which the scheduled task can be cancelled
+     */
+    ScheduledTimeout scheduleAtFixedRate(Runnable task, long delay, long period);
+
+    /**
+     * Schedules the specified task for repeated executions, starting after the specified delay, where each execution is scheduled relative to the completion of the previous execution.
+     * @param task a task
+     * @param delay a delay in milliseconds
+     * @param period the period between successive executions in milliseconds
+     * @return a handle with which the scheduled task can be cancelled
+     */
+    ScheduledTimeout scheduleWithFixedDelay(Runnable task, long delay, long period);
+
+    /**
+     * Releases any resources retained by cancelled tasks.
+     */
+    default void purge() {
+    }
+
+    /**
+     * Discards all scheduled tasks and stops this scheduler.
+     */
+    void close();
+
+    /**
+     * Returns the lateness metrics of the tasks executed by this scheduler.
+     * @return the metrics of this scheduler
+     */
+    TimeoutSchedulerMetrics getMetrics();
+
+    /**
+     * A handle to a scheduled task.
+     */
+    interface ScheduledTimeout {
+        /**
+         * Cancels any future execution of the associated task.
+         * @return true, if this call prevented a future execution, false otherwise
+         */
+        boolean cancel();
+    }
+
+    /**
+     * Enumerates the available scheduler implementations.
+     */
+    enum Type {
+        /**
+         * Schedules tasks via a single {@link java.util.Timer}, running tasks on its thread.
+         */
+        TIMER(executor -> new TimerTimeoutScheduler()),
+        /**
+         * Schedules tasks via a hierarchical timing wheel, handing off expired tasks to an executor.
+         */
+        TIMING_WHEEL(TimingWheelTimeoutScheduler::new),
+        ;
+        private final Function<Executor, TimeoutScheduler> factory;
+
+        Type(Function<Executor, TimeoutScheduler> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * Creates a scheduler of this type.
+         * @param executor the executor of the timer service
+         * @return a new scheduler
+         */
+        public TimeoutScheduler createScheduler(Executor executor) {
+            return this.factory.apply(executor);
+        }
+    }
+}
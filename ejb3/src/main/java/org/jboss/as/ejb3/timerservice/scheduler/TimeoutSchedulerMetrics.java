@@ -0,0 +1,64 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.scheduler;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.as.ejb3.component.invocationmetrics.LatencyHistogram;
+
+/**
+ * Records the lateness, i.e. the difference between the scheduled and the actual execution time, of the tasks executed by a {@link TimeoutScheduler}.
+ */
+public class TimeoutSchedulerMetrics {
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder lateness = new LongAdder();
+    private final LongAccumulator peakLateness = new LongAccumulator(Math::max, 0);
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /**
+     * Records the execution of a task.
+     * @param nanos the lateness of the execution in nanoseconds
+     */
+    public void record(long nanos) {
+        long lateness = Math.max(0, nanos);
+        this.executions.increment();
+        this.lateness.add(lateness);
+        this.peakLateness.accumulate(lateness);
+        this.histogram.record(lateness);
+    }
+
+    /**
+     * @return the number of executed tasks
+     */
+    public long getExecutions() {
+        return this.executions.sum();
+    }
+
+    /**
+     * @return the average lateness of executed tasks in milliseconds
+     */
+    public long getAverageLateness() {
+        long executions = this.executions.sum();
+        return (executions > 0) ? TimeUnit.NANOSECONDS.toMillis(this.lateness.sum() / executions) : 0;
+    }
+
+    /**
+     * @return the largest lateness of any executed task in milliseconds
+     */
+    public long getPeakLateness() {
+        return TimeUnit.NANOSECONDS.toMillis(this.peakLateness.get());
+    }
+
+    /**
+     * @param percentile a value between 0 (exclusive) and 1 (inclusive)
+     * @return the upper bound of the specified percentile of the lateness of executed tasks in milliseconds
+     */
+    public long getLatenessPercentile(double percentile) {
+        return TimeUnit.MICROSECONDS.toMillis(this.histogram.getPercentile(percentile));
+    }
+}
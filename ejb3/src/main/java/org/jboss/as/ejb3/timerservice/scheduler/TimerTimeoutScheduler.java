@@ -0,0 +1,69 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.scheduler;
+
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TimeoutScheduler} backed by a single {@link Timer}, whose thread runs every scheduled task.
+ */
+public class TimerTimeoutScheduler implements TimeoutScheduler {
+
+    private final Timer timer = new Timer();
+    private final TimeoutSchedulerMetrics metrics = new TimeoutSchedulerMetrics();
+
+    @Override
+    public ScheduledTimeout schedule(Runnable task, long delay) {
+        ScheduledTask scheduledTask = new ScheduledTask(task);
+        this.timer.schedule(scheduledTask, delay);
+        return scheduledTask;
+    }
+
+    @Override
+    public ScheduledTimeout scheduleAtFixedRate(Runnable task, long delay, long period) {
+        ScheduledTask scheduledTask = new ScheduledTask(task);
+        this.timer.scheduleAtFixedRate(scheduledTask, delay, period);
+        return scheduledTask;
+    }
+
+    @Override
+    public ScheduledTimeout scheduleWithFixedDelay(Runnable task, long delay, long period) {
+        ScheduledTask scheduledTask = new ScheduledTask(task);
+        this.timer.schedule(scheduledTask, delay, period);
+        return scheduledTask;
+    }
+
+    @Override
+    public void purge() {
+        this.timer.purge();
+    }
+
+    @Override
+    public void close() {
+        this.timer.cancel();
+    }
+
+    @Override
+    public TimeoutSchedulerMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    private class ScheduledTask extends TimerTask implements ScheduledTimeout {
+        private final Runnable task;
+
+        ScheduledTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            TimerTimeoutScheduler.this.metrics.record(TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - this.scheduledExecutionTime()));
+            this.task.run();
+        }
+    }
+}
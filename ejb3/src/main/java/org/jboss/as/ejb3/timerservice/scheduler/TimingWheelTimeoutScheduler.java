@@ -0,0 +1,347 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.scheduler;
+
+import static org.jboss.as.ejb3.logging.EjbLogger.EJB3_TIMER_LOGGER;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+import org.wildfly.clustering.context.DefaultThreadFactory;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * {@link TimeoutScheduler} backed by a hierarchical timing wheel.
+ * <p/>
+ * Time is divided into ticks of fixed duration. Each level of the wheel holds a ring of buckets, where a bucket of level
+ * <em>n</em> spans 256<sup>n</sup> ticks. A task is linked into the bucket of the lowest level whose range
+ * contains its deadline, and cascades into lower levels as time advances, so scheduling and cancelling a task are
+ * constant time operations, regardless of the number of scheduled tasks.
+ * <p/>
+ * The wheel is only ever modified by a single ticker thread. Other threads publish new and cancelled tasks via
+ * lock-free queues, which the ticker thread drains on each tick. Expired tasks are never run by the ticker thread, but
+ * are handed off to the executor of the timer service, so a slow task cannot delay the expiration of others.
+ * If the executor rejects an expired task, a single or fixed delay task is retried on the next tick, while a fixed rate
+ * task skips this execution.
+ */
+public class TimingWheelTimeoutScheduler implements TimeoutScheduler {
+    static final long DEFAULT_TICK_MILLIS = 10;
+    static final ThreadFactory THREAD_FACTORY = new DefaultThreadFactory(TimingWheelTimeoutScheduler.class, WildFlySecurityManager.getClassLoaderPrivileged(TimingWheelTimeoutScheduler.class));
+
+    private static final int WHEEL_BITS = 8;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    // With the default tick, 5 levels span more than 300 years
+    private static final int LEVELS = 5;
+
+    private static final int SCHEDULED = 0;
+    private static final int EXPIRED = 1;
+    private static final int CANCELLED = 2;
+    private static final AtomicIntegerFieldUpdater<Entry> STATE_UPDATER = AtomicIntegerFieldUpdater.newUpdater(Entry.class, "state");
+
+    private final Executor executor;
+    private final long tickNanos;
+    private final long origin = System.nanoTime();
+    private final Bucket[][] wheel = new Bucket[LEVELS][WHEEL_SIZE];
+    // Holds tasks whose deadline lies beyond the range of the highest level
+    private final Bucket overflow = new Bucket();
+    private final Queue<Entry> additions = new ConcurrentLinkedQueue<>();
+    private final Queue<Entry> cancellations = new ConcurrentLinkedQueue<>();
+    private final TimeoutSchedulerMetrics metrics = new TimeoutSchedulerMetrics();
+    private final Thread thread;
+
+    private volatile boolean idle = false;
+    private volatile boolean closed = false;
+
+    // Only accessed by the ticker thread
+    private long tick = 0;
+    private int size = 0;
+
+    public TimingWheelTimeoutScheduler(Executor executor) {
+        this(executor, THREAD_FACTORY, DEFAULT_TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public TimingWheelTimeoutScheduler(Executor executor, ThreadFactory threadFactory, long tick, TimeUnit unit) {
+        if (tick <= 0) {
+            throw new IllegalArgumentException(Long.toString(tick));
+        }
+        this.executor = executor;
+        this.tickNanos = unit.toNanos(tick);
+        for (Bucket[] buckets : this.wheel) {
+            for (int i = 0; i < WHEEL_SIZE; ++i) {
+                buckets[i] = new Bucket();
+            }
+        }
+        this.thread = threadFactory.newThread(this::run);
+        this.thread.start();
+    }
+
+    @Override
+    public ScheduledTimeout schedule(Runnable task, long delay) {
+        return this.add(new Entry(task, delay, 0, false));
+    }
+
+    @Override
+    public ScheduledTimeout scheduleAtFixedRate(Runnable task, long delay, long period) {
+        return this.add(new Entry(task, delay, validatePeriod(period), true));
+    }
+
+    @Override
+    public ScheduledTimeout scheduleWithFixedDelay(Runnable task, long delay, long period) {
+        return this.add(new Entry(task, delay, validatePeriod(period), false));
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+        LockSupport.unpark(this.thread);
+    }
+
+    @Override
+    public TimeoutSchedulerMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    private static long validatePeriod(long period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException(Long.toString(period));
+        }
+        return TimeUnit.MILLISECONDS.toNanos(period);
+    }
+
+    private Entry add(Entry entry) {
+        this.additions.add(entry);
+        if (this.idle) {
+            LockSupport.unpark(this.thread);
+        }
+        return entry;
+    }
+
+    private void run() {
+        while (!this.closed) {
+            this.transferCancellations();
+            if ((this.size == 0) && this.additions.isEmpty()) {
+                this.idle = true;
+                if (this.additions.isEmpty() && !this.closed) {
+                    LockSupport.park(this);
+                }
+                this.idle = false;
+                // Nothing is scheduled, so skip any ticks that elapsed while idle
+                this.tick = Math.max(this.tick, (System.nanoTime() - this.origin) / this.tickNanos);
+                continue;
+            }
+            long delay = this.origin + (this.tick * this.tickNanos) - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(this, delay);
+                continue;
+            }
+            this.transferAdditions();
+            this.advance();
+        }
+    }
+
+    private void transferCancellations() {
+        Entry entry = this.cancellations.poll();
+        while (entry != null) {
+            Bucket bucket = entry.bucket;
+            if (bucket != null) {
+                bucket.remove(entry);
+                this.size -= 1;
+            }
+            entry = this.cancellations.poll();
+        }
+    }
+
+    private void transferAdditions() {
+        Entry entry = this.additions.poll();
+        while (entry != null) {
+            if (entry.state == SCHEDULED) {
+                this.insert(entry);
+            }
+            entry = this.additions.poll();
+        }
+    }
+
+    private void insert(Entry entry) {
+        // A deadline that already passed expires on the current tick
+        long deadline = Math.max(this.ticks(entry.deadline), this.tick);
+        Bucket bucket = this.overflow;
+        for (int level = 0; level < LEVELS; ++level) {
+            int shift = (level + 1) * WHEEL_BITS;
+            if ((deadline >>> shift) == (this.tick >>> shift)) {
+                bucket = this.wheel[level][(int) (deadline >>> (level * WHEEL_BITS)) & WHEEL_MASK];
+                break;
+            }
+        }
+        bucket.add(entry);
+        this.size += 1;
+    }
+
+    private long ticks(long deadline) {
+        long elapsed = deadline - this.origin;
+        // Round up, so that a task never expires early
+        return (elapsed <= 0) ? 0 : ((elapsed - 1) / this.tickNanos) + 1;
+    }
+
+    private void advance() {
+        long tick = this.tick;
+        // Cascade the buckets of higher levels whose range starts at this tick, from the highest level down
+        if ((tick & ((1L << (LEVELS * WHEEL_BITS)) - 1)) == 0) {
+            this.cascade(this.overflow);
+        }
+        for (int level = LEVELS - 1; level > 0; --level) {
+            int shift = level * WHEEL_BITS;
+            if ((tick & ((1L << shift) - 1)) == 0) {
+                this.cascade(this.wheel[level][(int) (tick >>> shift) & WHEEL_MASK]);
+            }
+        }
+        Entry entry = this.wheel[0][(int) tick & WHEEL_MASK].clear();
+        this.tick = tick + 1;
+        while (entry != null) {
+            Entry next = entry.unlink();
+            this.size -= 1;
+            this.expire(entry);
+            entry = next;
+        }
+    }
+
+    private void cascade(Bucket bucket) {
+        Entry entry = bucket.clear();
+        while (entry != null) {
+            Entry next = entry.unlink();
+            this.size -= 1;
+            this.insert(entry);
+            entry = next;
+        }
+    }
+
+    private void expire(Entry entry) {
+        long deadline = entry.deadline;
+        if (entry.period == 0) {
+            if (!STATE_UPDATER.compareAndSet(entry, SCHEDULED, EXPIRED)) return;
+        } else {
+            if (entry.state != SCHEDULED) return;
+            if (entry.fixedRate) {
+                entry.deadline = deadline + entry.period;
+                this.insert(entry);
+            }
+        }
+        try {
+            this.executor.execute(() -> entry.run(deadline));
+            entry.rejected = false;
+        } catch (RejectedExecutionException e) {
+            // Log only the first of consecutive rejections of the same task
+            if (!entry.rejected) {
+                EJB3_TIMER_LOGGER.timeoutTaskRejected(entry.task, e);
+                entry.rejected = true;
+            }
+            if (!entry.fixedRate && ((entry.period > 0) || STATE_UPDATER.compareAndSet(entry, EXPIRED, SCHEDULED))) {
+                // Retry on the next tick
+                this.insert(entry);
+            }
+        }
+    }
+
+    private class Entry implements ScheduledTimeout {
+        final Runnable task;
+        final long period;
+        final boolean fixedRate;
+        volatile int state = SCHEDULED;
+        // Written before publication via the additions queue, or by the ticker thread
+        volatile long deadline;
+
+        // Only accessed by the ticker thread
+        boolean rejected;
+        Bucket bucket;
+        Entry previous;
+        Entry next;
+
+        Entry(Runnable task, long delay, long period, boolean fixedRate) {
+            this.task = task;
+            this.period = period;
+            this.fixedRate = fixedRate;
+            this.deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delay));
+        }
+
+        void run(long deadline) {
+            if ((this.period > 0) && (this.state != SCHEDULED)) return;
+            TimingWheelTimeoutScheduler.this.metrics.record(System.nanoTime() - deadline);
+            try {
+                this.task.run();
+            } finally {
+                if ((this.period > 0) && !this.fixedRate && (this.state == SCHEDULED)) {
+                    this.deadline = System.nanoTime() + this.period;
+                    TimingWheelTimeoutScheduler.this.add(this);
+                }
+            }
+        }
+
+        Entry unlink() {
+            Entry next = this.next;
+            this.bucket = null;
+            this.previous = null;
+            this.next = null;
+            return next;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (STATE_UPDATER.compareAndSet(this, SCHEDULED, CANCELLED)) {
+                TimingWheelTimeoutScheduler.this.cancellations.add(this);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static class Bucket {
+        private Entry head;
+        private Entry tail;
+
+        void add(Entry entry) {
+            entry.bucket = this;
+            entry.previous = this.tail;
+            entry.next = null;
+            if (this.tail == null) {
+                this.head = entry;
+            } else {
+                this.tail.next = entry;
+            }
+            this.tail = entry;
+        }
+
+        void remove(Entry entry) {
+            if (entry.previous == null) {
+                this.head = entry.next;
+            } else {
+                entry.previous.next = entry.next;
+            }
+            if (entry.next == null) {
+                this.tail = entry.previous;
+            } else {
+                entry.next.previous = entry.previous;
+            }
+            entry.unlink();
+        }
+
+        /**
+         * Detaches all entries from this bucket.
+         * @return the first detached entry, or null, if this bucket was empty
+         */
+        Entry clear() {
+            Entry head = this.head;
+            this.head = null;
+            this.tail = null;
+            return head;
+        }
+    }
+}
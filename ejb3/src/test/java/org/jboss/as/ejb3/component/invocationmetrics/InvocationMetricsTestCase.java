@@ -0,0 +1,117 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.component.invocationmetrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link InvocationMetrics} and {@link LatencyHistogram}.
+ */
+public class InvocationMetricsTestCase {
+
+    @SuppressWarnings("unused")
+    interface Bean {
+        void foo();
+        void bar(String value);
+        void bar(String value, int count);
+    }
+
+    @SuppressWarnings("unused")
+    interface OtherBean {
+        void bar(String value);
+    }
+
+    @Test
+    public void overloadedMethods() throws Exception {
+        InvocationMetrics metrics = new InvocationMetrics();
+        Method foo = Bean.class.getMethod("foo");
+        Method bar1 = Bean.class.getMethod("bar", String.class);
+        Method bar2 = Bean.class.getMethod("bar", String.class, int.class);
+
+        record(metrics, foo, 1, 2);
+        record(metrics, bar1, 3, 4);
+        record(metrics, bar2, 5, 6);
+        record(metrics, bar2, 7, 8);
+
+        assertEquals(4, metrics.getInvocations());
+        assertEquals(16, metrics.getWaitTime());
+        assertEquals(20, metrics.getExecutionTime());
+        assertEquals(0, metrics.getConcurrent());
+
+        Map<String, InvocationMetrics.Values> methods = metrics.getMethods();
+        assertEquals(3, methods.size());
+        assertEquals(1, methods.get("foo").getInvocations());
+        assertEquals(1, methods.get("bar(java.lang.String)").getInvocations());
+        assertEquals(3, methods.get("bar(java.lang.String)").getWaitTime());
+        InvocationMetrics.Values values = methods.get("bar(java.lang.String,int)");
+        assertEquals(2, values.getInvocations());
+        assertEquals(12, values.getWaitTime());
+        assertEquals(14, values.getExecutionTime());
+    }
+
+    @Test
+    public void sameMethodOfDistinctInterfaces() throws Exception {
+        InvocationMetrics metrics = new InvocationMetrics();
+        Method foo = Bean.class.getMethod("foo");
+        Method bar1 = Bean.class.getMethod("bar", String.class);
+        Method bar2 = Bean.class.getMethod("bar", String.class, int.class);
+        Method otherBar = OtherBean.class.getMethod("bar", String.class);
+
+        record(metrics, foo, 1, 2);
+        record(metrics, bar1, 3, 4);
+        record(metrics, bar2, 5, 6);
+        record(metrics, otherBar, 7, 8);
+        record(metrics, otherBar, 9, 10);
+
+        Map<String, InvocationMetrics.Values> methods = metrics.getMethods();
+        assertEquals(4, methods.size());
+        assertEquals(1, methods.get("foo").getInvocations());
+        assertEquals(1, methods.get("bar(java.lang.String,int)").getInvocations());
+        assertEquals(1, methods.get(Bean.class.getName() + ".bar(java.lang.String)").getInvocations());
+        assertEquals(2, methods.get(OtherBean.class.getName() + ".bar(java.lang.String)").getInvocations());
+    }
+
+    @Test
+    public void percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(0.5));
+        for (int i = 1; i <= 1000; ++i) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+        assertWithin(500, histogram.getPercentile(0.5));
+        assertWithin(990, histogram.getPercentile(0.99));
+        assertWithin(999, histogram.getPercentile(0.999));
+        assertEquals(histogram.getPercentile(1), LatencyHistogram.upperBound(LatencyHistogram.index(1000)));
+    }
+
+    @Test
+    public void buckets() {
+        int previous = -1;
+        for (long micros = 0; micros < (1L << 20); micros += 1 + micros / 16) {
+            int index = LatencyHistogram.index(micros);
+            assertTrue(index >= previous);
+            assertTrue(micros <= LatencyHistogram.upperBound(index));
+            previous = index;
+        }
+        assertEquals(LatencyHistogram.index(Long.MAX_VALUE), LatencyHistogram.index(1L << 50));
+    }
+
+    private static void record(InvocationMetrics metrics, Method method, long waitMillis, long executionMillis) {
+        metrics.startInvocation();
+        metrics.finishInvocation(method, TimeUnit.MILLISECONDS.toNanos(waitMillis), TimeUnit.MILLISECONDS.toNanos(executionMillis));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        // Sub-bucketing bounds the relative error to 25%
+        assertTrue(String.valueOf(actual), actual >= expected && actual <= expected * 1.25);
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.concurrency;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+
+import jakarta.ejb.IllegalLoopbackException;
+
+import org.jboss.as.ejb3.component.singleton.StripedEJBReadWriteLock;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link StripedEJBReadWriteLock}
+ */
+public class StripedEJBReadWriteLockTest {
+
+    private final StripedEJBReadWriteLock lock = new StripedEJBReadWriteLock();
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @After
+    public void afterTest() {
+        this.executor.shutdownNow();
+    }
+
+    /**
+     * Test that a {@link IllegalLoopbackException} is thrown when the thread owning a read lock tries to obtain a write lock
+     */
+    @Test
+    public void testIllegalLoopBack() {
+        Lock readLock = this.lock.readLock();
+        readLock.lock();
+        try {
+            Assert.assertThrows(IllegalLoopbackException.class, () -> this.lock.writeLock().tryLock(1, TimeUnit.SECONDS));
+            // reentrant reads are allowed
+            Assert.assertTrue(readLock.tryLock());
+            readLock.unlock();
+            Assert.assertThrows(IllegalLoopbackException.class, this.lock.writeLock()::lock);
+        } finally {
+            readLock.unlock();
+        }
+        // once all read locks are released, the write lock can be obtained
+        Assert.assertTrue(this.lock.writeLock().tryLock());
+        this.lock.writeLock().unlock();
+    }
+
+    /**
+     * Tests that a thread can get the write lock reentrantly, and then the read lock
+     */
+    @Test
+    public void testSameThreadCanGetWriteThenReadLock() throws Exception {
+        Lock writeLock = this.lock.writeLock();
+        Lock readLock = this.lock.readLock();
+        writeLock.lock();
+        try {
+            Assert.assertTrue(writeLock.tryLock(1, TimeUnit.SECONDS));
+            writeLock.unlock();
+            Assert.assertTrue(readLock.tryLock(1, TimeUnit.SECONDS));
+        } finally {
+            writeLock.unlock();
+        }
+        // the read lock is still held, after releasing the write lock
+        Assert.assertFalse(this.executor.submit(() -> writeLock.tryLock(100, TimeUnit.MILLISECONDS)).get());
+        readLock.unlock();
+        Assert.assertTrue(this.executor.submit(() -> {
+            boolean locked = writeLock.tryLock(1, TimeUnit.SECONDS);
+            if (locked) {
+                writeLock.unlock();
+            }
+            return locked;
+        }).get());
+    }
+
+    /**
+     * Tests that the access timeout is honoured by readers waiting for a writer, and by writers waiting for readers
+     */
+    @Test
+    public void testTimeout() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> writer = this.executor.submit(() -> holdLock(this.lock.writeLock(), locked, release));
+        Assert.assertTrue(locked.await(10, TimeUnit.SECONDS));
+        try {
+            long start = System.nanoTime();
+            Assert.assertFalse(this.lock.readLock().tryLock(200, TimeUnit.MILLISECONDS));
+            Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200));
+            Assert.assertFalse(this.lock.readLock().tryLock());
+        } finally {
+            release.countDown();
+            writer.get();
+        }
+
+        CountDownLatch readLocked = new CountDownLatch(1);
+        CountDownLatch readRelease = new CountDownLatch(1);
+        Future<?> reader = this.executor.submit(() -> holdLock(this.lock.readLock(), readLocked, readRelease));
+        Assert.assertTrue(readLocked.await(10, TimeUnit.SECONDS));
+        try {
+            long start = System.nanoTime();
+            Assert.assertFalse(this.lock.writeLock().tryLock(200, TimeUnit.MILLISECONDS));
+            Assert.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200));
+            // the failed writer does not block readers
+            Assert.assertTrue(this.lock.readLock().tryLock());
+            this.lock.readLock().unlock();
+        } finally {
+            readRelease.countDown();
+            reader.get();
+        }
+    }
+
+    /**
+     * Tests that a waiting writer is woken up once the readers release their locks, and blocks new readers meanwhile
+     */
+    @Test
+    public void testWriterWaitsForReaders() throws Exception {
+        CountDownLatch readLocked = new CountDownLatch(1);
+        CountDownLatch readRelease = new CountDownLatch(1);
+        Future<?> reader = this.executor.submit(() -> holdLock(this.lock.readLock(), readLocked, readRelease));
+        Assert.assertTrue(readLocked.await(10, TimeUnit.SECONDS));
+
+        Future<Boolean> writer = this.executor.submit(() -> {
+            boolean acquired = this.lock.writeLock().tryLock(10, TimeUnit.SECONDS);
+            if (acquired) {
+                this.lock.writeLock().unlock();
+            }
+            return acquired;
+        });
+        Thread.sleep(100);
+        Assert.assertFalse(writer.isDone());
+        // new readers wait for the pending writer
+        Assert.assertFalse(this.executor.submit(() -> this.lock.readLock().tryLock(100, TimeUnit.MILLISECONDS)).get());
+
+        readRelease.countDown();
+        reader.get();
+        Assert.assertTrue(writer.get(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Tests that readers and writers are mutually excluded under contention
+     */
+    @Test
+    public void testMutualExclusion() throws Exception {
+        int threads = 8;
+        int iterations = 10_000;
+        AtomicInteger readers = new AtomicInteger();
+        AtomicInteger writers = new AtomicInteger();
+        AtomicInteger violations = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            boolean writing = (i % 4) == 0;
+            futures.add(this.executor.submit(() -> {
+                Lock lock = writing ? this.lock.writeLock() : this.lock.readLock();
+                for (int j = 0; j < iterations; j++) {
+                    lock.lock();
+                    try {
+                        if (writing) {
+                            if (writers.incrementAndGet() != 1 || readers.get() != 0) {
+                                violations.incrementAndGet();
+                            }
+                            writers.decrementAndGet();
+                        } else {
+                            readers.incrementAndGet();
+                            if (writers.get() != 0) {
+                                violations.incrementAndGet();
+                            }
+                            readers.decrementAndGet();
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        Assert.assertEquals(0, violations.get());
+    }
+
+    private static Void holdLock(Lock lock, CountDownLatch locked, CountDownLatch release) throws InterruptedException {
+        lock.lock();
+        try {
+            locked.countDown();
+            release.await();
+        } finally {
+            lock.unlock();
+        }
+        return null;
+    }
+}
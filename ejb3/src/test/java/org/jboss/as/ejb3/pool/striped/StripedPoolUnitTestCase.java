@@ -0,0 +1,221 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.ejb3.pool.striped;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.ejb3.logging.EjbLogger;
+import org.jboss.as.ejb3.pool.Pool;
+import org.jboss.as.ejb3.pool.StatelessObjectFactory;
+import org.jboss.as.ejb3.pool.common.MockBean;
+import org.jboss.as.ejb3.pool.common.MockFactory;
+import org.jboss.as.ejb3.pool.strictmax.StrictMaxPool;
+import org.jboss.logging.Logger;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link StripedPool}, mirroring the strict max pool tests, plus a contended comparison against
+ * {@link StrictMaxPool} for increasing thread counts.
+ */
+public class StripedPoolUnitTestCase {
+    private static final Logger log = Logger.getLogger(StripedPoolUnitTestCase.class);
+    private static final String BENCHMARK_PROPERTY = "ejb.pool.benchmark";
+
+    @Test
+    public void test1() {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        Pool<MockBean> pool = new StripedPool<>(factory, 10, 1, TimeUnit.SECONDS, 4);
+        pool.start();
+
+        MockBean[] beans = new MockBean[10];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+        assertEquals(0, pool.getAvailableCount());
+
+        for (int i = 0; i < beans.length; i++) {
+            pool.release(beans[i]);
+            beans[i] = null;
+        }
+        assertEquals(10, pool.getAvailableCount());
+
+        pool.stop();
+
+        assertEquals(10, MockBean.getPostConstructs());
+        assertEquals(10, MockBean.getPreDestroys());
+    }
+
+    /**
+     * More threads than the pool size.
+     */
+    @Test
+    public void testMultiThread() throws Exception {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        final Pool<MockBean> pool = new StripedPool<>(factory, 10, 60, TimeUnit.SECONDS, 8);
+        pool.start();
+
+        final AtomicInteger used = new AtomicInteger(0);
+        final CountDownLatch in = new CountDownLatch(1);
+        final CountDownLatch ready = new CountDownLatch(10);
+
+        Callable<Void> task = new Callable<Void>() {
+            public Void call() throws Exception {
+                MockBean bean = pool.get();
+                ready.countDown();
+                in.await();
+                pool.release(bean);
+
+                used.incrementAndGet();
+
+                return null;
+            }
+        };
+
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        Future<?>[] results = new Future<?>[20];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = service.submit(task);
+        }
+
+        ready.await(120, TimeUnit.SECONDS);
+        in.countDown();
+
+        for (Future<?> result : results) {
+            result.get(5, TimeUnit.SECONDS);
+        }
+
+        service.shutdown();
+
+        pool.stop();
+
+        assertEquals(20, used.intValue());
+        assertEquals(10, MockBean.getPostConstructs());
+        assertEquals(10, MockBean.getPreDestroys());
+    }
+
+    @Test
+    public void testTooMany() {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        Pool<MockBean> pool = new StripedPool<>(factory, 10, 1, TimeUnit.SECONDS, 4);
+        pool.start();
+
+        MockBean[] beans = new MockBean[10];
+        for (int i = 0; i < beans.length; i++) {
+            beans[i] = pool.get();
+        }
+
+        try {
+            pool.get();
+            fail("should have thrown an exception");
+        } catch (Exception e) {
+            assertEquals(EjbLogger.ROOT_LOGGER.failedToAcquirePermit(1, TimeUnit.SECONDS).getMessage(), e.getMessage());
+        }
+
+        for (int i = 0; i < beans.length; i++) {
+            pool.release(beans[i]);
+            beans[i] = null;
+        }
+
+        pool.stop();
+
+        assertEquals(10, MockBean.getPostConstructs());
+        assertEquals(10, MockBean.getPreDestroys());
+    }
+
+    @Test
+    public void testDiscard() {
+        MockBean.reset();
+        StatelessObjectFactory<MockBean> factory = new MockFactory();
+        Pool<MockBean> pool = new StripedPool<>(factory, 2, 1, TimeUnit.SECONDS, 2);
+        pool.start();
+
+        MockBean bean = pool.get();
+        pool.discard(bean);
+        assertEquals(2, pool.getAvailableCount());
+        assertEquals(0, pool.getCurrentSize());
+
+        pool.release(pool.get());
+        pool.stop();
+
+        assertEquals(2, MockBean.getPostConstructs());
+        assertEquals(2, MockBean.getPreDestroys());
+    }
+
+    /**
+     * Verifies that the maximum size is never exceeded when more threads than permits get and release instances.
+     */
+    @Test
+    public void testConcurrentGetRelease() throws Exception {
+        this.run(new StripedPool<>(new MockFactory(), 4, 1, TimeUnit.MINUTES), 4, 16, 1_000);
+    }
+
+    /**
+     * Hammers both pool implementations with 1 to 128 threads, verifying that the maximum size is never exceeded,
+     * and logs the throughput of each.
+     * Only runs if the {@value #BENCHMARK_PROPERTY} system property is set, since it adds several seconds to the build.
+     */
+    @Test
+    public void testContention() throws Exception {
+        Assume.assumeTrue(Boolean.getBoolean(BENCHMARK_PROPERTY));
+        int maxSize = 16;
+        int iterations = 20_000;
+        for (int threads = 1; threads <= 128; threads <<= 1) {
+            long strictMax = this.run(new StrictMaxPool<>(new MockFactory(), maxSize, 1, TimeUnit.MINUTES), maxSize, threads, iterations);
+            long striped = this.run(new StripedPool<>(new MockFactory(), maxSize, 1, TimeUnit.MINUTES), maxSize, threads, iterations);
+            log.infof("%d threads: strict-max %d ns/op, striped %d ns/op", threads, strictMax, striped);
+        }
+    }
+
+    private long run(Pool<MockBean> pool, int maxSize, int threads, int iterations) throws Exception {
+        AtomicInteger inUse = new AtomicInteger();
+        AtomicInteger maxInUse = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService service = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Void>> results = new ArrayList<>(threads);
+            for (int i = 0; i < threads; ++i) {
+                results.add(service.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < iterations; ++j) {
+                        MockBean bean = pool.get();
+                        maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                        inUse.decrementAndGet();
+                        pool.release(bean);
+                    }
+                    return null;
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<Void> result : results) {
+                result.get(2, TimeUnit.MINUTES);
+            }
+            long elapsed = System.nanoTime() - begin;
+            assertTrue(maxInUse.get() <= maxSize);
+            assertEquals(maxSize, pool.getAvailableCount());
+            assertTrue(pool.getCurrentSize() <= maxSize);
+            return elapsed / ((long) threads * iterations);
+        } finally {
+            service.shutdown();
+            pool.stop();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.as.ee.component.ComponentView;
+import org.jboss.as.ejb3.component.EJBComponent;
+import org.jboss.as.ejb3.deployment.DeploymentModuleIdentifier;
+import org.jboss.as.ejb3.deployment.DeploymentRepositoryService;
+import org.jboss.as.ejb3.deployment.EjbDeploymentInformation;
+import org.jboss.as.ejb3.deployment.ModuleDeployment;
+import org.jboss.as.ejb3.iiop.EjbIIOPService;
+import org.jboss.ejb.client.EJBIdentifier;
+import org.jboss.ejb.client.EJBMethodLocator;
+import org.jboss.msc.value.InjectedValue;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link RemoteEJBRoutingIndex}.
+ */
+public class RemoteEJBRoutingIndexTestCase {
+
+    public interface Remote {
+        void foo();
+        void foo(String value);
+    }
+
+    @Test
+    public void test() throws Exception {
+        DeploymentRepositoryService repository = new DeploymentRepositoryService();
+        repository.start(null);
+        RemoteEJBRoutingIndex index = new RemoteEJBRoutingIndex();
+        repository.addListener(index);
+
+        Method foo = Remote.class.getMethod("foo");
+        Method fooString = Remote.class.getMethod("foo", String.class);
+        ComponentView view = mock(ComponentView.class);
+        when(view.getViewMethods()).thenReturn(Set.of(foo, fooString));
+        InjectedValue<ComponentView> viewValue = new InjectedValue<>();
+        viewValue.inject(view);
+        Map<String, InjectedValue<ComponentView>> remoteViews = Collections.singletonMap(Remote.class.getName(), viewValue);
+        EjbDeploymentInformation information = new EjbDeploymentInformation("bean", new InjectedValue<EJBComponent>(), remoteViews, null, null, new InjectedValue<EjbIIOPService>());
+
+        DeploymentModuleIdentifier identifier = new DeploymentModuleIdentifier("app", "module", "");
+        ModuleDeployment deployment = new ModuleDeployment(identifier, Collections.singletonMap("bean", information));
+        EJBIdentifier ejbIdentifier = new EJBIdentifier("app", "module", "bean", "");
+
+        repository.add(identifier, deployment);
+        // Not yet started
+        assertNull(index.getRoute(ejbIdentifier));
+
+        repository.startDeployment(identifier);
+        RemoteEJBRoutingIndex.EJBRoute route = index.getRoute(ejbIdentifier);
+        assertNotNull(route);
+        assertSame(information, route.getDeploymentInformation());
+        assertEquals(foo, route.findMethod(Remote.class.getName(), EJBMethodLocator.forMethod(foo)));
+        assertEquals(fooString, route.findMethod(Remote.class.getName(), new EJBMethodLocator("foo", String.class.getName())));
+        assertNull(route.findMethod(Remote.class.getName(), new EJBMethodLocator("foo", Integer.class.getName())));
+        assertNull(route.findMethod(Remote.class.getName(), new EJBMethodLocator("bar")));
+        assertEquals(fooString, RemoteEJBRoutingIndex.findMethod(view, new EJBMethodLocator("foo", String.class.getName())));
+
+        // Unrelated deployments reuse existing routes
+        DeploymentModuleIdentifier otherIdentifier = new DeploymentModuleIdentifier("app", "other", "");
+        repository.add(otherIdentifier, new ModuleDeployment(otherIdentifier, Collections.emptyMap()));
+        repository.startDeployment(otherIdentifier);
+        assertSame(route, index.getRoute(ejbIdentifier));
+
+        repository.remove(identifier);
+        assertNull(index.getRoute(ejbIdentifier));
+
+        repository.removeListener(index);
+    }
+}
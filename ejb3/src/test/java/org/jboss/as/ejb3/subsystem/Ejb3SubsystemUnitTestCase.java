@@ -68,7 +68,7 @@ public class Ejb3SubsystemUnitTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/wildfly-ejb3_10_0.xsd";
+        return "schema/wildfly-ejb3_11_0.xsd";
     }
 
     @Test
@@ -76,6 +76,11 @@ public class Ejb3SubsystemUnitTestCase extends AbstractSubsystemBaseTest {
         standardSubsystemTest("subsystem15.xml", false);
     }
 
+    @Test
+    public void test100() throws Exception {
+        standardSubsystemTest("subsystem_10_0.xml", false);
+    }
+
     /** WFLY-7797 */
     @Test
     public void testPoolSizeAlternatives() throws Exception {
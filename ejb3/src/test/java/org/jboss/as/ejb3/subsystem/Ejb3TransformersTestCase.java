@@ -69,7 +69,7 @@ public class Ejb3TransformersTestCase extends AbstractSubsystemBaseTest {
 
     @Override
     protected String getSubsystemXsdPath() throws Exception {
-        return "schema/wildfly-ejb3_10_0.xsd";
+        return "schema/wildfly-ejb3_11_0.xsd";
     }
 
     /*
@@ -148,6 +148,22 @@ public class Ejb3TransformersTestCase extends AbstractSubsystemBaseTest {
         FailedOperationTransformationConfig config = new FailedOperationTransformationConfig();
         PathAddress subsystemAddress = PathAddress.pathAddress(EJB3Extension.SUBSYSTEM_PATH);
 
+        // need to include all changes from current to 10.0.0
+        if (EJB3Model.VERSION_10_0_0.requiresTransformation(version)) {
+            // reject a non-default pool-strategy of /subsystem=ejb3/strict-max-bean-instance-pool
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.STRICT_MAX_BEAN_INSTANCE_POOL_PATH.getKey(), "mdb-strict-max-pool"),
+                    new FailedOperationTransformationConfig.NewAttributesConfig(StrictMaxPoolResourceDefinition.POOL_STRATEGY));
+            // reject a non-default scheduler of /subsystem=ejb3/service=timer-service
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.TIMER_SERVICE_PATH),
+                    new FailedOperationTransformationConfig.NewAttributesConfig(TimerServiceResourceDefinition.SCHEDULER));
+            // reject a non-default refresh-mode and info-storage of /subsystem=ejb3/service=timer-service/database-data-store
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.TIMER_SERVICE_PATH).append(EJB3SubsystemModel.DATABASE_DATA_STORE_PATH.getKey(), "database-data-store"),
+                    new FailedOperationTransformationConfig.NewAttributesConfig(DatabaseDataStoreResourceDefinition.REFRESH_MODE, DatabaseDataStoreResourceDefinition.INFO_STORAGE));
+            // reject a non-default format of /subsystem=ejb3/service=timer-service/file-data-store
+            config.addFailedAttribute(subsystemAddress.append(EJB3SubsystemModel.TIMER_SERVICE_PATH).append(EJB3SubsystemModel.FILE_DATA_STORE_PATH.getKey(), "file-data-store"),
+                    new FailedOperationTransformationConfig.NewAttributesConfig(FileDataStoreResourceDefinition.FORMAT));
+        }
+
         // need to include all changes from current to 9.0.0
         if (EJB3Model.VERSION_9_0_0.requiresTransformation(version)) {
             // reject the resource /subsystem=ejb3/simple-cache
@@ -16,7 +16,7 @@ import org.junit.Test;
 
 public class DatabaseTimerPersistenceTestCase {
 
-    private DatabaseTimerPersistence object = new DatabaseTimerPersistence(null, null, null, null, "", "part", "nodeA", 1000000, true);
+    private DatabaseTimerPersistence object = new DatabaseTimerPersistence(null, null, null, null, "", "part", "nodeA", 1000000, DatabaseTimerPersistence.RefreshMode.FULL, DatabaseTimerPersistence.InfoStorage.TEXT, true);
     private Field field;
     private Method method;
 
@@ -168,4 +168,37 @@ public class DatabaseTimerPersistenceTestCase {
         Assert.assertEquals("sybase", field.get(object));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void variantSqlPropertiesTest() throws ReflectiveOperationException {
+        final DatabaseTimerPersistence persistence = new DatabaseTimerPersistence(null, null, null, null, "sybase", "part", "nodeA", 1000000, DatabaseTimerPersistence.RefreshMode.INCREMENTAL, DatabaseTimerPersistence.InfoStorage.BINARY, true);
+        final Properties sql = new Properties();
+        sql.setProperty("create-auto-timer", "insert...");
+        sql.setProperty("create-timer", "insert...");
+        sql.setProperty("create-timer-incremental", "insert..., modified");
+        sql.setProperty("create-timer-binary", "insert..., binary");
+        sql.setProperty("create-timer-binary-incremental", "insert..., binary modified");
+        sql.setProperty("create-timer-binary-incremental.sybase", "insert..., binary sybase modified");
+        sql.setProperty("update-timer", "update...");
+        sql.setProperty("update-timer-incremental", "update..., modified");
+        sql.setProperty("update-running", "update...");
+        sql.setProperty("update-running-incremental", "update..., modified");
+        sql.setProperty("update-running-incremental.sybase", "update..., sybase modified");
+        sql.setProperty("load-timer", "select...");
+        sql.setProperty("load-timer-binary", "select..., binary");
+        sql.setProperty("add-info-binary-column", "alter...");
+        sql.setProperty("add-info-binary-column.sybase", "alter..., sybase");
+        final Field sqlField = persistence.getClass().getDeclaredField("sql");
+        sqlField.setAccessible(true);
+        sqlField.set(persistence, sql);
+        final Method adjust = persistence.getClass().getDeclaredMethod("adjustSqlProperties");
+        adjust.setAccessible(true);
+        adjust.invoke(persistence);
+
+        Assert.assertEquals("update..., modified", sql.getProperty("update-timer"));
+        Assert.assertEquals("update..., sybase modified", sql.getProperty("update-running"));
+        Assert.assertEquals("select..., binary", sql.getProperty("load-timer"));
+        Assert.assertEquals("alter..., sybase", sql.getProperty("add-info-binary-column"));
+        Assert.assertEquals("insert..., binary sybase modified", sql.getProperty("create-timer"));
+        Assert.assertEquals(6, sql.size());
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.persistence.filestore;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for {@link TimerJournal}.
+ */
+public class TimerJournalTestCase {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testReplay() throws IOException {
+        File directory = this.folder.newFolder();
+        try (TimerJournal journal = new TimerJournal(directory, TimerJournal.DEFAULT_MAX_SEGMENT_SIZE)) {
+            journal.open();
+            journal.write("a", "1", data("a1"));
+            journal.write("a", "2", data("a2"));
+            journal.write("b", "1", data("b1"));
+            journal.write("a", "1", data("a1'"));
+            journal.write("a", "2", null);
+            // Removing an unknown timer is a no-op
+            journal.write("c", "1", null);
+            Assert.assertTrue(journal.contains("a", "1"));
+            Assert.assertFalse(journal.contains("a", "2"));
+        }
+        try (TimerJournal journal = new TimerJournal(directory, TimerJournal.DEFAULT_MAX_SEGMENT_SIZE)) {
+            journal.open();
+            Map<String, byte[]> timers = journal.getTimers("a");
+            Assert.assertEquals(1, timers.size());
+            Assert.assertArrayEquals(data("a1'"), timers.get("1"));
+            Assert.assertArrayEquals(data("b1"), journal.getTimers("b").get("1"));
+            Assert.assertTrue(journal.getTimers("c").isEmpty());
+            // Previous segments were compacted into a single segment
+            Assert.assertEquals(1, journal.getSegmentCount());
+        }
+    }
+
+    @Test
+    public void testTruncatedSegment() throws IOException {
+        File directory = this.folder.newFolder();
+        try (TimerJournal journal = new TimerJournal(directory, TimerJournal.DEFAULT_MAX_SEGMENT_SIZE)) {
+            journal.open();
+            journal.write("a", "1", data("a1"));
+            journal.write("a", "2", data("a2"));
+        }
+        File[] segments = directory.listFiles();
+        Assert.assertEquals(1, segments.length);
+        // Simulate a record whose write was interrupted
+        try (FileOutputStream output = new FileOutputStream(segments[0], true)) {
+            output.write(new byte[] { 0, 0, 0, 100, 1, 2, 3, 4, 5 });
+        }
+        try (TimerJournal journal = new TimerJournal(directory, TimerJournal.DEFAULT_MAX_SEGMENT_SIZE)) {
+            journal.open();
+            Assert.assertEquals(2, journal.getTimers("a").size());
+            journal.write("a", "3", data("a3"));
+        }
+        try (TimerJournal journal = new TimerJournal(directory, TimerJournal.DEFAULT_MAX_SEGMENT_SIZE)) {
+            journal.open();
+            Assert.assertEquals(3, journal.getTimers("a").size());
+        }
+    }
+
+    @Test
+    public void testCompaction() throws IOException {
+        File directory = this.folder.newFolder();
+        try (TimerJournal journal = new TimerJournal(directory, 1024)) {
+            journal.open();
+            journal.write("a", "static", data("static"));
+            for (int i = 0; i < 10_000; ++i) {
+                journal.write("a", "1", data("a1-" + i));
+            }
+            // Superseded records are regularly compacted away
+            Assert.assertTrue(journal.getSegmentCount() <= 3);
+            Assert.assertTrue(directory.listFiles().length <= 3);
+        }
+        try (TimerJournal journal = new TimerJournal(directory, 1024)) {
+            journal.open();
+            Map<String, byte[]> timers = journal.getTimers("a");
+            Assert.assertEquals(2, timers.size());
+            Assert.assertArrayEquals(data("static"), timers.get("static"));
+            Assert.assertArrayEquals(data("a1-9999"), timers.get("1"));
+        }
+    }
+
+    @Test
+    public void testSupersededSegment() throws IOException {
+        File directory = this.folder.newFolder();
+        try (TimerJournal journal = new TimerJournal(directory, TimerJournal.DEFAULT_MAX_SEGMENT_SIZE)) {
+            journal.open();
+            journal.write("a", "1", data("a1"));
+            journal.write("a", "2", data("a2"));
+        }
+        File[] segments = directory.listFiles();
+        Assert.assertEquals(1, segments.length);
+        File segment = segments[0];
+        byte[] content = Files.readAllBytes(segment.toPath());
+        try (TimerJournal journal = new TimerJournal(directory, TimerJournal.DEFAULT_MAX_SEGMENT_SIZE)) {
+            journal.open();
+            journal.write("a", "2", null);
+        }
+        // Compacts both previous segments
+        try (TimerJournal journal = new TimerJournal(directory, TimerJournal.DEFAULT_MAX_SEGMENT_SIZE)) {
+            journal.open();
+            Assert.assertEquals(1, journal.getSegmentCount());
+        }
+        Assert.assertFalse(segment.exists());
+        // Simulate a superseded segment that could not be deleted during compaction
+        Files.write(segment.toPath(), content);
+        try (TimerJournal journal = new TimerJournal(directory, TimerJournal.DEFAULT_MAX_SEGMENT_SIZE)) {
+            journal.open();
+            Map<String, byte[]> timers = journal.getTimers("a");
+            Assert.assertEquals(1, timers.size());
+            Assert.assertArrayEquals(data("a1"), timers.get("1"));
+        }
+        Assert.assertFalse(segment.exists());
+    }
+
+    @Test
+    public void testConcurrentWrites() throws Exception {
+        File directory = this.folder.newFolder();
+        int threads = 8;
+        int timers = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (TimerJournal journal = new TimerJournal(directory, 16 * 1024)) {
+            journal.open();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; ++t) {
+                String timedObjectId = Integer.toString(t);
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < timers; ++i) {
+                        journal.write(timedObjectId, Integer.toString(i), data(timedObjectId + i));
+                        if (i % 2 == 1) {
+                            journal.write(timedObjectId, Integer.toString(i), null);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        try (TimerJournal journal = new TimerJournal(directory, 16 * 1024)) {
+            journal.open();
+            for (int t = 0; t < threads; ++t) {
+                Map<String, byte[]> result = journal.getTimers(Integer.toString(t));
+                Assert.assertEquals(timers / 2, result.size());
+                for (Map.Entry<String, byte[]> entry : result.entrySet()) {
+                    Assert.assertEquals(0, Integer.parseInt(entry.getKey()) % 2);
+                    Assert.assertArrayEquals(data(t + entry.getKey()), entry.getValue());
+                }
+            }
+        }
+    }
+
+    private static byte[] data(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
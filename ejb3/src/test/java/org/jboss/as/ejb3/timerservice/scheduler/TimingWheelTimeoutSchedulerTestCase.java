@@ -0,0 +1,143 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.ejb3.timerservice.scheduler;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link TimingWheelTimeoutScheduler}.
+ */
+public class TimingWheelTimeoutSchedulerTestCase {
+
+    private ExecutorService executor;
+    private TimeoutScheduler scheduler;
+
+    @Before
+    public void init() {
+        this.executor = Executors.newCachedThreadPool();
+        // Use a short tick, so that timeouts of a few hundred milliseconds cascade through higher levels of the wheel
+        this.scheduler = new TimingWheelTimeoutScheduler(this.executor, TimingWheelTimeoutScheduler.THREAD_FACTORY, 1, TimeUnit.MILLISECONDS);
+    }
+
+    @After
+    public void destroy() {
+        this.scheduler.close();
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void testSchedule() throws InterruptedException {
+        long[] delays = new long[] { 0, 5, 50, 255, 256, 300, 700 };
+        CountDownLatch latch = new CountDownLatch(delays.length);
+        AtomicInteger early = new AtomicInteger();
+        for (long delay : delays) {
+            long start = System.nanoTime();
+            this.scheduler.schedule(() -> {
+                if (System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(delay)) {
+                    early.incrementAndGet();
+                }
+                latch.countDown();
+            }, delay);
+        }
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(0, early.get());
+        Assert.assertEquals(delays.length, this.scheduler.getMetrics().getExecutions());
+    }
+
+    @Test
+    public void testCancel() throws InterruptedException {
+        AtomicInteger executions = new AtomicInteger();
+        TimeoutScheduler.ScheduledTimeout timeout = this.scheduler.schedule(executions::incrementAndGet, 300);
+        TimeoutScheduler.ScheduledTimeout periodicTimeout = this.scheduler.scheduleAtFixedRate(executions::incrementAndGet, 300, 10);
+        Assert.assertTrue(timeout.cancel());
+        Assert.assertFalse(timeout.cancel());
+        Assert.assertTrue(periodicTimeout.cancel());
+
+        CountDownLatch latch = new CountDownLatch(1);
+        this.scheduler.schedule(latch::countDown, 400);
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(0, executions.get());
+    }
+
+    @Test
+    public void testExpiredCancel() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        TimeoutScheduler.ScheduledTimeout timeout = this.scheduler.schedule(latch::countDown, 10);
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertFalse(timeout.cancel());
+    }
+
+    @Test
+    public void testFixedRate() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(5);
+        TimeoutScheduler.ScheduledTimeout timeout = this.scheduler.scheduleAtFixedRate(latch::countDown, 10, 20);
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(timeout.cancel());
+        Assert.assertFalse(timeout.cancel());
+    }
+
+    @Test
+    public void testFixedDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(5);
+        TimeoutScheduler.ScheduledTimeout timeout = this.scheduler.scheduleWithFixedDelay(latch::countDown, 10, 20);
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(timeout.cancel());
+    }
+
+    @Test
+    public void testMany() throws InterruptedException {
+        int count = 100_000;
+        CountDownLatch latch = new CountDownLatch(count / 2);
+        AtomicInteger cancelled = new AtomicInteger();
+        TimeoutScheduler.ScheduledTimeout[] timeouts = new TimeoutScheduler.ScheduledTimeout[count];
+        for (int i = 0; i < count; ++i) {
+            timeouts[i] = this.scheduler.schedule((i % 2 == 0) ? latch::countDown : cancelled::incrementAndGet, 1000 + (i % 1000));
+        }
+        for (int i = 1; i < count; i += 2) {
+            Assert.assertTrue(timeouts[i].cancel());
+        }
+        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(0, cancelled.get());
+    }
+
+    @Test
+    public void testRejected() throws InterruptedException {
+        AtomicInteger rejections = new AtomicInteger(3);
+        Executor executor = task -> {
+            if (rejections.getAndDecrement() > 0) {
+                throw new RejectedExecutionException();
+            }
+            this.executor.execute(task);
+        };
+        TimeoutScheduler scheduler = new TimingWheelTimeoutScheduler(executor, TimingWheelTimeoutScheduler.THREAD_FACTORY, 1, TimeUnit.MILLISECONDS);
+        try {
+            // A rejected task is retried, rather than lost
+            CountDownLatch latch = new CountDownLatch(1);
+            TimeoutScheduler.ScheduledTimeout timeout = scheduler.schedule(latch::countDown, 10);
+            Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+            Assert.assertFalse(timeout.cancel());
+
+            rejections.set(3);
+            CountDownLatch periodicLatch = new CountDownLatch(3);
+            TimeoutScheduler.ScheduledTimeout periodicTimeout = scheduler.scheduleWithFixedDelay(periodicLatch::countDown, 10, 10);
+            Assert.assertTrue(periodicLatch.await(5, TimeUnit.SECONDS));
+            Assert.assertTrue(periodicTimeout.cancel());
+        } finally {
+            scheduler.close();
+        }
+    }
+}
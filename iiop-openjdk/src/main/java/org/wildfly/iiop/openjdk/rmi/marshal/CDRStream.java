@@ -6,8 +6,12 @@ package org.wildfly.iiop.openjdk.rmi.marshal;
 
 import java.io.Externalizable;
 import java.io.Serializable;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 import javax.rmi.CORBA.Util;
 import javax.rmi.PortableRemoteObject;
@@ -32,6 +36,56 @@ import org.wildfly.iiop.openjdk.rmi.RmiIdlUtil;
  * @author <a href="mailto:reverbel@ime.usp.br">Francisco Reverbel</a>
  */
 public class CDRStream {
+
+    /**
+     * The type of the method handles returned by {@link #readHandleFor(CDRStreamReader)}.
+     */
+    public static final MethodType READ_TYPE = MethodType.methodType(Object.class, InputStream.class);
+
+    /**
+     * The type of the method handles returned by {@link #writeHandleFor(CDRStreamWriter)}.
+     */
+    public static final MethodType WRITE_TYPE = MethodType.methodType(void.class, OutputStream.class, Object.class);
+
+    private static final MethodHandle READ;
+    private static final MethodHandle WRITE;
+
+    /**
+     * Maps the singleton readers and writers of basic types to method handles that call the corresponding stream method
+     * directly.
+     */
+    private static final Map<Object, MethodHandle> STREAM_HANDLES = new IdentityHashMap<>();
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        try {
+            READ = lookup.findVirtual(CDRStreamReader.class, "read", READ_TYPE);
+            WRITE = lookup.findVirtual(CDRStreamWriter.class, "write", WRITE_TYPE);
+
+            Class<?> in = org.omg.CORBA.portable.InputStream.class;
+            STREAM_HANDLES.put(BooleanReader.instance, lookup.findVirtual(in, "read_boolean", MethodType.methodType(boolean.class)));
+            STREAM_HANDLES.put(ByteReader.instance, lookup.findVirtual(in, "read_octet", MethodType.methodType(byte.class)));
+            STREAM_HANDLES.put(CharReader.instance, lookup.findVirtual(in, "read_wchar", MethodType.methodType(char.class)));
+            STREAM_HANDLES.put(DoubleReader.instance, lookup.findVirtual(in, "read_double", MethodType.methodType(double.class)));
+            STREAM_HANDLES.put(FloatReader.instance, lookup.findVirtual(in, "read_float", MethodType.methodType(float.class)));
+            STREAM_HANDLES.put(IntReader.instance, lookup.findVirtual(in, "read_long", MethodType.methodType(int.class)));
+            STREAM_HANDLES.put(LongReader.instance, lookup.findVirtual(in, "read_longlong", MethodType.methodType(long.class)));
+            STREAM_HANDLES.put(ShortReader.instance, lookup.findVirtual(in, "read_short", MethodType.methodType(short.class)));
+
+            Class<?> out = org.omg.CORBA.portable.OutputStream.class;
+            STREAM_HANDLES.put(BooleanWriter.instance, lookup.findVirtual(out, "write_boolean", MethodType.methodType(void.class, boolean.class)));
+            STREAM_HANDLES.put(ByteWriter.instance, lookup.findVirtual(out, "write_octet", MethodType.methodType(void.class, byte.class)));
+            STREAM_HANDLES.put(CharWriter.instance, lookup.findVirtual(out, "write_wchar", MethodType.methodType(void.class, char.class)));
+            STREAM_HANDLES.put(DoubleWriter.instance, lookup.findVirtual(out, "write_double", MethodType.methodType(void.class, double.class)));
+            STREAM_HANDLES.put(FloatWriter.instance, lookup.findVirtual(out, "write_float", MethodType.methodType(void.class, float.class)));
+            STREAM_HANDLES.put(IntWriter.instance, lookup.findVirtual(out, "write_long", MethodType.methodType(void.class, int.class)));
+            STREAM_HANDLES.put(LongWriter.instance, lookup.findVirtual(out, "write_longlong", MethodType.methodType(void.class, long.class)));
+            STREAM_HANDLES.put(ShortWriter.instance, lookup.findVirtual(out, "write_short", MethodType.methodType(void.class, short.class)));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Returns the abbreviated name of the marshaller for given
      * <code>Class</code>.
@@ -331,6 +385,28 @@ public class CDRStream {
         }
     }
 
+    /**
+     * Returns a method handle of type {@link #READ_TYPE} that unmarshals values
+     * like the given <code>CDRStreamReader</code>. Basic types are unmarshalled
+     * by a direct call to the corresponding stream method, without going
+     * through the reader.
+     */
+    public static MethodHandle readHandleFor(CDRStreamReader reader) {
+        MethodHandle handle = STREAM_HANDLES.get(reader);
+        return (handle != null) ? handle.asType(READ_TYPE) : READ.bindTo(reader);
+    }
+
+    /**
+     * Returns a method handle of type {@link #WRITE_TYPE} that marshals values
+     * like the given <code>CDRStreamWriter</code>. Basic types are marshalled
+     * by a direct call to the corresponding stream method, without going
+     * through the writer.
+     */
+    public static MethodHandle writeHandleFor(CDRStreamWriter writer) {
+        MethodHandle handle = STREAM_HANDLES.get(writer);
+        return (handle != null) ? handle.asType(WRITE_TYPE) : WRITE.bindTo(writer);
+    }
+
     // Private -----------------------------------------------------------------
 
     // Static inner classes (all of them private) ------------------------------
@@ -575,8 +651,8 @@ public class CDRStream {
             implements CDRStreamReader {
         private static Class[] paramTypes = {org.omg.CORBA.portable.InputStream.class};
 
-        // The readMethod for this IdlInterfaceReader.
-        private Method readMethod = null;
+        // The read method of the helper class, adapted to the type of read().
+        private final MethodHandle readMethod;
 
         IdlInterfaceReader(Class clz) {
             String helperClassName = clz.getName() + "Helper";
@@ -584,21 +660,24 @@ public class CDRStream {
             try {
                 Class helperClass =
                         clz.getClassLoader().loadClass(helperClassName);
-                readMethod = helperClass.getMethod("read", paramTypes);
+                Method method = helperClass.getMethod("read", paramTypes);
+                readMethod = MethodHandles.publicLookup().unreflect(method).asType(READ_TYPE);
             } catch (ClassNotFoundException e) {
                 throw IIOPLogger.ROOT_LOGGER.errorLoadingClass(helperClassName, e);
             } catch (NoSuchMethodException e) {
                 throw IIOPLogger.ROOT_LOGGER.noReadMethodInHelper(helperClassName, e);
+            } catch (IllegalAccessException e) {
+                throw IIOPLogger.ROOT_LOGGER.unexpectedException(e);
             }
         }
 
         public Object read(InputStream in) {
             try {
-                return readMethod.invoke(null, new Object[]{in});
-            } catch (IllegalAccessException e) {
-                throw IIOPLogger.ROOT_LOGGER.unexpectedException(e);
-            } catch (InvocationTargetException e) {
-                throw IIOPLogger.ROOT_LOGGER.errorUnmarshaling(org.omg.CORBA.Object.class, e.getTargetException());
+                return readMethod.invokeExact(in);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw IIOPLogger.ROOT_LOGGER.errorUnmarshaling(org.omg.CORBA.Object.class, e);
             }
         }
     }
@@ -875,8 +954,8 @@ public class CDRStream {
      */
     private static final class IdlInterfaceWriter
             implements CDRStreamWriter {
-        // The writeMethod for this IdlInterfaceReader.
-        private Method writeMethod = null;
+        // The write method of the helper class, adapted to the type of write().
+        private final MethodHandle writeMethod;
 
         IdlInterfaceWriter(Class clz) {
             String helperClassName = clz.getName() + "Helper";
@@ -888,21 +967,24 @@ public class CDRStream {
                         org.omg.CORBA.portable.OutputStream.class,
                         clz
                 };
-                writeMethod = helperClass.getMethod("write", paramTypes);
+                Method method = helperClass.getMethod("write", paramTypes);
+                writeMethod = MethodHandles.publicLookup().unreflect(method).asType(WRITE_TYPE);
             } catch (ClassNotFoundException e) {
                 throw IIOPLogger.ROOT_LOGGER.errorLoadingClass(helperClassName, e);
             } catch (NoSuchMethodException e) {
                 throw IIOPLogger.ROOT_LOGGER.noWriteMethodInHelper(helperClassName, e);
+            } catch (IllegalAccessException e) {
+                throw IIOPLogger.ROOT_LOGGER.unexpectedException(e);
             }
         }
 
         public void write(OutputStream out, Object obj) {
             try {
-                writeMethod.invoke(null, new Object[]{out, obj});
-            } catch (IllegalAccessException e) {
-                throw IIOPLogger.ROOT_LOGGER.unexpectedException(e);
-            } catch (InvocationTargetException e) {
-                throw IIOPLogger.ROOT_LOGGER.errorMarshaling(org.omg.CORBA.Object.class, e.getTargetException());
+                writeMethod.invokeExact(out, obj);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw IIOPLogger.ROOT_LOGGER.errorMarshaling(org.omg.CORBA.Object.class, e);
             }
         }
     }
@@ -4,6 +4,9 @@
  */
 package org.wildfly.iiop.openjdk.rmi.marshal.strategy;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.rmi.RemoteException;
 
@@ -36,6 +39,15 @@ public class SkeletonStrategy {
      */
     private final CDRStreamReader[] paramReaders;
 
+    /**
+     * If this <code>SkeletonStrategy</code> is compiled, a handle that
+     * unmarshals the whole sequence of method parameters. Otherwise it
+     * contains null.
+     *
+     * @see StrategyCompiler#compileParamsReader(MethodHandle[])
+     */
+    private final MethodHandle paramsReader;
+
     /**
      * A <code>Method</code> instance.
      */
@@ -58,9 +70,21 @@ public class SkeletonStrategy {
     // Public  -----------------------------------------------------------------
 
     /*
-    * Constructs a <code>SkeletonStrategy</code> for a given method.
+    * Constructs a <code>SkeletonStrategy</code> for a given method. The
+    * unmarshalling of the method parameters is compiled, unless the
+    * <code>org.wildfly.iiop.openjdk.compiled-strategies</code> system
+    * property is set to <code>false</code>.
     */
     public SkeletonStrategy(final Method m) {
+        this(m, StrategyCompiler.ENABLED);
+    }
+
+    /*
+    * Constructs a <code>SkeletonStrategy</code> for a given method, whose
+    * unmarshalling of the method parameters is compiled into a single method
+    * handle if <code>compiled</code> is true.
+    */
+    SkeletonStrategy(final Method m, final boolean compiled) {
         // Keep the method
         this.m = m;
 
@@ -71,6 +95,15 @@ public class SkeletonStrategy {
         for (int i = 0; i < len; i++) {
             paramReaders[i] = CDRStream.readerFor(paramTypes[i]);
         }
+        if (compiled) {
+            MethodHandle[] readers = new MethodHandle[len];
+            for (int i = 0; i < len; i++) {
+                readers[i] = CDRStream.readHandleFor(paramReaders[i]);
+            }
+            paramsReader = StrategyCompiler.compileParamsReader(readers);
+        } else {
+            paramsReader = null;
+        }
 
         // Initialize excepWriters
         Class[] excepTypes = m.getExceptionTypes();
@@ -101,6 +134,15 @@ public class SkeletonStrategy {
      * @return an object array with the parameters.
      */
     public Object[] readParams(InputStream in) {
+        if (paramsReader != null) {
+            try {
+                return (Object[]) paramsReader.invokeExact(in);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw IIOPLogger.ROOT_LOGGER.unexpectedException(e);
+            }
+        }
         int len = paramReaders.length;
         Object[] params = new Object[len];
         for (int i = 0; i < len; i++) {
@@ -170,7 +212,7 @@ public class SkeletonStrategy {
         * A null value indicates that the exception class does not correspond
         * to an IDL-defined exception.
         */
-        private Method writeMethod = null;
+        private MethodHandle writeMethod = null;
 
         /**
          * The CORBA repository id of the exception class. (This field is used
@@ -196,11 +238,14 @@ public class SkeletonStrategy {
                             clz.getClassLoader().loadClass(helperClassName);
                     Class[] paramTypes =
                             {org.omg.CORBA.portable.OutputStream.class, clz};
-                    writeMethod = helperClass.getMethod("write", paramTypes);
+                    writeMethod = MethodHandles.publicLookup().unreflect(helperClass.getMethod("write", paramTypes))
+                            .asType(MethodType.methodType(void.class, OutputStream.class, Object.class));
                 } catch (ClassNotFoundException e) {
                     throw IIOPLogger.ROOT_LOGGER.errorLoadingClass(helperClassName, e);
                 } catch (NoSuchMethodException e) {
                     throw IIOPLogger.ROOT_LOGGER.noWriteMethodInHelper(helperClassName, e);
+                } catch (IllegalAccessException e) {
+                    throw IIOPLogger.ROOT_LOGGER.unexpectedException(e);
                 }
 
             } else {
@@ -228,11 +273,11 @@ public class SkeletonStrategy {
         public void write(OutputStream out, Object excep) {
             if (writeMethod != null) {
                 try {
-                    writeMethod.invoke(null, new Object[]{out, excep});
-                } catch (IllegalAccessException e) {
-                    throw IIOPLogger.ROOT_LOGGER.unexpectedException(e);
-                } catch (java.lang.reflect.InvocationTargetException e) {
-                    throw IIOPLogger.ROOT_LOGGER.errorMarshaling(IDLEntity.class, e.getTargetException());
+                    writeMethod.invokeExact(out, excep);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw IIOPLogger.ROOT_LOGGER.errorMarshaling(IDLEntity.class, e);
                 }
             } else {
                 out.write_string(reposId);
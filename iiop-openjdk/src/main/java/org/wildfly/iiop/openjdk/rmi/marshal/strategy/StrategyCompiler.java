@@ -0,0 +1,78 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.iiop.openjdk.rmi.marshal.strategy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import org.omg.CORBA_2_3.portable.InputStream;
+import org.omg.CORBA_2_3.portable.OutputStream;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Compiles the per-parameter marshalling of an operation into a single
+ * method handle, which <code>StubStrategy</code> and
+ * <code>SkeletonStrategy</code> invoke instead of walking their arrays of
+ * <code>CDRStreamWriter</code>s and <code>CDRStreamReader</code>s.
+ * <p/>
+ * The compiled mode is enabled by default. Setting the
+ * {@value #ENABLED_PROPERTY} system property to <code>false</code> falls
+ * back to the array based marshalling, e.g. to rule out the compiled mode
+ * when diagnosing a marshalling issue.
+ */
+final class StrategyCompiler {
+
+    static final String ENABLED_PROPERTY = "org.wildfly.iiop.openjdk.compiled-strategies";
+
+    static final boolean ENABLED = Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(ENABLED_PROPERTY, "true"));
+
+    /**
+     * The type of the handles returned by {@link #compileParamsWriter(MethodHandle[])}.
+     */
+    static final MethodType PARAMS_WRITER_TYPE = MethodType.methodType(void.class, OutputStream.class, Object[].class);
+
+    /**
+     * The type of the handles returned by {@link #compileParamsReader(MethodHandle[])}.
+     */
+    static final MethodType PARAMS_READER_TYPE = MethodType.methodType(Object[].class, InputStream.class);
+
+    private StrategyCompiler() {
+    }
+
+    /**
+     * Returns a handle of type {@link #PARAMS_WRITER_TYPE} that marshals each
+     * element of the parameter array, in order, with the corresponding writer.
+     *
+     * @param writers handles of type <code>(OutputStream, Object)void</code>
+     */
+    static MethodHandle compileParamsWriter(MethodHandle[] writers) {
+        MethodHandle result = MethodHandles.empty(PARAMS_WRITER_TYPE);
+        MethodHandle getter = MethodHandles.arrayElementGetter(Object[].class);
+        // Fold from the last parameter, so that the first one is written first
+        for (int i = writers.length - 1; i >= 0; i--) {
+            MethodHandle element = MethodHandles.filterArguments(writers[i], 1, MethodHandles.insertArguments(getter, 1, i));
+            result = MethodHandles.foldArguments(result, element);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a handle of type {@link #PARAMS_READER_TYPE} that unmarshals,
+     * in order, one value with each reader into a new parameter array.
+     *
+     * @param readers handles of type <code>(InputStream)Object</code>
+     */
+    static MethodHandle compileParamsReader(MethodHandle[] readers) {
+        int len = readers.length;
+        // (Object, ..., Object, InputStream)Object[]
+        MethodHandle result = MethodHandles.dropArguments(MethodHandles.identity(Object[].class).asCollector(Object[].class, len), len, InputStream.class);
+        // Fold from the last parameter, so that the first one is read first
+        for (int i = len - 1; i >= 0; i--) {
+            result = MethodHandles.foldArguments(result, i, readers[i]);
+        }
+        return result;
+    }
+}
@@ -4,6 +4,9 @@
  */
 package org.wildfly.iiop.openjdk.rmi.marshal.strategy;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.rmi.NoSuchObjectException;
 import java.rmi.Remote;
 import java.util.ArrayList;
@@ -37,12 +40,30 @@ import org.wildfly.security.manager.WildFlySecurityManager;
  */
 public class StubStrategy {
 
+    private static final MethodHandle SUBSTITUTE;
+
+    static {
+        try {
+            SUBSTITUTE = MethodHandles.lookup().findStatic(StubStrategy.class, "substitute", MethodType.methodType(Object.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Each <code>CDRStreamWriter</code> in the array marshals a method
      * parameter.
      */
     private CDRStreamWriter[] paramWriters;
 
+    /**
+     * If this <code>StubStrategy</code> is compiled, a handle that marshals
+     * the whole sequence of method parameters. Otherwise it contains null.
+     *
+     * @see StrategyCompiler#compileParamsWriter(MethodHandle[])
+     */
+    private MethodHandle paramsWriter;
+
     /**
      * List of exception classes.
      */
@@ -70,6 +91,9 @@ public class StubStrategy {
      * Returns an <code>StubStrategy</code> for a method, given descriptions
      * of the method parameters, exceptions, and return value. Parameter and
      * return value descriptions are "marshaller abbreviated names".
+     * The marshalling of the parameters is compiled, unless the
+     * <code>org.wildfly.iiop.openjdk.compiled-strategies</code> system
+     * property is set to <code>false</code>.
      *
      * @param paramTypes a string array with marshaller abbreviated names for
      *                   the method parameters
@@ -97,7 +121,24 @@ public class StubStrategy {
         // org.jboss.proxy.ProxyAssembler.
 
         return new StubStrategy(paramTypes, excepIds,
-                excepTypes, retvalType, cl);
+                excepTypes, retvalType, cl, StrategyCompiler.ENABLED);
+    }
+
+    /**
+     * Returns an <code>StubStrategy</code> for a method, either compiled or
+     * not regardless of the <code>org.wildfly.iiop.openjdk.compiled-strategies</code>
+     * system property.
+     *
+     * @see #forMethod(String[], String[], String[], String, ClassLoader)
+     */
+    static StubStrategy forMethod(String[] paramTypes,
+                                  String[] excepIds,
+                                  String[] excepTypes,
+                                  String retvalType,
+                                  ClassLoader cl,
+                                  boolean compiled) {
+        return new StubStrategy(paramTypes, excepIds,
+                excepTypes, retvalType, cl, compiled);
     }
 
 
@@ -118,11 +159,13 @@ public class StubStrategy {
      * @param cl         a <code>ClassLoader</code> to load value classes
      *                   (if null, the current thread's context class loader
      *                   will be used)
+     * @param compiled   whether the marshalling of the method parameters is
+     *                   compiled into a single method handle
      * @see CDRStream#abbrevFor(Class clz)
      */
     private StubStrategy(String[] paramTypes, String[] excepIds,
                          String[] excepTypes, String retvalType,
-                         ClassLoader cl) {
+                         ClassLoader cl, boolean compiled) {
         if (cl == null) {
             cl = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
         }
@@ -133,6 +176,17 @@ public class StubStrategy {
         for (int i = 0; i < len; i++) {
             paramWriters[i] = CDRStream.writerFor(paramTypes[i], cl);
         }
+        if (compiled) {
+            MethodHandle[] writers = new MethodHandle[len];
+            for (int i = 0; i < len; i++) {
+                writers[i] = CDRStream.writeHandleFor(paramWriters[i]);
+                if ("ZBCDFIJS".indexOf(paramTypes[i].charAt(0)) < 0) {
+                    // Parameters of non-basic types may need to be replaced
+                    writers[i] = MethodHandles.filterArguments(writers[i], 1, SUBSTITUTE);
+                }
+            }
+            paramsWriter = StrategyCompiler.compileParamsWriter(writers);
+        }
 
         // Initialize exception list and exception map
         exceptionList = new ArrayList<Class<?>>();
@@ -175,17 +229,33 @@ public class StubStrategy {
         if (len != paramWriters.length) {
             throw IIOPLogger.ROOT_LOGGER.errorMashalingParams();
         }
+        if (paramsWriter != null) {
+            try {
+                paramsWriter.invokeExact(out, params);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw IIOPLogger.ROOT_LOGGER.unexpectedException(e);
+            }
+            return;
+        }
         for (int i = 0; i < len; i++) {
-            Object param = params[i];
-            if (param instanceof PortableRemoteObject) {
-                try {
-                    param = PortableRemoteObject.toStub((Remote) param);
-                } catch (NoSuchObjectException e) {
-                    throw new RuntimeException(e);
-                }
+            paramWriters[i].write(out, substitute(params[i]));
+        }
+    }
+
+    /**
+     * Replaces a method parameter by the object to be marshalled in its place.
+     */
+    private static Object substitute(Object param) {
+        if (param instanceof PortableRemoteObject) {
+            try {
+                param = PortableRemoteObject.toStub((Remote) param);
+            } catch (NoSuchObjectException e) {
+                throw new RuntimeException(e);
             }
-            paramWriters[i].write(out, RemoteObjectSubstitutionManager.writeReplaceRemote(param));
         }
+        return RemoteObjectSubstitutionManager.writeReplaceRemote(param);
     }
 
     /**
@@ -278,7 +348,7 @@ public class StubStrategy {
         * A null value indicates that the exception class does not correspond
         * to an IDL-defined exception.
         */
-        private java.lang.reflect.Method readMethod = null;
+        private MethodHandle readMethod = null;
 
         /**
          * Constructs an <code>ExceptionReader</code> for a given exception
@@ -294,7 +364,8 @@ public class StubStrategy {
                 try {
                     Class<?> helperClass = clz.getClassLoader().loadClass(helperClassName);
                     Class<?>[] paramTypes = {org.omg.CORBA.portable.InputStream.class};
-                    readMethod = helperClass.getMethod("read", paramTypes);
+                    readMethod = MethodHandles.publicLookup().unreflect(helperClass.getMethod("read", paramTypes))
+                            .asType(MethodType.methodType(Exception.class, InputStream.class));
 
                     // Ignore the reposId parameter and use the id
                     // returned by the IDL-generated helper class
@@ -326,11 +397,11 @@ public class StubStrategy {
         public Exception read(InputStream in) {
             if (readMethod != null) {
                 try {
-                    return (Exception) readMethod.invoke(null, new Object[]{in});
-                } catch (IllegalAccessException e) {
-                    throw IIOPLogger.ROOT_LOGGER.unexpectedException(e);
-                } catch (java.lang.reflect.InvocationTargetException e) {
-                    throw IIOPLogger.ROOT_LOGGER.errorUnmarshaling(IDLEntity.class, e.getTargetException());
+                    return (Exception) readMethod.invokeExact(in);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw IIOPLogger.ROOT_LOGGER.errorUnmarshaling(IDLEntity.class, e);
                 }
             } else {
                 in.read_string(); // read and discard the repository id
@@ -0,0 +1,176 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.iiop.openjdk.rmi.marshal.strategy;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.rmi.Remote;
+import java.rmi.RemoteException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.omg.CORBA.ORB;
+import org.omg.CORBA_2_3.portable.InputStream;
+import org.omg.CORBA_2_3.portable.OutputStream;
+import org.omg.CosNaming.NameComponent;
+import org.omg.CosNaming.NamingContext;
+import org.omg.CosNaming.NamingContextPackage.NotFound;
+import org.omg.CosNaming.NamingContextPackage.NotFoundHelper;
+import org.omg.CosNaming.NamingContextPackage.NotFoundReason;
+import org.wildfly.iiop.openjdk.Constants;
+import org.wildfly.iiop.openjdk.rmi.marshal.CDRStream;
+
+/**
+ * Marshals invocations through the CDR streams of a local ORB, from a {@link StubStrategy} to a
+ * {@link SkeletonStrategy} and back, with and without compiled strategies.
+ */
+public class StrategyLoopbackTestCase {
+
+    private static final String BENCHMARK_PROPERTY = "iiop.marshal.benchmark";
+    private static final int ITERATIONS = 500_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    private static ORB orb;
+
+    @BeforeClass
+    public static void init() {
+        Properties properties = new Properties();
+        properties.setProperty(Constants.ORB_CLASS, "com.sun.corba.se.impl.orb.ORBImpl");
+        properties.setProperty(Constants.ORB_SINGLETON_CLASS, "com.sun.corba.se.impl.orb.ORBSingleton");
+        orb = ORB.init(new String[0], properties);
+    }
+
+    @AfterClass
+    public static void destroy() {
+        orb.destroy();
+    }
+
+    @Test
+    public void interpreted() throws Exception {
+        this.loopback(false);
+    }
+
+    @Test
+    public void compiled() throws Exception {
+        this.loopback(true);
+    }
+
+    /**
+     * Compares the time spent marshalling and unmarshalling parameters in both modes.
+     * Each stream holds a batch of invocations, and only the calls to the strategies are timed,
+     * so that creating the ORB streams does not dominate the measurement.
+     * Only runs if the {@value #BENCHMARK_PROPERTY} system property is set, since it adds several seconds to the build.
+     */
+    @Test
+    public void benchmark() throws Exception {
+        Assume.assumeTrue(Boolean.getBoolean(BENCHMARK_PROPERTY));
+        Object[] params = params();
+        StubStrategy[] stubs = { stub(false), stub(true) };
+        SkeletonStrategy[] skeletons = { skeleton(false), skeleton(true) };
+        long[][] durations = { { Long.MAX_VALUE, Long.MAX_VALUE }, { Long.MAX_VALUE, Long.MAX_VALUE } };
+        // Alternate both modes, and keep the best time of each, so that warm up and noise do not favour either mode
+        for (int run = 0; run < 5; run++) {
+            for (int i = 0; i < 2; i++) {
+                long[] measured = this.measure(stubs[i], skeletons[i], params);
+                durations[i][0] = Math.min(durations[i][0], measured[0]);
+                durations[i][1] = Math.min(durations[i][1], measured[1]);
+            }
+        }
+        String message = String.format("writeParams: %d ns/invocation with array strategies, %d ns/invocation with compiled strategies; readParams: %d ns/invocation with array strategies, %d ns/invocation with compiled strategies",
+                durations[0][0] / ITERATIONS, durations[1][0] / ITERATIONS, durations[0][1] / ITERATIONS, durations[1][1] / ITERATIONS);
+        System.out.println(message);
+        // Compiled strategies are enabled by default, so they must not be slower, within a 10% margin for noise
+        long array = durations[0][0] + durations[0][1];
+        long compiled = durations[1][0] + durations[1][1];
+        assertTrue(message, compiled < array + array / 10);
+    }
+
+    /**
+     * Returns the time spent in {@link StubStrategy#writeParams(OutputStream, Object[])}
+     * and in {@link SkeletonStrategy#readParams(InputStream)}, in nanoseconds.
+     */
+    private long[] measure(StubStrategy stub, SkeletonStrategy skeleton, Object[] params) {
+        long write = 0;
+        long read = 0;
+        for (int batch = 0; batch < ITERATIONS / BATCH_SIZE; batch++) {
+            OutputStream request = (OutputStream) orb.create_output_stream();
+            long start = System.nanoTime();
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                stub.writeParams(request, params);
+            }
+            write += System.nanoTime() - start;
+            InputStream in = (InputStream) request.create_input_stream();
+            Object[] received = null;
+            start = System.nanoTime();
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                received = skeleton.readParams(in);
+            }
+            read += System.nanoTime() - start;
+            assertArrayEquals(params, received);
+        }
+        return new long[] { write, read };
+    }
+
+    private void loopback(boolean compiled) throws Exception {
+        StubStrategy stub = stub(compiled);
+        SkeletonStrategy skeleton = skeleton(compiled);
+        assertTrue(stub.isNonVoid());
+        assertTrue(skeleton.isNonVoid());
+
+        Object[] params = params();
+        OutputStream request = (OutputStream) orb.create_output_stream();
+        stub.writeParams(request, params);
+        assertArrayEquals(params, skeleton.readParams((InputStream) request.create_input_stream()));
+
+        OutputStream reply = (OutputStream) orb.create_output_stream();
+        skeleton.writeRetval(reply, 42L);
+        assertEquals(42L, stub.readRetval((InputStream) reply.create_input_stream()));
+
+        NotFound exception = new NotFound(NotFoundReason.missing_node, new NameComponent[] { new NameComponent("id", "kind") });
+        assertTrue(stub.isDeclaredException(exception));
+        assertFalse(stub.isDeclaredException(new IllegalStateException()));
+        OutputStream exceptionReply = (OutputStream) orb.create_output_stream();
+        skeleton.writeException(exceptionReply, exception);
+        Exception received = stub.readException(NotFoundHelper.id(), (InputStream) exceptionReply.create_input_stream());
+        assertTrue(received instanceof NotFound);
+        assertEquals(NotFoundReason.missing_node, ((NotFound) received).why);
+        assertEquals("id", ((NotFound) received).rest_of_name[0].id);
+    }
+
+    private static Object[] params() {
+        return new Object[] { 7, TimeUnit.SECONDS.toMillis(3), 1.5d, Boolean.TRUE, 'x', (short) 2, (byte) 1, 2.5f, "value", null };
+    }
+
+    private static StubStrategy stub(boolean compiled) throws Exception {
+        Method method = method();
+        Class<?>[] types = method.getParameterTypes();
+        String[] paramTypes = new String[types.length];
+        for (int i = 0; i < types.length; i++) {
+            paramTypes[i] = CDRStream.abbrevFor(types[i]);
+        }
+        return StubStrategy.forMethod(paramTypes, new String[] { NotFoundHelper.id() }, new String[] { NotFound.class.getName() },
+                CDRStream.abbrevFor(method.getReturnType()), StrategyLoopbackTestCase.class.getClassLoader(), compiled);
+    }
+
+    private static SkeletonStrategy skeleton(boolean compiled) throws Exception {
+        return new SkeletonStrategy(method(), compiled);
+    }
+
+    private static Method method() throws NoSuchMethodException {
+        return Operations.class.getMethod("invoke", int.class, long.class, double.class, boolean.class, char.class, short.class, byte.class, float.class, String.class, NamingContext.class);
+    }
+
+    public interface Operations extends Remote {
+        long invoke(int i, long l, double d, boolean z, char c, short s, byte b, float f, String string, NamingContext context) throws RemoteException, NotFound;
+    }
+}
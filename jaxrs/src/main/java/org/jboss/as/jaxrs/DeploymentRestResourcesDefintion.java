@@ -24,6 +24,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 import jakarta.ws.rs.CookieParam;
 import jakarta.ws.rs.DefaultValue;
@@ -44,11 +46,16 @@ import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleListAttributeDefinition;
+import org.jboss.as.controller.SimpleMapAttributeDefinition;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.OperationContext.AttachmentKey;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.jaxrs.logging.JaxrsLogger;
+import org.jboss.as.jaxrs.statistics.DeploymentStatistics;
+import org.jboss.as.jaxrs.statistics.ResourceMethodStatistics;
 import org.jboss.as.server.Services;
 import org.jboss.as.server.moduleservice.ServiceModuleLoader;
 import org.jboss.dmr.ModelNode;
@@ -116,6 +123,43 @@ public class DeploymentRestResourcesDefintion extends SimpleResourceDefinition {
     public static final ObjectListAttributeDefinition SUB_RESOURCE_LOCATORS = new ObjectListAttributeDefinition.Builder(
             "sub-resource-locators", SUB_RESOURCE_LOCATOR).build();
 
+    public static final AttributeDefinition INVOCATIONS = new SimpleAttributeDefinitionBuilder("invocations", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    public static final AttributeDefinition ERRORS = new SimpleAttributeDefinitionBuilder("errors", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    public static final AttributeDefinition ACTIVE_INVOCATIONS = new SimpleAttributeDefinitionBuilder("active-invocations", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setStorageRuntime()
+            .build();
+
+    public static final AttributeDefinition EXECUTION_TIME = new SimpleAttributeDefinitionBuilder("execution-time", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setFlags(AttributeAccess.Flag.STORAGE_RUNTIME, AttributeAccess.Flag.COUNTER_METRIC)
+            .build();
+
+    public static final AttributeDefinition MAX_EXECUTION_TIME = new SimpleAttributeDefinitionBuilder("max-execution-time", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setStorageRuntime()
+            .build();
+
+    public static final AttributeDefinition LATENCY_HISTOGRAM = new SimpleMapAttributeDefinition.Builder("latency-histogram", ModelType.LONG, true)
+            .setStorageRuntime()
+            .build();
+
+    public static final ObjectTypeAttributeDefinition RESOURCE_METHOD_STATISTICS_GRP = new ObjectTypeAttributeDefinition.Builder(
+            "resource-method-statistics-group", JAVA_METHOD, INVOCATIONS, ERRORS, ACTIVE_INVOCATIONS, EXECUTION_TIME, MAX_EXECUTION_TIME, LATENCY_HISTOGRAM).build();
+
+    public static final ObjectListAttributeDefinition RESOURCE_METHOD_STATISTICS = new ObjectListAttributeDefinition.Builder(
+            "resource-method-statistics", RESOURCE_METHOD_STATISTICS_GRP).build();
+
     private AttachmentKey<Map<PathAddress, UndertowDeploymentService>> undertowDeployServiceKey = AttachmentKey.create(Map.class);
     private AttachmentKey<Map<PathAddress, Module>> deploymentModuleKey = AttachmentKey.create(Map.class);
     private AttachmentKey<Map<String, ResourceMeta>> resourceMetaKey = AttachmentKey.create(Map.class);
@@ -155,6 +199,66 @@ public class DeploymentRestResourcesDefintion extends SimpleResourceDefinition {
                 }
             }
         });
+
+        // Statistics are only recorded if enabled in the subsystem, and are exposed by the metrics subsystem
+        resourceRegistration.registerMetric(INVOCATIONS, new RestResStatisticsReadHandler(sum(ResourceMethodStatistics::getInvocations)));
+        resourceRegistration.registerMetric(ERRORS, new RestResStatisticsReadHandler(sum(ResourceMethodStatistics::getErrors)));
+        resourceRegistration.registerMetric(ACTIVE_INVOCATIONS, new RestResStatisticsReadHandler(sum(ResourceMethodStatistics::getActiveInvocations)));
+        resourceRegistration.registerMetric(EXECUTION_TIME, new RestResStatisticsReadHandler(sum(ResourceMethodStatistics::getExecutionTime)));
+        resourceRegistration.registerMetric(MAX_EXECUTION_TIME, new RestResStatisticsReadHandler(statistics -> new ModelNode(statistics.stream()
+                .mapToLong(ResourceMethodStatistics::getMaxExecutionTime).max().orElse(0L))));
+        resourceRegistration.registerMetric(RESOURCE_METHOD_STATISTICS, new RestResStatisticsReadHandler(statistics -> {
+            final ModelNode response = new ModelNode().setEmptyList();
+            for (ResourceMethodStatistics methodStatistics : statistics) {
+                response.add(methodStatistics.toModelNode());
+            }
+            return response;
+        }));
+    }
+
+    private static Function<List<ResourceMethodStatistics>, ModelNode> sum(ToLongFunction<ResourceMethodStatistics> metric) {
+        return statistics -> new ModelNode(statistics.stream().mapToLong(metric).sum());
+    }
+
+    /**
+     * Reads the statistics of the resource methods of a REST resource from the statistics of its deployment, if enabled.
+     */
+    private static class RestResStatisticsReadHandler implements OperationStepHandler {
+        private final Function<List<ResourceMethodStatistics>, ModelNode> reader;
+
+        RestResStatisticsReadHandler(Function<List<ResourceMethodStatistics>, ModelNode> reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            PathAddress address = context.getCurrentAddress();
+            String clsName = address.getLastElement().getValue();
+            final PathAddress parentAddress = address.getParent();
+            final ModelNode subModel = context.readResourceFromRoot(parentAddress.subAddress(0, parentAddress.size() - 1).append(SUBSYSTEM, UndertowExtension.SUBSYSTEM_NAME), false).getModel();
+            final String host = VIRTUAL_HOST.resolveModelAttribute(context, subModel).asString();
+            final String contextPath = CONTEXT_ROOT.resolveModelAttribute(context, subModel).asString();
+            final String server = SERVER.resolveModelAttribute(context, subModel).asString();
+
+            final ServiceController<?> controller = context.getServiceRegistry(false).getService(UndertowService.deploymentServiceName(server, host, contextPath));
+            if (controller == null) {
+                return;
+            }
+            final UndertowDeploymentService deploymentService = (UndertowDeploymentService) controller.getService();
+            if (deploymentService.getDeployment() == null) {
+                return;
+            }
+            final ClassLoader classLoader = deploymentService.getDeployment().getDeploymentInfo().getClassLoader();
+            final DeploymentStatistics statistics = DeploymentStatistics.forClassLoader(classLoader);
+            if (statistics == null) {
+                return;
+            }
+            try {
+                context.getResult().set(this.reader.apply(statistics.getResourceStatistics(Class.forName(clsName, false, classLoader))));
+            } catch (ClassNotFoundException ex) {
+                JaxrsLogger.JAXRS_LOGGER.failedToReadAttribute(ex, address, operation.get(NAME));
+            }
+        }
     }
 
     abstract class AbstractRestResReadHandler implements OperationStepHandler {
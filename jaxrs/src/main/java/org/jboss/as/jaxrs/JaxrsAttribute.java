@@ -338,6 +338,16 @@ public abstract class JaxrsAttribute {
             .setRestartAllServices()
             .build();
 
+    static final SimpleAttributeDefinition STATISTICS_ENABLED = new SimpleAttributeDefinitionBuilder("statistics-enabled", ModelType.BOOLEAN)
+            .setRequired(false)
+            .setAllowExpression(true)
+            .setValidator(new ModelTypeValidator(ModelType.BOOLEAN, false))
+            .setDefaultValue(ModelNode.FALSE)
+            .setAttributeMarshaller(AttributeMarshallers.SIMPLE_ELEMENT)
+            .setAttributeParser(AttributeParsers.SIMPLE_ELEMENT)
+            .setRestartAllServices()
+            .build();
+
     static final SimpleAttributeDefinition TRACING_TYPE = SimpleAttributeDefinitionBuilder.create("tracing-type", ModelType.STRING)
             .addAccessConstraint(TRACING_MANAGEMENT_CONSTRAINT)
             .setAllowExpression(true)
@@ -385,6 +395,7 @@ public abstract class JaxrsAttribute {
             RESTEASY_USE_BUILTIN_PROVIDERS,
             RESTEASY_USE_CONTAINER_FORM_PARAMS,
             RESTEASY_WIDER_REQUEST_MATCHING,
+            STATISTICS_ENABLED,
             TRACING_TYPE,
             TRACING_THRESHOLD,
     };
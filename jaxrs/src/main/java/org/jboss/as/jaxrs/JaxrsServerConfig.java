@@ -13,6 +13,7 @@ import java.util.Map;
 public class JaxrsServerConfig {
 
     private final Map<String, String> contextParameters;
+    private boolean statisticsEnabled;
 
     public JaxrsServerConfig() {
         contextParameters = new LinkedHashMap<>();
@@ -36,4 +37,22 @@ public class JaxrsServerConfig {
     public Map<String, String> getContextParameters() {
         return Map.copyOf(contextParameters);
     }
+
+    /**
+     * Enables or disables the recording of per resource method statistics.
+     *
+     * @param statisticsEnabled {@code true} to record statistics, {@code false} otherwise
+     */
+    protected void setStatisticsEnabled(final boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    /**
+     * Indicates whether per resource method statistics are recorded for deployments.
+     *
+     * @return {@code true} if statistics are recorded, {@code false} otherwise
+     */
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
 }
@@ -49,9 +49,10 @@ enum JaxrsSubsystemSchema implements PersistentSubsystemSchema<JaxrsSubsystemSch
             JaxrsAttribute.TRACING_TYPE,
             JaxrsAttribute.TRACING_THRESHOLD),
     VERSION_4_0_0(4, 0, Stability.DEFAULT, VERSION_3_0_0, JaxrsAttribute.RESTEASY_PATCHFILTER_DISABLED),
+    VERSION_5_0_0(5, 0, Stability.DEFAULT, VERSION_4_0_0, JaxrsAttribute.STATISTICS_ENABLED),
     ;
 
-    static final JaxrsSubsystemSchema CURRENT = VERSION_4_0_0;
+    static final JaxrsSubsystemSchema CURRENT = VERSION_5_0_0;
 
     private final VersionedNamespace<IntVersion, JaxrsSubsystemSchema> namespace;
     private final AttributeDefinition[] attributes;
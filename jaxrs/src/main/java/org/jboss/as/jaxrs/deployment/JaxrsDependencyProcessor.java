@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.jboss.as.controller.capability.CapabilityServiceSupport;
+import org.jboss.as.jaxrs.JaxrsServerConfig;
 import org.jboss.as.server.deployment.Attachments;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
@@ -55,6 +56,14 @@ import org.jboss.vfs.VirtualFile;
 public class JaxrsDependencyProcessor implements DeploymentUnitProcessor {
 
     private static final String CLIENT_BUILDER = "META-INF/services/jakarta.ws.rs.client.ClientBuilder";
+    private static final String JAXRS_MODULE = "org.jboss.as.jaxrs";
+    private static final String STATISTICS_PACKAGE = "org/jboss/as/jaxrs/statistics";
+
+    private final JaxrsServerConfig contextConfiguration;
+
+    public JaxrsDependencyProcessor(final JaxrsServerConfig contextConfiguration) {
+        this.contextConfiguration = contextConfiguration;
+    }
 
     @Override
     public void deploy(DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
@@ -102,6 +111,13 @@ public class JaxrsDependencyProcessor implements DeploymentUnitProcessor {
             final ModuleDependency dep = ModuleDependency.Builder.of(moduleLoader, RESTEASY_VALIDATOR).setOptional(true).setExport(true).setImportServices(true).build();
             moduleSpecification.addSystemDependency(dep);
         }
+        // The statistics feature and listener are instantiated by the deployment, so only expose their package
+        if (contextConfiguration.isStatisticsEnabled() && JaxrsDeploymentMarker.isJaxrsDeployment(deploymentUnit)) {
+            final ModuleDependency dependency = ModuleDependency.Builder.of(moduleLoader, JAXRS_MODULE).build();
+            dependency.addImportFilter(PathFilters.is(STATISTICS_PACKAGE), true);
+            dependency.addImportFilter(PathFilters.rejectAll(), false);
+            moduleSpecification.addSystemDependency(dependency);
+        }
     }
 
     private boolean isClientBuilderInDeployment(DeploymentUnit deploymentUnit) {
@@ -29,6 +29,9 @@ import org.jboss.as.jaxrs.Jackson2Annotations;
 import org.jboss.as.jaxrs.JacksonAnnotations;
 import org.jboss.as.jaxrs.JaxrsExtension;
 import org.jboss.as.jaxrs.JaxrsServerConfig;
+import org.jboss.as.jaxrs.statistics.DeploymentStatistics;
+import org.jboss.as.jaxrs.statistics.ResourceMethodStatisticsFeature;
+import org.jboss.as.jaxrs.statistics.ResourceMethodStatisticsListener;
 import org.jboss.as.server.deployment.Attachments;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentResourceSupport;
@@ -44,6 +47,7 @@ import org.jboss.metadata.javaee.spec.ParamValueMetaData;
 import org.jboss.metadata.web.jboss.JBossServletMetaData;
 import org.jboss.metadata.web.jboss.JBossServletsMetaData;
 import org.jboss.metadata.web.jboss.JBossWebMetaData;
+import org.jboss.metadata.web.spec.ListenerMetaData;
 import org.jboss.metadata.web.spec.ServletMappingMetaData;
 import org.jboss.modules.Module;
 import org.jboss.modules.ModuleLoadException;
@@ -97,6 +101,9 @@ public class JaxrsIntegrationProcessor implements DeploymentUnitProcessor {
             final CapabilityServiceSupport support = deploymentUnit.getAttachment(Attachments.CAPABILITY_SERVICE_SUPPORT);
             final WildFlyConfigurationFactory configurationFactory = WildFlyConfigurationFactory.getInstance();
             configurationFactory.register(module.getClassLoader(), useMicroProfileConfig(module, support));
+            if (contextConfiguration.isStatisticsEnabled()) {
+                addStatistics(webdata, module);
+            }
         }
 
         final List<ParamValueMetaData> params = webdata.getContextParams();
@@ -275,6 +282,31 @@ public class JaxrsIntegrationProcessor implements DeploymentUnitProcessor {
         }
     }
 
+    private void addStatistics(JBossWebMetaData webdata, Module module) {
+        DeploymentStatistics.register(module.getClassLoader());
+        final String feature = ResourceMethodStatisticsFeature.class.getName();
+        // Duplicate context parameters override one another, so add the feature to the last one
+        ParamValueMetaData providers = null;
+        if (webdata.getContextParams() != null) {
+            for (ParamValueMetaData param : webdata.getContextParams()) {
+                if (param.getParamName().equals(ResteasyContextParameters.RESTEASY_PROVIDERS)) {
+                    providers = param;
+                }
+            }
+        }
+        if (providers == null) {
+            setContextParameter(webdata, ResteasyContextParameters.RESTEASY_PROVIDERS, feature);
+        } else {
+            providers.setParamValue(providers.getParamValue() + "," + feature);
+        }
+        final ListenerMetaData listener = new ListenerMetaData();
+        listener.setListenerClass(ResourceMethodStatisticsListener.class.getName());
+        if (webdata.getListeners() == null) {
+            webdata.setListeners(new ArrayList<>());
+        }
+        webdata.getListeners().add(listener);
+    }
+
     protected void setServletInitParam(JBossServletMetaData servlet, String name, String value) {
         ParamValueMetaData param = new ParamValueMetaData();
         param.setParamName(name);
@@ -365,6 +397,7 @@ public class JaxrsIntegrationProcessor implements DeploymentUnitProcessor {
             // Remove the deployment from the registered configuration factory
             if (module != null && JaxrsDeploymentMarker.isJaxrsDeployment(context)) {
                 WildFlyConfigurationFactory.getInstance().unregister(module.getClassLoader());
+                DeploymentStatistics.unregister(module.getClassLoader());
             }
         }
     }
@@ -0,0 +1,76 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jaxrs.statistics;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The resource method statistics of a deployment, registered by the class loader of the deployment for the lifetime of
+ * the deployment when statistics are enabled in the jaxrs subsystem.
+ */
+public class DeploymentStatistics {
+
+    private static final Map<ClassLoader, DeploymentStatistics> DEPLOYMENTS = new ConcurrentHashMap<>();
+
+    /**
+     * Registers the statistics of the deployment using the specified class loader.
+     *
+     * @param classLoader the class loader of a deployment
+     */
+    public static void register(final ClassLoader classLoader) {
+        DEPLOYMENTS.put(classLoader, new DeploymentStatistics());
+    }
+
+    /**
+     * Discards the statistics of the deployment using the specified class loader, if any.
+     *
+     * @param classLoader the class loader of a deployment
+     */
+    public static void unregister(final ClassLoader classLoader) {
+        DEPLOYMENTS.remove(classLoader);
+    }
+
+    /**
+     * Returns the statistics of the deployment using the specified class loader.
+     *
+     * @param classLoader the class loader of a deployment
+     * @return the statistics of the deployment, or {@code null} if statistics are not enabled for the deployment
+     */
+    public static DeploymentStatistics forClassLoader(final ClassLoader classLoader) {
+        return DEPLOYMENTS.get(classLoader);
+    }
+
+    private final Map<Class<?>, Map<Method, ResourceMethodStatistics>> resources = new ConcurrentHashMap<>();
+
+    ResourceMethodStatistics getMethodStatistics(final Class<?> resourceClass, final Method method) {
+        return this.resources.computeIfAbsent(resourceClass, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(method, key -> new ResourceMethodStatistics(resourceClass, key));
+    }
+
+    /**
+     * Returns the statistics of the resource methods of the specified resource class, including the methods of the resource
+     * interfaces it implements, ordered by signature.
+     *
+     * @param resourceClass a resource class
+     * @return the statistics of each invoked resource method of the resource class
+     */
+    public List<ResourceMethodStatistics> getResourceStatistics(final Class<?> resourceClass) {
+        final List<ResourceMethodStatistics> result = new ArrayList<>();
+        for (Map.Entry<Class<?>, Map<Method, ResourceMethodStatistics>> entry : this.resources.entrySet()) {
+            final Class<?> statisticsClass = entry.getKey();
+            if (statisticsClass.equals(resourceClass) || (statisticsClass.isInterface() && statisticsClass.isAssignableFrom(resourceClass))) {
+                result.addAll(entry.getValue().values());
+            }
+        }
+        result.sort(Comparator.comparing(ResourceMethodStatistics::getJavaMethod));
+        return result;
+    }
+}
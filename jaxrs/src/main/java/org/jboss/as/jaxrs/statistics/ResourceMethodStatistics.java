@@ -0,0 +1,163 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jaxrs.statistics;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Runtime statistics of a single resource method, recorded using striped counters so that concurrent invocations do not
+ * contend on a shared memory location.
+ * An invocation is considered to have failed if it produced a server error response, or if it threw an exception which
+ * was not mapped to a response.
+ */
+public class ResourceMethodStatistics {
+
+    /**
+     * Upper bounds of the buckets of the latency histogram, in milliseconds.
+     */
+    static final long[] LATENCY_BUCKETS = new long[] { 1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000 };
+    private static final long[] LATENCY_BUCKET_NANOS = Arrays.stream(LATENCY_BUCKETS).map(TimeUnit.MILLISECONDS::toNanos).toArray();
+
+    private final String javaMethod;
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder activeInvocations = new LongAdder();
+    private final LongAdder executionTime = new LongAdder();
+    private final LongAccumulator maxExecutionTime = new LongAccumulator(Math::max, 0);
+    // The last bucket counts the invocations exceeding the greatest bound
+    private final LongAdder[] latencyHistogram = new LongAdder[LATENCY_BUCKETS.length + 1];
+
+    ResourceMethodStatistics(final Class<?> resourceClass, final Method method) {
+        this.javaMethod = formatJavaMethod(resourceClass, method);
+        for (int i = 0; i < this.latencyHistogram.length; ++i) {
+            this.latencyHistogram[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records the start of an invocation.
+     *
+     * @return the start time of the invocation, to be passed to {@link #invocationCompleted(long, boolean)}
+     */
+    long invocationStarted() {
+        this.activeInvocations.increment();
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the completion of an invocation.
+     *
+     * @param start the start time of the invocation, as returned by {@link #invocationStarted()}
+     * @param failed {@code true} if the invocation failed, {@code false} otherwise
+     */
+    void invocationCompleted(final long start, final boolean failed) {
+        final long nanos = System.nanoTime() - start;
+        this.activeInvocations.decrement();
+        this.invocations.increment();
+        if (failed) {
+            this.errors.increment();
+        }
+        this.executionTime.add(nanos);
+        this.maxExecutionTime.accumulate(nanos);
+        this.latencyHistogram[bucket(nanos)].increment();
+    }
+
+    /**
+     * @return the signature of this resource method
+     */
+    public String getJavaMethod() {
+        return this.javaMethod;
+    }
+
+    /**
+     * @return the number of completed invocations of this resource method
+     */
+    public long getInvocations() {
+        return this.invocations.sum();
+    }
+
+    /**
+     * @return the number of completed invocations of this resource method which failed
+     */
+    public long getErrors() {
+        return this.errors.sum();
+    }
+
+    /**
+     * @return the number of invocations of this resource method currently in progress
+     */
+    public long getActiveInvocations() {
+        return this.activeInvocations.sum();
+    }
+
+    /**
+     * @return the total execution time of the completed invocations of this resource method, in milliseconds
+     */
+    public long getExecutionTime() {
+        return TimeUnit.NANOSECONDS.toMillis(this.executionTime.sum());
+    }
+
+    /**
+     * @return the greatest execution time of this resource method, in milliseconds
+     */
+    public long getMaxExecutionTime() {
+        return TimeUnit.NANOSECONDS.toMillis(this.maxExecutionTime.get());
+    }
+
+    /**
+     * Returns the cumulative latency histogram of this resource method, where the element at a given index is the number of
+     * invocations which completed within the bound at the same index of {@link #LATENCY_BUCKETS}, and the last element is
+     * the number of completed invocations.
+     *
+     * @return the cumulative number of invocations per latency bucket
+     */
+    long[] getLatencyHistogram() {
+        final long[] histogram = new long[this.latencyHistogram.length];
+        long count = 0;
+        for (int i = 0; i < histogram.length; ++i) {
+            count += this.latencyHistogram[i].sum();
+            histogram[i] = count;
+        }
+        return histogram;
+    }
+
+    ModelNode toModelNode() {
+        final ModelNode node = new ModelNode();
+        node.get("java-method").set(this.getJavaMethod());
+        node.get("invocations").set(this.getInvocations());
+        node.get("errors").set(this.getErrors());
+        node.get("active-invocations").set(this.getActiveInvocations());
+        node.get("execution-time").set(this.getExecutionTime());
+        node.get("max-execution-time").set(this.getMaxExecutionTime());
+        final ModelNode histogramNode = node.get("latency-histogram").setEmptyObject();
+        final long[] histogram = this.getLatencyHistogram();
+        for (int i = 0; i < LATENCY_BUCKETS.length; ++i) {
+            histogramNode.get(Long.toString(LATENCY_BUCKETS[i])).set(histogram[i]);
+        }
+        histogramNode.get("+Inf").set(histogram[LATENCY_BUCKETS.length]);
+        return node;
+    }
+
+    static int bucket(final long nanos) {
+        final int index = Arrays.binarySearch(LATENCY_BUCKET_NANOS, nanos);
+        return (index >= 0) ? index : -index - 1;
+    }
+
+    private static String formatJavaMethod(final Class<?> resourceClass, final Method method) {
+        final StringJoiner joiner = new StringJoiner(", ", method.getReturnType().getCanonicalName() + " " + resourceClass.getCanonicalName() + "." + method.getName() + "(", ")");
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            joiner.add(parameterType.getCanonicalName());
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jaxrs.statistics;
+
+import jakarta.ws.rs.container.DynamicFeature;
+import jakarta.ws.rs.container.ResourceInfo;
+import jakarta.ws.rs.core.FeatureContext;
+
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Registers a {@link ResourceMethodStatisticsFilter} for each resource method of a deployment for which statistics are
+ * enabled. The filter is registered with the lowest priority, so that it is the first post-matching request filter and
+ * the last response filter to be called.
+ */
+public class ResourceMethodStatisticsFeature implements DynamicFeature {
+
+    @Override
+    public void configure(final ResourceInfo resourceInfo, final FeatureContext context) {
+        // Resource methods are configured with the class loader of the deployment as the TCCL
+        final DeploymentStatistics statistics = DeploymentStatistics.forClassLoader(WildFlySecurityManager.getCurrentContextClassLoaderPrivileged());
+        if (statistics != null) {
+            context.register(new ResourceMethodStatisticsFilter(statistics.getMethodStatistics(resourceInfo.getResourceClass(), resourceInfo.getResourceMethod())), Integer.MIN_VALUE);
+        }
+    }
+}
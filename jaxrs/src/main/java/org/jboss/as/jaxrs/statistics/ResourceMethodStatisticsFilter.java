@@ -0,0 +1,56 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jaxrs.statistics;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Records the invocations of a single resource method.
+ * The invocation in progress is stored as a request property, so that an invocation whose response filters are never
+ * called, because of an unmapped exception, can be completed by {@link ResourceMethodStatisticsListener}.
+ */
+class ResourceMethodStatisticsFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    static final String INVOCATION_PROPERTY = ResourceMethodStatisticsFilter.class.getName();
+
+    private final ResourceMethodStatistics statistics;
+
+    ResourceMethodStatisticsFilter(final ResourceMethodStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    public void filter(final ContainerRequestContext requestContext) {
+        requestContext.setProperty(INVOCATION_PROPERTY, new Invocation(this.statistics));
+    }
+
+    @Override
+    public void filter(final ContainerRequestContext requestContext, final ContainerResponseContext responseContext) {
+        final Object invocation = requestContext.getProperty(INVOCATION_PROPERTY);
+        if (invocation instanceof Invocation) {
+            requestContext.removeProperty(INVOCATION_PROPERTY);
+            ((Invocation) invocation).complete(responseContext.getStatusInfo().getFamily() == Response.Status.Family.SERVER_ERROR);
+        }
+    }
+
+    static class Invocation {
+        private final ResourceMethodStatistics statistics;
+        private final long start;
+
+        Invocation(final ResourceMethodStatistics statistics) {
+            this.statistics = statistics;
+            this.start = statistics.invocationStarted();
+        }
+
+        void complete(final boolean failed) {
+            this.statistics.invocationCompleted(this.start, failed);
+        }
+    }
+}
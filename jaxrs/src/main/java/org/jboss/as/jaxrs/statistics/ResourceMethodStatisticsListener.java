@@ -0,0 +1,27 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jaxrs.statistics;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletRequestEvent;
+import jakarta.servlet.ServletRequestListener;
+
+/**
+ * Completes the resource method invocation of a request whose response filters were not called, i.e. that failed with an
+ * exception which was not mapped to a response.
+ */
+public class ResourceMethodStatisticsListener implements ServletRequestListener {
+
+    @Override
+    public void requestDestroyed(final ServletRequestEvent event) {
+        final ServletRequest request = event.getServletRequest();
+        final Object invocation = request.getAttribute(ResourceMethodStatisticsFilter.INVOCATION_PROPERTY);
+        if (invocation instanceof ResourceMethodStatisticsFilter.Invocation) {
+            request.removeAttribute(ResourceMethodStatisticsFilter.INVOCATION_PROPERTY);
+            ((ResourceMethodStatisticsFilter.Invocation) invocation).complete(true);
+        }
+    }
+}
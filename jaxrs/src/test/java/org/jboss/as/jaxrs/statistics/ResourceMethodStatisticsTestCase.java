@@ -0,0 +1,175 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.jaxrs.statistics;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletRequestEvent;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+/**
+ * Unit tests of the recording of resource method statistics.
+ */
+public class ResourceMethodStatisticsTestCase {
+
+    @Test
+    public void bucket() {
+        assertEquals(0, ResourceMethodStatistics.bucket(0));
+        assertEquals(0, ResourceMethodStatistics.bucket(TimeUnit.MILLISECONDS.toNanos(1)));
+        assertEquals(1, ResourceMethodStatistics.bucket(TimeUnit.MILLISECONDS.toNanos(1) + 1));
+        assertEquals(4, ResourceMethodStatistics.bucket(TimeUnit.MILLISECONDS.toNanos(30)));
+        assertEquals(ResourceMethodStatistics.LATENCY_BUCKETS.length - 1, ResourceMethodStatistics.bucket(TimeUnit.SECONDS.toNanos(10)));
+        assertEquals(ResourceMethodStatistics.LATENCY_BUCKETS.length, ResourceMethodStatistics.bucket(TimeUnit.SECONDS.toNanos(10) + 1));
+    }
+
+    @Test
+    public void invocations() throws Exception {
+        ResourceMethodStatistics statistics = new ResourceMethodStatistics(TestResource.class, TestResource.class.getMethod("get", String.class));
+        assertEquals("java.lang.String " + TestResource.class.getCanonicalName() + ".get(java.lang.String)", statistics.getJavaMethod());
+
+        long start = statistics.invocationStarted();
+        assertEquals(1, statistics.getActiveInvocations());
+        statistics.invocationCompleted(start - TimeUnit.MILLISECONDS.toNanos(30), false);
+        start = statistics.invocationStarted();
+        statistics.invocationCompleted(start - TimeUnit.SECONDS.toNanos(20), true);
+
+        assertEquals(0, statistics.getActiveInvocations());
+        assertEquals(2, statistics.getInvocations());
+        assertEquals(1, statistics.getErrors());
+        assertEquals(20, TimeUnit.MILLISECONDS.toSeconds(statistics.getMaxExecutionTime()));
+        assertArrayEquals(new long[] { 0, 0, 0, 0, 1, 1, 1, 1, 1, 1, 1, 1, 2 }, statistics.getLatencyHistogram());
+
+        ModelNode node = statistics.toModelNode();
+        assertEquals(2, node.get("invocations").asLong());
+        assertEquals(1, node.get("latency-histogram").get("50").asLong());
+        assertEquals(2, node.get("latency-histogram").get("+Inf").asLong());
+    }
+
+    @Test
+    public void filter() throws Exception {
+        ResourceMethodStatistics statistics = new ResourceMethodStatistics(TestResource.class, TestResource.class.getMethod("get", String.class));
+        ResourceMethodStatisticsFilter filter = new ResourceMethodStatisticsFilter(statistics);
+        ResourceMethodStatisticsListener listener = new ResourceMethodStatisticsListener();
+
+        // Successful response
+        Map<String, Object> attributes = new HashMap<>();
+        filter.filter(requestContext(attributes));
+        assertEquals(1, statistics.getActiveInvocations());
+        filter.filter(requestContext(attributes), responseContext(Response.Status.OK));
+        listener.requestDestroyed(new ServletRequestEvent(null, servletRequest(attributes)));
+        assertEquals(0, statistics.getActiveInvocations());
+        assertEquals(1, statistics.getInvocations());
+        assertEquals(0, statistics.getErrors());
+
+        // Server error response
+        attributes = new HashMap<>();
+        filter.filter(requestContext(attributes));
+        filter.filter(requestContext(attributes), responseContext(Response.Status.INTERNAL_SERVER_ERROR));
+        listener.requestDestroyed(new ServletRequestEvent(null, servletRequest(attributes)));
+        assertEquals(2, statistics.getInvocations());
+        assertEquals(1, statistics.getErrors());
+
+        // Unmapped exception, response filters are not called
+        attributes = new HashMap<>();
+        filter.filter(requestContext(attributes));
+        listener.requestDestroyed(new ServletRequestEvent(null, servletRequest(attributes)));
+        assertNull(attributes.get(ResourceMethodStatisticsFilter.INVOCATION_PROPERTY));
+        assertEquals(0, statistics.getActiveInvocations());
+        assertEquals(3, statistics.getInvocations());
+        assertEquals(2, statistics.getErrors());
+    }
+
+    @Test
+    public void deploymentStatistics() throws Exception {
+        ClassLoader loader = new ClassLoader() { };
+        DeploymentStatistics.register(loader);
+        try {
+            DeploymentStatistics statistics = DeploymentStatistics.forClassLoader(loader);
+            Method get = TestResource.class.getMethod("get", String.class);
+            Method post = TestInterface.class.getMethod("post");
+            ResourceMethodStatistics getStatistics = statistics.getMethodStatistics(TestResource.class, get);
+            assertSame(getStatistics, statistics.getMethodStatistics(TestResource.class, get));
+            ResourceMethodStatistics postStatistics = statistics.getMethodStatistics(TestInterface.class, post);
+
+            List<ResourceMethodStatistics> resourceStatistics = statistics.getResourceStatistics(TestResource.class);
+            assertEquals(2, resourceStatistics.size());
+            // Ordered by signature
+            assertSame(getStatistics, resourceStatistics.get(0));
+            assertSame(postStatistics, resourceStatistics.get(1));
+            assertEquals(0, statistics.getResourceStatistics(Object.class).size());
+        } finally {
+            DeploymentStatistics.unregister(loader);
+        }
+        assertNull(DeploymentStatistics.forClassLoader(loader));
+    }
+
+    private static ContainerRequestContext requestContext(Map<String, Object> attributes) {
+        return (ContainerRequestContext) Proxy.newProxyInstance(ResourceMethodStatisticsTestCase.class.getClassLoader(), new Class<?>[] { ContainerRequestContext.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getProperty":
+                    return attributes.get(args[0]);
+                case "setProperty":
+                    return attributes.put((String) args[0], args[1]);
+                case "removeProperty":
+                    return attributes.remove(args[0]);
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    private static ServletRequest servletRequest(Map<String, Object> attributes) {
+        return (ServletRequest) Proxy.newProxyInstance(ResourceMethodStatisticsTestCase.class.getClassLoader(), new Class<?>[] { ServletRequest.class }, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getAttribute":
+                    return attributes.get(args[0]);
+                case "removeAttribute":
+                    return attributes.remove(args[0]);
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        });
+    }
+
+    private static ContainerResponseContext responseContext(Response.Status status) {
+        return (ContainerResponseContext) Proxy.newProxyInstance(ResourceMethodStatisticsTestCase.class.getClassLoader(), new Class<?>[] { ContainerResponseContext.class }, (proxy, method, args) -> {
+            if (method.getName().equals("getStatusInfo")) {
+                return status;
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    public interface TestInterface {
+        void post();
+    }
+
+    public static class TestResource implements TestInterface {
+        public String get(String id) {
+            return id;
+        }
+
+        @Override
+        public void post() {
+        }
+    }
+}
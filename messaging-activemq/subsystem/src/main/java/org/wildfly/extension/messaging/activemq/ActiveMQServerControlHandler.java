@@ -46,7 +46,7 @@ import org.wildfly.extension.messaging.activemq._private.MessagingLogger;
  */
 public class ActiveMQServerControlHandler extends AbstractRuntimeOnlyHandler {
 
-    private static final String[] ALLOWED_RUNTIME_JOURNAL_TYPE = {"ASYNCIO", "NIO", "DATABASE", "NONE"};
+    private static final String[] ALLOWED_RUNTIME_JOURNAL_TYPE = {"ASYNCIO", "NIO", "MAPPED", "DATABASE", "NONE"};
 
     static final ActiveMQServerControlHandler INSTANCE = new ActiveMQServerControlHandler();
 
@@ -7,6 +7,7 @@ package org.wildfly.extension.messaging.activemq;
 
 import static org.jboss.as.controller.SimpleAttributeDefinitionBuilder.create;
 import static org.jboss.as.controller.client.helpers.MeasurementUnit.MILLISECONDS;
+import static org.jboss.as.controller.registry.AttributeAccess.Flag.COUNTER_METRIC;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -83,7 +84,22 @@ public class JGroupsDiscoveryGroupDefinition extends PersistentResourceDefinitio
         JGROUPS_CHANNEL_FACTORY, JGROUPS_CHANNEL, JGROUPS_CLUSTER, REFRESH_TIMEOUT, INITIAL_WAIT_TIMEOUT
     };
 
+    public static final SimpleAttributeDefinition COALESCED_BROADCAST_COUNT = create("coalesced-broadcast-count", ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .addFlag(COUNTER_METRIC)
+            .build();
+
+    public static final SimpleAttributeDefinition DROPPED_BROADCAST_COUNT = create("dropped-broadcast-count", ModelType.LONG)
+            .setStorageRuntime()
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .addFlag(COUNTER_METRIC)
+            .build();
+
+    static final AttributeDefinition[] METRICS = { COALESCED_BROADCAST_COUNT, DROPPED_BROADCAST_COUNT };
+
     private final boolean registerRuntimeOnly;
+    private final boolean subsystemResource;
 
     protected JGroupsDiscoveryGroupDefinition(final boolean registerRuntimeOnly, final boolean subsystemResource) {
         super(new SimpleResourceDefinition.Parameters(PATH, MessagingExtension.getResourceDescriptionResolver(CommonAttributes.DISCOVERY_GROUP))
@@ -91,6 +107,7 @@ public class JGroupsDiscoveryGroupDefinition extends PersistentResourceDefinitio
                 .setRemoveHandler(JGroupsDiscoveryGroupRemove.INSTANCE)
                 .addCapabilities(CAPABILITY));
         this.registerRuntimeOnly = registerRuntimeOnly;
+        this.subsystemResource = subsystemResource;
     }
 
     @Override
@@ -106,5 +123,11 @@ public class JGroupsDiscoveryGroupDefinition extends PersistentResourceDefinitio
                 registry.registerReadWriteAttribute(attr, null, reloadRequiredWriteAttributeHandler);
             }
         }
+        // Only a discovery group of a server has a broadcast endpoint that can be inspected
+        if (registerRuntimeOnly && !subsystemResource) {
+            for (AttributeDefinition metric : METRICS) {
+                registry.registerMetric(metric, JGroupsDiscoveryGroupMetricsHandler.INSTANCE);
+            }
+        }
     }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq;
+
+import static org.wildfly.extension.messaging.activemq.ActiveMQActivationService.ignoreOperationIfServerNotActive;
+import static org.wildfly.extension.messaging.activemq.JGroupsDiscoveryGroupDefinition.COALESCED_BROADCAST_COUNT;
+import static org.wildfly.extension.messaging.activemq.JGroupsDiscoveryGroupDefinition.DROPPED_BROADCAST_COUNT;
+
+import org.apache.activemq.artemis.api.core.DiscoveryGroupConfiguration;
+import org.apache.activemq.artemis.core.server.ActiveMQServer;
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
+import org.jboss.dmr.ModelNode;
+import org.wildfly.extension.messaging.activemq._private.MessagingLogger;
+import org.wildfly.extension.messaging.activemq.broadcast.CommandDispatcherBroadcastEndpointFactory;
+
+/**
+ * Implements the {@code read-attribute} operation for the broadcast metrics of a JGroups discovery group, as seen by
+ * the broadcast endpoint of its server.
+ */
+public class JGroupsDiscoveryGroupMetricsHandler extends AbstractRuntimeOnlyHandler {
+
+    public static final JGroupsDiscoveryGroupMetricsHandler INSTANCE = new JGroupsDiscoveryGroupMetricsHandler();
+
+    private JGroupsDiscoveryGroupMetricsHandler() {
+    }
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+        if (ignoreOperationIfServerNotActive(context, operation)) {
+            return;
+        }
+        final String attributeName = operation.require(ModelDescriptionConstants.NAME).asString();
+        final ActiveMQServer server = ActiveMQActivationService.getActiveMQServer(context, operation);
+        final DiscoveryGroupConfiguration configuration = (server != null) ? server.getConfiguration().getDiscoveryGroupConfigurations().get(context.getCurrentAddressValue()) : null;
+        if (configuration == null || !(configuration.getBroadcastEndpointFactory() instanceof CommandDispatcherBroadcastEndpointFactory)) {
+            context.getResult().set(ModelNode.ZERO);
+            return;
+        }
+        final CommandDispatcherBroadcastEndpointFactory factory = (CommandDispatcherBroadcastEndpointFactory) configuration.getBroadcastEndpointFactory();
+        if (COALESCED_BROADCAST_COUNT.getName().equals(attributeName)) {
+            context.getResult().set(factory.getCoalescedBroadcastCount());
+        } else if (DROPPED_BROADCAST_COUNT.getName().equals(attributeName)) {
+            context.getResult().set(factory.getDroppedBroadcastCount());
+        } else {
+            throw MessagingLogger.ROOT_LOGGER.unsupportedAttribute(attributeName);
+        }
+    }
+}
@@ -180,6 +180,7 @@ public class MessagingSubsystemParser_16_0 extends PersistentResourceXMLParser {
                                         ServerDefinition.JOURNAL_BUFFER_SIZE,
                                         ServerDefinition.JOURNAL_SYNC_TRANSACTIONAL,
                                         ServerDefinition.JOURNAL_SYNC_NON_TRANSACTIONAL,
+                                        ServerDefinition.JOURNAL_DATASYNC,
                                         ServerDefinition.LOG_JOURNAL_WRITE_RATE,
                                         ServerDefinition.JOURNAL_FILE_SIZE,
                                         ServerDefinition.JOURNAL_MIN_FILES,
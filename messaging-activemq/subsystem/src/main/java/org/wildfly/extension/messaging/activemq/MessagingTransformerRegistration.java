@@ -37,8 +37,10 @@ import org.jboss.as.controller.transform.ExtensionTransformerRegistration;
 import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
 import org.jboss.as.controller.transform.description.ChainedTransformationDescriptionBuilder;
 import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
 import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
 import org.jboss.as.controller.transform.description.TransformationDescriptionBuilder;
+import org.jboss.dmr.ModelNode;
 import org.kohsuke.MetaInfServices;
 import org.wildfly.extension.messaging.activemq.jms.ConnectionFactoryAttributes;
 
@@ -67,8 +69,11 @@ public class MessagingTransformerRegistration implements ExtensionTransformerReg
     }
 
     private static void registerTransformers_WF_29(ResourceTransformationDescriptionBuilder subsystem) {
-        ResourceTransformationDescriptionBuilder addressSettings = subsystem.addChildResource(SERVER_PATH)
-                .addChildResource(ADDRESS_SETTING_PATH);
+        ResourceTransformationDescriptionBuilder server = subsystem.addChildResource(SERVER_PATH);
+        rejectDefinedAttributeWithDefaultValue(server, ServerDefinition.JOURNAL_DATASYNC);
+        server.getAttributeBuilder()
+                .addRejectCheck(new RejectAttributeChecker.SimpleRejectAttributeChecker(new ModelNode("MAPPED")), ServerDefinition.JOURNAL_TYPE);
+        ResourceTransformationDescriptionBuilder addressSettings = server.addChildResource(ADDRESS_SETTING_PATH);
         rejectDefinedAttributeWithDefaultValue(addressSettings, AddressSettingDefinition.MAX_READ_PAGE_BYTES);
     }
 
@@ -56,6 +56,7 @@ import static org.wildfly.extension.messaging.activemq.ServerDefinition.JOURNAL_
 import static org.wildfly.extension.messaging.activemq.ServerDefinition.JOURNAL_COMPACT_MIN_FILES;
 import static org.wildfly.extension.messaging.activemq.ServerDefinition.JOURNAL_COMPACT_PERCENTAGE;
 import static org.wildfly.extension.messaging.activemq.ServerDefinition.JOURNAL_DATASOURCE;
+import static org.wildfly.extension.messaging.activemq.ServerDefinition.JOURNAL_DATASYNC;
 import static org.wildfly.extension.messaging.activemq.ServerDefinition.JOURNAL_FILE_OPEN_TIMEOUT;
 import static org.wildfly.extension.messaging.activemq.ServerDefinition.JOURNAL_FILE_SIZE;
 import static org.wildfly.extension.messaging.activemq.ServerDefinition.JOURNAL_JDBC_LOCK_EXPIRATION;
@@ -223,6 +224,7 @@ class ServerAdd extends AbstractAddStepHandler {
                         ServerDefinition.JOURNAL_BUFFER_SIZE,
                         ServerDefinition.JOURNAL_SYNC_TRANSACTIONAL,
                         ServerDefinition.JOURNAL_SYNC_NON_TRANSACTIONAL,
+                        ServerDefinition.JOURNAL_DATASYNC,
                         ServerDefinition.LOG_JOURNAL_WRITE_RATE,
                         ServerDefinition.JOURNAL_FILE_SIZE,
                         ServerDefinition.JOURNAL_MIN_FILES,
@@ -583,6 +585,7 @@ class ServerAdd extends AbstractAddStepHandler {
             final JournalType journalType = JournalType.valueOf(JOURNAL_TYPE.resolveModelAttribute(context, model).asString());
             configuration.setJournalType(journalType);
 
+            // The MAPPED journal uses the buffer settings of the NIO journal
             ModelNode value = JOURNAL_BUFFER_SIZE.resolveModelAttribute(context, model);
             if (value.isDefined()) {
                 configuration.setJournalBufferSize_AIO(value.asInt());
@@ -606,6 +609,7 @@ class ServerAdd extends AbstractAddStepHandler {
             configuration.setJournalFileOpenTimeout(JOURNAL_FILE_OPEN_TIMEOUT.resolveModelAttribute(context, model).asInt());
             configuration.setJournalSyncNonTransactional(JOURNAL_SYNC_NON_TRANSACTIONAL.resolveModelAttribute(context, model).asBoolean());
             configuration.setJournalSyncTransactional(JOURNAL_SYNC_TRANSACTIONAL.resolveModelAttribute(context, model).asBoolean());
+            configuration.setJournalDatasync(JOURNAL_DATASYNC.resolveModelAttribute(context, model).asBoolean());
             configuration.setJournalMaxAtticFiles(JOURNAL_MAX_ATTIC_FILES.resolveModelAttribute(context, model).asInt());
             configuration.setLogJournalWriteRate(LOG_JOURNAL_WRITE_RATE.resolveModelAttribute(context, model).asBoolean());
 
@@ -433,13 +433,23 @@ public class ServerDefinition extends PersistentResourceDefinition {
             .setAllowExpression(true)
             .setRestartAllServices()
             .build();
+    /**
+     * @see ActiveMQDefaultConfiguration#isDefaultJournalDatasync
+     */
+    public static final SimpleAttributeDefinition JOURNAL_DATASYNC = create("journal-datasync", BOOLEAN)
+            .setAttributeGroup(JOURNAL_ATTRIBUTE_GROUP)
+            .setXmlName("datasync")
+            .setDefaultValue(ModelNode.TRUE)
+            .setRequired(false)
+            .setAllowExpression(true)
+            .setRestartAllServices()
+            .build();
     public static final SimpleAttributeDefinition JOURNAL_TYPE = create("journal-type", ModelType.STRING)
             .setAttributeGroup(JOURNAL_ATTRIBUTE_GROUP)
             .setXmlName("type")
             .setDefaultValue(new ModelNode(JournalType.ASYNCIO.toString()))
             .setRequired(false)
             .setAllowExpression(true)
-            // list allowed values explicitly to exclude MAPPED
             .setValidator(EnumValidator.create(JournalType.class))
             .setRestartAllServices()
             .build();
@@ -928,7 +938,7 @@ public class ServerDefinition extends PersistentResourceDefinition {
             JOURNAL_JDBC_NETWORK_TIMEOUT,
             JOURNAL_MESSAGES_TABLE, JOURNAL_BINDINGS_TABLE, JOURNAL_JMS_BINDINGS_TABLE, JOURNAL_LARGE_MESSAGES_TABLE, JOURNAL_PAGE_STORE_TABLE,
             JOURNAL_NODE_MANAGER_STORE_TABLE,
-            JOURNAL_SYNC_TRANSACTIONAL, JOURNAL_SYNC_NON_TRANSACTIONAL, LOG_JOURNAL_WRITE_RATE,
+            JOURNAL_SYNC_TRANSACTIONAL, JOURNAL_SYNC_NON_TRANSACTIONAL, JOURNAL_DATASYNC, LOG_JOURNAL_WRITE_RATE,
             JOURNAL_FILE_SIZE, JOURNAL_MIN_FILES, JOURNAL_POOL_FILES, JOURNAL_FILE_OPEN_TIMEOUT, JOURNAL_COMPACT_PERCENTAGE,
             JOURNAL_COMPACT_MIN_FILES, JOURNAL_MAX_IO, JOURNAL_MAX_ATTIC_FILES,
             PERF_BLAST_PAGES, RUN_SYNC_SPEED_TEST, SERVER_DUMP_INTERVAL, MEMORY_WARNING_THRESHOLD, MEMORY_MEASURE_INTERVAL,
@@ -1058,8 +1068,9 @@ public class ServerDefinition extends PersistentResourceDefinition {
 
     }
 
+    // DATABASE is configured by journal-datasource instead
     private enum JournalType {
-        NIO, ASYNCIO;
+        NIO, ASYNCIO, MAPPED;
     }
 
     private enum CriticalAnalyzerPolicy {
@@ -0,0 +1,133 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq.broadcast;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.activemq.artemis.api.core.ActiveMQBuffers;
+import org.wildfly.extension.messaging.activemq._private.MessagingLogger;
+
+/**
+ * A bounded {@link BroadcastManager} that only retains the latest pending broadcast of each originating node.
+ * A broadcast announces the complete topology known to its originating node, so a pending broadcast is superseded by
+ * any subsequent broadcast from the same node. If the maximum number of pending broadcasts is reached, the oldest
+ * pending broadcast is dropped.
+ */
+public class CoalescingBroadcastManager implements BroadcastManager {
+
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private final String name;
+    private final int capacity;
+    private final LongAdder coalesced;
+    private final LongAdder dropped;
+    private final Lock lock = new ReentrantLock();
+    private final Condition notEmpty = this.lock.newCondition();
+    // Guarded by lock; retains the arrival order of the first pending broadcast of each node
+    private final Map<Object, byte[]> broadcasts = new LinkedHashMap<>();
+
+    /**
+     * @param name the broadcast group name
+     * @param capacity the maximum number of pending broadcasts
+     * @param coalesced counts pending broadcasts superseded by a subsequent broadcast from the same node
+     * @param dropped counts pending broadcasts dropped because the capacity was reached
+     */
+    public CoalescingBroadcastManager(String name, int capacity, LongAdder coalesced, LongAdder dropped) {
+        this.name = name;
+        this.capacity = capacity;
+        this.coalesced = coalesced;
+        this.dropped = dropped;
+    }
+
+    @Override
+    public void receive(byte[] broadcast) {
+        if (MessagingLogger.ROOT_LOGGER.isDebugEnabled()) {
+            MessagingLogger.ROOT_LOGGER.debugf("Received broadcast from group %s: %s", this.name, Arrays.toString(broadcast));
+        }
+        Object key = originatingNode(broadcast);
+        this.lock.lock();
+        try {
+            if (this.broadcasts.put(key, broadcast) != null) {
+                this.coalesced.increment();
+            } else if (this.broadcasts.size() > this.capacity) {
+                Iterator<byte[]> eldest = this.broadcasts.values().iterator();
+                eldest.next();
+                eldest.remove();
+                this.dropped.increment();
+            }
+            this.notEmpty.signal();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public byte[] getBroadcast() throws InterruptedException {
+        this.lock.lockInterruptibly();
+        try {
+            while (this.broadcasts.isEmpty()) {
+                this.notEmpty.await();
+            }
+            return this.poll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public byte[] getBroadcast(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        this.lock.lockInterruptibly();
+        try {
+            while (this.broadcasts.isEmpty()) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = this.notEmpty.awaitNanos(nanos);
+            }
+            return this.poll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        this.lock.lock();
+        try {
+            this.broadcasts.clear();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private byte[] poll() {
+        Iterator<byte[]> broadcasts = this.broadcasts.values().iterator();
+        byte[] broadcast = broadcasts.next();
+        broadcasts.remove();
+        return broadcast;
+    }
+
+    /**
+     * Returns the identifier of the node that originated the specified broadcast, as written by a broadcast group.
+     * Broadcasts that cannot be parsed are never coalesced.
+     */
+    private static Object originatingNode(byte[] broadcast) {
+        try {
+            return ActiveMQBuffers.wrappedBuffer(broadcast).readString();
+        } catch (RuntimeException e) {
+            return broadcast;
+        }
+    }
+}
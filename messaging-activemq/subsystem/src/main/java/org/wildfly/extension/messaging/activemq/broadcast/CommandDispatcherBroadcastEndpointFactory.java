@@ -5,6 +5,8 @@
 
 package org.wildfly.extension.messaging.activemq.broadcast;
 
+import java.util.concurrent.atomic.LongAdder;
+
 import org.apache.activemq.artemis.api.core.BroadcastEndpoint;
 import org.apache.activemq.artemis.api.core.BroadcastEndpointFactory;
 
@@ -17,6 +19,8 @@ public class CommandDispatcherBroadcastEndpointFactory implements BroadcastEndpo
 
     private final BroadcastCommandDispatcherFactory factory;
     private final String name;
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
 
     public CommandDispatcherBroadcastEndpointFactory(BroadcastCommandDispatcherFactory factory, String name) {
         this.factory = factory;
@@ -25,6 +29,20 @@ public class CommandDispatcherBroadcastEndpointFactory implements BroadcastEndpo
 
     @Override
     public BroadcastEndpoint createBroadcastEndpoint() throws Exception {
-        return new CommandDispatcherBroadcastEndpoint(this.factory, this.name, this.factory, QueueBroadcastManager::new);
+        return new CommandDispatcherBroadcastEndpoint(this.factory, this.name, this.factory, name -> new CoalescingBroadcastManager(name, CoalescingBroadcastManager.DEFAULT_CAPACITY, this.coalesced, this.dropped));
+    }
+
+    /**
+     * Returns the number of received broadcasts superseded by a subsequent broadcast from the same node, across all endpoints created by this factory.
+     */
+    public long getCoalescedBroadcastCount() {
+        return this.coalesced.sum();
+    }
+
+    /**
+     * Returns the number of received broadcasts dropped due to a full receive queue, across all endpoints created by this factory.
+     */
+    public long getDroppedBroadcastCount() {
+        return this.dropped.sum();
     }
 }
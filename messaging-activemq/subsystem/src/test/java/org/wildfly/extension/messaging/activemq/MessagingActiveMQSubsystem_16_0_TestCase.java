@@ -107,6 +107,17 @@ public class MessagingActiveMQSubsystem_16_0_TestCase extends AbstractSubsystemB
         kernelServices.shutdown();
     }
 
+    @Test
+    public void testMappedJournal() throws Exception {
+        KernelServices kernelServices = standardSubsystemTest("subsystem_16_0_mapped-journal.xml", false);
+        ModelNode serverModel = kernelServices.readWholeModel().require(SUBSYSTEM).require(MessagingExtension.SUBSYSTEM_NAME).require(SERVER)
+                .require(DEFAULT);
+
+        Assert.assertEquals("MAPPED", serverModel.get(ServerDefinition.JOURNAL_TYPE.getName()).resolve().asString());
+        Assert.assertFalse(serverModel.get(ServerDefinition.JOURNAL_DATASYNC.getName()).resolve().asBoolean());
+        kernelServices.shutdown();
+    }
+
     /////////////////////////////////////////
     //  Tests for HA Policy Configuration  //
     /////////////////////////////////////////
@@ -198,9 +209,13 @@ public class MessagingActiveMQSubsystem_16_0_TestCase extends AbstractSubsystemB
         config.addFailedAttribute(subsystemAddress.append(EXTERNAL_JMS_TOPIC_PATH),
                 new FailedOperationTransformationConfig.NewAttributesConfig(ConnectionFactoryAttributes.External.ENABLE_AMQ1_PREFIX));
         config.addFailedAttribute(subsystemAddress.append(SERVER_PATH, BRIDGE_PATH), new FailedOperationTransformationConfig.NewAttributesConfig(BridgeDefinition.ROUTING_TYPE));
-        config.addFailedAttribute(subsystemAddress.append(SERVER_PATH), new FailedOperationTransformationConfig.NewAttributesConfig(
-                ServerDefinition.ADDRESS_QUEUE_SCAN_PERIOD
-        ));
+        config.addFailedAttribute(subsystemAddress.append(SERVER_PATH), FailedOperationTransformationConfig.ChainedConfig.createBuilder(
+                        ServerDefinition.ADDRESS_QUEUE_SCAN_PERIOD,
+                        ServerDefinition.JOURNAL_DATASYNC,
+                        ServerDefinition.JOURNAL_TYPE)
+                .addConfig(new FailedOperationTransformationConfig.NewAttributesConfig(ServerDefinition.ADDRESS_QUEUE_SCAN_PERIOD, ServerDefinition.JOURNAL_DATASYNC))
+                .addConfig(new RejectMappedJournalTypeConfig())
+                .build());
 
         config.addFailedAttribute(subsystemAddress.append(SERVER_PATH, pathElement(CommonAttributes.REMOTE_CONNECTOR)), new FailedOperationTransformationConfig.NewAttributesConfig(CommonAttributes.SSL_CONTEXT));
         config.addFailedAttribute(subsystemAddress.append(SERVER_PATH, pathElement(CommonAttributes.HTTP_CONNECTOR)), new FailedOperationTransformationConfig.NewAttributesConfig(CommonAttributes.SSL_CONTEXT));
@@ -0,0 +1,34 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq;
+
+import org.jboss.as.model.test.FailedOperationTransformationConfig;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Expects a MAPPED journal type to be rejected by models that do not support it, and corrects it to NIO.
+ */
+class RejectMappedJournalTypeConfig extends FailedOperationTransformationConfig.AttributesPathAddressConfig<RejectMappedJournalTypeConfig> {
+
+    RejectMappedJournalTypeConfig() {
+        super(ServerDefinition.JOURNAL_TYPE.getName());
+    }
+
+    @Override
+    protected boolean isAttributeWritable(String attributeName) {
+        return true;
+    }
+
+    @Override
+    protected boolean checkValue(String attrName, ModelNode attribute, boolean isWriteAttribute) {
+        return attribute.isDefined() && attribute.asString().equals("MAPPED");
+    }
+
+    @Override
+    protected ModelNode correctValue(ModelNode toResolve, boolean isWriteAttribute) {
+        return new ModelNode("NIO");
+    }
+}
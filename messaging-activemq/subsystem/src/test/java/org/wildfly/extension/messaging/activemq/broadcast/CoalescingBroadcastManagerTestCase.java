@@ -0,0 +1,99 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.messaging.activemq.broadcast;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.activemq.artemis.api.core.ActiveMQBuffer;
+import org.apache.activemq.artemis.api.core.ActiveMQBuffers;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CoalescingBroadcastManager}.
+ */
+public class CoalescingBroadcastManagerTestCase {
+
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    @Test
+    public void coalesce() throws InterruptedException {
+        BroadcastManager manager = new CoalescingBroadcastManager("group", 10, this.coalesced, this.dropped);
+        byte[] a1 = broadcast("a", 1);
+        byte[] b1 = broadcast("b", 1);
+        byte[] a2 = broadcast("a", 2);
+
+        manager.receive(a1);
+        manager.receive(b1);
+        manager.receive(a2);
+
+        Assert.assertEquals(1, this.coalesced.sum());
+        Assert.assertEquals(0, this.dropped.sum());
+        // The latest broadcast of a node retains the position of the broadcast it superseded
+        Assert.assertSame(a2, manager.getBroadcast());
+        Assert.assertSame(b1, manager.getBroadcast());
+        Assert.assertNull(manager.getBroadcast(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void drop() throws InterruptedException {
+        BroadcastManager manager = new CoalescingBroadcastManager("group", 2, this.coalesced, this.dropped);
+        byte[] a = broadcast("a", 1);
+        byte[] b = broadcast("b", 1);
+        byte[] c = broadcast("c", 1);
+
+        manager.receive(a);
+        manager.receive(b);
+        manager.receive(c);
+
+        Assert.assertEquals(0, this.coalesced.sum());
+        Assert.assertEquals(1, this.dropped.sum());
+        Assert.assertSame(b, manager.getBroadcast(1, TimeUnit.SECONDS));
+        Assert.assertSame(c, manager.getBroadcast(1, TimeUnit.SECONDS));
+
+        manager.receive(a);
+        manager.clear();
+        Assert.assertNull(manager.getBroadcast(0, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void unparseable() throws InterruptedException {
+        BroadcastManager manager = new CoalescingBroadcastManager("group", 10, this.coalesced, this.dropped);
+        byte[] data1 = new byte[] { 1 };
+        byte[] data2 = new byte[] { 1 };
+
+        manager.receive(data1);
+        manager.receive(data2);
+
+        Assert.assertEquals(0, this.coalesced.sum());
+        Assert.assertSame(data1, manager.getBroadcast());
+        Assert.assertSame(data2, manager.getBroadcast());
+    }
+
+    @Test
+    public void blockingReceive() throws Exception {
+        BroadcastManager manager = new CoalescingBroadcastManager("group", 10, this.coalesced, this.dropped);
+        byte[] data = broadcast("a", 1);
+        Thread sender = new Thread(() -> manager.receive(data));
+        sender.start();
+        try {
+            Assert.assertSame(data, manager.getBroadcast(10, TimeUnit.SECONDS));
+        } finally {
+            sender.join();
+        }
+    }
+
+    private static byte[] broadcast(String nodeId, int sequence) {
+        ActiveMQBuffer buffer = ActiveMQBuffers.dynamicBuffer(64);
+        buffer.writeString(nodeId);
+        buffer.writeString(nodeId + sequence);
+        byte[] data = new byte[buffer.writerIndex()];
+        buffer.readBytes(data);
+        return data;
+    }
+}
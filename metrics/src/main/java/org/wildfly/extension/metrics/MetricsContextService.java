@@ -10,6 +10,10 @@ import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_H
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_HTTP_SECURITY_CAPABILITY;
 import static org.wildfly.extension.metrics.MetricsSubsystemDefinition.METRICS_REGISTRY_RUNTIME_CAPABILITY;
 
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -76,14 +80,26 @@ public class MetricsContextService implements Service {
                     return;
                 }
 
+                // Sampling executes management operations, which must not block the I/O thread
+                if (exchange.isInIoThread()) {
+                    exchange.dispatch(this);
+                    return;
+                }
                 WildFlyMetricRegistry metricRegistry = wildflyMetricRegistry.get();
+                // Sample the metrics under the lock, but write them only after releasing the lock,
+                // so that a slow client does not block the registration of metrics
+                List<PrometheusExporter.Sample> samples;
                 metricRegistry.readLock();
                 try {
-                    String wildFlyMetrics = prometheusExporter.export(metricRegistry);
-                    exchange.getResponseSender().send(wildFlyMetrics);
+                    samples = prometheusExporter.sample(metricRegistry);
                 } finally {
                     metricRegistry.unlock();
                 }
+                // Stream the exposition, which the exchange sends in chunks as its buffer fills up
+                exchange.startBlocking();
+                try (Writer writer = new OutputStreamWriter(exchange.getOutputStream(), StandardCharsets.UTF_8)) {
+                    prometheusExporter.export(samples, writer);
+                }
             }
         });
         consumer.accept(this);
@@ -4,7 +4,14 @@
  */
 package org.wildfly.extension.metrics;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.OptionalDouble;
 import java.util.Set;
@@ -14,40 +21,95 @@ import org.wildfly.extension.metrics.MetricMetadata.MetricTag;
 
 public class PrometheusExporter {
 
-    private static final String LF = "\n";
+    private static final char LF = '\n';
 
     public String export(WildFlyMetricRegistry registry) {
-        Set<String> alreadyExportedMetrics = new HashSet<String>();
+        StringWriter out = new StringWriter();
+        try {
+            export(registry, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
 
-        StringBuilder out = new StringBuilder();
+    /**
+     * Samples all metrics of the specified registry, and writes them to the specified writer.
+     * The metrics backed by management attributes are sampled up front, with one management operation per resource.
+     */
+    public void export(WildFlyMetricRegistry registry, Writer out) throws IOException {
+        export(sample(registry), out);
+    }
 
-        for (Map.Entry<MetricID, Metric> entry : registry.getMetrics().entrySet()) {
-            MetricID metricID = entry.getKey();
-            String metricName = metricID.getMetricName();
-            MetricMetadata metadata = registry.getMetricMetadata().get(metricName);
-            String prometheusMetricName = toPrometheusMetricName(metricID, metadata);
-            OptionalDouble metricValue = entry.getValue().getValue();
+    /**
+     * Samples all metrics of the specified registry, so that they can be written once the registry is no longer locked.
+     * The metrics backed by management attributes are sampled with one management operation per resource.
+     */
+    public List<Sample> sample(WildFlyMetricRegistry registry) {
+        Map<MetricID, Metric> metrics = registry.getMetrics();
+        Map<Metric, OptionalDouble> values = sample(metrics.values());
+        Map<String, MetricMetadata> metadata = registry.getMetricMetadata();
+        List<Sample> samples = new ArrayList<>(metrics.size());
+        for (Map.Entry<MetricID, Metric> entry : metrics.entrySet()) {
+            OptionalDouble metricValue = values.get(entry.getValue());
             // if the metric does not return a value, we skip printing the HELP and TYPE
-            if (!metricValue.isPresent()) {
-                continue;
+            if (metricValue.isPresent()) {
+                MetricID metricID = entry.getKey();
+                samples.add(new Sample(metricID, metadata.get(metricID.getMetricName()), metricValue.getAsDouble()));
             }
-            if (!alreadyExportedMetrics.contains(metricName)) {
-                out.append("# HELP " + prometheusMetricName + " " + metadata.getDescription());
-                out.append(LF);
-                out.append("# TYPE " + prometheusMetricName + " " + metadata.getType());
-                out.append(LF);
-                alreadyExportedMetrics.add(metricName);
+        }
+        return samples;
+    }
+
+    /**
+     * Writes the specified samples to the specified writer.
+     */
+    public void export(List<Sample> samples, Writer out) throws IOException {
+        Set<String> alreadyExportedMetrics = new HashSet<String>();
+
+        for (Sample sample : samples) {
+            MetricID metricID = sample.metricID;
+            String metricName = metricID.getMetricName();
+            MetricMetadata metadata = sample.metadata;
+            String prometheusMetricName = toPrometheusMetricName(metricID, metadata);
+            if (alreadyExportedMetrics.add(metricName)) {
+                out.write("# HELP ");
+                out.write(prometheusMetricName);
+                out.write(' ');
+                out.write(String.valueOf(metadata.getDescription()));
+                out.write(LF);
+                out.write("# TYPE ");
+                out.write(prometheusMetricName);
+                out.write(' ');
+                out.write(metadata.getType().toString());
+                out.write(LF);
             }
-            double scaledValue = scaleToBaseUnit(metricValue.getAsDouble(), metadata.getMeasurementUnit());
+            double scaledValue = scaleToBaseUnit(sample.value, metadata.getMeasurementUnit());
+            out.write(prometheusMetricName);
             // I'm pretty sure this is incorrect but that aligns with smallrye-metrics OpenMetricsExporter behaviour
             if (metadata.getType() == MetricMetadata.Type.COUNTER && metadata.getMeasurementUnit() != MeasurementUnit.NONE) {
-                prometheusMetricName += "_" + metadata.getBaseMetricUnit();
+                out.write('_');
+                out.write(metadata.getBaseMetricUnit());
             }
-            out.append(prometheusMetricName + getTagsAsAString(metricID) + " " + scaledValue);
-            out.append(LF);
+            writeTags(metricID, out);
+            out.write(' ');
+            out.write(Double.toString(scaledValue));
+            out.write(LF);
         }
+    }
 
-        return out.toString();
+    private static Map<Metric, OptionalDouble> sample(Iterable<Metric> metrics) {
+        Map<Metric, OptionalDouble> values = new IdentityHashMap<>();
+        List<WildFlyMetric> wildFlyMetrics = new ArrayList<>();
+        for (Metric metric : metrics) {
+            if (metric instanceof WildFlyMetric) {
+                wildFlyMetrics.add((WildFlyMetric) metric);
+            } else {
+                values.put(metric, metric.getValue());
+            }
+        }
+        WildFlyMetric.readValues(wildFlyMetrics, values);
+        return values;
     }
 
     private static double scaleToBaseUnit(double value, MeasurementUnit unit) {
@@ -70,18 +132,46 @@ public class PrometheusExporter {
     }
 
     public static String getTagsAsAString(MetricID metricID) {
+        StringWriter out = new StringWriter();
+        try {
+            writeTags(metricID, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    private static void writeTags(MetricID metricID, Writer out) throws IOException {
         MetricTag[] tags = metricID.getTags();
         if (tags.length == 0) {
-            return "";
+            return;
         }
-        StringBuilder out = new StringBuilder("{");
+        out.write('{');
         for (int i = 0; i < tags.length; i++) {
             if (i > 0) {
-                out.append(",");
+                out.write(',');
             }
             MetricTag tag = tags[i];
-            out.append(tag.getKey() + "=\"" + tag.getValue() + "\"");
+            out.write(tag.getKey());
+            out.write("=\"");
+            out.write(tag.getValue());
+            out.write('"');
+        }
+        out.write('}');
+    }
+
+    /**
+     * The value of a metric, sampled by {@link PrometheusExporter#sample(WildFlyMetricRegistry)}.
+     */
+    public static class Sample {
+        private final MetricID metricID;
+        private final MetricMetadata metadata;
+        private final double value;
+
+        Sample(MetricID metricID, MetricMetadata metadata, double value) {
+            this.metricID = metricID;
+            this.metadata = metadata;
+            this.value = value;
         }
-        return out.append("}").toString();
     }
-}
\ No newline at end of file
+}
@@ -1,18 +1,24 @@
-
 /*
  * Copyright The WildFly Authors
  * SPDX-License-Identifier: Apache-2.0
  */
 package org.wildfly.extension.metrics;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.COMPOSITE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STEPS;
 import static org.wildfly.extension.metrics._private.MetricsLogger.LOGGER;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.OptionalDouble;
 
 import org.jboss.as.controller.LocalModelControllerClient;
@@ -27,6 +33,8 @@ public class WildFlyMetric implements Metric {
     private LocalModelControllerClient modelControllerClient;
     private final PathAddress address;
     private final String attributeName;
+    // The read-attribute operation is built once, and reused by every read
+    private final ModelNode readAttributeOp;
 
     static {
         UNDEFINED.protect();
@@ -36,11 +44,59 @@ public class WildFlyMetric implements Metric {
         this.modelControllerClient = modelControllerClient;
         this.address = address;
         this.attributeName = attributeName;
+        this.readAttributeOp = new ModelNode();
+        this.readAttributeOp.get(OP).set(READ_ATTRIBUTE_OPERATION);
+        this.readAttributeOp.get(OP_ADDR).set(address.toModelNode());
+        this.readAttributeOp.get(ModelDescriptionConstants.INCLUDE_UNDEFINED_METRIC_VALUES).set(false);
+        this.readAttributeOp.get(NAME).set(attributeName);
+        this.readAttributeOp.protect();
     }
 
     @Override
     public OptionalDouble getValue() {
-        ModelNode result = readAttributeValue(address, attributeName);
+        return toValue(readAttributeValue());
+    }
+
+    /**
+     * Reads the values of the specified metrics, using a single composite operation for all metrics of the same
+     * resource, instead of one operation per metric.
+     * If a composite operation fails, e.g. because one of its attributes is not accessible, the metrics of that resource
+     * are read one by one.
+     * @param metrics the metrics to read
+     * @param values the map in which to store the value of each metric
+     */
+    static void readValues(Collection<WildFlyMetric> metrics, Map<Metric, OptionalDouble> values) {
+        Map<PathAddress, List<WildFlyMetric>> metricsByAddress = new LinkedHashMap<>();
+        for (WildFlyMetric metric : metrics) {
+            metricsByAddress.computeIfAbsent(metric.address, key -> new ArrayList<>()).add(metric);
+        }
+        for (List<WildFlyMetric> resourceMetrics : metricsByAddress.values()) {
+            WildFlyMetric first = resourceMetrics.get(0);
+            if (resourceMetrics.size() > 1) {
+                ModelNode compositeOp = new ModelNode();
+                compositeOp.get(OP).set(COMPOSITE);
+                compositeOp.get(OP_ADDR).setEmptyList();
+                ModelNode steps = compositeOp.get(STEPS);
+                for (WildFlyMetric metric : resourceMetrics) {
+                    steps.add(metric.readAttributeOp);
+                }
+                ModelNode response = first.modelControllerClient.execute(compositeOp);
+                if (getFailureDescription(response) == null) {
+                    ModelNode result = response.get(RESULT);
+                    for (int i = 0; i < resourceMetrics.size(); i++) {
+                        WildFlyMetric metric = resourceMetrics.get(i);
+                        values.put(metric, metric.toValue(result.get("step-" + (i + 1), RESULT)));
+                    }
+                    continue;
+                }
+            }
+            for (WildFlyMetric metric : resourceMetrics) {
+                values.put(metric, metric.getValue());
+            }
+        }
+    }
+
+    private OptionalDouble toValue(ModelNode result) {
         if (result.isDefined()) {
             try {
                 return OptionalDouble.of(result.asDouble());
@@ -51,12 +107,7 @@ public class WildFlyMetric implements Metric {
         return OptionalDouble.empty();
     }
 
-    private ModelNode readAttributeValue(PathAddress address, String attributeName) {
-        final ModelNode readAttributeOp = new ModelNode();
-        readAttributeOp.get(OP).set(READ_ATTRIBUTE_OPERATION);
-        readAttributeOp.get(OP_ADDR).set(address.toModelNode());
-        readAttributeOp.get(ModelDescriptionConstants.INCLUDE_UNDEFINED_METRIC_VALUES).set(false);
-        readAttributeOp.get(NAME).set(attributeName);
+    private ModelNode readAttributeValue() {
         ModelNode response = modelControllerClient.execute(readAttributeOp);
         String error = getFailureDescription(response);
         // TODO: Revisit this handling
@@ -73,7 +124,7 @@ public class WildFlyMetric implements Metric {
         return  response.get(RESULT);
     }
 
-    private String getFailureDescription(ModelNode result) {
+    private static String getFailureDescription(ModelNode result) {
         if (result.hasDefined(FAILURE_DESCRIPTION)) {
             return result.get(FAILURE_DESCRIPTION).toString();
         }
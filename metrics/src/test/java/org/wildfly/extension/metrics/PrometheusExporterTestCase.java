@@ -0,0 +1,148 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.LocalModelControllerClient;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PrometheusExporter}.
+ */
+public class PrometheusExporterTestCase {
+
+    private static final String BENCHMARK_PROPERTY = "metrics.scrape.benchmark";
+
+    @Test
+    public void export() {
+        TestModelControllerClient client = new TestModelControllerClient();
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        register(registry, client, PathAddress.parseCLIStyleAddress("/subsystem=test/resource=a"), "count", MetricMetadata.Type.COUNTER, MeasurementUnit.NONE);
+        register(registry, client, PathAddress.parseCLIStyleAddress("/subsystem=test/resource=a"), "time", MetricMetadata.Type.GAUGE, MeasurementUnit.MILLISECONDS);
+        register(registry, client, PathAddress.parseCLIStyleAddress("/subsystem=test/resource=b"), "count", MetricMetadata.Type.COUNTER, MeasurementUnit.NONE);
+        // Undefined metric values are skipped
+        register(registry, client, PathAddress.parseCLIStyleAddress("/subsystem=test/resource=b"), "undefined", MetricMetadata.Type.GAUGE, MeasurementUnit.NONE);
+
+        String result = new PrometheusExporter().export(registry);
+
+        Assert.assertEquals("# HELP test_count_total count\n" +
+                "# TYPE test_count_total " + MetricMetadata.Type.COUNTER + "\n" +
+                "test_count_total{resource=\"a\"} 5.0\n" +
+                "test_count_total{resource=\"b\"} 5.0\n" +
+                "# HELP test_time_seconds time\n" +
+                "# TYPE test_time_seconds " + MetricMetadata.Type.GAUGE + "\n" +
+                "test_time_seconds{resource=\"a\"} 0.004\n", result);
+        // One composite operation per resource
+        Assert.assertEquals(2, client.getOperations().get());
+    }
+
+    @Test
+    public void fallback() {
+        TestModelControllerClient client = new TestModelControllerClient();
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        register(registry, client, PathAddress.parseCLIStyleAddress("/subsystem=test/resource=a"), "count", MetricMetadata.Type.COUNTER, MeasurementUnit.NONE);
+        register(registry, client, PathAddress.parseCLIStyleAddress("/subsystem=test/resource=a"), "failure", MetricMetadata.Type.GAUGE, MeasurementUnit.NONE);
+
+        String result = new PrometheusExporter().export(registry);
+
+        Assert.assertEquals("# HELP test_count_total count\n" +
+                "# TYPE test_count_total " + MetricMetadata.Type.COUNTER + "\n" +
+                "test_count_total{resource=\"a\"} 5.0\n", result);
+        // The failed composite operation, followed by one operation per metric
+        Assert.assertEquals(3, client.getOperations().get());
+    }
+
+    /**
+     * Verifies that a scrape of many metrics, spread over many resources, executes a single operation per resource.
+     */
+    @Test
+    public void batch() throws IOException {
+        TestModelControllerClient client = new TestModelControllerClient();
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        int resources = 100;
+        int attributes = 10;
+        for (int i = 0; i < resources; ++i) {
+            PathAddress address = PathAddress.parseCLIStyleAddress("/deployment=app" + i + ".war/subsystem=test/resource=r");
+            for (int j = 0; j < attributes; ++j) {
+                register(registry, client, address, "attribute" + j, MetricMetadata.Type.GAUGE, MeasurementUnit.NONE);
+            }
+        }
+        PrometheusExporter exporter = new PrometheusExporter();
+        CountingWriter writer = new CountingWriter();
+        int scrapes = 2;
+        for (int i = 0; i < scrapes; ++i) {
+            exporter.export(registry, writer);
+        }
+        Assert.assertEquals(resources * scrapes, client.getOperations().get());
+        Assert.assertTrue(writer.count > 0);
+    }
+
+    /**
+     * Measures the latency of a scrape of 10,000 metrics, spread over 1,000 resources.
+     * Only runs if the {@value #BENCHMARK_PROPERTY} system property is set, since it adds several seconds to the build.
+     */
+    @Test
+    public void scrapeLatency() throws IOException {
+        Assume.assumeTrue(Boolean.getBoolean(BENCHMARK_PROPERTY));
+        TestModelControllerClient client = new TestModelControllerClient();
+        WildFlyMetricRegistry registry = new WildFlyMetricRegistry();
+        int resources = 1_000;
+        int attributes = 10;
+        for (int i = 0; i < resources; ++i) {
+            PathAddress address = PathAddress.parseCLIStyleAddress("/deployment=app" + i + ".war/subsystem=test/resource=r");
+            for (int j = 0; j < attributes; ++j) {
+                register(registry, client, address, "attribute" + j, MetricMetadata.Type.GAUGE, MeasurementUnit.NONE);
+            }
+        }
+        PrometheusExporter exporter = new PrometheusExporter();
+        CountingWriter writer = new CountingWriter();
+        // Warm up
+        for (int i = 0; i < 5; ++i) {
+            exporter.export(registry, writer);
+        }
+        client.getOperations().set(0);
+        int scrapes = 10;
+        long start = System.nanoTime();
+        for (int i = 0; i < scrapes; ++i) {
+            exporter.export(registry, writer);
+        }
+        long latency = (System.nanoTime() - start) / scrapes;
+        Assert.assertEquals(resources * scrapes, client.getOperations().get());
+        System.out.printf("Scrape of %d metrics: %d ms%n", resources * attributes, TimeUnit.NANOSECONDS.toMillis(latency));
+    }
+
+    private static void register(WildFlyMetricRegistry registry, LocalModelControllerClient client, PathAddress address, String attributeName, MetricMetadata.Type type, MeasurementUnit unit) {
+        registry.registerMetric(new WildFlyMetric(client, address, attributeName), new WildFlyMetricMetadata(attributeName, address, null, attributeName, unit, type));
+    }
+
+    private static class CountingWriter extends Writer {
+        long count;
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            this.count += length;
+        }
+
+        @Override
+        public void write(String value) {
+            this.count += value.length();
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.metrics;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.COMPOSITE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STEPS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.controller.LocalModelControllerClient;
+import org.jboss.as.controller.client.Operation;
+import org.jboss.as.controller.client.OperationMessageHandler;
+import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.dmr.ModelNode;
+import org.jboss.threads.AsyncFuture;
+import org.junit.Assert;
+
+/**
+ * Answers read-attribute operations with the length of the attribute name, and counts executed operations.
+ * Reading the "failure" attribute fails, and the "undefined" attribute has no value.
+ * Also used by the tests of the micrometer extension, via the test jar of this module.
+ */
+public class TestModelControllerClient implements LocalModelControllerClient {
+    private final AtomicInteger operations = new AtomicInteger();
+
+    /**
+     * Returns the counter of operations executed by this client, a composite operation counting as one.
+     * @return the counter of executed operations
+     */
+    public AtomicInteger getOperations() {
+        return this.operations;
+    }
+
+    @Override
+    public ModelNode execute(ModelNode operation) {
+        this.operations.incrementAndGet();
+        if (operation.get(OP).asString().equals(COMPOSITE)) {
+            ModelNode response = new ModelNode();
+            response.get(OUTCOME).set(SUCCESS);
+            ModelNode result = response.get(RESULT);
+            int step = 1;
+            for (ModelNode stepOperation : operation.get(STEPS).asList()) {
+                ModelNode stepResponse = this.read(stepOperation);
+                if (stepResponse.hasDefined(FAILURE_DESCRIPTION)) {
+                    ModelNode failure = new ModelNode();
+                    failure.get(OUTCOME).set(FAILED);
+                    failure.get(FAILURE_DESCRIPTION).set("Operation failed");
+                    return failure;
+                }
+                result.get("step-" + step++).set(stepResponse);
+            }
+            return response;
+        }
+        return this.read(operation);
+    }
+
+    private ModelNode read(ModelNode operation) {
+        Assert.assertTrue(operation.hasDefined(OP_ADDR));
+        String name = operation.get(NAME).asString();
+        ModelNode response = new ModelNode();
+        if (name.equals("failure")) {
+            response.get(OUTCOME).set(FAILED);
+            response.get(FAILURE_DESCRIPTION).set("WFLYCTL0216: Management resource not found");
+            return response;
+        }
+        response.get(OUTCOME).set(SUCCESS);
+        if (!name.equals("undefined")) {
+            response.get(RESULT).set(name.length());
+        }
+        return response;
+    }
+
+    @Override
+    public OperationResponse executeOperation(Operation operation, OperationMessageHandler messageHandler) {
+        return OperationResponse.Factory.createSimple(this.execute(operation.getOperation()));
+    }
+
+    @Override
+    public AsyncFuture<ModelNode> executeAsync(Operation operation, OperationMessageHandler messageHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public AsyncFuture<OperationResponse> executeOperationAsync(Operation operation, OperationMessageHandler messageHandler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -19,6 +19,7 @@ import org.jboss.msc.service.ServiceName;
 
 /**
  * Management operation that returns the DMR representation of the MicroProfile Health Check JSON payload.
+ * Also registers the operation returning the execution time statistics of each health check.
  *
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2018 Red Hat inc.
  */
@@ -50,6 +51,13 @@ public class CheckOperations extends AbstractRuntimeOnlyHandler {
         .build();
 
 
+    private static final OperationDefinition CHECK_STATISTICS_DEFINITION = new SimpleOperationDefinitionBuilder("check-statistics", MicroProfileHealthExtension.SUBSYSTEM_RESOLVER)
+        .setRuntimeOnly()
+        .setReadOnly()
+        .setReplyType(ModelType.LIST)
+        .setReplyValueType(ModelType.OBJECT)
+        .build();
+
     private final Function<MicroProfileHealthReporter, SmallRyeHealth> healthOperation;
 
     public CheckOperations(Function<MicroProfileHealthReporter, SmallRyeHealth> healthOperation) {
@@ -61,14 +69,25 @@ public class CheckOperations extends AbstractRuntimeOnlyHandler {
         resourceRegistration.registerOperationHandler(CHECK_LIVE_DEFINITION, new CheckOperations((MicroProfileHealthReporter h) -> h.getLiveness()));
         resourceRegistration.registerOperationHandler(CHECK_READY_DEFINITION, new CheckOperations((MicroProfileHealthReporter h) -> h.getReadiness()));
         resourceRegistration.registerOperationHandler(CHECK_STARTED_DEFINITION, new CheckOperations((MicroProfileHealthReporter h) -> h.getStartup()));
+        resourceRegistration.registerOperationHandler(CHECK_STATISTICS_DEFINITION, new AbstractRuntimeOnlyHandler() {
+            @Override
+            protected void executeRuntimeStep(OperationContext context, ModelNode operation) {
+                ModelNode result = context.getResult().setEmptyList();
+                for (HealthCheckStatistics statistics : getReporter(context).getCheckStatistics()) {
+                    result.add(statistics.toModelNode());
+                }
+            }
+        });
     }
 
-    @Override
-    protected void executeRuntimeStep(OperationContext context, ModelNode operation) {
+    private static MicroProfileHealthReporter getReporter(OperationContext context) {
         ServiceName serviceName = context.getCapabilityServiceName(MicroProfileHealthSubsystemDefinition.MICROPROFILE_HEALTH_REPORTER_CAPABILITY, MicroProfileHealthReporter.class);
-        MicroProfileHealthReporter reporter = (MicroProfileHealthReporter) context.getServiceRegistry(false).getService(serviceName).getValue();
+        return (MicroProfileHealthReporter) context.getServiceRegistry(false).getService(serviceName).getValue();
+    }
 
-        SmallRyeHealth health = healthOperation.apply(reporter);
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) {
+        SmallRyeHealth health = healthOperation.apply(getReporter(context));
         ModelNode result = ModelNode.fromJSONString(health.getPayload().toString());
         context.getResult().set(result);
     }
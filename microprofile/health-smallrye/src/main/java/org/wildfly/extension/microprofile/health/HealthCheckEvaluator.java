@@ -0,0 +1,277 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.microprofile.health;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.wildfly.extension.microprofile.health._private.MicroProfileHealthLogger;
+
+/**
+ * Evaluates health checks into their JSON representation.
+ * Checks are either called one after another on the calling thread, or concurrently by a bounded number of threads, in which case
+ * a check that does not complete in time is reported as DOWN.
+ * A check that is still in progress, e.g. because it hangs, is not called again: subsequent queries wait for the same invocation,
+ * so that a hanging check occupies at most one thread.
+ * The result of each check can be cached for a given time, and is then shared by all health queries, i.e. liveness, readiness and startup.
+ */
+class HealthCheckEvaluator {
+
+    /**
+     * The maximum number of checks waiting for a thread, per thread.
+     */
+    private static final int QUEUE_CAPACITY_PER_THREAD = 16;
+
+    private final ThreadPoolExecutor executor;
+    private final long timeout;
+    private final long cacheTimeToLive;
+    private final Map<HealthCheck, CachedResult> cache = new ConcurrentHashMap<>();
+    private final Map<HealthCheck, HealthCheckStatistics> statistics = new ConcurrentHashMap<>();
+    private final Map<HealthCheck, Future<JsonObject>> inProgress = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new evaluator.
+     * @param maxThreads the maximum number of threads calling checks concurrently, or 0 to call checks on the calling thread
+     * @param timeout the time after which a check called concurrently is reported as DOWN, or zero for no timeout
+     * @param cacheTimeToLive the time for which the result of a check is reused, or zero to disable caching
+     */
+    HealthCheckEvaluator(int maxThreads, Duration timeout, Duration cacheTimeToLive) {
+        this.timeout = timeout.toNanos();
+        this.cacheTimeToLive = cacheTimeToLive.toNanos();
+        if (maxThreads > 0) {
+            AtomicInteger count = new AtomicInteger();
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(maxThreads * QUEUE_CAPACITY_PER_THREAD), task -> {
+                Thread thread = new Thread(task, "health-check-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true);
+            this.executor = executor;
+        } else {
+            this.executor = null;
+        }
+    }
+
+    /**
+     * Evaluates the specified checks, each using its associated class loader as the TCCL.
+     * @param checks health checks with their class loader
+     * @return the JSON representation of the response of each check, in iteration order
+     */
+    List<JsonObject> evaluate(Map<HealthCheck, ClassLoader> checks) {
+        List<Map.Entry<HealthCheck, ClassLoader>> entries = new ArrayList<>(checks.entrySet());
+        JsonObject[] results = new JsonObject[entries.size()];
+        List<Future<JsonObject>> futures = (this.executor != null) ? new ArrayList<>(Collections.nCopies(entries.size(), null)) : Collections.emptyList();
+        long start = System.nanoTime();
+
+        for (int i = 0; i < results.length; ++i) {
+            HealthCheck check = entries.get(i).getKey();
+            ClassLoader loader = entries.get(i).getValue();
+            CachedResult cached = this.cache.get(check);
+            if ((cached != null) && (cached.expiration - start > 0)) {
+                results[i] = cached.result;
+            } else if (this.executor != null) {
+                Future<JsonObject> future = this.submit(check, loader);
+                if (future != null) {
+                    futures.set(i, future);
+                } else {
+                    results[i] = this.rejected(check);
+                }
+            } else {
+                results[i] = this.call(check, loader);
+            }
+        }
+
+        for (int i = 0; i < futures.size(); ++i) {
+            Future<JsonObject> future = futures.get(i);
+            if (future != null) {
+                HealthCheck check = entries.get(i).getKey();
+                try {
+                    // Checks run concurrently, so all share the same deadline
+                    results[i] = (this.timeout > 0) ? future.get(Math.max(0, start + this.timeout - System.nanoTime()), TimeUnit.NANOSECONDS) : future.get();
+                } catch (TimeoutException e) {
+                    // The invocation is not cancelled, but remains in progress for subsequent queries
+                    results[i] = this.timeout(check);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    results[i] = jsonObject(HealthCheckResponse.named(this.getName(check)).down().build());
+                } catch (ExecutionException e) {
+                    MicroProfileHealthLogger.LOGGER.error("Error processing Health Checks", e.getCause());
+                    results[i] = jsonObject(HealthCheckResponse.named(this.getName(check)).down().build());
+                }
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Cancels the invocation in progress of the specified check, if any, and discards its cached result and statistics.
+     * @param check a health check
+     */
+    void remove(HealthCheck check) {
+        Future<JsonObject> invocation = this.inProgress.remove(check);
+        if (invocation != null) {
+            invocation.cancel(true);
+        }
+        this.cache.remove(check);
+        this.statistics.remove(check);
+    }
+
+    Collection<HealthCheckStatistics> getStatistics() {
+        return Collections.unmodifiableCollection(this.statistics.values());
+    }
+
+    void close() {
+        if (this.executor != null) {
+            this.executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the invocation in progress of the specified check, or submits a new one.
+     * @return the invocation of the check, or null if it could not be submitted
+     */
+    private Future<JsonObject> submit(HealthCheck check, ClassLoader loader) {
+        try {
+            return this.inProgress.compute(check, (key, current) -> {
+                if ((current != null) && !current.isDone()) {
+                    return current;
+                }
+                AtomicReference<Future<JsonObject>> invocation = new AtomicReference<>();
+                FutureTask<JsonObject> task = new FutureTask<>(() -> this.call(key, loader, invocation.get())) {
+                    @Override
+                    protected void done() {
+                        HealthCheckEvaluator.this.inProgress.remove(key, this);
+                    }
+                };
+                invocation.set(task);
+                this.executor.execute(task);
+                return task;
+            });
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    private JsonObject call(HealthCheck check, ClassLoader loader) {
+        return this.call(check, loader, null);
+    }
+
+    /**
+     * Calls the specified check.
+     * @param invocation the concurrent invocation of the check, or null if called on the calling thread
+     */
+    private JsonObject call(HealthCheck check, ClassLoader loader, Future<JsonObject> invocation) {
+        // use the classloader of the deployment's module instead of the TCCL (which is the server's ModuleClassLoader
+        // to ensure that any resources that checks the TCCL (such as MicroProfile Config) will use the correct one
+        // when the health checks are called.
+        final ClassLoader oldTCCL = Thread.currentThread().getContextClassLoader();
+        try {
+            Thread.currentThread().setContextClassLoader(loader);
+            long start = System.nanoTime();
+            JsonObject result = jsonObject(check);
+            long end = System.nanoTime();
+            this.statistics.computeIfAbsent(check, this::createStatistics).recordInvocation(result.getString("name"), end - start);
+            if (this.cacheTimeToLive > 0) {
+                this.cache.put(check, new CachedResult(result, end + this.cacheTimeToLive));
+            }
+            // The check was removed while in progress: discard what was just recorded, since remove() may already have run
+            if ((invocation != null) && invocation.isCancelled()) {
+                this.cache.remove(check);
+                this.statistics.remove(check);
+            }
+            return result;
+        } finally {
+            Thread.currentThread().setContextClassLoader(oldTCCL);
+        }
+    }
+
+    private JsonObject timeout(HealthCheck check) {
+        String name = this.getName(check);
+        this.statistics.computeIfAbsent(check, this::createStatistics).recordTimeout();
+        MicroProfileHealthLogger.LOGGER.healthCheckTimeout(name, TimeUnit.NANOSECONDS.toMillis(this.timeout));
+        return jsonObject(HealthCheckResponse.named(name).down().withData("timeout", TimeUnit.NANOSECONDS.toMillis(this.timeout)).build());
+    }
+
+    private JsonObject rejected(HealthCheck check) {
+        String name = this.getName(check);
+        MicroProfileHealthLogger.LOGGER.healthCheckRejected(name);
+        return jsonObject(HealthCheckResponse.named(name).down().build());
+    }
+
+    private String getName(HealthCheck check) {
+        HealthCheckStatistics statistics = this.statistics.get(check);
+        return (statistics != null) ? statistics.getName() : check.getClass().getName();
+    }
+
+    private HealthCheckStatistics createStatistics(HealthCheck check) {
+        return new HealthCheckStatistics(check.getClass().getName());
+    }
+
+    private static JsonObject jsonObject(HealthCheck check) {
+        try {
+            return jsonObject(check.call());
+        } catch (RuntimeException e) {
+            // Log Stacktrace to server log so an error is not just in Health Check response
+            MicroProfileHealthLogger.LOGGER.error("Error processing Health Checks", e);
+
+            return jsonObject(HealthCheckResponse.named(check.getClass().getName()).down().build());
+        }
+    }
+
+    private static JsonObject jsonObject(HealthCheckResponse response) {
+        JsonObjectBuilder builder = Json.createObjectBuilder();
+        builder.add("name", response.getName());
+        builder.add("status", response.getStatus().toString());
+        response.getData().ifPresent(d -> {
+            JsonObjectBuilder data = Json.createObjectBuilder();
+            for (Map.Entry<String, Object> entry : d.entrySet()) {
+                Object value = entry.getValue();
+                if (value instanceof String) {
+                    data.add(entry.getKey(), (String) value);
+                } else if (value instanceof Long) {
+                    data.add(entry.getKey(), (Long) value);
+                } else if (value instanceof Boolean) {
+                    data.add(entry.getKey(), (Boolean) value);
+                }
+            }
+            builder.add("data", data.build());
+        });
+
+        return builder.build();
+    }
+
+    private static class CachedResult {
+        final JsonObject result;
+        final long expiration;
+
+        CachedResult(JsonObject result, long expiration) {
+            this.result = result;
+            this.expiration = expiration;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.microprofile.health;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Execution time statistics of a single health check.
+ */
+public class HealthCheckStatistics {
+
+    private volatile String name;
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder totalTime = new LongAdder();
+    private final LongAccumulator maxTime = new LongAccumulator(Math::max, 0);
+    private final LongAdder timeouts = new LongAdder();
+
+    HealthCheckStatistics(String name) {
+        this.name = name;
+    }
+
+    void recordInvocation(String name, long nanos) {
+        this.name = name;
+        this.invocations.increment();
+        this.totalTime.add(nanos);
+        this.maxTime.accumulate(nanos);
+    }
+
+    void recordTimeout() {
+        this.timeouts.increment();
+    }
+
+    /**
+     * @return the name of the most recent response of this check, or the class name of this check if it never completed
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * @return the number of completed invocations of this check
+     */
+    public long getInvocations() {
+        return this.invocations.sum();
+    }
+
+    /**
+     * @return the total execution time of the completed invocations of this check, in milliseconds
+     */
+    public long getTotalTime() {
+        return TimeUnit.NANOSECONDS.toMillis(this.totalTime.sum());
+    }
+
+    /**
+     * @return the greatest execution time of this check, in milliseconds
+     */
+    public long getMaxTime() {
+        return TimeUnit.NANOSECONDS.toMillis(this.maxTime.get());
+    }
+
+    /**
+     * @return the number of invocations of this check which did not complete in time
+     */
+    public long getTimeouts() {
+        return this.timeouts.sum();
+    }
+
+    ModelNode toModelNode() {
+        ModelNode node = new ModelNode();
+        node.get("name").set(this.getName());
+        node.get("invocations").set(this.getInvocations());
+        node.get("total-time").set(this.getTotalTime());
+        node.get("max-time").set(this.getMaxTime());
+        node.get("timeouts").set(this.getTimeouts());
+        return node;
+    }
+}
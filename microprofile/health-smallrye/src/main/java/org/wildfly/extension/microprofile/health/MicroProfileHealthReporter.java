@@ -5,6 +5,8 @@
 package org.wildfly.extension.microprofile.health;
 
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -19,7 +21,6 @@ import jakarta.json.JsonObjectBuilder;
 import io.smallrye.health.SmallRyeHealth;
 import org.eclipse.microprofile.health.HealthCheck;
 import org.eclipse.microprofile.health.HealthCheckResponse;
-import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
 import org.wildfly.extension.microprofile.health._private.MicroProfileHealthLogger;
 
 
@@ -40,6 +41,7 @@ public class MicroProfileHealthReporter {
     private final HealthCheck emptyDeploymentReadinessCheck;
     private final HealthCheck emptyDeploymentStartupCheck;
     private final Map<String, DeploymentConfiguration> deploymentsConfiguration = new ConcurrentHashMap<>();
+    private final HealthCheckEvaluator evaluator;
 
     /**
      * Evaluate whether any deployment is disabling default procedures server-wide, i.e. by setting
@@ -114,6 +116,21 @@ public class MicroProfileHealthReporter {
     public MicroProfileHealthReporter(String emptyLivenessChecksStatus, String emptyReadinessChecksStatus,
                                       String emptyStartupChecksStatus, boolean defaultProceduresDisabled,
                                       String defaultReadinessEmptyResponse, String defaultStartupEmptyResponse) {
+        this(emptyLivenessChecksStatus, emptyReadinessChecksStatus, emptyStartupChecksStatus, defaultProceduresDisabled,
+            defaultReadinessEmptyResponse, defaultStartupEmptyResponse, 0, Duration.ZERO, Duration.ZERO);
+    }
+
+    /**
+     * Creates a health reporter whose checks are called by a bounded number of threads.
+     * @param checkMaxThreads the maximum number of threads calling health checks concurrently, or 0 to call them one after another on the requesting thread
+     * @param checkTimeout the time after which a health check called concurrently is reported as DOWN, or zero for no timeout
+     * @param checkCacheTimeToLive the time for which the response of a health check is reused by subsequent queries, or zero to call health checks on every query
+     */
+    public MicroProfileHealthReporter(String emptyLivenessChecksStatus, String emptyReadinessChecksStatus,
+                                      String emptyStartupChecksStatus, boolean defaultProceduresDisabled,
+                                      String defaultReadinessEmptyResponse, String defaultStartupEmptyResponse,
+                                      int checkMaxThreads, Duration checkTimeout, Duration checkCacheTimeToLive) {
+        this.evaluator = new HealthCheckEvaluator(checkMaxThreads, checkTimeout, checkCacheTimeToLive);
         this.emptyDeploymentLivenessCheck  = new EmptyDeploymentCheckStatus("empty-liveness-checks", emptyLivenessChecksStatus);
         this.emptyDeploymentReadinessCheck  = new EmptyDeploymentCheckStatus("empty-readiness-checks", emptyReadinessChecksStatus);
         this.emptyDeploymentStartupCheck  = new EmptyDeploymentCheckStatus("empty-startup-checks", emptyStartupChecksStatus);
@@ -216,25 +233,15 @@ public class MicroProfileHealthReporter {
 
     private HealthCheckResponse.Status processChecks(Map<HealthCheck, ClassLoader> checks, JsonArrayBuilder results, HealthCheckResponse.Status status) {
         if (checks != null) {
-            for (Map.Entry<HealthCheck, ClassLoader> entry : checks.entrySet()) {
-                // use the classloader of the deployment's module instead of the TCCL (which is the server's ModuleClassLoader
-                // to ensure that any resources that checks the TCCL (such as MicroProfile Config) will use the correct one
-                // when the health checks are called.
-                final ClassLoader oldTCCL = Thread.currentThread().getContextClassLoader();
-                try {
-                    Thread.currentThread().setContextClassLoader(entry.getValue());
-                    status = fillCheck(entry.getKey(), results, status);
-                } finally {
-                    Thread.currentThread().setContextClassLoader(oldTCCL);
-                }
+            for (JsonObject each : evaluator.evaluate(checks)) {
+                status = fillCheck(each, results, status);
             }
         }
 
         return status;
     }
 
-    private HealthCheckResponse.Status fillCheck(HealthCheck check, JsonArrayBuilder results, HealthCheckResponse.Status globalOutcome) {
-        JsonObject each = jsonObject(check);
+    private HealthCheckResponse.Status fillCheck(JsonObject each, JsonArrayBuilder results, HealthCheckResponse.Status globalOutcome) {
         results.add(each);
         if (globalOutcome == HealthCheckResponse.Status.UP) {
             String status = each.getString("status");
@@ -245,39 +252,19 @@ public class MicroProfileHealthReporter {
         return globalOutcome;
     }
 
-    private JsonObject jsonObject(HealthCheck check) {
-        try {
-            return jsonObject(check.call());
-        } catch (RuntimeException e) {
-            // Log Stacktrace to server log so an error is not just in Health Check response
-            MicroProfileHealthLogger.LOGGER.error("Error processing Health Checks", e);
-
-            HealthCheckResponseBuilder response = HealthCheckResponse.named(check.getClass().getName()).down();
-
-            return jsonObject(response.build());
-        }
+    /**
+     * Returns the execution time statistics of the health checks called so far.
+     * @return a collection of statistics, one per health check
+     */
+    public Collection<HealthCheckStatistics> getCheckStatistics() {
+        return evaluator.getStatistics();
     }
 
-    private JsonObject jsonObject(HealthCheckResponse response) {
-        JsonObjectBuilder builder = Json.createObjectBuilder();
-        builder.add("name", response.getName());
-        builder.add("status", response.getStatus().toString());
-        response.getData().ifPresent(d -> {
-            JsonObjectBuilder data = Json.createObjectBuilder();
-            for (Map.Entry<String, Object> entry : d.entrySet()) {
-                Object value = entry.getValue();
-                if (value instanceof String) {
-                    data.add(entry.getKey(), (String) value);
-                } else if (value instanceof Long) {
-                    data.add(entry.getKey(), (Long) value);
-                } else if (value instanceof Boolean) {
-                    data.add(entry.getKey(), (Boolean) value);
-                }
-            }
-            builder.add("data", data.build());
-        });
-
-        return builder.build();
+    /**
+     * Releases the threads used to call health checks concurrently.
+     */
+    public void close() {
+        evaluator.close();
     }
 
     public void addHealthCheck(HealthCheck check, ClassLoader moduleClassLoader) {
@@ -288,6 +275,7 @@ public class MicroProfileHealthReporter {
 
     public void removeHealthCheck(HealthCheck check) {
         healthChecks.remove(check);
+        evaluator.remove(check);
     }
 
     public void addReadinessCheck(HealthCheck check, ClassLoader moduleClassLoader) {
@@ -304,6 +292,7 @@ public class MicroProfileHealthReporter {
 
     public void removeReadinessCheck(HealthCheck check) {
         readinessChecks.remove(check);
+        evaluator.remove(check);
     }
 
     public void addLivenessCheck(HealthCheck check, ClassLoader moduleClassLoader) {
@@ -314,6 +303,7 @@ public class MicroProfileHealthReporter {
 
     public void removeLivenessCheck(HealthCheck check) {
         livenessChecks.remove(check);
+        evaluator.remove(check);
     }
 
     public void addStartupCheck(HealthCheck check, ClassLoader moduleClassLoader) {
@@ -324,6 +314,7 @@ public class MicroProfileHealthReporter {
 
     public void removeStartupCheck(HealthCheck check) {
         startupChecks.remove(check);
+        evaluator.remove(check);
     }
 
     /**
@@ -8,6 +8,7 @@ package org.wildfly.extension.microprofile.health;
 import static org.wildfly.extension.microprofile.health.MicroProfileHealthSubsystemDefinition.HEALTH_SERVER_PROBE_CAPABILITY;
 import static org.wildfly.extension.microprofile.health.MicroProfileHealthSubsystemDefinition.MICROPROFILE_HEALTH_REPORTER_CAPABILITY;
 
+import java.time.Duration;
 import java.util.function.Supplier;
 
 import io.smallrye.health.ResponseProvider;
@@ -68,9 +69,16 @@ public class MicroProfileHealthReporterService implements Service<MicroProfileHe
         final String defaultReadinessEmptyResponse = ConfigProvider.getConfig().getOptionalValue("mp.health.default.readiness.empty.response", String.class).orElse("DOWN");
         // MicroProfile Health supports the mp.health.default.startup.empty.response to let users specify default empty startup responses
         final String defaultStartupEmptyResponse = ConfigProvider.getConfig().getOptionalValue("mp.health.default.startup.empty.response", String.class).orElse("DOWN");
+        // The maximum number of threads calling health checks concurrently; by default, checks are called one after another on the requesting thread
+        final int checkMaxThreads = ConfigProvider.getConfig().getOptionalValue("wildfly.health.check.max-threads", Integer.class).orElse(0);
+        // The time, in milliseconds, after which a health check called concurrently is reported as DOWN
+        final long checkTimeout = ConfigProvider.getConfig().getOptionalValue("wildfly.health.check.timeout", Long.class).orElse(0L);
+        // The time, in milliseconds, for which the response of a health check is reused by subsequent liveness, readiness and startup queries
+        final long checkCacheTimeToLive = ConfigProvider.getConfig().getOptionalValue("wildfly.health.check.cache-ttl", Long.class).orElse(0L);
         healthReporter = new MicroProfileHealthReporter(emptyLivenessChecksStatus, emptyReadinessChecksStatus,
             emptyStartupChecksStatus, defaultServerProceduresDisabled,
-            defaultReadinessEmptyResponse, defaultStartupEmptyResponse);
+            defaultReadinessEmptyResponse, defaultStartupEmptyResponse,
+            checkMaxThreads, Duration.ofMillis(checkTimeout), Duration.ofMillis(checkCacheTimeToLive));
 
         if (!defaultServerProceduresDisabled) {
             ClassLoader tccl = Thread.currentThread().getContextClassLoader();
@@ -84,6 +92,7 @@ public class MicroProfileHealthReporterService implements Service<MicroProfileHe
 
     @Override
     public void stop(StopContext context) {
+        healthReporter.close();
         healthReporter = null;
         HealthCheckResponse.setResponseProvider(null);
     }
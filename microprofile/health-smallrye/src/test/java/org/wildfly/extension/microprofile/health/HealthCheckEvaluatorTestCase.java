@@ -0,0 +1,177 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.microprofile.health;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.json.JsonObject;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link HealthCheckEvaluator}.
+ */
+public class HealthCheckEvaluatorTestCase {
+
+    private static final ClassLoader LOADER = HealthCheckEvaluatorTestCase.class.getClassLoader();
+
+    @Test
+    public void sequential() {
+        HealthCheckEvaluator evaluator = new HealthCheckEvaluator(0, Duration.ZERO, Duration.ZERO);
+        try {
+            AtomicInteger invocations = new AtomicInteger();
+            Map<HealthCheck, ClassLoader> checks = new LinkedHashMap<>();
+            checks.put(new CountingCheck("first", invocations), LOADER);
+            checks.put(() -> {
+                throw new IllegalStateException();
+            }, LOADER);
+
+            List<JsonObject> results = evaluator.evaluate(checks);
+            assertEquals(2, results.size());
+            assertEquals("first", results.get(0).getString("name"));
+            assertEquals("UP", results.get(0).getString("status"));
+            assertEquals("DOWN", results.get(1).getString("status"));
+
+            evaluator.evaluate(checks);
+            assertEquals(2, invocations.get());
+        } finally {
+            evaluator.close();
+        }
+    }
+
+    @Test
+    public void cache() {
+        HealthCheckEvaluator evaluator = new HealthCheckEvaluator(2, Duration.ZERO, Duration.ofHours(1));
+        try {
+            AtomicInteger invocations = new AtomicInteger();
+            HealthCheck check = new CountingCheck("cached", invocations);
+            Map<HealthCheck, ClassLoader> checks = Map.of(check, LOADER);
+
+            JsonObject result = evaluator.evaluate(checks).get(0);
+            assertEquals("UP", result.getString("status"));
+            assertEquals(result, evaluator.evaluate(checks).get(0));
+            assertEquals(1, invocations.get());
+
+            // A removed check is called again
+            evaluator.remove(check);
+            evaluator.evaluate(checks);
+            assertEquals(2, invocations.get());
+        } finally {
+            evaluator.close();
+        }
+    }
+
+    @Test
+    public void timeout() throws InterruptedException {
+        HealthCheckEvaluator evaluator = new HealthCheckEvaluator(2, Duration.ofMillis(100), Duration.ZERO);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            AtomicInteger hangingInvocations = new AtomicInteger();
+            AtomicInteger invocations = new AtomicInteger();
+            HealthCheck hanging = () -> {
+                hangingInvocations.incrementAndGet();
+                // Ignores interruption
+                while (release.getCount() > 0) {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        // Continue waiting
+                    }
+                }
+                return HealthCheckResponse.up("hanging");
+            };
+            Map<HealthCheck, ClassLoader> checks = new LinkedHashMap<>();
+            checks.put(hanging, LOADER);
+            checks.put(new CountingCheck("responsive", invocations), LOADER);
+
+            for (int i = 1; i <= 5; ++i) {
+                List<JsonObject> results = evaluator.evaluate(checks);
+                assertEquals("DOWN", results.get(0).getString("status"));
+                assertEquals(100, results.get(0).getJsonObject("data").getJsonNumber("timeout").longValue());
+                // The hanging check occupies a single thread, so that the other one remains available
+                assertEquals("UP", results.get(1).getString("status"));
+                assertEquals(i, invocations.get());
+            }
+            // The hanging check is not called again while in progress
+            assertEquals(1, hangingInvocations.get());
+            HealthCheckStatistics statistics = evaluator.getStatistics().stream().filter(s -> s.getTimeouts() > 0).findFirst().orElseThrow();
+            assertEquals(5, statistics.getTimeouts());
+
+            release.countDown();
+            // Wait for the completion of the hanging check
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (statistics.getInvocations() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals("UP", evaluator.evaluate(checks).get(0).getString("status"));
+            assertEquals(2, hangingInvocations.get());
+        } finally {
+            release.countDown();
+            evaluator.close();
+        }
+    }
+
+    @Test
+    public void removeInProgress() throws InterruptedException {
+        HealthCheckEvaluator evaluator = new HealthCheckEvaluator(1, Duration.ofMillis(100), Duration.ofHours(1));
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try {
+            HealthCheck hanging = () -> {
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return HealthCheckResponse.up("hanging");
+            };
+            Map<HealthCheck, ClassLoader> checks = Map.of(hanging, LOADER);
+
+            assertEquals("DOWN", evaluator.evaluate(checks).get(0).getString("status"));
+
+            // Removing the check interrupts its invocation
+            evaluator.remove(hanging);
+            assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+
+            // The single thread runs the next check once the cancelled invocation has returned
+            AtomicInteger invocations = new AtomicInteger();
+            assertEquals("UP", evaluator.evaluate(Map.of(new CountingCheck("responsive", invocations), LOADER)).get(0).getString("status"));
+            assertEquals(1, invocations.get());
+
+            // The cancelled invocation left neither statistics nor a cached result behind
+            assertEquals(1, evaluator.getStatistics().size());
+            assertEquals("DOWN", evaluator.evaluate(checks).get(0).getString("status"));
+        } finally {
+            evaluator.close();
+        }
+    }
+
+    private static class CountingCheck implements HealthCheck {
+        private final String name;
+        private final AtomicInteger invocations;
+
+        CountingCheck(String name, AtomicInteger invocations) {
+            this.name = name;
+            this.invocations = invocations;
+        }
+
+        @Override
+        public HealthCheckResponse call() {
+            this.invocations.incrementAndGet();
+            return HealthCheckResponse.up(this.name);
+        }
+    }
+}
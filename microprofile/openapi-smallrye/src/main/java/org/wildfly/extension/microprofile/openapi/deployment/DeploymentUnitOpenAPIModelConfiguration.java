@@ -37,6 +37,7 @@ public class DeploymentUnitOpenAPIModelConfiguration implements OpenAPIModelConf
     private static final String PATH = "mp.openapi.extensions.path";
     private static final String DEFAULT_PATH = "/openapi";
     private static final String RELATIVE_SERVER_URLS = "mp.openapi.extensions.servers.relative";
+    private static final String MODEL_CACHE = "mp.openapi.extensions.model.cache";
     private static final Map<Format, List<String>> STATIC_FILES = new EnumMap<>(Format.class);
     static {
         // Order resource names by search order
@@ -58,6 +59,7 @@ public class DeploymentUnitOpenAPIModelConfiguration implements OpenAPIModelConf
     private final String path;
     private final Function<String, URL> resolver;
     private final boolean relativeServerURLs;
+    private final boolean modelCacheEnabled;
 
     DeploymentUnitOpenAPIModelConfiguration(DeploymentUnit unit) {
         this.config = ConfigProvider.getConfig(unit.getAttachment(Attachments.MODULE).getClassLoader());
@@ -84,6 +86,7 @@ public class DeploymentUnitOpenAPIModelConfiguration implements OpenAPIModelConf
             MicroProfileOpenAPILogger.LOGGER.nonStandardEndpoint(unit.getName(), this.path, DEFAULT_PATH);
         }
         this.relativeServerURLs = this.config.getOptionalValue(RELATIVE_SERVER_URLS, Boolean.class).orElse(Boolean.TRUE);
+        this.modelCacheEnabled = this.config.getOptionalValue(MODEL_CACHE, Boolean.class).orElse(Boolean.FALSE);
     }
 
     @Override
@@ -125,4 +128,9 @@ public class DeploymentUnitOpenAPIModelConfiguration implements OpenAPIModelConf
     public boolean useRelativeServerURLs() {
         return this.relativeServerURLs;
     }
+
+    @Override
+    public boolean isModelCacheEnabled() {
+        return this.modelCacheEnabled;
+    }
 }
\ No newline at end of file
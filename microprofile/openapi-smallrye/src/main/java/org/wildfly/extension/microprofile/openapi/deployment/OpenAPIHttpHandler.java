@@ -5,12 +5,17 @@
 
 package org.wildfly.extension.microprofile.openapi.deployment;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Deque;
@@ -20,7 +25,7 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 
 import jakarta.ws.rs.core.MediaType;
 
@@ -30,14 +35,19 @@ import io.smallrye.openapi.api.SmallRyeOpenAPI;
 import io.smallrye.openapi.runtime.io.Format;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.util.ETag;
+import io.undertow.util.ETagUtils;
 import io.undertow.util.HeaderMap;
+import io.undertow.util.HeaderValues;
 import io.undertow.util.Headers;
 import io.undertow.util.HttpString;
 import io.undertow.util.Methods;
+import io.undertow.util.QValueParser;
 import io.undertow.util.StatusCodes;
 
 /**
  * {@link HttpHandler} for the Open API endpoint.
+ * Each format of the OpenAPI document is rendered once, and served, in UTF-8, from pre-encoded and pre-compressed buffers validated by a strong entity tag.
  * @author Michael Edgar
  * @author Paul Ferraro
  */
@@ -49,6 +59,8 @@ public class OpenAPIHttpHandler implements HttpHandler {
     private static final Map<MediaType, Format> ACCEPTED_TYPES = new LinkedHashMap<>();
     private static final Map<String, Format> FORMATS = new HashMap<>();
     private static final String FORMAT = "format";
+    private static final String GZIP = "gzip";
+    private static final String VARY = String.join(",", Headers.ACCEPT_STRING, Headers.ACCEPT_CHARSET_STRING, Headers.ACCEPT_ENCODING_STRING);
 
     static {
         for (Format format : EnumSet.allOf(Format.class)) {
@@ -57,11 +69,15 @@ public class OpenAPIHttpHandler implements HttpHandler {
         }
     }
 
-    private final Map<Format, Supplier<String>> formatters = new EnumMap<>(Format.class);
+    private final Map<Format, Document> documents = new EnumMap<>(Format.class);
 
     public OpenAPIHttpHandler(SmallRyeOpenAPI model) {
-        this.formatters.put(Format.JSON, model::toJSON);
-        this.formatters.put(Format.YAML, model::toYAML);
+        this(model.toJSON(), model.toYAML());
+    }
+
+    OpenAPIHttpHandler(String json, String yaml) {
+        this.documents.put(Format.JSON, new Document(json));
+        this.documents.put(Format.YAML, new Document(yaml));
     }
 
     @Override
@@ -105,13 +121,35 @@ public class OpenAPIHttpHandler implements HttpHandler {
             // Use format preferred by Accept header if unambiguous, otherwise determine format from query parameter
             Format format = (preferredTypes.size() == 1) ? ACCEPTED_TYPES.get(preferredTypes.get(0)) : parseFormatParameter(exchange);
 
-            byte[] result = this.formatters.get(format).get().getBytes(charset);
+            Document document = this.documents.get(format);
 
             responseHeaders.put(Headers.CONTENT_TYPE, format.getMimeType());
-            responseHeaders.put(Headers.CONTENT_LENGTH, result.length);
+            responseHeaders.put(Headers.VARY, VARY);
+
+            ByteBuffer result;
+            if (charset.equals(StandardCharsets.UTF_8)) {
+                boolean compressed = (document.compressedContent != null) && acceptsGzip(exchange);
+                ETag tag = compressed ? document.compressedTag : document.tag;
+
+                responseHeaders.put(Headers.ETAG, tag.toString());
+
+                if (!ETagUtils.handleIfNoneMatch(exchange, tag, true)) {
+                    exchange.setStatusCode(StatusCodes.NOT_MODIFIED);
+                    return;
+                }
+                if (compressed) {
+                    responseHeaders.put(Headers.CONTENT_ENCODING, GZIP);
+                }
+                // Duplicate the shared read-only buffer, so that concurrent responses do not share its position
+                result = (compressed ? document.compressedContent : document.content).duplicate();
+            } else {
+                result = ByteBuffer.wrap(document.text.getBytes(charset));
+            }
+
+            responseHeaders.put(Headers.CONTENT_LENGTH, result.remaining());
 
             if (requestMethod.equals(Methods.GET)) {
-                exchange.getResponseSender().send(ByteBuffer.wrap(result));
+                exchange.getResponseSender().send(result);
             }
         } else if (requestMethod.equals(Methods.OPTIONS)) {
             responseHeaders.put(Headers.ALLOW, ALLOW_METHODS);
@@ -160,6 +198,25 @@ public class OpenAPIHttpHandler implements HttpHandler {
         return defaultCharset;
     }
 
+    private static boolean acceptsGzip(HttpServerExchange exchange) {
+        HeaderValues values = exchange.getRequestHeaders().get(Headers.ACCEPT_ENCODING);
+        if (values == null) return false;
+
+        Boolean wildcard = null;
+        for (List<QValueParser.QValueResult> results : QValueParser.parse(values)) {
+            for (QValueParser.QValueResult result : results) {
+                if (result.getValue().equalsIgnoreCase(GZIP)) {
+                    return !result.isQValueZero();
+                }
+                if (result.getValue().equals("*") && (wildcard == null)) {
+                    wildcard = !result.isQValueZero();
+                }
+            }
+        }
+        // An explicit gzip coding takes precedence over the wildcard
+        return (wildcard != null) && wildcard;
+    }
+
     private static Format parseFormatParameter(HttpServerExchange exchange) {
         Deque<String> formatValues = exchange.getQueryParameters().get(FORMAT);
         String formatValue = (formatValues != null) ? formatValues.peek() : null;
@@ -167,4 +224,51 @@ public class OpenAPIHttpHandler implements HttpHandler {
         // Default format is YAML
         return (format != null) ? format : Format.YAML;
     }
+
+    /**
+     * A rendered OpenAPI document, with its UTF-8 encoding, optional gzip compression, and their entity tags.
+     */
+    private static class Document {
+        final String text;
+        final ByteBuffer content;
+        final ETag tag;
+        final ByteBuffer compressedContent;
+        final ETag compressedTag;
+
+        Document(String text) {
+            this.text = text;
+            byte[] content = text.getBytes(StandardCharsets.UTF_8);
+            this.content = toReadOnlyBuffer(content);
+            String digest = digest(content);
+            this.tag = new ETag(false, digest);
+            byte[] compressedContent = gzip(content);
+            // Only serve the compressed representation if it is actually smaller
+            this.compressedContent = (compressedContent.length < content.length) ? toReadOnlyBuffer(compressedContent) : null;
+            this.compressedTag = new ETag(false, digest + "-" + GZIP);
+        }
+
+        private static ByteBuffer toReadOnlyBuffer(byte[] bytes) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+            buffer.put(bytes).flip();
+            return buffer.asReadOnlyBuffer();
+        }
+
+        private static String digest(byte[] content) {
+            try {
+                return Base64.getUrlEncoder().withoutPadding().encodeToString(MessageDigest.getInstance("SHA-256").digest(content));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static byte[] gzip(byte[] content) {
+            ByteArrayOutputStream result = new ByteArrayOutputStream(content.length / 4);
+            try (GZIPOutputStream output = new GZIPOutputStream(result)) {
+                output.write(content);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return result.toByteArray();
+        }
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.microprofile.openapi.deployment;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Persists the scanned OpenAPI models of deployments within a directory.
+ * Each deployment has its own subdirectory, within which a model is identified by the checksum of the deployment from which it was scanned.
+ * Only the most recently stored model of a deployment is retained, so that the directory does not grow with each redeployment of changed content.
+ */
+class OpenAPIModelCache {
+    private static final String EXTENSION = ".yaml";
+
+    private final Path directory;
+
+    OpenAPIModelCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the file containing the model of the specified deployment with the specified checksum.
+     * @param deploymentName the qualified name of a deployment
+     * @param checksum the checksum of the deployment
+     * @return a file, which may not exist
+     */
+    Path resolve(String deploymentName, String checksum) {
+        try {
+            // Deployment names may contain characters that are not valid within a file name
+            String key = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(deploymentName.getBytes(StandardCharsets.UTF_8)));
+            return this.directory.resolve(key).resolve(checksum + EXTENSION);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Atomically writes the specified model to the specified file, and removes any other model of the same deployment.
+     * @param file a file returned by {@link #resolve(String, String)}
+     * @param model the scanned model
+     * @throws IOException if the model could not be written
+     */
+    void store(Path file, byte[] model) throws IOException {
+        Path parent = file.getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, null, null);
+        try {
+            Files.write(temp, model);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        // Remove models scanned from previous content of this deployment, and any temporary file left by an interrupted store
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(parent)) {
+            for (Path entry : entries) {
+                if (!entry.equals(file)) {
+                    Files.deleteIfExists(entry);
+                }
+            }
+        }
+    }
+}
@@ -50,4 +50,10 @@ public interface OpenAPIModelConfiguration extends OpenAPIEndpointConfiguration
      * @return true, if the OpenAPI document for this deployment should use relative URLs, false otherwise.
      */
     boolean useRelativeServerURLs();
+
+    /**
+     * Indicates whether or not the scanned OpenAPI model should be persisted, and reused by subsequent deployments of the same content.
+     * @return true, if the scanned OpenAPI model of this deployment should be persisted, false otherwise.
+     */
+    boolean isModelCacheEnabled();
 }
@@ -7,13 +7,21 @@ package org.wildfly.extension.microprofile.openapi.deployment;
 
 import static org.wildfly.extension.microprofile.openapi.logging.MicroProfileOpenAPILogger.LOGGER;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
@@ -36,6 +44,7 @@ import org.eclipse.microprofile.openapi.spi.OASFactoryResolver;
 import org.jboss.as.controller.ServiceNameFactory;
 import org.jboss.as.network.ClientMapping;
 import org.jboss.as.network.SocketBinding;
+import org.jboss.as.server.ServerEnvironment;
 import org.jboss.as.server.deployment.Attachments;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
@@ -62,6 +71,7 @@ import org.wildfly.subsystem.service.ServiceInstaller;
  */
 public class OpenAPIModelServiceInstaller implements DeploymentServiceInstaller {
     private static final Set<String> REQUISITE_LISTENERS = Collections.singleton("http");
+    private static final String MODEL_CACHE_DIRECTORY = "openapi";
 
     static {
         // Set the static OASFactoryResolver eagerly avoiding the need perform TCCL service loading later
@@ -99,105 +109,180 @@ public class OpenAPIModelServiceInstaller implements DeploymentServiceInstaller
 
         ServiceDependency<Host> host = ServiceDependency.on(Host.SERVICE_DESCRIPTOR, serverName, hostName);
         ServiceDependency<DeploymentInfo> deploymentInfo = ServiceDependency.on(UndertowService.deploymentServiceName(unit.getServiceName()).append(UndertowDeploymentInfoService.SERVICE_NAME));
+        ServiceDependency<ServerEnvironment> environment = ServiceDependency.on(ServerEnvironment.SERVICE_DESCRIPTOR);
+
+        Function<String, URL> resourceLocator = new Function<>() {
+            @Override
+            public URL apply(String path) {
+                try {
+                    VirtualFile file = root.getChild(path);
+                    return file.exists() ? file.toURL() : null;
+                } catch (IOException e) {
+                    throw new IllegalArgumentException(e);
+                }
+            }
+        };
+        // Identifies the scanned model by the content and OpenAPI configuration of this deployment
+        String checksum = this.configuration.isModelCacheEnabled() ? checksum(unit, config) : null;
+        // The names of sub-deployments are only unique within their parent
+        String qualifiedName = (unit.getParent() != null) ? String.join("/", unit.getParent().getName(), deploymentName) : deploymentName;
 
         Supplier<SmallRyeOpenAPI> factory = new Supplier<>() {
             @Override
             public SmallRyeOpenAPI get() {
-                return SmallRyeOpenAPI.builder()
-                        .withApplicationClassLoader(module.getClassLoader())
-                        .withConfig(config)
-                        .withIndex(index)
-                        .withResourceLocator(new Function<>() {
-                            @Override
-                            public URL apply(String path) {
-                                try {
-                                    VirtualFile file = root.getChild(path);
-                                    return file.exists() ? file.toURL() : null;
-                                } catch (IOException e) {
-                                    throw new IllegalArgumentException(e);
-                                }
-                            }
-                        })
-                        .withScannerClassLoader(WildFlySecurityManager.getClassLoaderPrivileged(AnnotationScanner.class))
-                        .addFilter(new OASFilter() {
-                            @Override
-                            public void filterOpenAPI(OpenAPI model) {
-                                // Generate default title and description based on web metadata
-                                DescriptionGroupMetaData descriptionMetaData = metaData.getDescriptionGroup();
-                                String displayName = (descriptionMetaData != null) ? descriptionMetaData.getDisplayName() : null;
-                                String title = (displayName != null) ? displayName : deploymentName;
-                                String description = (descriptionMetaData != null) ? descriptionMetaData.getDescription() : null;
-
-                                Info info = model.getInfo();
-                                if (info == null) {
-                                    info = OASFactory.createInfo();
-                                    model.setInfo(info);
-                                }
-                                if (info.getTitle() == null) {
-                                    info.setTitle(title);
-                                }
-                                if (info.getDescription() == null) {
-                                    info.setDescription(description);
+                OASFilter filter = new OASFilter() {
+                    @Override
+                    public void filterOpenAPI(OpenAPI model) {
+                        // Generate default title and description based on web metadata
+                        DescriptionGroupMetaData descriptionMetaData = metaData.getDescriptionGroup();
+                        String displayName = (descriptionMetaData != null) ? descriptionMetaData.getDisplayName() : null;
+                        String title = (displayName != null) ? displayName : deploymentName;
+                        String description = (descriptionMetaData != null) ? descriptionMetaData.getDescription() : null;
+
+                        Info info = model.getInfo();
+                        if (info == null) {
+                            info = OASFactory.createInfo();
+                            model.setInfo(info);
+                        }
+                        if (info.getTitle() == null) {
+                            info.setTitle(title);
+                        }
+                        if (info.getDescription() == null) {
+                            info.setDescription(description);
+                        }
+
+                        List<UndertowListener> listeners = host.get().getServer().getListeners();
+
+                        if (model.getServers() == null) {
+                            // Generate Server entries if none exist
+                            String contextPath = deploymentInfo.get().getContextPath();
+                            if (useRelativeServerURLs) {
+                                model.setServers(Collections.singletonList(OASFactory.createServer().url(contextPath)));
+                            } else {
+                                int aliases = host.get().getAllAliases().size();
+                                int size = 0;
+                                for (UndertowListener listener : listeners) {
+                                    size += aliases + listener.getSocketBinding().getClientMappings().size();
                                 }
+                                List<Server> servers = new ArrayList<>(size);
+                                for (UndertowListener listener : listeners) {
+                                    SocketBinding binding = listener.getSocketBinding();
+                                    Set<String> virtualHosts = new TreeSet<>(host.get().getAllAliases());
+                                    // The name of the host is not a real virtual host (e.g. default-host)
+                                    virtualHosts.remove(host.get().getName());
+
+                                    InetAddress address = binding.getAddress();
+                                    // Omit wildcard addresses
+                                    if (!address.isAnyLocalAddress()) {
+                                        virtualHosts.add(address.getCanonicalHostName());
+                                    }
 
-                                List<UndertowListener> listeners = host.get().getServer().getListeners();
-
-                                if (model.getServers() == null) {
-                                    // Generate Server entries if none exist
-                                    String contextPath = deploymentInfo.get().getContextPath();
-                                    if (useRelativeServerURLs) {
-                                        model.setServers(Collections.singletonList(OASFactory.createServer().url(contextPath)));
-                                    } else {
-                                        int aliases = host.get().getAllAliases().size();
-                                        int size = 0;
-                                        for (UndertowListener listener : listeners) {
-                                            size += aliases + listener.getSocketBinding().getClientMappings().size();
+                                    for (String virtualHost : virtualHosts) {
+                                        Server server = createServer(listener.getProtocol(), virtualHost, binding.getPort(), contextPath);
+                                        if (server != null) {
+                                            servers.add(server);
                                         }
-                                        List<Server> servers = new ArrayList<>(size);
-                                        for (UndertowListener listener : listeners) {
-                                            SocketBinding binding = listener.getSocketBinding();
-                                            Set<String> virtualHosts = new TreeSet<>(host.get().getAllAliases());
-                                            // The name of the host is not a real virtual host (e.g. default-host)
-                                            virtualHosts.remove(host.get().getName());
-
-                                            InetAddress address = binding.getAddress();
-                                            // Omit wildcard addresses
-                                            if (!address.isAnyLocalAddress()) {
-                                                virtualHosts.add(address.getCanonicalHostName());
-                                            }
-
-                                            for (String virtualHost : virtualHosts) {
-                                                Server server = createServer(listener.getProtocol(), virtualHost, binding.getPort(), contextPath);
-                                                if (server != null) {
-                                                    servers.add(server);
-                                                }
-                                            }
-                                            for (ClientMapping mapping : binding.getClientMappings()) {
-                                                Server server = createServer(listener.getProtocol(), mapping.getDestinationAddress(), mapping.getDestinationPort(), contextPath);
-                                                if (server != null) {
-                                                    servers.add(server);
-                                                }
-                                            }
+                                    }
+                                    for (ClientMapping mapping : binding.getClientMappings()) {
+                                        Server server = createServer(listener.getProtocol(), mapping.getDestinationAddress(), mapping.getDestinationPort(), contextPath);
+                                        if (server != null) {
+                                            servers.add(server);
                                         }
-                                        model.setServers(servers);
                                     }
                                 }
-
-                                if (listeners.stream().map(UndertowListener::getProtocol).noneMatch(REQUISITE_LISTENERS::contains)) {
-                                    LOGGER.requiredListenersNotFound(host.get().getServer().getName(), REQUISITE_LISTENERS);
-                                }
+                                model.setServers(servers);
                             }
-                        })
+                        }
+
+                        if (listeners.stream().map(UndertowListener::getProtocol).noneMatch(REQUISITE_LISTENERS::contains)) {
+                            LOGGER.requiredListenersNotFound(host.get().getServer().getName(), REQUISITE_LISTENERS);
+                        }
+                    }
+                };
+
+                if (checksum == null) {
+                    return this.builder().withIndex(index).addFilter(filter).build();
+                }
+
+                OpenAPIModelCache cache = new OpenAPIModelCache(environment.get().getServerDataDir().toPath().resolve(MODEL_CACHE_DIRECTORY));
+                Path file = cache.resolve(qualifiedName, checksum);
+                byte[] scannedModel = null;
+                if (Files.exists(file)) {
+                    try {
+                        scannedModel = Files.readAllBytes(file);
+                        LOGGER.modelReused(deploymentName, file);
+                    } catch (IOException e) {
+                        LOGGER.debugf(e, "Failed to read %s", file);
+                    }
+                }
+                if (scannedModel == null) {
+                    // Persist the scanned model before applying any filters, since these depend on the runtime configuration, e.g. listeners
+                    scannedModel = this.builder().withIndex(index).enableStandardFilter(false).build().toYAML().getBytes(StandardCharsets.UTF_8);
+                    try {
+                        cache.store(file, scannedModel);
+                    } catch (IOException e) {
+                        LOGGER.modelNotPersisted(e, deploymentName, file);
+                    }
+                }
+                byte[] content = scannedModel;
+                // The persisted model already includes the results of the model reader, static files, and annotation scanning
+                return this.builder()
+                        .withCustomStaticFile(() -> new ByteArrayInputStream(content))
+                        .enableModelReader(false)
+                        .enableStandardStaticFiles(false)
+                        .enableAnnotationScan(false)
+                        .addFilter(filter)
                         .build();
             }
+
+            private SmallRyeOpenAPI.Builder builder() {
+                return SmallRyeOpenAPI.builder()
+                        .withApplicationClassLoader(module.getClassLoader())
+                        .withConfig(config)
+                        .withResourceLocator(resourceLocator)
+                        .withScannerClassLoader(WildFlySecurityManager.getClassLoaderPrivileged(AnnotationScanner.class));
+            }
         };
         ServiceInstaller.builder(factory)
                 .provides(ServiceNameFactory.resolveServiceName(OpenAPIModelConfiguration.SERVICE_DESCRIPTOR, serverName, hostName, this.configuration.getPath()))
-                .requires(List.of(host, deploymentInfo))
+                .requires(List.of(host, deploymentInfo, environment))
                 .build()
                 .install(context);
     }
 
+    /**
+     * Computes a checksum of the content of the specified deployment, and of its parent, if any, and of the OpenAPI configuration of the deployment.
+     * The content is identified by the path, size, and modification time of each file, to avoid reading it.
+     */
+    private static String checksum(DeploymentUnit unit, Config config) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(unit.getName().getBytes(StandardCharsets.UTF_8));
+            // The scanned model also depends on the version of the scanner
+            digest.update(String.valueOf(SmallRyeOpenAPI.class.getPackage().getImplementationVersion()).getBytes(StandardCharsets.UTF_8));
+            for (DeploymentUnit contentUnit = unit; contentUnit != null; contentUnit = contentUnit.getParent()) {
+                VirtualFile root = contentUnit.getAttachment(Attachments.DEPLOYMENT_ROOT).getRoot();
+                List<VirtualFile> files = new ArrayList<>(root.getChildrenRecursively());
+                files.sort(Comparator.comparing(VirtualFile::getPathName));
+                for (VirtualFile file : files) {
+                    digest.update(String.join(",", file.getPathNameRelativeTo(root), Long.toString(file.getSize()), Long.toString(file.getLastModified())).getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            Set<String> names = new TreeSet<>();
+            for (String name : config.getPropertyNames()) {
+                if (name.startsWith("mp.openapi.") || name.startsWith("smallrye.openapi.")) {
+                    names.add(name);
+                }
+            }
+            for (String name : names) {
+                digest.update(String.join("=", name, config.getOptionalValue(name, String.class).orElse("")).getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private static Server createServer(String protocol, String host, int port, String path) {
         try {
             URL url = new URL(protocol, host, port, path);
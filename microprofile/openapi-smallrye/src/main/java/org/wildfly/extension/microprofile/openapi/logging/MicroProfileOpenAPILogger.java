@@ -9,6 +9,7 @@ import static org.jboss.logging.Logger.Level.WARN;
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
 import java.util.Set;
 
 import org.jboss.logging.BasicLogger;
@@ -57,4 +58,12 @@ public interface MicroProfileOpenAPILogger extends BasicLogger {
     @LogMessage(level = INFO)
     @Message(id = 8, value = "MicroProfile OpenAPI documentation disabled for '%s'")
     void disabled(String deploymentName);
+
+    @LogMessage(level = WARN)
+    @Message(id = 9, value = "Failed to persist OpenAPI model of '%s' to '%s'")
+    void modelNotPersisted(@Cause IOException e, String deploymentName, Path file);
+
+    @LogMessage(level = INFO)
+    @Message(id = 10, value = "Reusing OpenAPI model of '%s' persisted in '%s'")
+    void modelReused(String deploymentName, Path file);
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.microprofile.openapi.deployment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import io.undertow.Undertow;
+import io.undertow.util.Headers;
+import io.undertow.util.StatusCodes;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link OpenAPIHttpHandler}, served by an embedded Undertow server.
+ */
+public class OpenAPIHttpHandlerTestCase {
+
+    // Repetitive enough to be compressible
+    private static final String JSON = "{\"openapi\":\"3.1.0\",\"paths\":{" + "\"/path\":{},".repeat(100) + "\"/\":{}}}";
+    private static final String YAML = "---\nopenapi: 3.1.0\npaths:\n" + "  /path: {}\n".repeat(100);
+
+    private static Undertow server;
+    private static URL url;
+
+    @BeforeClass
+    public static void init() throws IOException {
+        server = Undertow.builder().addHttpListener(0, "localhost").setHandler(new OpenAPIHttpHandler(JSON, YAML)).build();
+        server.start();
+        InetSocketAddress address = (InetSocketAddress) server.getListenerInfo().get(0).getAddress();
+        url = new URL("http", address.getHostString(), address.getPort(), "/openapi");
+    }
+
+    @AfterClass
+    public static void destroy() {
+        server.stop();
+    }
+
+    @Test
+    public void format() throws IOException {
+        HttpURLConnection connection = request(Map.of());
+        assertEquals(StatusCodes.OK, connection.getResponseCode());
+        assertEquals("application/yaml", connection.getContentType());
+        assertEquals(YAML, read(connection.getInputStream()));
+
+        connection = request(Map.of(Headers.ACCEPT_STRING, "application/json"));
+        assertEquals(StatusCodes.OK, connection.getResponseCode());
+        assertEquals("application/json", connection.getContentType());
+        assertEquals(JSON, read(connection.getInputStream()));
+    }
+
+    @Test
+    public void gzip() throws IOException {
+        HttpURLConnection connection = request(Map.of(Headers.ACCEPT_ENCODING_STRING, "gzip"));
+        assertEquals(StatusCodes.OK, connection.getResponseCode());
+        assertEquals("gzip", connection.getContentEncoding());
+        assertEquals(YAML, read(new GZIPInputStream(connection.getInputStream())));
+
+        connection = request(Map.of(Headers.ACCEPT_ENCODING_STRING, "*"));
+        assertEquals("gzip", connection.getContentEncoding());
+        assertEquals(YAML, read(new GZIPInputStream(connection.getInputStream())));
+
+        // An explicit gzip coding takes precedence over the wildcard
+        connection = request(Map.of(Headers.ACCEPT_ENCODING_STRING, "gzip;q=0, *"));
+        assertNull(connection.getContentEncoding());
+        assertEquals(YAML, read(connection.getInputStream()));
+
+        connection = request(Map.of(Headers.ACCEPT_ENCODING_STRING, "identity"));
+        assertNull(connection.getContentEncoding());
+        assertEquals(YAML, read(connection.getInputStream()));
+    }
+
+    @Test
+    public void notModified() throws IOException {
+        HttpURLConnection connection = request(Map.of());
+        String tag = connection.getHeaderField(Headers.ETAG_STRING);
+        assertNotNull(tag);
+        read(connection.getInputStream());
+
+        connection = request(Map.of(Headers.IF_NONE_MATCH_STRING, tag));
+        assertEquals(StatusCodes.NOT_MODIFIED, connection.getResponseCode());
+
+        // The compressed representation has a distinct entity tag
+        connection = request(Map.of(Headers.ACCEPT_ENCODING_STRING, "gzip", Headers.IF_NONE_MATCH_STRING, tag));
+        assertEquals(StatusCodes.OK, connection.getResponseCode());
+        String compressedTag = connection.getHeaderField(Headers.ETAG_STRING);
+        assertNotEquals(tag, compressedTag);
+        read(connection.getInputStream());
+
+        connection = request(Map.of(Headers.ACCEPT_ENCODING_STRING, "gzip", Headers.IF_NONE_MATCH_STRING, compressedTag));
+        assertEquals(StatusCodes.NOT_MODIFIED, connection.getResponseCode());
+
+        // Each format has its own entity tag
+        connection = request(Map.of(Headers.ACCEPT_STRING, "application/json", Headers.IF_NONE_MATCH_STRING, tag));
+        assertEquals(StatusCodes.OK, connection.getResponseCode());
+        read(connection.getInputStream());
+    }
+
+    @Test
+    public void charset() throws IOException {
+        HttpURLConnection connection = request(Map.of(Headers.ACCEPT_CHARSET_STRING, "UTF-16", Headers.ACCEPT_ENCODING_STRING, "gzip"));
+        assertEquals(StatusCodes.OK, connection.getResponseCode());
+        // Other charsets are neither compressed nor tagged
+        assertNull(connection.getContentEncoding());
+        assertNull(connection.getHeaderField(Headers.ETAG_STRING));
+        try (InputStream input = connection.getInputStream()) {
+            assertEquals(YAML, new String(input.readAllBytes(), StandardCharsets.UTF_16));
+        }
+    }
+
+    private static HttpURLConnection request(Map<String, String> headers) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        headers.forEach(connection::setRequestProperty);
+        return connection;
+    }
+
+    private static String read(InputStream input) throws IOException {
+        try (InputStream in = input) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.microprofile.openapi.deployment;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit test for {@link OpenAPIModelCache}.
+ */
+public class OpenAPIModelCacheTestCase {
+
+    private static final byte[] MODEL = "openapi: 3.1.0".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CHANGED_MODEL = "openapi: 3.1.1".getBytes(StandardCharsets.UTF_8);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void store() throws IOException {
+        OpenAPIModelCache cache = new OpenAPIModelCache(this.folder.getRoot().toPath().resolve("openapi"));
+        Path file = cache.resolve("app.war", "checksum");
+        assertEquals(file, cache.resolve("app.war", "checksum"));
+        assertFalse(Files.exists(file));
+
+        cache.store(file, MODEL);
+        assertArrayEquals(MODEL, Files.readAllBytes(file));
+
+        // Storing the same model again replaces it
+        cache.store(file, CHANGED_MODEL);
+        assertArrayEquals(CHANGED_MODEL, Files.readAllBytes(file));
+        assertEquals(1, count(file.getParent()));
+    }
+
+    @Test
+    public void prune() throws IOException {
+        OpenAPIModelCache cache = new OpenAPIModelCache(this.folder.getRoot().toPath());
+        Path file = cache.resolve("app.war", "checksum");
+        Path otherFile = cache.resolve("ear.ear/app.war", "checksum");
+        assertNotEquals(file.getParent(), otherFile.getParent());
+        cache.store(file, MODEL);
+        cache.store(otherFile, MODEL);
+
+        // Storing the model of changed content removes the model of the previous content of the same deployment only
+        Path changedFile = cache.resolve("app.war", "changed");
+        cache.store(changedFile, CHANGED_MODEL);
+        assertFalse(Files.exists(file));
+        assertArrayEquals(CHANGED_MODEL, Files.readAllBytes(changedFile));
+        assertEquals(1, count(changedFile.getParent()));
+        assertTrue(Files.exists(otherFile));
+    }
+
+    private static long count(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -13,6 +13,9 @@ import org.jboss.as.clustering.controller.ReloadRequiredResourceRegistrar;
 import org.jboss.as.clustering.controller.ResourceDescriptor;
 import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.AttributeMarshaller;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
@@ -109,6 +112,7 @@ class LoadMetricResourceDefinition extends ChildResourceDefinition<ManagementRes
         ResourceDescriptor descriptor = new ResourceDescriptor(this.getResourceDescriptionResolver())
                 .addAttributes(SharedAttribute.class)
                 .addAttributes(Attribute.class)
+                .setAddOperationTransformation(DefaultCapacityOperationStepHandler::new)
                 ;
 
         new ReloadRequiredResourceRegistrar(descriptor).register(registration);
@@ -116,4 +120,23 @@ class LoadMetricResourceDefinition extends ChildResourceDefinition<ManagementRes
         return registration;
     }
 
+    private static class DefaultCapacityOperationStepHandler implements OperationStepHandler {
+        private final OperationStepHandler handler;
+
+        DefaultCapacityOperationStepHandler(OperationStepHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+            // The shared default capacity does not suit a metric measured in milliseconds
+            // In this case, fix operation to use the default capacity of the response time metric
+            if (!operation.hasDefined(SharedAttribute.CAPACITY.getName()) && operation.hasDefined(Attribute.TYPE.getName())) {
+                if (LoadMetricEnum.forType(operation.get(Attribute.TYPE.getName()).asString()) == LoadMetricEnum.RESPONSE_TIME) {
+                    operation.get(SharedAttribute.CAPACITY.getName()).set(ResponseTimeLoadMetric.DEFAULT_CAPACITY);
+                }
+            }
+            this.handler.execute(context, operation);
+        }
+    }
 }
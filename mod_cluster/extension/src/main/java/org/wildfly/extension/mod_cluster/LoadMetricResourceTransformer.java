@@ -0,0 +1,34 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.mod_cluster;
+
+import java.util.function.Consumer;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Transformer logic for {@link LoadMetricResourceDefinition}.
+ */
+public class LoadMetricResourceTransformer implements Consumer<ModelVersion> {
+
+    private final ResourceTransformationDescriptionBuilder builder;
+
+    public LoadMetricResourceTransformer(ResourceTransformationDescriptionBuilder parent) {
+        this.builder = parent.addChildResource(LoadMetricResourceDefinition.WILDCARD_PATH);
+    }
+
+    @Override
+    public void accept(ModelVersion version) {
+        if (ModClusterSubsystemModel.VERSION_9_0_0.requiresTransformation(version)) {
+            builder.getAttributeBuilder()
+                    .addRejectCheck(new RejectAttributeChecker.SimpleRejectAttributeChecker(new ModelNode(LoadMetricEnum.RESPONSE_TIME.getType())), LoadMetricResourceDefinition.Attribute.TYPE.getDefinition())
+                    .end();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.mod_cluster;
+
+/**
+ * Implemented by {@link org.jboss.modcluster.container.Connector}s which estimate the response time of the requests they service.
+ * Used by the {@link ResponseTimeLoadMetric}.
+ */
+public interface ResponseTimeEstimator {
+
+    /**
+     * Returns the estimated response time of the requests serviced by this connector, i.e. the exponentially-decayed average response time of completed requests,
+     * or the average time for which the requests currently being serviced have been running, if greater.
+     * @return the estimated response time, in milliseconds
+     */
+    double getEstimatedResponseTime();
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.mod_cluster;
+
+import org.jboss.modcluster.container.Connector;
+import org.jboss.modcluster.container.Engine;
+import org.jboss.modcluster.load.metric.impl.AbstractLoadMetric;
+
+/**
+ * Load metric returning the greatest response time, in milliseconds, estimated by the {@link ResponseTimeEstimator} connectors of an engine.
+ * Since the estimate accounts for requests which are still being serviced, a slow node is reported as loaded before its CPU or busyness saturate.
+ * The capacity is the response time corresponding to a fully loaded node, which defaults to {@value #DEFAULT_CAPACITY} milliseconds.
+ */
+public class ResponseTimeLoadMetric extends AbstractLoadMetric {
+
+    public static final double DEFAULT_CAPACITY = 1000;
+
+    public ResponseTimeLoadMetric() {
+        this.setCapacity(DEFAULT_CAPACITY);
+    }
+
+    @Override
+    public double getLoad(Engine engine) {
+        double load = 0;
+        for (Connector connector : engine.getConnectors()) {
+            if (connector instanceof ResponseTimeEstimator) {
+                load = Math.max(load, ((ResponseTimeEstimator) connector).getEstimatedResponseTime());
+            }
+        }
+        return load;
+    }
+}
@@ -9,7 +9,9 @@ import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.jboss.as.clustering.subsystem.RejectedValueConfig;
 import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.model.test.FailedOperationTransformationConfig;
 import org.jboss.as.model.test.ModelFixer;
 import org.jboss.as.model.test.ModelTestControllerVersion;
@@ -127,8 +129,14 @@ public class ModClusterTransformersTestCase extends AbstractSubsystemTest {
     }
 
     private void testRejections(ModelTestControllerVersion controllerVersion) throws Exception {
+        for (String resource : Set.of("subsystem-reject.xml", "subsystem-reject-7_0.xml")) {
+            this.testRejections(controllerVersion, resource);
+        }
+    }
+
+    private void testRejections(ModelTestControllerVersion controllerVersion, String resource) throws Exception {
         String[] dependencies = getDependencies(controllerVersion);
-        String subsystemXml = readResource("subsystem-reject.xml");
+        String subsystemXml = readResource(resource);
         ModClusterSubsystemModel model = getModelVersion(controllerVersion);
         ModelVersion modelVersion = model.getVersion();
 
@@ -149,7 +157,12 @@ public class ModClusterTransformersTestCase extends AbstractSubsystemTest {
     }
 
     private static FailedOperationTransformationConfig createFailedOperationConfig(ModelVersion version) {
-        return new FailedOperationTransformationConfig();
+        FailedOperationTransformationConfig config = new FailedOperationTransformationConfig();
+        if (ModClusterSubsystemModel.VERSION_9_0_0.requiresTransformation(version)) {
+            PathAddress address = PathAddress.pathAddress(ModClusterSubsystemResourceDefinition.PATH, ProxyConfigurationResourceDefinition.pathElement("default"), DynamicLoadProviderResourceDefinition.PATH, LoadMetricResourceDefinition.pathElement(LoadMetricEnum.RESPONSE_TIME.getType()));
+            config.addFailedAttribute(address, new RejectedValueConfig(LoadMetricResourceDefinition.Attribute.TYPE, value -> value.isDefined() && value.asString().equals(LoadMetricEnum.RESPONSE_TIME.getType()), value -> new ModelNode(LoadMetricEnum.BUSY_CONNECTORS.getType())));
+        }
+        return config;
     }
 
 }
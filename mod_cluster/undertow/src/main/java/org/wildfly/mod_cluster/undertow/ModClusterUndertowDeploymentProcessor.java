@@ -11,26 +11,32 @@ import org.jboss.as.server.deployment.Attachments;
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessor;
+import org.jboss.as.web.common.ServletContextAttribute;
 import org.jboss.modcluster.load.metric.LoadMetric;
 import org.jboss.modcluster.load.metric.impl.BusyConnectorsLoadMetric;
 import org.jboss.modcluster.load.metric.impl.ReceiveTrafficLoadMetric;
 import org.jboss.modcluster.load.metric.impl.RequestCountLoadMetric;
 import org.jboss.modcluster.load.metric.impl.SendTrafficLoadMetric;
+import org.wildfly.extension.mod_cluster.ResponseTimeLoadMetric;
 import org.wildfly.extension.undertow.deployment.UndertowAttachments;
 import org.wildfly.mod_cluster.undertow.metric.BytesReceivedHttpHandler;
 import org.wildfly.mod_cluster.undertow.metric.BytesSentHttpHandler;
 import org.wildfly.mod_cluster.undertow.metric.RequestCountHttpHandler;
+import org.wildfly.mod_cluster.undertow.metric.RequestStatistics;
+import org.wildfly.mod_cluster.undertow.metric.ResponseTimeHttpHandler;
 import org.wildfly.mod_cluster.undertow.metric.RunningRequestsHttpHandler;
 
 /**
  * {@link DeploymentUnitProcessor} which adds a dependency on {@link UndertowEventHandlerAdapterServiceConfigurator}s to web
  * dependencies to support session draining (see <a href="https://issues.jboss.org/browse/WFLY-3942">WFLY-3942</a>) and
- * registers metrics on deployment if mod_cluster module is loaded.
+ * registers metrics on deployment if mod_cluster module is loaded. Metrics are recorded per listener and per context,
+ * the latter being exposed via the {@link RequestStatistics#SERVLET_CONTEXT_ATTRIBUTE} servlet context attribute.
  * <ul>
  * <li>{@link org.wildfly.mod_cluster.undertow.metric.RequestCountHttpHandler}</li>
  * <li>{@link org.wildfly.mod_cluster.undertow.metric.RunningRequestsHttpHandler}</li>
  * <li>{@link org.wildfly.mod_cluster.undertow.metric.BytesReceivedHttpHandler}</li>
  * <li>{@link org.wildfly.mod_cluster.undertow.metric.BytesSentHttpHandler}</li>
+ * <li>{@link org.wildfly.mod_cluster.undertow.metric.ResponseTimeHttpHandler}</li>
  * </ul>
  *
  * @author Radoslav Husar
@@ -55,24 +61,33 @@ public class ModClusterUndertowDeploymentProcessor implements DeploymentUnitProc
             deploymentUnit.addToAttachmentList(Attachments.WEB_DEPENDENCIES, new UndertowEventHandlerAdapterServiceNameProvider(adapter).getServiceName());
         }
 
+        // Statistics of this context
+        RequestStatistics statistics = new RequestStatistics();
+        deploymentUnit.addToAttachmentList(ServletContextAttribute.ATTACHMENT_KEY, new ServletContextAttribute(RequestStatistics.SERVLET_CONTEXT_ATTRIBUTE, statistics));
+
         // Request count wrapping
         if (isMetricEnabled(RequestCountLoadMetric.class)) {
-            deploymentUnit.addToAttachmentList(UndertowAttachments.UNDERTOW_INITIAL_HANDLER_CHAIN_WRAPPERS, RequestCountHttpHandler::new);
+            deploymentUnit.addToAttachmentList(UndertowAttachments.UNDERTOW_INITIAL_HANDLER_CHAIN_WRAPPERS, handler -> new RequestCountHttpHandler(handler, statistics));
         }
 
         // Bytes Sent wrapping
         if (isMetricEnabled(SendTrafficLoadMetric.class)) {
-            deploymentUnit.addToAttachmentList(UndertowAttachments.UNDERTOW_INITIAL_HANDLER_CHAIN_WRAPPERS, BytesSentHttpHandler::new);
+            deploymentUnit.addToAttachmentList(UndertowAttachments.UNDERTOW_INITIAL_HANDLER_CHAIN_WRAPPERS, handler -> new BytesSentHttpHandler(handler, statistics));
         }
 
         // Bytes Received wrapping
         if (isMetricEnabled(ReceiveTrafficLoadMetric.class)) {
-            deploymentUnit.addToAttachmentList(UndertowAttachments.UNDERTOW_INITIAL_HANDLER_CHAIN_WRAPPERS, BytesReceivedHttpHandler::new);
+            deploymentUnit.addToAttachmentList(UndertowAttachments.UNDERTOW_INITIAL_HANDLER_CHAIN_WRAPPERS, handler -> new BytesReceivedHttpHandler(handler, statistics));
         }
 
         // Busyness thread setup actions
         if (isMetricEnabled(BusyConnectorsLoadMetric.class)) {
-            deploymentUnit.addToAttachmentList(UndertowAttachments.UNDERTOW_OUTER_HANDLER_CHAIN_WRAPPERS, RunningRequestsHttpHandler::new);
+            deploymentUnit.addToAttachmentList(UndertowAttachments.UNDERTOW_OUTER_HANDLER_CHAIN_WRAPPERS, handler -> new RunningRequestsHttpHandler(handler, statistics));
+        }
+
+        // Response time recording, outermost so that time spent queueing within the chain is included
+        if (isMetricEnabled(ResponseTimeLoadMetric.class)) {
+            deploymentUnit.addToAttachmentList(UndertowAttachments.UNDERTOW_OUTER_HANDLER_CHAIN_WRAPPERS, handler -> new ResponseTimeHttpHandler(handler, statistics));
         }
 
     }
@@ -8,21 +8,19 @@ package org.wildfly.mod_cluster.undertow;
 import java.net.InetAddress;
 
 import org.jboss.modcluster.container.Connector;
+import org.wildfly.extension.mod_cluster.ResponseTimeEstimator;
 import org.wildfly.extension.undertow.AjpListenerService;
 import org.wildfly.extension.undertow.HttpListenerService;
 import org.wildfly.extension.undertow.UndertowListener;
-import org.wildfly.mod_cluster.undertow.metric.BytesReceivedStreamSourceConduit;
-import org.wildfly.mod_cluster.undertow.metric.BytesSentStreamSinkConduit;
-import org.wildfly.mod_cluster.undertow.metric.RequestCountHttpHandler;
-import org.wildfly.mod_cluster.undertow.metric.RunningRequestsHttpHandler;
+import org.wildfly.mod_cluster.undertow.metric.RequestStatistics;
 
 /**
- * Adapts {@link UndertowListener} to a {@link Connector}.
+ * Adapts {@link UndertowListener} to a {@link Connector}, whose metrics are those of the requests accepted by this listener.
  *
  * @author Radoslav Husar
  * @since 8.0
  */
-public class UndertowConnector implements Connector {
+public class UndertowConnector implements Connector, ResponseTimeEstimator {
 
     private final UndertowListener listener;
     private InetAddress address;
@@ -80,35 +78,47 @@ public class UndertowConnector implements Connector {
     }
 
     /**
-     * @return int number of <em>running requests</em> on all connectors as opposed to busy threads
+     * @return int number of <em>running requests</em> on this listener as opposed to busy threads
      */
     @Override
     public int getBusyThreads() {
-        return RunningRequestsHttpHandler.getRunningRequestCount();
+        return this.getStatistics().getRunningRequestCount();
     }
 
     /**
-     * @return long number of bytes sent on all connectors
+     * @return long number of bytes sent on this listener
      */
     @Override
     public long getBytesSent() {
-        return BytesSentStreamSinkConduit.getBytesSent();
+        return this.getStatistics().getBytesSent();
     }
 
     /**
-     * @return long number of bytes received on all listeners without HTTP request size itself
+     * @return long number of bytes received on this listener without HTTP request size itself
      */
     @Override
     public long getBytesReceived() {
-        return BytesReceivedStreamSourceConduit.getBytesReceived();
+        return this.getStatistics().getBytesReceived();
     }
 
     /**
-     * @return long number of requests on all listeners as opposed to only this 'connector'
+     * @return long number of requests on this listener
      */
     @Override
     public long getRequestCount() {
-        return RequestCountHttpHandler.getRequestCount();
+        return this.getStatistics().getRequestCount();
+    }
+
+    /**
+     * @return double estimated response time of requests on this listener, in milliseconds
+     */
+    @Override
+    public double getEstimatedResponseTime() {
+        return this.getStatistics().getEstimatedResponseTime();
+    }
+
+    private RequestStatistics getStatistics() {
+        return RequestStatistics.forListener(this.listener);
     }
 
     @Override
@@ -18,6 +18,7 @@ import io.undertow.servlet.core.ManagedListener;
 import io.undertow.servlet.util.ImmediateInstanceFactory;
 import org.jboss.modcluster.container.Context;
 import org.jboss.modcluster.container.Host;
+import org.wildfly.mod_cluster.undertow.metric.RequestStatistics;
 
 /**
  * Adapts {@link Deployment} to an {@link Context}.
@@ -117,6 +118,13 @@ public class UndertowContext implements Context {
         return !(this.deployment.getDeploymentInfo().getSessionManagerFactory() instanceof InMemorySessionManagerFactory);
     }
 
+    /**
+     * @return the load statistics of this context, or null if this context was not deployed with mod_cluster metrics
+     */
+    public RequestStatistics getRequestStatistics() {
+        return (RequestStatistics) this.deployment.getServletContext().getAttribute(RequestStatistics.SERVLET_CONTEXT_ATTRIBUTE);
+    }
+
     @Override
     public String toString() {
         return this.getPath();
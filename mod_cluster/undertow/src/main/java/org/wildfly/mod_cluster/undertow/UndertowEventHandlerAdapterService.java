@@ -5,7 +5,9 @@
 
 package org.wildfly.mod_cluster.undertow;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -27,7 +29,9 @@ import org.jboss.msc.service.StopContext;
 import org.wildfly.clustering.context.DefaultThreadFactory;
 import org.wildfly.extension.undertow.Host;
 import org.wildfly.extension.undertow.UndertowEventListener;
+import org.wildfly.extension.undertow.UndertowListener;
 import org.wildfly.extension.undertow.UndertowService;
+import org.wildfly.mod_cluster.undertow.metric.RequestStatistics;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
 import io.undertow.servlet.api.Deployment;
@@ -45,6 +49,7 @@ public class UndertowEventHandlerAdapterService implements UndertowEventListener
 
     private final UndertowEventHandlerAdapterConfiguration configuration;
     private final Set<Context> contexts = new HashSet<>();
+    private final List<UndertowListener> listeners = new ArrayList<>();
     private volatile ScheduledExecutorService executor;
     private volatile Server server;
     private volatile Connector connector;
@@ -60,6 +65,10 @@ public class UndertowEventHandlerAdapterService implements UndertowEventListener
         ContainerEventHandler eventHandler = this.configuration.getContainerEventHandler();
         this.connector = new UndertowConnector(this.configuration.getListener());
         this.serverName = this.configuration.getServer().getName();
+
+        // Account the load of the listeners of this server for the lifetime of this service
+        this.listeners.addAll(this.configuration.getServer().getListeners());
+        this.listeners.forEach(RequestStatistics::register);
         this.server = new UndertowServer(this.serverName, service, this.connector);
 
         // Register ourselves as a listener to the container events
@@ -93,6 +102,9 @@ public class UndertowEventHandlerAdapterService implements UndertowEventListener
         }
 
         this.configuration.getContainerEventHandler().stop(this.server);
+
+        this.listeners.forEach(RequestStatistics::unregister);
+        this.listeners.clear();
     }
 
     private Context createContext(Deployment deployment, Host host) {
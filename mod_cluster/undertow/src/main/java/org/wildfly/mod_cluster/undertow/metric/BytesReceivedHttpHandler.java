@@ -13,7 +13,7 @@ import org.xnio.conduits.StreamSourceConduit;
 
 /**
  * {@link HttpHandler} implementation that counts number of bytes received via {@link BytesReceivedStreamSourceConduit}
- * wrapping.
+ * wrapping, per listener and per context.
  *
  * @author Radoslav Husar
  * @since 8.0
@@ -21,9 +21,11 @@ import org.xnio.conduits.StreamSourceConduit;
 public class BytesReceivedHttpHandler implements HttpHandler {
 
     private final HttpHandler wrappedHandler;
+    private final RequestStatistics contextStatistics;
 
-    public BytesReceivedHttpHandler(final HttpHandler handler) {
+    public BytesReceivedHttpHandler(final HttpHandler handler, final RequestStatistics contextStatistics) {
         this.wrappedHandler = handler;
+        this.contextStatistics = contextStatistics;
     }
 
     @Override
@@ -31,10 +33,12 @@ public class BytesReceivedHttpHandler implements HttpHandler {
 
         if (exchange == null) return;
 
+        RequestStatistics listenerStatistics = RequestStatistics.forListener(exchange);
+
         exchange.addRequestWrapper(new ConduitWrapper<StreamSourceConduit>() {
             @Override
             public StreamSourceConduit wrap(ConduitFactory<StreamSourceConduit> factory, HttpServerExchange exchange) {
-                return new BytesReceivedStreamSourceConduit(factory.create());
+                return new BytesReceivedStreamSourceConduit(factory.create(), listenerStatistics, contextStatistics);
             }
         });
 
@@ -16,7 +16,7 @@ import org.xnio.conduits.StreamSourceConduit;
 
 /**
  * Implementation of {@link StreamSourceConduit} wrapping that wraps around byte-transferring methods to calculate total
- * number of bytes transferred leveraging {@link LongAdder}.
+ * number of bytes transferred per listener and per context leveraging {@link LongAdder}.
  *
  * @author Radoslav Husar
  * @since 8.0
@@ -24,43 +24,50 @@ import org.xnio.conduits.StreamSourceConduit;
 public class BytesReceivedStreamSourceConduit extends AbstractSourceConduit implements StreamSourceConduit {
 
     private final StreamSourceConduit next;
-    private static final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder listenerBytesReceived;
+    private final LongAdder contextBytesReceived;
 
-    public BytesReceivedStreamSourceConduit(StreamSourceConduit next) {
+    public BytesReceivedStreamSourceConduit(StreamSourceConduit next, RequestStatistics listenerStatistics, RequestStatistics contextStatistics) {
         super(next);
         this.next = next;
+        this.listenerBytesReceived = listenerStatistics.getBytesReceivedCounter();
+        this.contextBytesReceived = contextStatistics.getBytesReceivedCounter();
     }
 
     @Override
     public long transferTo(long position, long count, FileChannel target) throws IOException {
         long bytes = next.transferTo(position, count, target);
-        bytesReceived.add(bytes);
+        record(bytes);
         return bytes;
     }
 
     @Override
     public long transferTo(long count, ByteBuffer throughBuffer, StreamSinkChannel target) throws IOException {
         long bytes = next.transferTo(count, throughBuffer, target);
-        bytesReceived.add(bytes);
+        record(bytes);
         return bytes;
     }
 
     @Override
     public int read(ByteBuffer dst) throws IOException {
         int bytes = next.read(dst);
-        bytesReceived.add(bytes);
+        record(bytes);
         return bytes;
     }
 
     @Override
     public long read(ByteBuffer[] dsts, int offs, int len) throws IOException {
         long bytes = next.read(dsts, offs, len);
-        bytesReceived.add(bytes);
+        record(bytes);
         return bytes;
     }
 
-    public static long getBytesReceived() {
-        return bytesReceived.longValue();
+    private void record(long bytes) {
+        // Reads and writes return -1 at the end of the stream
+        if (bytes > 0) {
+            listenerBytesReceived.add(bytes);
+            contextBytesReceived.add(bytes);
+        }
     }
 }
 
@@ -13,7 +13,7 @@ import org.xnio.conduits.StreamSinkConduit;
 
 /**
  * {@link HttpHandler} implementation that counts number of bytes sent via {@link BytesSentStreamSinkConduit}
- * wrapping.
+ * wrapping, per listener and per context.
  *
  * @author Radoslav Husar
  * @since 8.0
@@ -21,9 +21,11 @@ import org.xnio.conduits.StreamSinkConduit;
 public class BytesSentHttpHandler implements HttpHandler {
 
     private final HttpHandler wrappedHandler;
+    private final RequestStatistics contextStatistics;
 
-    public BytesSentHttpHandler(final HttpHandler handler) {
+    public BytesSentHttpHandler(final HttpHandler handler, final RequestStatistics contextStatistics) {
         this.wrappedHandler = handler;
+        this.contextStatistics = contextStatistics;
     }
 
     @Override
@@ -31,10 +33,12 @@ public class BytesSentHttpHandler implements HttpHandler {
 
         if (exchange == null) return;
 
+        RequestStatistics listenerStatistics = RequestStatistics.forListener(exchange);
+
         exchange.addResponseWrapper(new ConduitWrapper<StreamSinkConduit>() {
             @Override
             public StreamSinkConduit wrap(ConduitFactory<StreamSinkConduit> factory, HttpServerExchange exchange) {
-                return new BytesSentStreamSinkConduit(factory.create());
+                return new BytesSentStreamSinkConduit(factory.create(), listenerStatistics, contextStatistics);
             }
         });
 
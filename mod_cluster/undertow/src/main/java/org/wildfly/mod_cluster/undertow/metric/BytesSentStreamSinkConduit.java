@@ -16,7 +16,7 @@ import org.xnio.conduits.StreamSinkConduit;
 
 /**
  * Implementation of {@link StreamSinkConduit} wrapping that wraps around byte-transferring methods to calculate total
- * number of bytes transferred leveraging {@link LongAdder}.
+ * number of bytes transferred per listener and per context leveraging {@link LongAdder}.
  *
  * @author Radoslav Husar
  * @since 8.0
@@ -24,17 +24,20 @@ import org.xnio.conduits.StreamSinkConduit;
 public class BytesSentStreamSinkConduit extends AbstractSinkConduit implements StreamSinkConduit {
 
     private final StreamSinkConduit next;
-    private static final LongAdder bytesSent = new LongAdder();
+    private final LongAdder listenerBytesSent;
+    private final LongAdder contextBytesSent;
 
-    public BytesSentStreamSinkConduit(StreamSinkConduit next) {
+    public BytesSentStreamSinkConduit(StreamSinkConduit next, RequestStatistics listenerStatistics, RequestStatistics contextStatistics) {
         super(next);
         this.next = next;
+        this.listenerBytesSent = listenerStatistics.getBytesSentCounter();
+        this.contextBytesSent = contextStatistics.getBytesSentCounter();
     }
 
     @Override
     public long transferFrom(FileChannel src, long position, long count) throws IOException {
         long bytes = next.transferFrom(src, position, count);
-        bytesSent.add(bytes);
+        record(bytes);
         return bytes;
     }
 
@@ -42,7 +45,7 @@ public class BytesSentStreamSinkConduit extends AbstractSinkConduit implements S
     @Override
     public long transferFrom(StreamSourceChannel source, long count, ByteBuffer throughBuffer) throws IOException {
         long bytes = next.transferFrom(source, count, throughBuffer);
-        bytesSent.add(bytes);
+        record(bytes);
         return bytes;
     }
 
@@ -50,7 +53,7 @@ public class BytesSentStreamSinkConduit extends AbstractSinkConduit implements S
     @Override
     public int write(ByteBuffer src) throws IOException {
         int bytes = next.write(src);
-        bytesSent.add(bytes);
+        record(bytes);
         return bytes;
     }
 
@@ -58,25 +61,29 @@ public class BytesSentStreamSinkConduit extends AbstractSinkConduit implements S
     @Override
     public long write(ByteBuffer[] srcs, int offs, int len) throws IOException {
         long bytes = next.write(srcs, offs, len);
-        bytesSent.add(bytes);
+        record(bytes);
         return bytes;
     }
 
     @Override
     public int writeFinal(ByteBuffer src) throws IOException {
         int bytes = next.writeFinal(src);
-        bytesSent.add(bytes);
+        record(bytes);
         return bytes;
     }
 
     @Override
     public long writeFinal(ByteBuffer[] srcs, int offset, int length) throws IOException {
         long bytes = next.writeFinal(srcs, offset, length);
-        bytesSent.add(bytes);
+        record(bytes);
         return bytes;
     }
 
-    public static long getBytesSent() {
-        return bytesSent.longValue();
+    private void record(long bytes) {
+        // Reads and writes return -1 at the end of the stream
+        if (bytes > 0) {
+            listenerBytesSent.add(bytes);
+            contextBytesSent.add(bytes);
+        }
     }
 }
@@ -5,13 +5,11 @@
 
 package org.wildfly.mod_cluster.undertow.metric;
 
-import java.util.concurrent.atomic.LongAdder;
-
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
 
 /**
- * {@link HttpHandler} that counts number of incoming requests.
+ * {@link HttpHandler} that counts number of incoming requests, per listener and per context.
  *
  * @author Radoslav Husar
  * @since 8.0
@@ -19,26 +17,21 @@ import io.undertow.server.HttpServerExchange;
 public class RequestCountHttpHandler implements HttpHandler {
 
     private final HttpHandler wrappedHandler;
-    private static final LongAdder requestCount = new LongAdder();
+    private final RequestStatistics contextStatistics;
 
-    public RequestCountHttpHandler(final HttpHandler handler) {
+    public RequestCountHttpHandler(final HttpHandler handler, final RequestStatistics contextStatistics) {
         this.wrappedHandler = handler;
+        this.contextStatistics = contextStatistics;
     }
 
     @Override
     public void handleRequest(HttpServerExchange httpServerExchange) throws Exception {
 
         // Count incoming request
-        requestCount.increment();
+        RequestStatistics.forListener(httpServerExchange).getRequestCounter().increment();
+        contextStatistics.getRequestCounter().increment();
 
         // Proceed
         wrappedHandler.handleRequest(httpServerExchange);
     }
-
-    /**
-     * @return long value of all incoming requests on all connectors
-     */
-    public static long getRequestCount() {
-        return requestCount.longValue();
-    }
 }
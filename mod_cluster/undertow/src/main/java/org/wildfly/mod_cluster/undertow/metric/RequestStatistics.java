@@ -0,0 +1,192 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.mod_cluster.undertow.metric;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.ServerConnection;
+import io.undertow.util.AttachmentKey;
+import org.jboss.as.network.SocketBinding;
+import org.wildfly.extension.undertow.UndertowListener;
+
+/**
+ * Load accounting of the requests serviced by a single listener or a single context, recorded without locking.
+ * The statistics of a listener are registered by listener name while a mod_cluster adapter uses its server, and are
+ * resolved from the local address on which a connection was accepted, then cached by the connection for as long as the
+ * listener stays registered. The statistics of a context are created per deployment.
+ * Requests on connections which do not match any registered listener are not accounted against any listener.
+ */
+public class RequestStatistics {
+
+    /**
+     * Name of the servlet context attribute holding the statistics of a context.
+     */
+    public static final String SERVLET_CONTEXT_ATTRIBUTE = RequestStatistics.class.getName();
+
+    private static final Map<String, Registration> LISTENERS = new ConcurrentHashMap<>();
+    private static final AttachmentKey<Registration> LISTENER_KEY = AttachmentKey.create(Registration.class);
+
+    /**
+     * Registers the statistics of the specified listener, until a corresponding call to {@link #unregister(UndertowListener)}.
+     *
+     * @param listener a listener
+     */
+    public static void register(UndertowListener listener) {
+        LISTENERS.compute(listener.getName(), (name, registration) -> ((registration != null) && (registration.listener == listener)) ? registration.retain() : new Registration(listener));
+    }
+
+    /**
+     * Unregisters the statistics of the specified listener, once every registration of this listener was released.
+     *
+     * @param listener a listener
+     */
+    public static void unregister(UndertowListener listener) {
+        LISTENERS.computeIfPresent(listener.getName(), (name, registration) -> ((registration.listener != listener) || registration.release()) ? registration : null);
+    }
+
+    /**
+     * Returns the statistics of the specified listener.
+     *
+     * @param listener a listener
+     * @return the statistics of the listener, which are empty if the listener is not registered
+     */
+    public static RequestStatistics forListener(UndertowListener listener) {
+        Registration registration = LISTENERS.get(listener.getName());
+        return ((registration != null) && (registration.listener == listener)) ? registration.statistics : new RequestStatistics();
+    }
+
+    /**
+     * Returns the statistics of the listener which accepted the connection of the specified exchange.
+     *
+     * @param exchange an exchange
+     * @return the statistics of a listener
+     */
+    static RequestStatistics forListener(HttpServerExchange exchange) {
+        ServerConnection connection = exchange.getConnection();
+        Registration registration = connection.getAttachment(LISTENER_KEY);
+        // Re-resolve if the listener was unregistered, or registered anew, since this connection cached it
+        if ((registration == null) || (LISTENERS.get(registration.listener.getName()) != registration)) {
+            registration = resolve(connection.getLocalAddress(InetSocketAddress.class));
+            if (registration == null) {
+                // Not accounted, and not cached, so that a listener registered later is resolved by the next request
+                connection.removeAttachment(LISTENER_KEY);
+                return new RequestStatistics();
+            }
+            connection.putAttachment(LISTENER_KEY, registration);
+        }
+        return registration.statistics;
+    }
+
+    private static Registration resolve(InetSocketAddress address) {
+        if (address == null) {
+            return null;
+        }
+        Registration wildcard = null;
+        for (Registration registration : LISTENERS.values()) {
+            SocketBinding binding = registration.listener.getSocketBinding();
+            if (binding.getAbsolutePort() == address.getPort()) {
+                InetAddress bindAddress = binding.getAddress();
+                if (bindAddress.equals(address.getAddress())) {
+                    return registration;
+                }
+                if (bindAddress.isAnyLocalAddress()) {
+                    wildcard = registration;
+                }
+            }
+        }
+        return wildcard;
+    }
+
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder runningRequestCount = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final ResponseTimeRecorder responseTime = new ResponseTimeRecorder();
+
+    LongAdder getRequestCounter() {
+        return this.requestCount;
+    }
+
+    LongAdder getRunningRequestCounter() {
+        return this.runningRequestCount;
+    }
+
+    LongAdder getBytesSentCounter() {
+        return this.bytesSent;
+    }
+
+    LongAdder getBytesReceivedCounter() {
+        return this.bytesReceived;
+    }
+
+    ResponseTimeRecorder getResponseTimeRecorder() {
+        return this.responseTime;
+    }
+
+    /**
+     * @return the number of incoming requests
+     */
+    public long getRequestCount() {
+        return this.requestCount.longValue();
+    }
+
+    /**
+     * @return the number of requests currently being serviced
+     */
+    public int getRunningRequestCount() {
+        return this.runningRequestCount.intValue();
+    }
+
+    /**
+     * @return the number of bytes sent
+     */
+    public long getBytesSent() {
+        return this.bytesSent.longValue();
+    }
+
+    /**
+     * @return the number of bytes received, excluding the request headers
+     */
+    public long getBytesReceived() {
+        return this.bytesReceived.longValue();
+    }
+
+    /**
+     * @return the estimated response time, in milliseconds
+     * @see ResponseTimeRecorder#getEstimatedResponseTime()
+     */
+    public double getEstimatedResponseTime() {
+        return this.responseTime.getEstimatedResponseTime();
+    }
+
+    private static class Registration {
+        final UndertowListener listener;
+        final RequestStatistics statistics = new RequestStatistics();
+        private int references = 1;
+
+        Registration(UndertowListener listener) {
+            this.listener = listener;
+        }
+
+        Registration retain() {
+            this.references += 1;
+            return this;
+        }
+
+        /**
+         * @return true, if this registration is still referenced, false otherwise
+         */
+        boolean release() {
+            this.references -= 1;
+            return this.references > 0;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.mod_cluster.undertow.metric;
+
+import io.undertow.server.ExchangeCompletionListener;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+
+/**
+ * {@link HttpHandler} implementation that records the response time of requests, per listener and per context, upon
+ * exchange complete event.
+ *
+ * @see ResponseTimeRecorder
+ */
+public class ResponseTimeHttpHandler implements HttpHandler {
+
+    private final HttpHandler wrappedHandler;
+    private final RequestStatistics contextStatistics;
+
+    public ResponseTimeHttpHandler(final HttpHandler handler, final RequestStatistics contextStatistics) {
+        this.wrappedHandler = handler;
+        this.contextStatistics = contextStatistics;
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        ResponseTimeRecorder listenerRecorder = RequestStatistics.forListener(exchange).getResponseTimeRecorder();
+        ResponseTimeRecorder contextRecorder = contextStatistics.getResponseTimeRecorder();
+
+        long listenerStart = listenerRecorder.requestStarted();
+        long contextStart = contextRecorder.requestStarted();
+
+        exchange.addExchangeCompleteListener(new ExchangeCompletionListener() {
+            @Override
+            public void exchangeEvent(HttpServerExchange exchange, NextListener nextListener) {
+                listenerRecorder.requestCompleted(listenerStart);
+                contextRecorder.requestCompleted(contextStart);
+
+                // Proceed to next listener must be called!
+                nextListener.proceed();
+            }
+        });
+
+        wrappedHandler.handleRequest(exchange);
+    }
+}
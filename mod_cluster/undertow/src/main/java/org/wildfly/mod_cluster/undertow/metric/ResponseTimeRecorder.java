@@ -0,0 +1,102 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.mod_cluster.undertow.metric;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Records the response times of requests without locking, and estimates the response time of subsequent requests from:
+ * <ul>
+ * <li>the exponentially-decayed average response time of completed requests, and</li>
+ * <li>the average time for which the requests currently being serviced have been running, which reflects queueing before
+ * any slow request completes.</li>
+ * </ul>
+ * Requests only update {@link LongAdder}s, while the decay is applied when the estimate is read, i.e. once per mod_cluster
+ * status interval.
+ */
+public class ResponseTimeRecorder {
+
+    static final Duration DEFAULT_HALF_LIFE = Duration.ofSeconds(10);
+
+    private final LongSupplier clock;
+    private final long origin;
+    private final double halfLife;
+
+    private final LongAdder running = new LongAdder();
+    private final LongAdder runningStartTimes = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder completedResponseTimes = new LongAdder();
+
+    // Guarded by this
+    private long lastReadTime;
+    private long lastCompleted;
+    private long lastCompletedResponseTimes;
+    private double decayedCompleted;
+    private double decayedCompletedResponseTimes;
+
+    public ResponseTimeRecorder() {
+        this(System::nanoTime, DEFAULT_HALF_LIFE);
+    }
+
+    ResponseTimeRecorder(LongSupplier clock, Duration halfLife) {
+        this.clock = clock;
+        this.origin = clock.getAsLong();
+        this.halfLife = halfLife.toNanos();
+    }
+
+    /**
+     * Records the start of a request.
+     *
+     * @return the start time of the request, to be passed to {@link #requestCompleted(long)}
+     */
+    public long requestStarted() {
+        long start = this.clock.getAsLong() - this.origin;
+        // Record the start time before the running count, see getEstimatedResponseTime()
+        this.runningStartTimes.add(start);
+        this.running.increment();
+        return start;
+    }
+
+    /**
+     * Records the completion of a request.
+     *
+     * @param start the start time of the request, as returned by {@link #requestStarted()}
+     */
+    public void requestCompleted(long start) {
+        long responseTime = this.clock.getAsLong() - this.origin - start;
+        this.running.decrement();
+        this.runningStartTimes.add(-start);
+        this.completedResponseTimes.add(responseTime);
+        this.completed.increment();
+    }
+
+    /**
+     * @return the estimated response time, in milliseconds
+     */
+    public synchronized double getEstimatedResponseTime() {
+        long now = this.clock.getAsLong() - this.origin;
+        long running = this.running.sum();
+        long runningStartTimes = this.runningStartTimes.sum();
+        long completed = this.completed.sum();
+        long completedResponseTimes = this.completedResponseTimes.sum();
+
+        double decay = Math.pow(0.5, (now - this.lastReadTime) / this.halfLife);
+        this.decayedCompleted = this.decayedCompleted * decay + (completed - this.lastCompleted);
+        this.decayedCompletedResponseTimes = this.decayedCompletedResponseTimes * decay + (completedResponseTimes - this.lastCompletedResponseTimes);
+        this.lastReadTime = now;
+        this.lastCompleted = completed;
+        this.lastCompletedResponseTimes = completedResponseTimes;
+
+        double responseTime = (this.decayedCompleted > 0) ? this.decayedCompletedResponseTimes / this.decayedCompleted : 0;
+        // The counters are not read atomically, so a request completing concurrently could yield a negative running time
+        double runningTime = (running > 0) ? Math.max(0, (running * (double) now - runningStartTimes) / running) : 0;
+
+        return Math.max(responseTime, runningTime) / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -5,27 +5,25 @@
 
 package org.wildfly.mod_cluster.undertow.metric;
 
-import java.util.concurrent.atomic.LongAdder;
-
 import io.undertow.server.ExchangeCompletionListener;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
 
 /**
- * {@link HttpHandler} implementation that counts number of active / running requests to replace the busyness
- * metric.
+ * {@link HttpHandler} implementation that counts number of active / running requests, per listener and per context, to
+ * replace the busyness metric.
  *
  * @author Radoslav Husar
  * @since 8.0
  */
 public class RunningRequestsHttpHandler implements HttpHandler {
 
-    private static final LongAdder runningCount = new LongAdder();
-
     private final HttpHandler wrappedHandler;
+    private final RequestStatistics contextStatistics;
 
-    public RunningRequestsHttpHandler(final HttpHandler handler) {
+    public RunningRequestsHttpHandler(final HttpHandler handler, final RequestStatistics contextStatistics) {
         this.wrappedHandler = handler;
+        this.contextStatistics = contextStatistics;
     }
 
     /**
@@ -33,12 +31,16 @@ public class RunningRequestsHttpHandler implements HttpHandler {
      */
     @Override
     public void handleRequest(HttpServerExchange exchange) throws Exception {
-        runningCount.increment();
+        RequestStatistics listenerStatistics = RequestStatistics.forListener(exchange);
+
+        listenerStatistics.getRunningRequestCounter().increment();
+        contextStatistics.getRunningRequestCounter().increment();
 
         exchange.addExchangeCompleteListener(new ExchangeCompletionListener() {
             @Override
             public void exchangeEvent(HttpServerExchange exchange, NextListener nextListener) {
-                runningCount.decrement();
+                listenerStatistics.getRunningRequestCounter().decrement();
+                contextStatistics.getRunningRequestCounter().decrement();
 
                 // Proceed to next listener must be called!
                 nextListener.proceed();
@@ -47,9 +49,4 @@ public class RunningRequestsHttpHandler implements HttpHandler {
 
         wrappedHandler.handleRequest(exchange);
     }
-
-    public static int getRunningRequestCount() {
-        return runningCount.intValue();
-    }
-
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.mod_cluster.undertow.metric;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.Collections;
+
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.ServerConnection;
+import org.jboss.as.network.NetworkInterfaceBinding;
+import org.jboss.as.network.SocketBinding;
+import org.jboss.as.network.SocketBindingManager;
+import org.junit.Test;
+import org.wildfly.extension.undertow.UndertowListener;
+
+/**
+ * Unit test for {@link RequestStatistics}.
+ */
+public class RequestStatisticsTestCase {
+
+    @Test
+    public void listeners() throws UnknownHostException {
+        // Listeners on the same port of different interfaces
+        UndertowListener first = listener("first", "127.0.0.1", 8080);
+        UndertowListener second = listener("second", "127.0.0.2", 8080);
+        RequestStatistics.register(first);
+        RequestStatistics.register(second);
+        try {
+            RequestStatistics statistics = RequestStatistics.forListener(exchange("127.0.0.2", 8080));
+            statistics.getRequestCounter().increment();
+            assertSame(RequestStatistics.forListener(second), statistics);
+            assertEquals(1, RequestStatistics.forListener(second).getRequestCount());
+            assertEquals(0, RequestStatistics.forListener(first).getRequestCount());
+        } finally {
+            RequestStatistics.unregister(first);
+            RequestStatistics.unregister(second);
+        }
+        // Unregistered statistics are discarded
+        assertEquals(0, RequestStatistics.forListener(second).getRequestCount());
+    }
+
+    @Test
+    public void wildcard() throws UnknownHostException {
+        UndertowListener listener = listener("wildcard", "0.0.0.0", 8081);
+        RequestStatistics.register(listener);
+        try {
+            assertSame(RequestStatistics.forListener(listener), RequestStatistics.forListener(exchange("127.0.0.1", 8081)));
+            assertNotSame(RequestStatistics.forListener(listener), RequestStatistics.forListener(exchange("127.0.0.1", 8082)));
+        } finally {
+            RequestStatistics.unregister(listener);
+        }
+    }
+
+    @Test
+    public void references() throws UnknownHostException {
+        UndertowListener listener = listener("shared", "127.0.0.1", 8083);
+        RequestStatistics.register(listener);
+        RequestStatistics.register(listener);
+        RequestStatistics statistics = RequestStatistics.forListener(listener);
+
+        RequestStatistics.unregister(listener);
+        assertSame(statistics, RequestStatistics.forListener(listener));
+
+        RequestStatistics.unregister(listener);
+        assertNotSame(statistics, RequestStatistics.forListener(listener));
+    }
+
+    @Test
+    public void connection() throws UnknownHostException {
+        HttpServerExchange exchange = exchange("127.0.0.1", 8084);
+        UndertowListener listener = listener("late", "127.0.0.1", 8084);
+
+        // A connection accepted before its listener is registered is not cached as unaccounted
+        RequestStatistics unaccounted = RequestStatistics.forListener(exchange);
+        RequestStatistics.register(listener);
+        try {
+            RequestStatistics statistics = RequestStatistics.forListener(exchange);
+            assertNotSame(unaccounted, statistics);
+            assertSame(RequestStatistics.forListener(listener), statistics);
+            assertSame(statistics, RequestStatistics.forListener(exchange));
+        } finally {
+            RequestStatistics.unregister(listener);
+        }
+
+        // A connection does not keep accounting against the statistics of a listener registered anew
+        RequestStatistics.register(listener);
+        try {
+            assertSame(RequestStatistics.forListener(listener), RequestStatistics.forListener(exchange));
+        } finally {
+            RequestStatistics.unregister(listener);
+        }
+    }
+
+    private static UndertowListener listener(String name, String address, int port) throws UnknownHostException {
+        NetworkInterfaceBinding interfaceBinding = new NetworkInterfaceBinding(Collections.emptySet(), InetAddress.getByName(address));
+        SocketBinding binding = new SocketBinding("socket", port, true, null, 0, interfaceBinding, mock(SocketBindingManager.class), Collections.emptyList());
+        UndertowListener listener = mock(UndertowListener.class);
+        when(listener.getName()).thenReturn(name);
+        when(listener.getSocketBinding()).thenReturn(binding);
+        return listener;
+    }
+
+    private static HttpServerExchange exchange(String address, int port) throws UnknownHostException {
+        // Calls the real attachment methods
+        ServerConnection connection = mock(ServerConnection.class, CALLS_REAL_METHODS);
+        doReturn(new InetSocketAddress(InetAddress.getByName(address), port)).when(connection).getLocalAddress(InetSocketAddress.class);
+        return new HttpServerExchange(connection);
+    }
+}
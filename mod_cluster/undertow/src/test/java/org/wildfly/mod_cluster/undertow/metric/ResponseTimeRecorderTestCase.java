@@ -0,0 +1,81 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.mod_cluster.undertow.metric;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ResponseTimeRecorder} using a manual clock.
+ */
+public class ResponseTimeRecorderTestCase {
+
+    private static final double DELTA = 0.0001;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private final ResponseTimeRecorder recorder = new ResponseTimeRecorder(this.clock::get, Duration.ofSeconds(10));
+
+    @Test
+    public void idle() {
+        assertEquals(0, this.recorder.getEstimatedResponseTime(), DELTA);
+        this.advance(Duration.ofMinutes(1));
+        assertEquals(0, this.recorder.getEstimatedResponseTime(), DELTA);
+    }
+
+    @Test
+    public void completed() {
+        this.complete(Duration.ofMillis(100));
+        this.complete(Duration.ofMillis(300));
+        assertEquals(200, this.recorder.getEstimatedResponseTime(), DELTA);
+
+        // Without further requests the average is retained
+        this.advance(Duration.ofSeconds(30));
+        assertEquals(200, this.recorder.getEstimatedResponseTime(), DELTA);
+    }
+
+    @Test
+    public void decay() {
+        this.complete(Duration.ofMillis(100));
+        assertEquals(100, this.recorder.getEstimatedResponseTime(), DELTA);
+
+        // After one half-life, older requests weigh half as much as newer ones
+        this.advance(Duration.ofSeconds(10));
+        this.complete(Duration.ZERO);
+        assertEquals(50d / 1.5d, this.recorder.getEstimatedResponseTime(), DELTA);
+    }
+
+    @Test
+    public void running() {
+        this.complete(Duration.ofMillis(10));
+
+        long first = this.recorder.requestStarted();
+        this.advance(Duration.ofMillis(500));
+        long second = this.recorder.requestStarted();
+        this.advance(Duration.ofMillis(500));
+
+        // Requests running for 1000ms and 500ms exceed the average response time of completed requests
+        assertEquals(750, this.recorder.getEstimatedResponseTime(), DELTA);
+
+        this.recorder.requestCompleted(first);
+        this.recorder.requestCompleted(second);
+        assertEquals((10 + 1000 + 500) / 3d, this.recorder.getEstimatedResponseTime(), DELTA);
+    }
+
+    private void complete(Duration responseTime) {
+        long start = this.recorder.requestStarted();
+        this.advance(responseTime);
+        this.recorder.requestCompleted(start);
+    }
+
+    private void advance(Duration duration) {
+        this.clock.addAndGet(TimeUnit.NANOSECONDS.convert(duration));
+    }
+}
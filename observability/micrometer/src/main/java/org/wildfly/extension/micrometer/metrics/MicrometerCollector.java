@@ -19,6 +19,8 @@ import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.jboss.as.controller.ControlledProcessState;
 import org.jboss.as.controller.LocalModelControllerClient;
 import org.jboss.as.controller.PathAddress;
@@ -34,10 +36,13 @@ import org.jboss.dmr.ModelType;
 import org.wildfly.extension.micrometer.registry.WildFlyRegistry;
 
 public class MicrometerCollector implements AutoCloseable {
+    static final String SAMPLING_DURATION_METRIC_NAME = "wildfly.metrics.sampling.duration";
+
     private final LocalModelControllerClient modelControllerClient;
     private final ProcessStateNotifier processStateNotifier;
     private final WildFlyRegistry micrometerRegistry;
     private final Predicate<String> subsystemFilter;
+    private final Timer samplingTimer;
 
     public MicrometerCollector(LocalModelControllerClient modelControllerClient,
                                ProcessStateNotifier processStateNotifier,
@@ -47,6 +52,9 @@ public class MicrometerCollector implements AutoCloseable {
         this.processStateNotifier = processStateNotifier;
         this.micrometerRegistry = micrometerRegistry;
         this.subsystemFilter = subsystemFilter;
+        this.samplingTimer = Timer.builder(SAMPLING_DURATION_METRIC_NAME)
+                .description("The time spent reading the management metrics of a resource")
+                .register((MeterRegistry) micrometerRegistry);
     }
 
     // collect metrics from the resources
@@ -100,6 +108,8 @@ public class MicrometerCollector implements AutoCloseable {
         }
 
         ModelNode resourceDescription = null;
+        // All metrics of the resource share a single sampler
+        ResourceMetricSampler sampler = null;
 
         for (Map.Entry<String, AttributeAccess> entry : attributes.entrySet()) {
             AttributeAccess attributeAccess = entry.getValue();
@@ -117,7 +127,11 @@ public class MicrometerCollector implements AutoCloseable {
             boolean isCounter = attributeAccess.getFlags().contains(AttributeAccess.Flag.COUNTER_METRIC);
             String attributeDescription = resourceDescription.get(ATTRIBUTES, attributeName, DESCRIPTION).asStringOrNull();
 
-            WildFlyMetric metric = new WildFlyMetric(modelControllerClient, resourceAddress, attributeName);
+            if (sampler == null) {
+                sampler = new ResourceMetricSampler(modelControllerClient, resourceAddress,
+                        micrometerRegistry::getPublicationStep, samplingTimer);
+            }
+            WildFlyMetric metric = new WildFlyMetric(sampler, attributeName);
             WildFlyMetricMetadata metadata = new WildFlyMetricMetadata(attributeName, resourceAddress,
                     attributeDescription, unit, isCounter ? COUNTER : GAUGE);
 
@@ -0,0 +1,137 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.micrometer.metrics;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.COMPOSITE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ROLES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.STEPS;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Timer;
+import org.jboss.as.controller.LocalModelControllerClient;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Samples the metrics of a single management resource.
+ * All registered attributes of the resource are read by a single composite operation, whose results are cached until
+ * the end of the current registry step. Thus, the meters of a resource that are read within the same step, e.g. by a
+ * single scrape or publication, share a single management operation.
+ */
+public class ResourceMetricSampler {
+
+    /**
+     * The step used when no registry publishes its meters at a fixed interval, i.e. when meters are read on demand.
+     */
+    public static final Duration DEFAULT_STEP = Duration.ofSeconds(1);
+
+    private final LocalModelControllerClient modelControllerClient;
+    private final PathAddress address;
+    private final Supplier<Duration> step;
+    private final Timer samplingTimer;
+    private final List<String> attributeNames = new ArrayList<>();
+
+    private ModelNode compositeOp;
+    private Map<String, OptionalDouble> snapshot = Map.of();
+    private long snapshotStepMillis;
+    private long snapshotStepIndex = -1;
+
+    /**
+     * Creates a sampler of the specified resource.
+     * @param modelControllerClient the client used to read the attributes of the resource
+     * @param address the address of the resource
+     * @param step supplies the current registry step, or null if meters are read on demand
+     * @param samplingTimer the timer recording the duration of each sample
+     */
+    public ResourceMetricSampler(LocalModelControllerClient modelControllerClient, PathAddress address,
+                                 Supplier<Duration> step, Timer samplingTimer) {
+        this.modelControllerClient = modelControllerClient;
+        this.address = address;
+        this.step = step;
+        this.samplingTimer = samplingTimer;
+    }
+
+    public PathAddress getAddress() {
+        return address;
+    }
+
+    synchronized void addAttribute(String attributeName) {
+        if (!attributeNames.contains(attributeName)) {
+            attributeNames.add(attributeName);
+            // Rebuild the composite operation, and sample the new attribute on the next read
+            compositeOp = null;
+            snapshotStepIndex = -1;
+        }
+    }
+
+    synchronized OptionalDouble getValue(String attributeName) {
+        Duration currentStep = step.get();
+        long stepMillis = Math.max(1, (currentStep != null ? currentStep : DEFAULT_STEP).toMillis());
+        // Steps are aligned to the wall clock, like the publication of push registries
+        long stepIndex = System.currentTimeMillis() / stepMillis;
+        if (stepIndex != snapshotStepIndex || stepMillis != snapshotStepMillis) {
+            snapshot = sample();
+            snapshotStepIndex = stepIndex;
+            snapshotStepMillis = stepMillis;
+        }
+        OptionalDouble value = snapshot.get(attributeName);
+        return value != null ? value : OptionalDouble.empty();
+    }
+
+    private Map<String, OptionalDouble> sample() {
+        long start = System.nanoTime();
+        try {
+            Map<String, OptionalDouble> values = new HashMap<>();
+            if (attributeNames.size() > 1) {
+                ModelNode response = modelControllerClient.execute(getCompositeOperation());
+                if (WildFlyMetric.getFailureDescription(response) == null) {
+                    ModelNode result = response.get(RESULT);
+                    for (int i = 0; i < attributeNames.size(); i++) {
+                        String attributeName = attributeNames.get(i);
+                        values.put(attributeName, WildFlyMetric.toValue(result.get("step-" + (i + 1), RESULT), address, attributeName));
+                    }
+                    return values;
+                }
+            }
+            // If the composite operation failed, e.g. because one of its attributes is not accessible, read the
+            // attributes one by one, so that the failure of one attribute does not hide the others
+            for (String attributeName : attributeNames) {
+                values.put(attributeName, WildFlyMetric.readValue(modelControllerClient, address, attributeName));
+            }
+            return values;
+        } finally {
+            samplingTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private ModelNode getCompositeOperation() {
+        if (compositeOp == null) {
+            ModelNode op = new ModelNode();
+            op.get(OP).set(COMPOSITE);
+            op.get(OP_ADDR).setEmptyList();
+            op.get(OPERATION_HEADERS).get(ROLES).add("Monitor");
+            ModelNode steps = op.get(STEPS);
+            for (String attributeName : attributeNames) {
+                steps.add(WildFlyMetric.createReadAttributeOperation(address, attributeName));
+            }
+            op.protect();
+            compositeOp = op;
+        }
+        return compositeOp;
+    }
+}
@@ -28,6 +28,7 @@ public class WildFlyMetric implements Metric {
     private LocalModelControllerClient modelControllerClient;
     private PathAddress address;
     private String attributeName;
+    private ResourceMetricSampler sampler;
 
     static {
         UNDEFINED.protect();
@@ -43,9 +44,29 @@ public class WildFlyMetric implements Metric {
         this.attributeName = attributeName;
     }
 
+    /**
+     * Creates a metric whose value is read from the snapshot of its resource taken by the specified sampler.
+     */
+    public WildFlyMetric(ResourceMetricSampler sampler, String attributeName) {
+        this.address = sampler.getAddress();
+        this.attributeName = attributeName;
+        this.sampler = sampler;
+        sampler.addAttribute(attributeName);
+    }
+
     @Override
     public OptionalDouble getValue() {
-        ModelNode result = readAttributeValue(address, attributeName);
+        if (sampler != null) {
+            return sampler.getValue(attributeName);
+        }
+        return readValue(modelControllerClient, address, attributeName);
+    }
+
+    static OptionalDouble readValue(LocalModelControllerClient modelControllerClient, PathAddress address, String attributeName) {
+        return toValue(readAttributeValue(modelControllerClient, address, attributeName), address, attributeName);
+    }
+
+    static OptionalDouble toValue(ModelNode result, PathAddress address, String attributeName) {
         if (result.isDefined()) {
             try {
                 return OptionalDouble.of(result.asDouble());
@@ -56,15 +77,18 @@ public class WildFlyMetric implements Metric {
         return OptionalDouble.empty();
     }
 
-    private ModelNode readAttributeValue(PathAddress address, String attributeName) {
+    static ModelNode createReadAttributeOperation(PathAddress address, String attributeName) {
         final ModelNode readAttributeOp = new ModelNode();
         readAttributeOp.get(OP).set(READ_ATTRIBUTE_OPERATION);
         readAttributeOp.get(OP_ADDR).set(address.toModelNode());
         readAttributeOp.get(ModelDescriptionConstants.INCLUDE_UNDEFINED_METRIC_VALUES).set(false);
         readAttributeOp.get(NAME).set(attributeName);
         readAttributeOp.get(OPERATION_HEADERS).get(ROLES).add("Monitor");
+        return readAttributeOp;
+    }
 
-        ModelNode response = modelControllerClient.execute(readAttributeOp);
+    private static ModelNode readAttributeValue(LocalModelControllerClient modelControllerClient, PathAddress address, String attributeName) {
+        ModelNode response = modelControllerClient.execute(createReadAttributeOperation(address, attributeName));
         String error = getFailureDescription(response);
         if (error != null) {
             // [WFLY-11933] if the value can not be read if the management resource is not accessible due to RBAC,
@@ -79,7 +103,7 @@ public class WildFlyMetric implements Metric {
         return  response.get(RESULT);
     }
 
-    private String getFailureDescription(ModelNode result) {
+    static String getFailureDescription(ModelNode result) {
         if (result.hasDefined(FAILURE_DESCRIPTION)) {
             return result.get(FAILURE_DESCRIPTION).toString();
         }
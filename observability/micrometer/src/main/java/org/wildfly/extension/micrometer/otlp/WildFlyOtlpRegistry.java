@@ -20,8 +20,16 @@ import org.wildfly.extension.micrometer.registry.WildFlyRegistry;
 import org.wildfly.security.manager.WildFlySecurityManager;
 
 public class WildFlyOtlpRegistry extends OtlpMeterRegistry implements WildFlyRegistry {
+    private final Duration step;
+
     public WildFlyOtlpRegistry(WildFlyMicrometerOtlpConfig config) {
         super(config, Clock.SYSTEM);
+        this.step = config.step();
+    }
+
+    @Override
+    public Duration getPublicationStep() {
+        return step;
     }
 
     public static class WildFlyMicrometerOtlpConfig extends WildFlyMicrometerConfig implements OtlpConfig {
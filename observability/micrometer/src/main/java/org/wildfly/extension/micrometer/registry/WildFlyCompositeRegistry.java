@@ -4,6 +4,8 @@
  */
 package org.wildfly.extension.micrometer.registry;
 
+import java.time.Duration;
+
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 
@@ -15,4 +17,23 @@ public class WildFlyCompositeRegistry extends CompositeMeterRegistry implements
     public void addRegistry(WildFlyRegistry registry) {
         this.add((MeterRegistry) registry);
     }
+
+    /**
+     * Returns the shortest step of the registries of this composite.
+     * @return the shortest step, or null if any registry reads its meters on demand, or if there are no registries
+     */
+    @Override
+    public Duration getPublicationStep() {
+        Duration result = null;
+        for (MeterRegistry registry : this.getRegistries()) {
+            Duration step = (registry instanceof WildFlyRegistry) ? ((WildFlyRegistry) registry).getPublicationStep() : null;
+            if (step == null) {
+                return null;
+            }
+            if (result == null || step.compareTo(result) < 0) {
+                result = step;
+            }
+        }
+        return result;
+    }
 }
@@ -4,6 +4,7 @@
  */
 package org.wildfly.extension.micrometer.registry;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Locale;
 import java.util.OptionalDouble;
@@ -23,6 +24,14 @@ public interface WildFlyRegistry extends AutoCloseable {
     Meter remove(Meter.Id mappedId);
     void close();
 
+    /**
+     * Returns the interval at which this registry publishes its meters.
+     * @return the step of this registry, or null if its meters are read on demand, e.g. when scraped
+     */
+    default Duration getPublicationStep() {
+        return null;
+    }
+
     default Meter.Id addMeter(WildFlyMetric metric, MetricMetadata metadata) {
         return switch (metadata.getType()) {
             case GAUGE -> addGauge(metric, metadata);
@@ -0,0 +1,73 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.micrometer.metrics;
+
+import java.time.Duration;
+import java.util.OptionalDouble;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jboss.as.controller.PathAddress;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wildfly.extension.metrics.TestModelControllerClient;
+
+/**
+ * Unit test for {@link ResourceMetricSampler}.
+ */
+public class ResourceMetricSamplerTestCase {
+
+    private static final PathAddress ADDRESS = PathAddress.parseCLIStyleAddress("/subsystem=test/resource=a");
+
+    private final TestModelControllerClient client = new TestModelControllerClient();
+    private final Timer timer = Timer.builder(MicrometerCollector.SAMPLING_DURATION_METRIC_NAME).register(new SimpleMeterRegistry());
+
+    @Test
+    public void sample() {
+        // A step long enough for all reads of this test to fall within the same step
+        ResourceMetricSampler sampler = new ResourceMetricSampler(this.client, ADDRESS, () -> Duration.ofDays(1), this.timer);
+        WildFlyMetric count = new WildFlyMetric(sampler, "count");
+        WildFlyMetric time = new WildFlyMetric(sampler, "time");
+        WildFlyMetric undefined = new WildFlyMetric(sampler, "undefined");
+
+        Assert.assertEquals(OptionalDouble.of(5), count.getValue());
+        Assert.assertEquals(OptionalDouble.of(4), time.getValue());
+        Assert.assertEquals(OptionalDouble.empty(), undefined.getValue());
+        Assert.assertEquals(OptionalDouble.of(5), count.getValue());
+
+        // A single composite operation for all attributes of the resource
+        Assert.assertEquals(1, this.client.getOperations().get());
+        Assert.assertEquals(1, this.timer.count());
+    }
+
+    @Test
+    public void fallback() {
+        ResourceMetricSampler sampler = new ResourceMetricSampler(this.client, ADDRESS, () -> Duration.ofDays(1), this.timer);
+        WildFlyMetric count = new WildFlyMetric(sampler, "count");
+        WildFlyMetric failure = new WildFlyMetric(sampler, "failure");
+
+        Assert.assertEquals(OptionalDouble.of(5), count.getValue());
+        Assert.assertEquals(OptionalDouble.empty(), failure.getValue());
+
+        // The failed composite operation, followed by one operation per attribute
+        Assert.assertEquals(3, this.client.getOperations().get());
+        Assert.assertEquals(1, this.timer.count());
+    }
+
+    @Test
+    public void expire() throws InterruptedException {
+        ResourceMetricSampler sampler = new ResourceMetricSampler(this.client, ADDRESS, () -> Duration.ofMillis(1), this.timer);
+        WildFlyMetric count = new WildFlyMetric(sampler, "count");
+
+        Assert.assertEquals(OptionalDouble.of(5), count.getValue());
+        Thread.sleep(10);
+        Assert.assertEquals(OptionalDouble.of(5), count.getValue());
+
+        // The snapshot of the previous step was discarded
+        Assert.assertEquals(2, this.client.getOperations().get());
+        Assert.assertEquals(2, this.timer.count());
+    }
+}
@@ -130,6 +130,33 @@ public class RuntimeJournalTypeManagementTestCase {
         container.stop(DEFAULT_FULL_JBOSSAS);
     }
 
+    @Test
+    public void testReadMappedJournaltype() throws IOException {
+        if (!container.isStarted(DEFAULT_FULL_JBOSSAS)) {
+            container.start(DEFAULT_FULL_JBOSSAS);
+        }
+        ManagementClient managementClient = createManagementClient();
+        assertEquals("ASYNCIO", readJournalType(managementClient));
+        assertNotNull(readRuntimeJournalType(managementClient));
+        ModelNode op = Operations.createWriteAttributeOperation(SERVER_ADDRESS, "journal-type", "MAPPED");
+        execute(managementClient, op, true);
+        op = Operations.createWriteAttributeOperation(SERVER_ADDRESS, "journal-datasync", false);
+        execute(managementClient, op, true);
+        assertEquals("MAPPED", readJournalType(managementClient));
+        managementClient.close();
+        container.stop(DEFAULT_FULL_JBOSSAS);
+        container.start(DEFAULT_FULL_JBOSSAS);
+        managementClient = createManagementClient();
+        assertEquals("MAPPED", readJournalType(managementClient));
+        assertEquals("MAPPED", readRuntimeJournalType(managementClient));
+        op = Operations.createWriteAttributeOperation(SERVER_ADDRESS, "journal-type", "ASYNCIO");
+        execute(managementClient, op, true);
+        op = Operations.createUndefineAttributeOperation(SERVER_ADDRESS, "journal-datasync");
+        execute(managementClient, op, true);
+        managementClient.close();
+        container.stop(DEFAULT_FULL_JBOSSAS);
+    }
+
     private ModelNode execute(final org.jboss.as.arquillian.container.ManagementClient managementClient, final ModelNode op, final boolean expectSuccess) throws IOException {
         ModelNode response = managementClient.getControllerClient().execute(op);
         if (expectSuccess) {
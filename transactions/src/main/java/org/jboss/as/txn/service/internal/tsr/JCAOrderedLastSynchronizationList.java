@@ -60,14 +60,19 @@ public class JCAOrderedLastSynchronizationList implements Synchronization {
                 TransactionLogger.ROOT_LOGGER.trace("JCAOrderedLastSynchronizationList.jcaSyncs.add - Class: " + synchronization.getClass() + " HashCode: "
                     + synchronization.hashCode() + " toString: " + synchronization);
             }
-            jcaSyncs.add(synchronization);
+            // Threads associated with the same transaction may register concurrently
+            synchronized (this) {
+                jcaSyncs.add(synchronization);
+            }
 
         } else {
             if (TransactionLogger.ROOT_LOGGER.isTraceEnabled()) {
                 TransactionLogger.ROOT_LOGGER.trace("JCAOrderedLastSynchronizationList.preJcaSyncs.add - Class: " + synchronization.getClass() + " HashCode: "
                     + synchronization.hashCode() + " toString: " + synchronization);
             }
-            preJcaSyncs.add(synchronization);
+            synchronized (this) {
+                preJcaSyncs.add(synchronization);
+            }
         }
     }
 
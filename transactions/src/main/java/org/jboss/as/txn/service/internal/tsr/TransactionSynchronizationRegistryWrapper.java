@@ -50,14 +50,12 @@ public class TransactionSynchronizationRegistryWrapper implements TransactionSyn
             }
             JCAOrderedLastSynchronizationList jcaOrderedLastSynchronization = (JCAOrderedLastSynchronizationList) tx.getResource(key);
             if (jcaOrderedLastSynchronization == null) {
-                final ContextTransactionSynchronizationRegistry tsr = ContextTransactionSynchronizationRegistry.getInstance();
-                synchronized (key) {
-                    jcaOrderedLastSynchronization = (JCAOrderedLastSynchronizationList) tx.getResource(key);
-                    if (jcaOrderedLastSynchronization == null) {
-                        jcaOrderedLastSynchronization = new JCAOrderedLastSynchronizationList();
-                        tx.putResource(key, jcaOrderedLastSynchronization);
-                        tsr.registerInterposedSynchronization(jcaOrderedLastSynchronization);
-                    }
+                // Only threads of the same transaction can race here, so avoid a lock shared by all transactions
+                final JCAOrderedLastSynchronizationList newSynchronization = new JCAOrderedLastSynchronizationList();
+                jcaOrderedLastSynchronization = (JCAOrderedLastSynchronizationList) tx.putResourceIfAbsent(key, newSynchronization);
+                if (jcaOrderedLastSynchronization == null) {
+                    jcaOrderedLastSynchronization = newSynchronization;
+                    ContextTransactionSynchronizationRegistry.getInstance().registerInterposedSynchronization(jcaOrderedLastSynchronization);
                 }
             }
             jcaOrderedLastSynchronization.registerInterposedSynchronization(sync);
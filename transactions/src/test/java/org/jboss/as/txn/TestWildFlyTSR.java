@@ -5,14 +5,25 @@
 
 package org.jboss.as.txn;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import jakarta.transaction.HeuristicMixedException;
 import jakarta.transaction.HeuristicRollbackException;
 import jakarta.transaction.NotSupportedException;
 import jakarta.transaction.RollbackException;
 import jakarta.transaction.Synchronization;
 import jakarta.transaction.SystemException;
+import jakarta.transaction.Transaction;
 import jakarta.transaction.TransactionManager;
 import jakarta.transaction.TransactionSynchronizationRegistry;
 
@@ -22,6 +33,7 @@ import org.jboss.as.txn.service.internal.tsr.TransactionSynchronizationRegistryW
 import org.jboss.tm.XAResourceRecovery;
 import org.jboss.tm.XAResourceRecoveryRegistry;
 
+import org.junit.Assume;
 import org.junit.Test;
 
 import com.arjuna.ats.jta.common.jtaPropertyManager;
@@ -30,6 +42,8 @@ import org.wildfly.transaction.client.LocalTransactionContext;
 import org.wildfly.transaction.client.provider.jboss.JBossLocalTransactionProvider;
 
 public class TestWildFlyTSR {
+    private static final String BENCHMARK_PROPERTY = "txn.tsr.benchmark";
+
     boolean innerSyncCalled = false;
 
     @Test
@@ -77,4 +91,141 @@ public class TestWildFlyTSR {
 
         assertTrue(innerSyncCalled);
     }
+
+    /**
+     * Registers interposed synchronizations from many threads associated with the same transaction, which race to create
+     * the ordered synchronization list of that transaction. Every synchronization must be called exactly once.
+     */
+    @Test
+    public void testConcurrentRegistration() throws Exception {
+        init();
+        final TransactionSynchronizationRegistry tsr = new TransactionSynchronizationRegistryWrapper();
+        final TransactionManager transactionManager = ContextTransactionManager.getInstance();
+        final int threads = Math.max(4, Runtime.getRuntime().availableProcessors());
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int run = 0; run < 20; ++run) {
+                final AtomicInteger beforeCompletions = new AtomicInteger();
+                final AtomicInteger afterCompletions = new AtomicInteger();
+                final CyclicBarrier barrier = new CyclicBarrier(threads);
+                transactionManager.begin();
+                final Transaction tx = transactionManager.suspend();
+                final List<Future<Void>> futures = new ArrayList<>();
+                for (int i = 0; i < threads; ++i) {
+                    futures.add(executor.submit(() -> {
+                        transactionManager.resume(tx);
+                        try {
+                            barrier.await();
+                            tsr.registerInterposedSynchronization(new CountingSynchronization(beforeCompletions, afterCompletions));
+                        } finally {
+                            transactionManager.suspend();
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<Void> future : futures) {
+                    future.get();
+                }
+                transactionManager.resume(tx);
+                transactionManager.commit();
+
+                assertEquals(threads, beforeCompletions.get());
+                assertEquals(threads, afterCompletions.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Reports the transaction throughput for a single thread compared to one thread per core, each thread registering
+     * interposed synchronizations with its own transactions.
+     * Only runs if the {@value #BENCHMARK_PROPERTY} system property is set, since it adds several seconds to the build.
+     */
+    @Test
+    public void testConcurrentTransactions() throws Exception {
+        Assume.assumeTrue(Boolean.getBoolean(BENCHMARK_PROPERTY));
+        init();
+        final TransactionSynchronizationRegistry tsr = new TransactionSynchronizationRegistryWrapper();
+        final int transactions = 2000;
+        final int cores = Runtime.getRuntime().availableProcessors();
+        // Warm up
+        runTransactions(tsr, cores, transactions);
+        final double single = runTransactions(tsr, 1, transactions);
+        final double concurrent = runTransactions(tsr, cores, transactions);
+        System.out.printf("Interposed synchronization registration: %.0f tx/s with 1 thread, %.0f tx/s with %d threads%n", single, concurrent, cores);
+    }
+
+    private static double runTransactions(TransactionSynchronizationRegistry tsr, int threads, int transactionsPerThread) throws Exception {
+        final TransactionManager transactionManager = ContextTransactionManager.getInstance();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final AtomicInteger beforeCompletions = new AtomicInteger();
+        final AtomicInteger afterCompletions = new AtomicInteger();
+        final CyclicBarrier start = new CyclicBarrier(threads + 1);
+        try {
+            final List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; ++i) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < transactionsPerThread; ++j) {
+                        transactionManager.begin();
+                        for (int k = 0; k < 2; ++k) {
+                            tsr.registerInterposedSynchronization(new CountingSynchronization(beforeCompletions, afterCompletions));
+                        }
+                        transactionManager.commit();
+                    }
+                    return null;
+                }));
+            }
+            start.await();
+            final long begin = System.nanoTime();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+            final long elapsed = System.nanoTime() - begin;
+            final int total = threads * transactionsPerThread;
+            assertEquals(2 * total, beforeCompletions.get());
+            assertEquals(2 * total, afterCompletions.get());
+            return total / (elapsed / (double) TimeUnit.SECONDS.toNanos(1));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void init() {
+        jtaPropertyManager.getJTAEnvironmentBean().setTransactionManagerClassName("com.arjuna.ats.internal.jta.transaction.arjunacore.TransactionManagerImple");
+        arjPropertyManager.getObjectStoreEnvironmentBean().setObjectStoreDir(System.getProperty("ObjectStoreEnvironmentBean.objectStoreDir"));
+        final JBossLocalTransactionProvider.Builder builder = JBossLocalTransactionProvider.builder();
+        builder.setTransactionManager(com.arjuna.ats.jta.TransactionManager.transactionManager());
+        builder.setExtendedJBossXATerminator(new XATerminatorImple());
+        builder.setXAResourceRecoveryRegistry(new XAResourceRecoveryRegistry() {
+            @Override
+            public void addXAResourceRecovery(XAResourceRecovery xaResourceRecovery) {}
+
+            @Override public void removeXAResourceRecovery(XAResourceRecovery xaResourceRecovery) {}
+        });
+        LocalTransactionContext.getContextManager().setGlobalDefault(new LocalTransactionContext(
+            builder.build()
+        ));
+    }
+
+    private static class CountingSynchronization implements Synchronization {
+        private final AtomicInteger beforeCompletions;
+        private final AtomicInteger afterCompletions;
+
+        CountingSynchronization(AtomicInteger beforeCompletions, AtomicInteger afterCompletions) {
+            this.beforeCompletions = beforeCompletions;
+            this.afterCompletions = afterCompletions;
+        }
+
+        @Override
+        public void beforeCompletion() {
+            this.beforeCompletions.incrementAndGet();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            this.afterCompletions.incrementAndGet();
+        }
+    }
 }
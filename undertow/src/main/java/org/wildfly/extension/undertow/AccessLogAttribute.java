@@ -70,10 +70,32 @@ class AccessLogAttribute implements Comparable<AccessLogAttribute> {
      * @return the value of the attribute
      */
     Object resolveAttribute(final HttpServerExchange exchange) {
+        return convert(readAttribute(exchange));
+    }
+
+    /**
+     * Reads the raw value for the attribute, without converting it.
+     *
+     * @param exchange the exchange to read the value from
+     *
+     * @return the raw value of the attribute
+     */
+    String readAttribute(final HttpServerExchange exchange) {
+        return exchangeAttribute.readAttribute(exchange);
+    }
+
+    /**
+     * Converts a {@linkplain #readAttribute(HttpServerExchange) raw value} into the value of the attribute.
+     *
+     * @param value the raw value
+     *
+     * @return the value of the attribute
+     */
+    Object convert(final String value) {
         if (valueConverter == null) {
-            return exchangeAttribute.readAttribute(exchange);
+            return value;
         }
-        return valueConverter.apply(exchangeAttribute.readAttribute(exchange));
+        return valueConverter.apply(value);
     }
 
     @Override
@@ -0,0 +1,50 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow;
+
+/**
+ * Determines what happens to an access log record when the buffer of an {@link AccessLogPipeline} is full.
+ */
+enum AccessLogOverflowPolicy {
+    /**
+     * The request thread waits for the writer to make room for the record.
+     */
+    BLOCK {
+        @Override
+        boolean await(final long overflows, final int sampleRate) {
+            return true;
+        }
+    },
+    /**
+     * The record is dropped.
+     */
+    DROP {
+        @Override
+        boolean await(final long overflows, final int sampleRate) {
+            return false;
+        }
+    },
+    /**
+     * One record out of every {@code sampleRate} overflowing records waits for room, the others are dropped.
+     */
+    SAMPLE {
+        @Override
+        boolean await(final long overflows, final int sampleRate) {
+            return overflows % sampleRate == 0;
+        }
+    },
+    ;
+
+    /**
+     * Determines whether an overflowing record should wait for room in the buffer, or be dropped.
+     *
+     * @param overflows  the number of records which overflowed the buffer so far, including this one
+     * @param sampleRate the sample rate
+     *
+     * @return {@code true} to wait for room in the buffer, {@code false} to drop the record
+     */
+    abstract boolean await(long overflows, int sampleRate);
+}
@@ -0,0 +1,384 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import io.undertow.server.HttpServerExchange;
+import org.wildfly.extension.undertow.logging.UndertowLogger;
+
+/**
+ * An access logger which writes exchange attributes as JSON, off the request thread.
+ * <p>
+ * The request thread only reads the raw values of the attributes into a preallocated record of a bounded ring buffer.
+ * A dedicated writer thread converts the values, and formats the available records in batches into a reusable byte
+ * buffer, which is then written to the output. If the ring buffer is full, the {@linkplain AccessLogOverflowPolicy
+ * overflow policy} determines whether the request thread waits for room, or the record is dropped.
+ * </p>
+ * <p>
+ * The JSON output is the same as the one of the {@linkplain org.wildfly.event.logger.JsonEventFormatter JSON event
+ * formatter}, without timestamp.
+ * </p>
+ */
+class AccessLogPipeline implements AutoCloseable {
+
+    static final String EVENT_SOURCE = "web-access";
+
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long OVERFLOW_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    /**
+     * The value of {@link #claimed} once the writer has exited, which prevents any further claim
+     */
+    private static final long SEALED = Long.MIN_VALUE;
+
+    private final String hostName;
+    private final AccessLogAttribute[] attributes;
+    private final byte[][] keys;
+    private final byte[] prefix;
+    private final Record[] ring;
+    private final int mask;
+    private final AccessLogOverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final OutputStream output;
+    private final Thread writer;
+    private final Buffer buffer = new Buffer();
+
+    /**
+     * The sequence of the next record to be claimed by a request thread
+     */
+    private final AtomicLong claimed = new AtomicLong();
+    /**
+     * The sequence of the next record to be written, the records before which may be reused
+     */
+    private volatile long consumed;
+    private volatile boolean writerParked;
+    private volatile boolean closed;
+    private final AtomicLong overflows = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Creates a new pipeline, and starts its writer.
+     *
+     * @param hostName       the name of the host, used to name the writer thread and in log messages
+     * @param attributes     the attributes to be logged
+     * @param metadata       the metadata to be prepended to each record
+     * @param bufferSize     the minimum number of records in the ring buffer, rounded up to a power of 2
+     * @param overflowPolicy the policy applied to the records which do not fit in the ring buffer
+     * @param sampleRate     the sample rate of the {@link AccessLogOverflowPolicy#SAMPLE} overflow policy
+     * @param output         the output the JSON records are written to
+     */
+    AccessLogPipeline(final String hostName, final Collection<AccessLogAttribute> attributes, final Map<String, Object> metadata,
+                      final int bufferSize, final AccessLogOverflowPolicy overflowPolicy, final int sampleRate,
+                      final OutputStream output) {
+        this.hostName = hostName;
+        this.attributes = attributes.toArray(new AccessLogAttribute[0]);
+        this.keys = new byte[this.attributes.length][];
+        for (int i = 0; i < this.attributes.length; i++) {
+            final Buffer key = new Buffer();
+            key.write(',');
+            key.writeString(this.attributes[i].getKey());
+            key.write(':');
+            this.keys[i] = key.toByteArray();
+        }
+        final Buffer prefix = new Buffer();
+        prefix.write('{');
+        prefix.writeString("eventSource");
+        prefix.write(':');
+        prefix.writeString(EVENT_SOURCE);
+        for (Map.Entry<String, Object> entry : metadata.entrySet()) {
+            prefix.write(',');
+            prefix.writeString(entry.getKey());
+            prefix.write(':');
+            prefix.writeValue(entry.getValue());
+        }
+        this.prefix = prefix.toByteArray();
+        final int capacity = Integer.highestOneBit(Math.max(1, bufferSize - 1)) << 1;
+        this.ring = new Record[Math.max(2, capacity)];
+        for (int i = 0; i < this.ring.length; i++) {
+            this.ring[i] = new Record(this.attributes.length);
+        }
+        this.mask = this.ring.length - 1;
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.output = output;
+        this.writer = new Thread(this::write, "console-access-log-" + hostName);
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * Captures the attributes of the exchange, to be written by the writer thread.
+     *
+     * @param exchange the exchange
+     */
+    void log(final HttpServerExchange exchange) {
+        final long sequence = this.claim();
+        if (sequence < 0) {
+            this.dropped.increment();
+            return;
+        }
+        final Record record = this.ring[(int) sequence & this.mask];
+        final String[] values = record.values;
+        boolean complete = false;
+        try {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = this.attributes[i].readAttribute(exchange);
+            }
+            complete = true;
+        } finally {
+            // the record must be published regardless, otherwise the writer would wait for it forever
+            record.complete = complete;
+            record.sequence = sequence;
+            if (this.writerParked) {
+                LockSupport.unpark(this.writer);
+            }
+        }
+    }
+
+    /**
+     * @return the number of records which were dropped since the pipeline was created
+     */
+    long getDroppedRecords() {
+        return this.dropped.sum();
+    }
+
+    /**
+     * Stops accepting new records, and waits for the writer to write the pending ones.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        LockSupport.unpark(this.writer);
+        try {
+            this.writer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Claims the sequence of the next record, applying the overflow policy if the ring buffer is full.
+     *
+     * @return the claimed sequence, or -1 if the record should be dropped
+     */
+    private long claim() {
+        boolean waiting = false;
+        while (!this.closed) {
+            final long sequence = this.claimed.get();
+            if (sequence == SEALED) {
+                // the writer exited after the close() of a concurrent thread
+                return -1;
+            }
+            if (sequence - this.consumed < this.ring.length) {
+                if (this.claimed.compareAndSet(sequence, sequence + 1)) {
+                    return sequence;
+                }
+            } else {
+                if (!waiting) {
+                    if (!this.overflowPolicy.await(this.overflows.incrementAndGet(), this.sampleRate)) {
+                        return -1;
+                    }
+                    waiting = true;
+                }
+                LockSupport.parkNanos(this, OVERFLOW_PARK_NANOS);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * The loop of the writer thread, which writes the published records in batches, until the pipeline is closed and
+     * all claimed records are written.
+     */
+    private void write() {
+        long next = this.consumed;
+        while (true) {
+            final Record record = this.ring[(int) next & this.mask];
+            if (record.sequence == next) {
+                this.format(record);
+                next++;
+                if (this.buffer.size() >= FLUSH_THRESHOLD) {
+                    this.consumed = next;
+                    this.flush();
+                }
+                continue;
+            }
+            // no more published records, write the batch
+            this.consumed = next;
+            this.flush();
+            // seal the sequence, so that a request thread which checked closed before it was set cannot claim a record
+            // which would never be written
+            if (this.closed && this.claimed.compareAndSet(next, SEALED)) {
+                return;
+            }
+            this.writerParked = true;
+            if (record.sequence != next && !this.closed) {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+            this.writerParked = false;
+        }
+    }
+
+    private void format(final Record record) {
+        final String[] values = record.values;
+        if (record.complete) {
+            final Buffer buffer = this.buffer;
+            buffer.write(this.prefix);
+            for (int i = 0; i < values.length; i++) {
+                buffer.write(this.keys[i]);
+                final Object value;
+                try {
+                    value = this.attributes[i].convert(values[i]);
+                } catch (RuntimeException e) {
+                    buffer.writeValue(values[i]);
+                    continue;
+                }
+                buffer.writeValue(value);
+            }
+            buffer.write('}');
+            buffer.write('\n');
+        } else {
+            this.dropped.increment();
+        }
+        // release the values for garbage collection
+        Arrays.fill(values, null);
+    }
+
+    private void flush() {
+        if (this.buffer.size() == 0) {
+            return;
+        }
+        try {
+            this.buffer.writeTo(this.output);
+            this.output.flush();
+        } catch (IOException e) {
+            UndertowLogger.ROOT_LOGGER.failedToWriteConsoleAccessLog(this.hostName, e);
+        } finally {
+            this.buffer.reset();
+        }
+    }
+
+    /**
+     * A preallocated slot of the ring buffer.
+     */
+    private static class Record {
+        final String[] values;
+        boolean complete;
+        /**
+         * The sequence of the record last published in this slot
+         */
+        volatile long sequence = -1;
+
+        Record(final int size) {
+            this.values = new String[size];
+        }
+    }
+
+    /**
+     * A reusable byte buffer, which encodes JSON values in UTF-8.
+     */
+    private static class Buffer extends ByteArrayOutputStream {
+
+        Buffer() {
+            super(FLUSH_THRESHOLD * 2);
+        }
+
+        @Override
+        public void write(final byte[] bytes) {
+            this.write(bytes, 0, bytes.length);
+        }
+
+        void writeValue(final Object value) {
+            if (value == null) {
+                this.write(NULL);
+            } else if (value instanceof Number || value instanceof Boolean) {
+                this.writeAscii(value.toString());
+            } else {
+                this.writeString(value.toString());
+            }
+        }
+
+        private void writeAscii(final String value) {
+            for (int i = 0; i < value.length(); i++) {
+                this.write(value.charAt(i));
+            }
+        }
+
+        void writeString(final String value) {
+            this.write('"');
+            for (int i = 0; i < value.length(); i++) {
+                final char c = value.charAt(i);
+                switch (c) {
+                    case '"':
+                    case '\\':
+                        this.write('\\');
+                        this.write(c);
+                        break;
+                    case '\b':
+                        this.writeEscape('b');
+                        break;
+                    case '\f':
+                        this.writeEscape('f');
+                        break;
+                    case '\n':
+                        this.writeEscape('n');
+                        break;
+                    case '\r':
+                        this.writeEscape('r');
+                        break;
+                    case '\t':
+                        this.writeEscape('t');
+                        break;
+                    default:
+                        if (c < 0x20) {
+                            this.writeEscape('u');
+                            this.write('0');
+                            this.write('0');
+                            this.write(HEX[c >> 4]);
+                            this.write(HEX[c & 0xF]);
+                        } else if (c < 0x80) {
+                            this.write(c);
+                        } else if (c < 0x800) {
+                            this.write(0xC0 | (c >> 6));
+                            this.write(0x80 | (c & 0x3F));
+                        } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                            final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                            this.write(0xF0 | (codePoint >> 18));
+                            this.write(0x80 | ((codePoint >> 12) & 0x3F));
+                            this.write(0x80 | ((codePoint >> 6) & 0x3F));
+                            this.write(0x80 | (codePoint & 0x3F));
+                        } else if (Character.isSurrogate(c)) {
+                            // unpaired surrogate
+                            this.write('?');
+                        } else {
+                            this.write(0xE0 | (c >> 12));
+                            this.write(0x80 | ((c >> 6) & 0x3F));
+                            this.write(0x80 | (c & 0x3F));
+                        }
+                }
+            }
+            this.write('"');
+        }
+
+        private void writeEscape(final char c) {
+            this.write('\\');
+            this.write(c);
+        }
+    }
+}
@@ -8,7 +8,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import io.undertow.predicate.Predicate;
@@ -19,6 +22,7 @@ import org.jboss.as.controller.AttributeDefinition;
 import org.jboss.as.controller.CapabilityServiceBuilder;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.PersistentResourceDefinition;
@@ -28,6 +32,11 @@ import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.BinaryCapabilityNameResolver;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.operations.validation.EnumValidator;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.registry.AttributeAccess;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.version.Stability;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
 import org.jboss.dmr.Property;
@@ -41,7 +50,7 @@ import org.xnio.XnioWorker;
  */
 class ConsoleAccessLogDefinition extends PersistentResourceDefinition {
     static final PathElement PATH_ELEMENT = PathElement.pathElement(Constants.SETTING, Constants.CONSOLE_ACCESS_LOG);
-    private static final RuntimeCapability<Void> CONSOLE_ACCESS_LOG_CAPABILITY = RuntimeCapability.Builder.of(Capabilities.CAPABILITY_CONSOLE_ACCESS_LOG, true, Void.class)
+    private static final RuntimeCapability<Void> CONSOLE_ACCESS_LOG_CAPABILITY = RuntimeCapability.Builder.of(Capabilities.CAPABILITY_CONSOLE_ACCESS_LOG, true, EventLoggerService.class)
             .setDynamicNameMapper(BinaryCapabilityNameResolver.GRANDPARENT_PARENT)
             .build();
 
@@ -56,14 +65,54 @@ class ConsoleAccessLogDefinition extends PersistentResourceDefinition {
             .setRestartAllServices()
             .build();
 
+    static final SimpleAttributeDefinition BUFFER_SIZE = SimpleAttributeDefinitionBuilder.create("buffer-size", ModelType.INT, true)
+            .setAllowExpression(true)
+            .setValidator(new IntRangeValidator(1, 1 << 24, true, true))
+            .setRestartAllServices()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
+    static final SimpleAttributeDefinition OVERFLOW_POLICY = SimpleAttributeDefinitionBuilder.create("overflow-policy", ModelType.STRING, true)
+            .setAllowExpression(true)
+            .setValidator(EnumValidator.create(AccessLogOverflowPolicy.class))
+            .setDefaultValue(new ModelNode(AccessLogOverflowPolicy.BLOCK.name()))
+            .setRequires(BUFFER_SIZE.getName())
+            .setRestartAllServices()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
+    static final SimpleAttributeDefinition SAMPLE_RATE = SimpleAttributeDefinitionBuilder.create("sample-rate", ModelType.INT, true)
+            .setAllowExpression(true)
+            .setValidator(new IntRangeValidator(1, true, true))
+            .setDefaultValue(new ModelNode(10))
+            .setRequires(BUFFER_SIZE.getName())
+            .setRestartAllServices()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
+    static final SimpleAttributeDefinition DROPPED_RECORDS = SimpleAttributeDefinitionBuilder.create("dropped-records", ModelType.LONG)
+            .setUndefinedMetricValue(ModelNode.ZERO)
+            .setFlags(AttributeAccess.Flag.COUNTER_METRIC)
+            .setStorageRuntime()
+            .setStability(Stability.COMMUNITY)
+            .build();
+
     static final Collection<AttributeDefinition> ATTRIBUTES = Arrays.asList(
             ExchangeAttributeDefinitions.ATTRIBUTES,
             INCLUDE_HOST_NAME,
             AccessLogDefinition.WORKER,
             AccessLogDefinition.PREDICATE,
-            METADATA
+            METADATA,
+            BUFFER_SIZE,
+            OVERFLOW_POLICY,
+            SAMPLE_RATE
     );
 
+    /**
+     * The attributes which configure the buffered access log pipeline
+     */
+    static final Set<AttributeDefinition> PIPELINE_ATTRIBUTES = Set.of(BUFFER_SIZE, OVERFLOW_POLICY, SAMPLE_RATE);
+
     ConsoleAccessLogDefinition() {
         super(new SimpleResourceDefinition.Parameters(PATH_ELEMENT, UndertowExtension.getResolver(PATH_ELEMENT.getValue()))
                 .setAddHandler(AddHandler.INSTANCE)
@@ -77,6 +126,28 @@ class ConsoleAccessLogDefinition extends PersistentResourceDefinition {
         return ATTRIBUTES;
     }
 
+    @Override
+    public void registerAttributes(final ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        resourceRegistration.registerMetric(DROPPED_RECORDS, DroppedRecordsHandler.INSTANCE);
+    }
+
+    private static class DroppedRecordsHandler implements OperationStepHandler {
+        static final DroppedRecordsHandler INSTANCE = new DroppedRecordsHandler();
+
+        @Override
+        public void execute(final OperationContext context, final ModelNode operation) throws OperationFailedException {
+            final ServiceController<?> controller = context.getServiceRegistry(false)
+                    .getService(CONSOLE_ACCESS_LOG_CAPABILITY.getCapabilityServiceName(context.getCurrentAddress()));
+            if (controller != null && controller.getState() == ServiceController.State.UP) {
+                final EventLoggerService service = (EventLoggerService) controller.getValue();
+                if (service != null) {
+                    context.getResult().set(service.getDroppedRecords());
+                }
+            }
+        }
+    }
+
     private static class AddHandler extends AbstractAddStepHandler {
         static final AddHandler INSTANCE = new AddHandler();
 
@@ -103,6 +174,11 @@ class ConsoleAccessLogDefinition extends PersistentResourceDefinition {
 
             final boolean includeHostName = INCLUDE_HOST_NAME.resolveModelAttribute(context, model).asBoolean();
 
+            final ModelNode bufferSizeNode = BUFFER_SIZE.resolveModelAttribute(context, model);
+            final Integer bufferSize = bufferSizeNode.isDefined() ? bufferSizeNode.asInt() : null;
+            final AccessLogOverflowPolicy overflowPolicy = AccessLogOverflowPolicy.valueOf(OVERFLOW_POLICY.resolveModelAttribute(context, model).asString().toUpperCase(Locale.ENGLISH));
+            final int sampleRate = SAMPLE_RATE.resolveModelAttribute(context, model).asInt();
+
             final String serverName = serverAddress.getLastElement().getValue();
             final String hostName = hostAddress.getLastElement().getValue();
 
@@ -111,12 +187,13 @@ class ConsoleAccessLogDefinition extends PersistentResourceDefinition {
             final Supplier<Host> hostSupplier = serviceBuilder.requires(Host.SERVICE_DESCRIPTOR, serverName, hostName);
             final Supplier<XnioWorker> workerSupplier = serviceBuilder.requires(
                     context.getCapabilityServiceName(Capabilities.REF_IO_WORKER, XnioWorker.class, worker));
+            final Consumer<EventLoggerService> serviceConsumer = serviceBuilder.provides(CONSOLE_ACCESS_LOG_CAPABILITY);
 
             // Get the list of attributes to log
             final Collection<AccessLogAttribute> attributes = parseAttributes(context, model);
 
             final EventLoggerService service = new EventLoggerService(attributes, predicate, metadata, includeHostName, hostSupplier,
-                    workerSupplier);
+                    workerSupplier, serviceConsumer, bufferSize, overflowPolicy, sampleRate);
             serviceBuilder.setInstance(service)
                     .setInitialMode(ServiceController.Mode.ACTIVE)
                     .install();
@@ -27,6 +27,7 @@ class EventLoggerHttpHandler implements HttpHandler {
     private final Predicate predicate;
     private final Collection<AccessLogAttribute> attributes;
     private final EventLogger eventLogger;
+    private final AccessLogPipeline pipeline;
 
     /**
      * Creates a new instance of the HTTP handler.
@@ -42,6 +43,22 @@ class EventLoggerHttpHandler implements HttpHandler {
         this.predicate = predicate;
         this.attributes = attributes;
         this.eventLogger = eventLogger;
+        this.pipeline = null;
+    }
+
+    /**
+     * Creates a new instance of the HTTP handler which hands the exchange attributes over to an access log pipeline.
+     *
+     * @param next      the next handler in the chain to invoke to invoke after this handler executes
+     * @param predicate the predicate used to determine if this handler should execute
+     * @param pipeline  the access log pipeline
+     */
+    EventLoggerHttpHandler(final HttpHandler next, final Predicate predicate, final AccessLogPipeline pipeline) {
+        this.next = next;
+        this.predicate = predicate;
+        this.attributes = null;
+        this.eventLogger = null;
+        this.pipeline = pipeline;
     }
 
     @Override
@@ -54,7 +71,12 @@ class EventLoggerHttpHandler implements HttpHandler {
         @Override
         public void exchangeEvent(final HttpServerExchange exchange, final NextListener nextListener) {
             try {
-                if (predicate == null || predicate.resolve(exchange)) {
+                if (predicate != null && !predicate.resolve(exchange)) {
+                    return;
+                }
+                if (pipeline != null) {
+                    pipeline.log(exchange);
+                } else {
                     final Map<String, Object> data = new LinkedHashMap<>();
                     for (AccessLogAttribute attribute : attributes) {
                         data.put(attribute.getKey(), attribute.resolveAttribute(exchange));
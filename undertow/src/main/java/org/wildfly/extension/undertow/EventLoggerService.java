@@ -6,10 +6,12 @@
 package org.wildfly.extension.undertow;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -28,7 +30,8 @@ import org.xnio.XnioWorker;
 
 /**
  * A service which creates an asynchronous {@linkplain EventLogger event logger} which writes to {@code stdout} in JSON
- * structured format.
+ * structured format. If a buffer size is configured, an {@linkplain AccessLogPipeline access log pipeline} is used
+ * instead.
  *
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  */
@@ -39,6 +42,11 @@ class EventLoggerService implements Service {
     private final Predicate predicate;
     private final Supplier<Host> host;
     private final Supplier<XnioWorker> worker;
+    private final Consumer<EventLoggerService> serviceConsumer;
+    private final Integer bufferSize;
+    private final AccessLogOverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private volatile AccessLogPipeline pipeline;
 
     /**
      * Creates a new service.
@@ -49,21 +57,36 @@ class EventLoggerService implements Service {
      * @param host            the host service supplier
      * @param worker          the worker service supplier for the
      *                        {@linkplain EventLogger#createAsyncLogger(String, Executor) async logger}
+     * @param serviceConsumer the consumer the started service is provided to
+     * @param bufferSize      the buffer size of the access log pipeline, or {@code null} to use the event logger
+     * @param overflowPolicy  the overflow policy of the access log pipeline
+     * @param sampleRate      the sample rate of the {@link AccessLogOverflowPolicy#SAMPLE} overflow policy
      */
     EventLoggerService(final Collection<AccessLogAttribute> attributes, final Predicate predicate, final Map<String, Object> metadata,
-                       final boolean includeHostName, final Supplier<Host> host, final Supplier<XnioWorker> worker) {
+                       final boolean includeHostName, final Supplier<Host> host, final Supplier<XnioWorker> worker,
+                       final Consumer<EventLoggerService> serviceConsumer, final Integer bufferSize,
+                       final AccessLogOverflowPolicy overflowPolicy, final int sampleRate) {
         this.attributes = new CopyOnWriteArraySet<>(attributes);
         this.predicate = predicate == null ? Predicates.truePredicate() : predicate;
         this.metadata = metadata;
         this.includeHostName = includeHostName;
         this.host = host;
         this.worker = worker;
+        this.serviceConsumer = serviceConsumer;
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+        this.sampleRate = sampleRate;
     }
 
     @Override
     @SuppressWarnings("Convert2Lambda")
     public void start(final StartContext context) throws StartException {
         final Host host = this.host.get();
+        if (bufferSize != null) {
+            startPipeline(host);
+            serviceConsumer.accept(this);
+            return;
+        }
         // Create the JSON event formatter
         final JsonEventFormatter.Builder formatterBuilder = JsonEventFormatter.builder()
                 .setIncludeTimestamp(false);
@@ -83,6 +106,23 @@ class EventLoggerService implements Service {
                 return new EventLoggerHttpHandler(httpHandler, predicate, attributes, eventLogger);
             }
         });
+        serviceConsumer.accept(this);
+    }
+
+    private void startPipeline(final Host host) {
+        final Map<String, Object> pipelineMetadata = new LinkedHashMap<>();
+        if (includeHostName) {
+            pipelineMetadata.put("hostName", host.getName());
+        }
+        if (metadata != null) {
+            pipelineMetadata.putAll(metadata);
+        }
+        // write through System.out, as the StdoutEventWriter does, so that any redirection of stdout applies
+        final AccessLogPipeline pipeline = new AccessLogPipeline(host.getName(), attributes, pipelineMetadata, bufferSize,
+                overflowPolicy, sampleRate, System.out);
+        this.pipeline = pipeline;
+        UndertowLogger.ROOT_LOGGER.debugf("Adding buffered console-access-log for host %s", host.getName());
+        host.setAccessLogHandler(httpHandler -> new EventLoggerHttpHandler(httpHandler, predicate, pipeline));
     }
 
     @Override
@@ -90,5 +130,22 @@ class EventLoggerService implements Service {
         final Host host = this.host.get();
         UndertowLogger.ROOT_LOGGER.debugf("Removing console-access-log for host %s", host.getName());
         host.setAccessLogHandler(null);
+        serviceConsumer.accept(null);
+        final AccessLogPipeline pipeline = this.pipeline;
+        if (pipeline != null) {
+            this.pipeline = null;
+            pipeline.close();
+        }
+    }
+
+    /**
+     * Returns the number of access log records which were dropped, either due to the overflow policy of the access log
+     * pipeline, or due to a failure reading the exchange attributes.
+     *
+     * @return the number of dropped records, or 0 if no access log pipeline is used
+     */
+    long getDroppedRecords() {
+        final AccessLogPipeline pipeline = this.pipeline;
+        return pipeline == null ? 0L : pipeline.getDroppedRecords();
     }
 }
@@ -67,6 +67,11 @@ public class UndertowExtensionTransformerRegistration implements ExtensionTransf
                 .addRejectCheck(RejectAttributeChecker.DEFINED, AjpListenerResourceDefinition.ALLOWED_REQUEST_ATTRIBUTES_PATTERN)
                 .end();
 
+                server.addChildResource(HostDefinition.PATH_ELEMENT).addChildResource(ConsoleAccessLogDefinition.PATH_ELEMENT).getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.UNDEFINED, ConsoleAccessLogDefinition.BUFFER_SIZE, ConsoleAccessLogDefinition.OVERFLOW_POLICY, ConsoleAccessLogDefinition.SAMPLE_RATE)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, ConsoleAccessLogDefinition.BUFFER_SIZE, ConsoleAccessLogDefinition.OVERFLOW_POLICY, ConsoleAccessLogDefinition.SAMPLE_RATE)
+                .end();
+
                 if (UndertowSubsystemModel.VERSION_13_0_0.requiresTransformation(version)) {
                     final ResourceTransformationDescriptionBuilder servletContainer = subsystem.addChildResource(ServletContainerDefinition.PATH_ELEMENT);
                     servletContainer.getAttributeBuilder()
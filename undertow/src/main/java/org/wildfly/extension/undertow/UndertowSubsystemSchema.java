@@ -207,7 +207,11 @@ public enum UndertowSubsystemSchema implements PersistentSubsystemSchema<Underto
         );
         builder.addChild(this.factory.builder(AccessLogDefinition.PATH_ELEMENT).addAttributes(AccessLogDefinition.ATTRIBUTES.stream()).build());
         if (this.since(UndertowSubsystemSchema.VERSION_9_0)) {
-            builder.addChild(this.factory.builder(ConsoleAccessLogDefinition.PATH_ELEMENT).addAttributes(ConsoleAccessLogDefinition.ATTRIBUTES.stream()).build());
+            Stream<AttributeDefinition> consoleAccessLogAttributes = ConsoleAccessLogDefinition.ATTRIBUTES.stream();
+            if (!this.since(VERSION_14_0_COMMUNITY)) {
+                consoleAccessLogAttributes = consoleAccessLogAttributes.filter(Predicate.not(ConsoleAccessLogDefinition.PIPELINE_ATTRIBUTES::contains));
+            }
+            builder.addChild(this.factory.builder(ConsoleAccessLogDefinition.PATH_ELEMENT).addAttributes(consoleAccessLogAttributes).build());
         }
         builder.addChild(this.filterRef());
         builder.addChild(this.factory.builder(SingleSignOnDefinition.PATH_ELEMENT).addAttributes(EnumSet.allOf(SingleSignOnDefinition.Attribute.class).stream().map(Supplier::get)).build());
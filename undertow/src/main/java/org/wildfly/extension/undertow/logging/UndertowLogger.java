@@ -429,4 +429,7 @@ public interface UndertowLogger extends BasicLogger {
     @Message(id = 111, value = "The annotation: '%s' will have no effect on Servlet: '%s'")
     void badAnnotationOnServlet(String annotation, String servlet);
 
+    @LogMessage(level = ERROR)
+    @Message(id = 112, value = "Failed to write the console access log of host %s")
+    void failedToWriteConsoleAccessLog(String hostName, @Cause Throwable cause);
 }
@@ -0,0 +1,236 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.undertow;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.undertow.attribute.ConstantExchangeAttribute;
+import io.undertow.attribute.ExchangeAttribute;
+import io.undertow.attribute.ReadOnlyAttributeException;
+import io.undertow.server.HttpServerExchange;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link AccessLogPipeline}.
+ */
+public class AccessLogPipelineTestCase {
+
+    @Test
+    public void testFormat() {
+        final Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("hostName", "default-host");
+        metadata.put("region", "eu");
+        final List<AccessLogAttribute> attributes = Arrays.asList(
+                AccessLogAttribute.of("path", new ConstantExchangeAttribute("/a\"b\\c\n\u00e9\u20ac")),
+                AccessLogAttribute.of("responseCode", new ConstantExchangeAttribute("200"), Integer::valueOf),
+                AccessLogAttribute.of("bytesSent", new ConstantExchangeAttribute("-"), Long::valueOf),
+                AccessLogAttribute.of("remoteUser", new ConstantExchangeAttribute(null)));
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (AccessLogPipeline pipeline = new AccessLogPipeline("default-host", attributes, metadata, 4,
+                AccessLogOverflowPolicy.BLOCK, 1, output)) {
+            pipeline.log(new HttpServerExchange(null));
+            pipeline.log(new HttpServerExchange(null));
+        }
+        final String expected = "{\"eventSource\":\"web-access\",\"hostName\":\"default-host\",\"region\":\"eu\","
+                + "\"path\":\"/a\\\"b\\\\c\\n\u00e9\u20ac\",\"responseCode\":200,\"bytesSent\":\"-\",\"remoteUser\":null}\n";
+        Assert.assertEquals(expected + expected, output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testBlock() throws Exception {
+        final BlockingOutputStream output = new BlockingOutputStream();
+        final AccessLogPipeline pipeline = new AccessLogPipeline("default-host", attributes(), Map.of(), 2,
+                AccessLogOverflowPolicy.BLOCK, 1, output);
+        try {
+            // the writer blocks on the first record, which leaves room for 2 records in the buffer
+            pipeline.log(new HttpServerExchange(null));
+            Assert.assertTrue(output.writing.await(10, TimeUnit.SECONDS));
+            pipeline.log(new HttpServerExchange(null));
+            pipeline.log(new HttpServerExchange(null));
+
+            final Thread blocked = new Thread(() -> pipeline.log(new HttpServerExchange(null)));
+            blocked.start();
+            blocked.join(200);
+            Assert.assertTrue(blocked.isAlive());
+
+            output.release.countDown();
+            blocked.join(TimeUnit.SECONDS.toMillis(10));
+            Assert.assertFalse(blocked.isAlive());
+        } finally {
+            output.release.countDown();
+            pipeline.close();
+        }
+        Assert.assertEquals(0, pipeline.getDroppedRecords());
+        Assert.assertEquals(4, output.lines());
+    }
+
+    @Test
+    public void testDrop() throws Exception {
+        final BlockingOutputStream output = new BlockingOutputStream();
+        final AccessLogPipeline pipeline = new AccessLogPipeline("default-host", attributes(), Map.of(), 2,
+                AccessLogOverflowPolicy.DROP, 1, output);
+        try {
+            pipeline.log(new HttpServerExchange(null));
+            Assert.assertTrue(output.writing.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < 5; i++) {
+                pipeline.log(new HttpServerExchange(null));
+            }
+            Assert.assertEquals(3, pipeline.getDroppedRecords());
+        } finally {
+            output.release.countDown();
+            pipeline.close();
+        }
+        Assert.assertEquals(3, output.lines());
+    }
+
+    @Test
+    public void testSample() throws Exception {
+        final BlockingOutputStream output = new BlockingOutputStream();
+        final AccessLogPipeline pipeline = new AccessLogPipeline("default-host", attributes(), Map.of(), 2,
+                AccessLogOverflowPolicy.SAMPLE, 3, output);
+        final List<Thread> threads = new ArrayList<>();
+        try {
+            pipeline.log(new HttpServerExchange(null));
+            Assert.assertTrue(output.writing.await(10, TimeUnit.SECONDS));
+            pipeline.log(new HttpServerExchange(null));
+            pipeline.log(new HttpServerExchange(null));
+            // the first 2 overflowing records are dropped, the 3rd one waits for room
+            pipeline.log(new HttpServerExchange(null));
+            pipeline.log(new HttpServerExchange(null));
+            Assert.assertEquals(2, pipeline.getDroppedRecords());
+            final Thread sampled = new Thread(() -> pipeline.log(new HttpServerExchange(null)));
+            threads.add(sampled);
+            sampled.start();
+            sampled.join(200);
+            Assert.assertTrue(sampled.isAlive());
+        } finally {
+            output.release.countDown();
+            for (Thread thread : threads) {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            }
+            pipeline.close();
+        }
+        Assert.assertEquals(2, pipeline.getDroppedRecords());
+        Assert.assertEquals(4, output.lines());
+    }
+
+    @Test
+    public void testFailingAttribute() {
+        final List<AccessLogAttribute> attributes = List.of(AccessLogAttribute.of("failing", new ExchangeAttribute() {
+            @Override
+            public String readAttribute(final HttpServerExchange exchange) {
+                throw new IllegalStateException();
+            }
+
+            @Override
+            public void writeAttribute(final HttpServerExchange exchange, final String newValue) throws ReadOnlyAttributeException {
+                throw new ReadOnlyAttributeException();
+            }
+        }));
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final AccessLogPipeline pipeline = new AccessLogPipeline("default-host", attributes, Map.of(), 4,
+                AccessLogOverflowPolicy.BLOCK, 1, output);
+        try {
+            Assert.assertThrows(IllegalStateException.class, () -> pipeline.log(new HttpServerExchange(null)));
+        } finally {
+            pipeline.close();
+        }
+        // the failed record is skipped, and does not stall the writer
+        Assert.assertEquals(1, pipeline.getDroppedRecords());
+        Assert.assertEquals(0, output.size());
+    }
+
+    @Test
+    public void testConcurrentClose() throws Exception {
+        final LineCountingOutputStream output = new LineCountingOutputStream();
+        final AccessLogPipeline pipeline = new AccessLogPipeline("default-host", attributes(), Map.of(), 64,
+                AccessLogOverflowPolicy.BLOCK, 1, output);
+        final int threads = 4;
+        final int records = 10_000;
+        final CountDownLatch started = new CountDownLatch(threads);
+        final List<Thread> loggers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            final Thread logger = new Thread(() -> {
+                started.countDown();
+                for (int j = 0; j < records; j++) {
+                    pipeline.log(new HttpServerExchange(null));
+                }
+            });
+            logger.start();
+            loggers.add(logger);
+        }
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        pipeline.close();
+        for (Thread logger : loggers) {
+            logger.join();
+        }
+        // each record is either written or counted as dropped, including those logged after close
+        Assert.assertEquals(threads * records, output.lines + pipeline.getDroppedRecords());
+        pipeline.log(new HttpServerExchange(null));
+        Assert.assertEquals(threads * records + 1, output.lines + pipeline.getDroppedRecords());
+    }
+
+    private static List<AccessLogAttribute> attributes() {
+        return List.of(AccessLogAttribute.of("responseCode", new ConstantExchangeAttribute("200"), Integer::valueOf));
+    }
+
+    /**
+     * An output which blocks the writer on its first write, until released.
+     */
+    private static class BlockingOutputStream extends OutputStream {
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        private final ByteArrayOutputStream delegate = new ByteArrayOutputStream();
+
+        @Override
+        public void write(final int b) {
+            this.write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            this.writing.countDown();
+            try {
+                this.release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (this.delegate) {
+                this.delegate.write(b, off, len);
+            }
+        }
+
+        int lines() {
+            synchronized (this.delegate) {
+                return (int) this.delegate.toString(StandardCharsets.UTF_8).chars().filter(c -> c == '\n').count();
+            }
+        }
+    }
+
+    /**
+     * An output which only counts the written lines.
+     */
+    private static class LineCountingOutputStream extends OutputStream {
+        volatile long lines;
+
+        @Override
+        public void write(final int b) {
+            if (b == '\n') {
+                this.lines++;
+            }
+        }
+    }
+}